@@ -3,6 +3,7 @@ package com.x.attendance.assemble.control.factory;
 import java.util.List;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
@@ -12,6 +13,7 @@ import com.x.attendance.assemble.control.AbstractFactory;
 import com.x.attendance.assemble.control.Business;
 import com.x.attendance.entity.AttendanceDetail;
 import com.x.attendance.entity.AttendanceDetail_;
+import com.x.attendance.entity.StatisticPersonForMonth;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
 
@@ -318,6 +320,72 @@ public class AttendanceDetailStatisticFactory extends AbstractFactory {
 		return em.createQuery(cq.where(p)).getSingleResult();
 	}
 	
+	/**
+	 * 根据员工姓名，统计年月，一次查询计算员工所有打卡统计项
+	 * 结果中的异常打卡、工时不足、签到、签退、迟到、早退次数以及缺勤、休假天数与分别查询的结果一致
+	 * @param employeeName
+	 * @param cycleYear
+	 * @param cycleMonth
+	 * @return
+	 * @throws Exception
+	 */
+	public StatisticPersonForMonth sumByEmployeeCycleYearAndMonth( String employeeName, String cycleYear, String cycleMonth ) throws Exception{
+		if( employeeName == null || employeeName.isEmpty() ){
+			logger.error( new EmployeeNamesEmptyException() );
+			return null;
+		}
+		EntityManager em = this.entityManagerContainer().get( AttendanceDetail.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<AttendanceDetail> root = cq.from( AttendanceDetail.class);
+		Predicate p = cb.equal( root.get( AttendanceDetail_.empName), employeeName );
+		p = cb.and( p, cb.equal( root.get( AttendanceDetail_.recordStatus ), 1));
+		if( cycleYear == null || cycleYear.isEmpty() ){
+			logger.error( new CycleYearEmptyException() );
+		}else{
+			p = cb.and( p, cb.equal( root.get( AttendanceDetail_.cycleYear), cycleYear));
+		}
+		if( cycleMonth == null || cycleMonth.isEmpty() ){
+			logger.error( new CycleMonthEmptyException() );
+		}else{
+			p = cb.and( p, cb.equal( root.get( AttendanceDetail_.cycleMonth), cycleMonth));
+		}
+		Predicate onDuty = cb.and( cb.isNotNull( root.get( AttendanceDetail_.onDutyTime ) ), cb.notEqual( root.get( AttendanceDetail_.onDutyTime), "") );
+		Predicate offDuty = cb.and( cb.isNotNull( root.get( AttendanceDetail_.offDutyTime ) ), cb.notEqual( root.get( AttendanceDetail_.offDutyTime), "") );
+		// 不是节假日，并且不是周末或者是周末但是调工作日了
+		Predicate workday = cb.and( cb.isFalse( root.get( AttendanceDetail_.isHoliday ) ),
+				cb.or( cb.isFalse( root.get( AttendanceDetail_.isWeekend ) ),
+						cb.and( cb.isTrue( root.get( AttendanceDetail_.isWeekend ) ), cb.isTrue( root.get( AttendanceDetail_.isWorkday ) ) ) ) );
+		cq.multiselect(
+				cb.sum( cb.<Long>selectCase().when( cb.isTrue( root.get( AttendanceDetail_.isAbnormalDuty ) ), 1L ).otherwise( 0L ) ),
+				cb.sum( cb.<Long>selectCase().when( cb.isTrue( root.get( AttendanceDetail_.isLackOfTime ) ), 1L ).otherwise( 0L ) ),
+				cb.sum( cb.<Long>selectCase().when( onDuty, 1L ).otherwise( 0L ) ),
+				cb.sum( cb.<Long>selectCase().when( offDuty, 1L ).otherwise( 0L ) ),
+				cb.sum( cb.<Long>selectCase().when( cb.isTrue( root.get( AttendanceDetail_.isLate ) ), 1L ).otherwise( 0L ) ),
+				cb.sum( cb.<Long>selectCase().when( cb.isTrue( root.get( AttendanceDetail_.isLeaveEarlier ) ), 1L ).otherwise( 0L ) ),
+				cb.sum( cb.<Double>selectCase().when( cb.isTrue( root.get( AttendanceDetail_.isAbsent ) ), root.get( AttendanceDetail_.absence ) ).otherwise( 0.0 ) ),
+				cb.sum( cb.<Double>selectCase().when( workday, root.get( AttendanceDetail_.getSelfHolidayDays ) ).otherwise( 0.0 ) ) ).where( p );
+		Tuple o = em.createQuery(cq).getSingleResult();
+		StatisticPersonForMonth statistic = new StatisticPersonForMonth();
+		statistic.setAbNormalDutyCount( toLong( o.get(0) ) );
+		statistic.setLackOfTimeCount( toLong( o.get(1) ) );
+		statistic.setOnDutyTimes( toLong( o.get(2) ) );
+		statistic.setOffDutyTimes( toLong( o.get(3) ) );
+		statistic.setLateTimes( toLong( o.get(4) ) );
+		statistic.setLeaveEarlyTimes( toLong( o.get(5) ) );
+		statistic.setAbsenceDayCount( toDouble( o.get(6) ) );
+		statistic.setOnSelfHolidayCount( toDouble( o.get(7) ) );
+		return statistic;
+	}
+
+	private static Long toLong( Object o ) {
+		return ( o == null ) ? 0L : ((Number) o).longValue();
+	}
+
+	private static Double toDouble( Object o ) {
+		return ( o == null ) ? 0.0 : ((Number) o).doubleValue();
+	}
+	
 	/**
 	 * 根据组织，年月，统计异常打卡次数
 	 * @param unitNames
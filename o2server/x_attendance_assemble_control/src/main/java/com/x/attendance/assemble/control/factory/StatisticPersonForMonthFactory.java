@@ -1,13 +1,17 @@
 package com.x.attendance.assemble.control.factory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
@@ -21,6 +25,7 @@ import com.x.attendance.assemble.control.service.UserManagerService;
 import com.x.attendance.entity.AttendanceEmployeeConfig;
 import com.x.attendance.entity.StatisticPersonForMonth;
 import com.x.attendance.entity.StatisticPersonForMonth_;
+import com.x.attendance.entity.StatisticUnitForMonth;
 import com.x.base.core.project.exception.ExceptionWhen;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
@@ -1047,4 +1052,66 @@ public class StatisticPersonForMonthFactory extends AbstractFactory {
 		}
 		return em.createQuery(cq.where(p)).getSingleResult();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 根据统计年月，一次查询按组织分组汇总所有员工的统计数据(排除不参加考勤的组织和员工)
+	 * 组织每月统计使用同一份结果，不再按组织和统计项分别查询
+	 * @param unUnitNameList
+	 * @param personNameList
+	 * @param sYear
+	 * @param sMonth
+	 * @return 组织名称 -> 组织内员工统计数据总和
+	 * @throws Exception
+	 */
+	public Map<String, StatisticUnitForMonth> sumGroupByUnitYearAndMonthUn( List<String> unUnitNameList, List<String> personNameList, String sYear, String sMonth ) throws Exception{
+		EntityManager em = this.entityManagerContainer().get( StatisticPersonForMonth.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<StatisticPersonForMonth> root = cq.from( StatisticPersonForMonth.class);
+		Path<String> unitName = root.get( StatisticPersonForMonth_.unitName );
+		Predicate p = cb.isNotNull( unitName );
+		if(ListTools.isNotEmpty(unUnitNameList)){
+			p = cb.and( p, cb.isNotMember( unitName, cb.literal(unUnitNameList)));
+		}
+		if(ListTools.isNotEmpty(personNameList)){
+			p = cb.and( p, cb.isNotMember(root.get( StatisticPersonForMonth_.employeeName ), cb.literal(personNameList)));
+		}
+		if( sYear == null || sYear.isEmpty() ){
+			logger.error( new StatisticYearEmptyException() );
+		}else{
+			p = cb.and( p, cb.equal( root.get(StatisticPersonForMonth_.statisticYear), sYear));
+		}
+		if( sMonth == null || sMonth.isEmpty() ){
+			logger.error( new StatisticMonthEmptyException() );
+		}else{
+			p = cb.and( p, cb.equal( root.get(StatisticPersonForMonth_.statisticMonth), sMonth));
+		}
+		cq.multiselect( unitName,
+				cb.sum( root.get(StatisticPersonForMonth_.lateTimes) ),
+				cb.sum( root.get(StatisticPersonForMonth_.leaveEarlyTimes) ),
+				cb.sum( root.get(StatisticPersonForMonth_.offDutyTimes) ),
+				cb.sum( root.get(StatisticPersonForMonth_.onDutyTimes) ),
+				cb.sum( root.get(StatisticPersonForMonth_.absenceDayCount) ),
+				cb.sum( root.get(StatisticPersonForMonth_.onDutyDayCount) ),
+				cb.sum( root.get(StatisticPersonForMonth_.onSelfHolidayCount) ),
+				cb.sum( root.get(StatisticPersonForMonth_.lackOfTimeCount) ),
+				cb.sum( root.get(StatisticPersonForMonth_.abNormalDutyCount) ) )
+			.where( p ).groupBy( unitName );
+		Map<String, StatisticUnitForMonth> map = new HashMap<>();
+		for( Tuple o : em.createQuery(cq).getResultList() ){
+			map.put( o.get( 0, String.class ), new StatisticUnitForMonth(
+					toLong( o.get(1) ), toLong( o.get(2) ), toLong( o.get(3) ), toLong( o.get(4) ),
+					toDouble( o.get(5) ), 0.0, toDouble( o.get(6) ), toDouble( o.get(7) ),
+					toLong( o.get(8) ), toLong( o.get(9) ) ) );
+		}
+		return map;
+	}
+
+	private static Long toLong( Object o ) {
+		return ( o == null ) ? 0L : ((Number) o).longValue();
+	}
+
+	private static Double toDouble( Object o ) {
+		return ( o == null ) ? 0.0 : ((Number) o).doubleValue();
+	}
+}
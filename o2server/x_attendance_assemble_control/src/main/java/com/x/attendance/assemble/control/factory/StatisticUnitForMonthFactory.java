@@ -5,10 +5,12 @@ import java.util.List;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -869,4 +871,78 @@ public class StatisticUnitForMonthFactory extends AbstractFactory {
 		}
 		return em.createQuery(cq.where(p)).getSingleResult();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 根据组织名称列表，统计年月，一次查询计算所有统计项的总和
+	 * 用于组织及其下级组织的汇总，直接使用已经生成的组织每月统计结果
+	 * @param unitNames
+	 * @param sYear
+	 * @param sMonth
+	 * @return
+	 * @throws Exception
+	 */
+	public StatisticUnitForMonth sumByUnitYearAndMonth( List<String> unitNames, String sYear, String sMonth ) throws Exception{
+		if( unitNames == null || unitNames.size() == 0 ){
+			logger.error( new UnitNamesEmptyException() );
+			return null;
+		}
+		return this.sum( StatisticUnitForMonth_.unitName, unitNames, sYear, sMonth );
+	}
+
+	/**
+	 * 根据顶层组织名称列表，统计年月，一次查询计算所有统计项的总和
+	 * @param topUnitNames
+	 * @param cycleYear
+	 * @param cycleMonth
+	 * @return
+	 * @throws Exception
+	 */
+	public StatisticUnitForMonth sumByTopUnitNamesYearAndMonth( List<String> topUnitNames, String cycleYear, String cycleMonth ) throws Exception{
+		if( topUnitNames == null || topUnitNames.size() == 0 ){
+			logger.error( new TopUnitNamesEmptyException() );
+			return null;
+		}
+		return this.sum( StatisticUnitForMonth_.topUnitName, topUnitNames, cycleYear, cycleMonth );
+	}
+
+	private StatisticUnitForMonth sum( SingularAttribute<StatisticUnitForMonth, String> attribute, List<String> names, String sYear, String sMonth ) throws Exception{
+		EntityManager em = this.entityManagerContainer().get( StatisticUnitForMonth.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<StatisticUnitForMonth> root = cq.from( StatisticUnitForMonth.class);
+		Predicate p = root.get( attribute ).in( names );
+		if( sYear == null || sYear.isEmpty() ){
+			logger.error( new StatisticYearEmptyException() );
+		}else{
+			p = cb.and( p, cb.equal( root.get(StatisticUnitForMonth_.statisticYear), sYear));
+		}
+		if( sMonth == null || sMonth.isEmpty() ){
+			logger.error( new StatisticMonthEmptyException() );
+		}else{
+			p = cb.and( p, cb.equal( root.get(StatisticUnitForMonth_.statisticMonth), sMonth));
+		}
+		cq.multiselect(
+				cb.sum( root.get(StatisticUnitForMonth_.lateCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.leaveEarlyCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.offDutyCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.onDutyCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.absenceDayCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.employeeCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.onDutyEmployeeCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.onSelfHolidayCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.lackOfTimeCount) ),
+				cb.sum( root.get(StatisticUnitForMonth_.abNormalDutyCount) ) ).where( p );
+		Tuple o = em.createQuery(cq).getSingleResult();
+		return new StatisticUnitForMonth( toLong( o.get(0) ), toLong( o.get(1) ), toLong( o.get(2) ), toLong( o.get(3) ),
+				toDouble( o.get(4) ), toDouble( o.get(5) ), toDouble( o.get(6) ), toDouble( o.get(7) ),
+				toLong( o.get(8) ), toLong( o.get(9) ) );
+	}
+
+	private static Long toLong( Object o ) {
+		return ( o == null ) ? 0L : ((Number) o).longValue();
+	}
+
+	private static Double toDouble( Object o ) {
+		return ( o == null ) ? 0.0 : ((Number) o).doubleValue();
+	}
+}
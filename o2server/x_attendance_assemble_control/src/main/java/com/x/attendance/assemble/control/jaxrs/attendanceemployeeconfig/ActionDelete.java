@@ -2,6 +2,7 @@ package com.x.attendance.assemble.control.jaxrs.attendanceemployeeconfig;
 
 import javax.servlet.http.HttpServletRequest;
 import com.x.attendance.entity.AttendanceEmployeeConfig;
+import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.jaxrs.WoId;
@@ -43,6 +44,8 @@ public class ActionDelete extends BaseAction {
 			try {
 				attendanceEmployeeConfigServiceAdv.delete( id );
 				result.setData( new Wo( id ) );
+				//清除缓存,不参加考勤的人员和组织可能有变化
+				CacheManager.notify( AttendanceEmployeeConfig.class );
 				logger.info( "人员考勤配置数据保存成功！" );
 			} catch (Exception e) {
 				check = false;
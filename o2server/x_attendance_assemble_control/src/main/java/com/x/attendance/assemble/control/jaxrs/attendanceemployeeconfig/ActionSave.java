@@ -10,6 +10,7 @@ import com.x.attendance.entity.AttendanceEmployeeConfig;
 import com.x.base.core.entity.JpaObject;
 import com.x.base.core.project.bean.WrapCopier;
 import com.x.base.core.project.bean.WrapCopierFactory;
+import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.jaxrs.WoId;
@@ -52,6 +53,8 @@ public class ActionSave extends BaseAction {
 			try {
 				attendanceEmployeeConfig = attendanceEmployeeConfigServiceAdv.save(attendanceEmployeeConfig);
 				result.setData(new Wo(attendanceEmployeeConfig.getId()));
+				//清除缓存,不参加考勤的人员和组织可能有变化
+				CacheManager.notify(AttendanceEmployeeConfig.class);
 				logger.info("人员考勤配置数据保存成功！");
 			} catch (Exception e) {
 				check = false;
@@ -66,108 +66,23 @@ public class ActionSumStForUnit extends BaseAction {
 		}
 		if (check) {
 			try {
-				absenceDayCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_AbsenceDayCount_ByUnitYearAndMonth(unitNameList, year, month);
+				StatisticUnitForMonth sum = attendanceStatisticServiceAdv
+						.sumUnitForMonth_ByUnitYearAndMonth(unitNameList, year, month);
+				if (sum != null) {
+					absenceDayCount = sum.getAbsenceDayCount();
+					onSelfHolidayCount = sum.getOnSelfHolidayCount();
+					lateCount = sum.getLateCount();
+					leaveEarlyCount = sum.getLeaveEarlyCount();
+					onDutyCount = sum.getOnDutyCount();
+					offDutyCount = sum.getOffDutyCount();
+					abNormalDutyCount = sum.getAbNormalDutyCount();
+					lackOfTimeCount = sum.getLackOfTimeCount();
+					onDutyEmployeeCount = sum.getOnDutyEmployeeCount();
+				}
 			} catch (Exception e) {
 				check = false;
 				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'缺勤天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				onSelfHolidayCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_OnSelfHolidayCount_ByUnitYearAndMonth(unitNameList, year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'请休假天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				lateCount = attendanceStatisticServiceAdv.sumUnitForMonth_LateCount_ByUnitYearAndMonth(unitNameList,
-						year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'迟到天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				leaveEarlyCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_LeaveEarlyCount_ByUnitYearAndMonth(unitNameList, year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'早退天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				onDutyCount = attendanceStatisticServiceAdv.sumUnitForMonth_OnDutyCount_ByUnitYearAndMonth(unitNameList,
-						year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'签到天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				offDutyCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_OffDutyCount_ByUnitYearAndMonth(unitNameList, year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'签退天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				abNormalDutyCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_AbNormalDutyCount_ByUnitYearAndMonth(unitNameList, year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'缺勤天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				lackOfTimeCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_LackOfTimeCount_ByUnitYearAndMonth(unitNameList, year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'工时不足天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
-				result.error(exception);
-				logger.error(e, effectivePerson, request, null);
-			}
-		}
-		if (check) {
-			try {
-				onDutyEmployeeCount = attendanceStatisticServiceAdv
-						.sumUnitForMonth_AttendanceDayCount_ByUnitYearAndMonth(unitNameList, year, month);
-			} catch (Exception e) {
-				check = false;
-				Exception exception = new ExceptionAttendanceStatisticProcess(e,
-						"系统在查询组织每月统计数据中'缺勤天数'总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
+						"系统在查询组织每月统计数据总和时发生异常.Name:" + unitNameList + ", Year:" + year + ", Month:" + month);
 				result.error(exception);
 				logger.error(e, effectivePerson, request, null);
 			}
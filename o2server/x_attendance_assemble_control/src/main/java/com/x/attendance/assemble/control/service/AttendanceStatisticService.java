@@ -2,8 +2,10 @@ package com.x.attendance.assemble.control.service;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -22,6 +24,9 @@ import com.x.attendance.entity.StatisticUnitForMonth;
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
 import com.x.base.core.entity.annotation.CheckPersistType;
+import com.x.base.core.project.cache.Cache.CacheCategory;
+import com.x.base.core.project.cache.Cache.CacheKey;
+import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
 import com.x.base.core.project.tools.ListTools;
@@ -30,6 +35,7 @@ public class AttendanceStatisticService {
 	
 	private static  Logger logger = LoggerFactory.getLogger( AttendanceStatisticService.class );
 	private UserManagerService userManagerService = new UserManagerService();
+	private CacheCategory cache_statisticPersonForMonth = new CacheCategory( StatisticPersonForMonth.class, AttendanceEmployeeConfig.class );
 	protected AttendanceEmployeeConfigServiceAdv attendanceEmployeeConfigServiceAdv = new AttendanceEmployeeConfigServiceAdv();
 	
 	/**
@@ -70,7 +76,6 @@ public class AttendanceStatisticService {
 			return;
 		}
 		List<String> identities = null;
-		List<String> query_employeeNames = new ArrayList<String>();
 		List<String> unitNames = null;
 		String unitName = null;
 		String topUnitName = null;
@@ -83,7 +88,6 @@ public class AttendanceStatisticService {
 		cycleYear = attendanceStatisticRequireLog.getStatisticYear();
 		cycleMonth = attendanceStatisticRequireLog.getStatisticMonth();
 		employeeName = attendanceStatisticRequireLog.getStatisticKey();
-		query_employeeNames.add( employeeName );
 		
 		try{
 			business = new Business( emc );
@@ -133,36 +137,31 @@ public class AttendanceStatisticService {
 			//    1.2.1 应出勤天数
 			if( workDayCountForMonth == null ){ workDayCountForMonth = 0L;}
 			statisticPersonForMonth.setWorkDayCount( Double.parseDouble( workDayCountForMonth + "") );
-			//    1.2.3 异常打卡次数
-			abNormalDutyCount = business.getAttendanceDetailStatisticFactory().countAbNormalDutyByEmployeeCycleYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
+			//    1.2.3 - 1.2.10 异常打卡、工时不足、签到、签退、迟到、缺勤、早退、休假，一次查询统计
+			StatisticPersonForMonth sum = business.getAttendanceDetailStatisticFactory().sumByEmployeeCycleYearAndMonth( employeeName, cycleYear, cycleMonth );
+			if( sum == null ){ sum = new StatisticPersonForMonth(); }
+			abNormalDutyCount = sum.getAbNormalDutyCount();
+			lackOfTimeCount = sum.getLackOfTimeCount();
+			onDutyTimes = sum.getOnDutyTimes();
+			offDutyTimes = sum.getOffDutyTimes();
+			lateTimes = sum.getLateTimes();
+			absenceDayCount = sum.getAbsenceDayCount();
+			leaveEarlyTimes = sum.getLeaveEarlyTimes();
+			onSelfHolidayCount = sum.getOnSelfHolidayCount();
 			if( abNormalDutyCount == null ){ abNormalDutyCount = 0L;}
 			statisticPersonForMonth.setAbNormalDutyCount((long)abNormalDutyCount);
-			//    1.2.4 工时不足次数
-			lackOfTimeCount = business.getAttendanceDetailStatisticFactory().countLackOfTimeByEmployeeCycleYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( lackOfTimeCount == null ){ lackOfTimeCount = 0L;}
 			statisticPersonForMonth.setLackOfTimeCount((long)lackOfTimeCount);
-			//    1.2.5 签到次数
-			onDutyTimes = business.getAttendanceDetailStatisticFactory().countOnDutyByEmployeeCycleYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( onDutyTimes == null ){ onDutyTimes = 0L;}
 			statisticPersonForMonth.setOnDutyTimes((long)onDutyTimes);
-			//    1.2.6 签退次数
-			offDutyTimes = business.getAttendanceDetailStatisticFactory().countOffDutyByEmployeeCycleYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( offDutyTimes == null ){ offDutyTimes = 0L;}
 			statisticPersonForMonth.setOffDutyTimes((long)offDutyTimes);
-			//    1.2.7 迟到次数
-			lateTimes = business.getAttendanceDetailStatisticFactory().countLateByEmployeeCycleYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( lateTimes == null ){ lateTimes = 0L;}
 			statisticPersonForMonth.setLateTimes((long)lateTimes);
-			//    1.2.8 缺勤天数
-			absenceDayCount = business.getAttendanceDetailStatisticFactory().sumAbsenceDaysByEmployeeYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( absenceDayCount == null ){ absenceDayCount = 0.0;}
 			statisticPersonForMonth.setAbsenceDayCount((double)absenceDayCount);
-			//    1.2.9 早退次数
-			leaveEarlyTimes = business.getAttendanceDetailStatisticFactory().countLeaveEarlierByEmployeeCycleYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( leaveEarlyTimes == null ){ leaveEarlyTimes = 0L;}
 			statisticPersonForMonth.setLeaveEarlyTimes((long)leaveEarlyTimes);
-			//    1.2.10 休假天数
-			onSelfHolidayCount = business.getAttendanceDetailStatisticFactory().sumOnSelfHolidayDaysByEmployeeYearAndMonth(query_employeeNames, cycleYear, cycleMonth);
 			if( onSelfHolidayCount == null ){ onSelfHolidayCount = 0.0;}
 			statisticPersonForMonth.setOnSelfHolidayCount((double)onSelfHolidayCount);
 			
@@ -182,6 +181,8 @@ public class AttendanceStatisticService {
 			}
 			emc.persist( statisticPersonForMonth );
 			emc.commit();
+			//清除缓存,组织统计需要重新汇总
+			CacheManager.notify( StatisticPersonForMonth.class );
 			
 			updateAttendanceStatisticRequireLog( attendanceStatisticRequireLog.getId(), "COMPLETED", "处理成功" );
 		}catch(Exception e){
@@ -225,7 +226,6 @@ public class AttendanceStatisticService {
 			return;
 		}
 		List<String> ids = null;
-		List<String> query_unitNames = new ArrayList<String>();
 		String unitName  = null;
 		String topUnitName  = null;
 		StatisticUnitForMonth statisticUnitForMonth = null, statisticUnitForMonth_tmp = null;
@@ -233,17 +233,12 @@ public class AttendanceStatisticService {
 		Object workDayCountForMonth = 0.0, absenceDayCount=0.0, onSelfHolidayCount=0.0;
 		String cycleYear = null, cycleMonth = null;
 		Business business = null;
-		List<String> unUnitNameList = new ArrayList<String>();
-		List<String> personNameList = new ArrayList<String>();
 
 		cycleYear = attendanceStatisticRequireLog.getStatisticYear();
 		cycleMonth = attendanceStatisticRequireLog.getStatisticMonth();
 		unitName = attendanceStatisticRequireLog.getStatisticKey();
-		query_unitNames.add( unitName );
 		
 		try {
-			unUnitNameList = getUnUnitNameList();
-			personNameList = getUnPersonNameList();
 			business = new Business(emc);
 			statisticUnitForMonth = new StatisticUnitForMonth();
 			statisticUnitForMonth.setUnitName( unitName );
@@ -256,52 +251,38 @@ public class AttendanceStatisticService {
 			}else{
 				logger.warn( "根据组织名称["+unitName+"]未查询到组织信息。" );
 			}
-			//    1.2.1 应出勤天数
-			//workDayCountForMonth = business.getStatisticPersonForMonthFactory().sumAttendanceDayCountByUnitYearAndMonth(query_unitNames, cycleYear, cycleMonth);
-			workDayCountForMonth = business.getStatisticPersonForMonthFactory().sumAttendanceDayCountByUnitYearAndMonthUn(query_unitNames,unUnitNameList,personNameList, cycleYear, cycleMonth);
+			//    1.2.1 - 1.2.10 应出勤人数、异常打卡、工时不足、签到、签退、迟到、缺勤、早退、休假
+			//当月所有组织的汇总一次查询得到并缓存，各组织的统计共用
+			StatisticUnitForMonth sum = sumPersonForMonthGroupByUnit( business, cycleYear, cycleMonth ).get( unitName );
+			if( sum == null ){ sum = new StatisticUnitForMonth(); }
+			workDayCountForMonth = sum.getOnDutyEmployeeCount();
+			abNormalDutyCount = sum.getAbNormalDutyCount();
+			lackOfTimeCount = sum.getLackOfTimeCount();
+			onDutyTimes = sum.getOnDutyCount();
+			offDutyTimes = sum.getOffDutyCount();
+			lateTimes = sum.getLateCount();
+			absenceDayCount = sum.getAbsenceDayCount();
+			leaveEarlyTimes = sum.getLeaveEarlyCount();
+			onSelfHolidayCount = sum.getOnSelfHolidayCount();
 			double count = 0.0;
 			if( workDayCountForMonth != null ){
 				count = (double)workDayCountForMonth;
 			}
 			statisticUnitForMonth.setOnDutyEmployeeCount( count );
-			//    1.2.3 异常打卡次数
-			//abNormalDutyCount = business.getStatisticPersonForMonthFactory().sumAbNormalDutyCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth );
-			abNormalDutyCount = business.getStatisticPersonForMonthFactory().sumAbNormalDutyCountByUnitYearAndMonthUn( query_unitNames,unUnitNameList,personNameList, cycleYear, cycleMonth );
 			if( abNormalDutyCount == null ){ abNormalDutyCount = 0L;}
 			statisticUnitForMonth.setAbNormalDutyCount((long)abNormalDutyCount);
-			//    1.2.4 工时不足次数
-			//lackOfTimeCount = business.getStatisticPersonForMonthFactory().sumLackOfTimeCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			lackOfTimeCount = business.getStatisticPersonForMonthFactory().sumLackOfTimeCountByUnitYearAndMonthUn( query_unitNames,unUnitNameList,personNameList, cycleYear, cycleMonth);
 			if( lackOfTimeCount == null ){ lackOfTimeCount = 0L;}
 			statisticUnitForMonth.setLackOfTimeCount((long)lackOfTimeCount);
-			//    1.2.5 签到次数
-			//onDutyTimes = business.getStatisticPersonForMonthFactory().sumOnDutyCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			onDutyTimes = business.getStatisticPersonForMonthFactory().sumOnDutyCountByUnitYearAndMonthUn( query_unitNames,unUnitNameList,personNameList, cycleYear, cycleMonth);
 			if( onDutyTimes == null ){ onDutyTimes = 0L;}
 			statisticUnitForMonth.setOnDutyCount( (long)onDutyTimes);
-			//    1.2.6 签退次数
-			//offDutyTimes = business.getStatisticPersonForMonthFactory().sumOffDutyCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			offDutyTimes = business.getStatisticPersonForMonthFactory().sumOffDutyCountByUnitYearAndMonthUn( query_unitNames, unUnitNameList,personNameList,cycleYear, cycleMonth);
 			if( offDutyTimes == null ){ offDutyTimes = 0L;}
 			statisticUnitForMonth.setOffDutyCount((long)offDutyTimes);
-			//    1.2.7 迟到次数
-			//lateTimes = business.getStatisticPersonForMonthFactory().sumLateCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			lateTimes = business.getStatisticPersonForMonthFactory().sumLateCountByUnitYearAndMonthUn( query_unitNames, unUnitNameList,personNameList,cycleYear, cycleMonth);
 			if( lateTimes == null ){ lateTimes = 0L;}
 			statisticUnitForMonth.setLateCount((long)lateTimes);
-			//    1.2.8 缺勤天数
-			//absenceDayCount = business.getStatisticPersonForMonthFactory().sumAbsenceDayCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			absenceDayCount = business.getStatisticPersonForMonthFactory().sumAbsenceDayCountByUnitYearAndMonthUn( query_unitNames, unUnitNameList,personNameList,cycleYear, cycleMonth);
 			if( absenceDayCount == null ){ absenceDayCount = 0.0;}
 			statisticUnitForMonth.setAbsenceDayCount((double)absenceDayCount);
-			//    1.2.9 早退次数
-			//leaveEarlyTimes = business.getStatisticPersonForMonthFactory().sumLeaveEarlyCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			leaveEarlyTimes = business.getStatisticPersonForMonthFactory().sumLeaveEarlyCountByUnitYearAndMonthUn( query_unitNames, unUnitNameList,personNameList,cycleYear, cycleMonth);
 			if( leaveEarlyTimes == null ){ leaveEarlyTimes = 0L;}
 			statisticUnitForMonth.setLeaveEarlyCount((long)leaveEarlyTimes);
-			//    1.2.10 休假天数
-			//onSelfHolidayCount = business.getStatisticPersonForMonthFactory().sumOnSelfHolidayCountByUnitYearAndMonth( query_unitNames, cycleYear, cycleMonth);
-			onSelfHolidayCount = business.getStatisticPersonForMonthFactory().sumOnSelfHolidayCountByUnitYearAndMonthUn( query_unitNames,unUnitNameList,personNameList, cycleYear, cycleMonth);
 			if( onSelfHolidayCount == null ){ onSelfHolidayCount = 0.0;}
 			statisticUnitForMonth.setOnSelfHolidayCount((double)onSelfHolidayCount);
 			
@@ -387,43 +368,36 @@ public class AttendanceStatisticService {
 				logger.warn(" statisticUnitForMonthFactory  is null !!!");
 			}
 			
-			// 1.2.1 出勤天数
-			workDayCountForMonth = statisticUnitForMonthFactory.sumAttendanceDayCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
+			// 1.2.1 - 1.2.10 出勤天数、异常打卡、工时不足、签到、签退、迟到、缺勤、早退、休假，一次查询统计
+			StatisticUnitForMonth sum = statisticUnitForMonthFactory.sumByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth );
+			workDayCountForMonth = sum.getOnDutyEmployeeCount();
+			abNormalDutyCount = sum.getAbNormalDutyCount();
+			lackOfTimeCount = sum.getLackOfTimeCount();
+			onDutyTimes = sum.getOnDutyCount();
+			offDutyTimes = sum.getOffDutyCount();
+			lateTimes = sum.getLateCount();
+			absenceDayCount = sum.getAbsenceDayCount();
+			leaveEarlyTimes = sum.getLeaveEarlyCount();
+			onSelfHolidayCount = sum.getOnSelfHolidayCount();
 			double count = 0.0;
 			if( workDayCountForMonth != null ){
 				count = (double)workDayCountForMonth;
 			}
 			statisticTopUnitForMonth.setOnDutyEmployeeCount( count );
-			// 1.2.3 异常打卡次数	
-			abNormalDutyCount = statisticUnitForMonthFactory.sumAbNormalDutyCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth );
 			if( abNormalDutyCount == null ){ abNormalDutyCount = 0L;}
 			statisticTopUnitForMonth.setAbNormalDutyCount((long)abNormalDutyCount);
-			// 1.2.4 工时不足次数
-			lackOfTimeCount = statisticUnitForMonthFactory.sumLackOfTimeCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( lackOfTimeCount == null ){ lackOfTimeCount = 0L;}
 			statisticTopUnitForMonth.setLackOfTimeCount((long)lackOfTimeCount);
-			// 1.2.5 签到次数
-			onDutyTimes = statisticUnitForMonthFactory.sumOnDutyCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( onDutyTimes == null ){ onDutyTimes = 0L;}
 			statisticTopUnitForMonth.setOnDutyCount( (long)onDutyTimes);
-			// 1.2.6 签退次数
-			offDutyTimes = statisticUnitForMonthFactory.sumOffDutyCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( offDutyTimes == null ){ offDutyTimes = 0L;}
 			statisticTopUnitForMonth.setOffDutyCount((long)offDutyTimes);
-			// 1.2.7 迟到次数
-			lateTimes = statisticUnitForMonthFactory.sumLateCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( lateTimes == null ){ lateTimes = 0L;}
 			statisticTopUnitForMonth.setLateCount((long)lateTimes);
-			// 1.2.8 缺勤天数
-			absenceDayCount = statisticUnitForMonthFactory.sumAbsenceDayCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( absenceDayCount == null ){ absenceDayCount = 0.0;}
 			statisticTopUnitForMonth.setAbsenceDayCount((double)absenceDayCount);
-			// 1.2.9 早退次数
-			leaveEarlyTimes = statisticUnitForMonthFactory.sumLeaveEarlyCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( leaveEarlyTimes == null ){ leaveEarlyTimes = 0L;}
 			statisticTopUnitForMonth.setLeaveEarlyCount((long)leaveEarlyTimes);
-			// 1.2.10 休假天数
-			onSelfHolidayCount = statisticUnitForMonthFactory.sumOnSelfHolidayCountByTopUnitNamesYearAndMonth( query_topUnitNames, cycleYear, cycleMonth);
 			if( onSelfHolidayCount == null ){ onSelfHolidayCount = 0.0;}
 			statisticTopUnitForMonth.setOnSelfHolidayCount((double)onSelfHolidayCount);
 			
@@ -853,6 +827,20 @@ public class AttendanceStatisticService {
 		return business.getStatisticUnitForMonthFactory().sumAttendanceDayCountByUnitYearAndMonth( unitNameList, year, month );
 	}
 	
+	/**
+	 * 根据组织名称，统计年月，一次查询统计组织所有统计项的总和
+	 * @param emc
+	 * @param unitNameList
+	 * @param year
+	 * @param month
+	 * @return
+	 * @throws Exception
+	 */
+	public StatisticUnitForMonth sumUnitForMonth_ByUnitYearAndMonth(EntityManagerContainer emc, List<String> unitNameList, String year, String month) throws Exception {
+		Business business =  new Business( emc );
+		return business.getStatisticUnitForMonthFactory().sumByUnitYearAndMonth( unitNameList, year, month );
+	}
+	
 	public List<String> listStatisticTopUnitForMonth_ByTopUnitYearAndMonth( EntityManagerContainer emc, String name, String year, String month) throws Exception {
 		Business business =  new Business( emc );
 		return business.getStatisticTopUnitForMonthFactory().listByTopUnitYearAndMonth( name, year, month );
@@ -878,6 +866,22 @@ public class AttendanceStatisticService {
 		return business.getStatisticTopUnitForDayFactory().list( ids );
 	}
 	
+	/**
+	 * 按组织汇总员工每月统计结果，当月所有组织一次查询得到并缓存
+	 * 员工统计结果或者不参加考勤人员配置变化时清除缓存
+	 * @param business
+	 * @param cycleYear
+	 * @param cycleMonth
+	 * @return
+	 * @throws Exception
+	 */
+	private Map<String, StatisticUnitForMonth> sumPersonForMonthGroupByUnit( Business business, String cycleYear, String cycleMonth ) throws Exception {
+		CacheKey cacheKey = new CacheKey( "sumGroupByUnit", cycleYear, cycleMonth );
+		Optional<Map<String, StatisticUnitForMonth>> optional = CacheManager.get( cache_statisticPersonForMonth, cacheKey, () -> 
+				business.getStatisticPersonForMonthFactory().sumGroupByUnitYearAndMonthUn( getUnUnitNameList(), getUnPersonNameList(), cycleYear, cycleMonth ) );
+		return optional.orElse( new HashMap<>() );
+	}
+	
 	/**
 	 * 获取不需要考勤的组织
 	 * @return
@@ -415,6 +415,23 @@ public class AttendanceStatisticServiceAdv {
 		}
 	}
 
+	/**
+	 * 根据组织名称，统计年月，一次查询统计组织所有统计项的总和
+	 * @param unitNameList
+	 * @param year
+	 * @param month
+	 * @return
+	 * @throws Exception
+	 */
+	public StatisticUnitForMonth sumUnitForMonth_ByUnitYearAndMonth(List<String> unitNameList,
+			String year, String month) throws Exception {
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			return attendanceStatisticService.sumUnitForMonth_ByUnitYearAndMonth( emc, unitNameList, year, month );	
+		} catch ( Exception e ) {
+			throw e;
+		}
+	}
+
 	public List<String> listStatisticTopUnitForMonth_ByTopUnitYearAndMonth(String name, String year, String month) throws Exception {
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			return attendanceStatisticService.listStatisticTopUnitForMonth_ByTopUnitYearAndMonth( emc, name, year, month );	
@@ -1,11 +1,21 @@
 package com.x.base.core.entity.dataitem;
 
+import java.io.Reader;
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -15,6 +25,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
 import com.x.base.core.entity.JpaObject;
 import com.x.base.core.project.organization.OrganizationDefinition;
 import com.x.base.core.project.tools.StringTools;
@@ -23,18 +34,65 @@ public class DataItemConverter<T extends DataItem> {
 
 	public static final int STRING_VALUE_MAX_LENGTH = JpaObject.length_255B;
 
+	private static final int MAX_PATH_DEPTH = 8;
+
+	/* 数组下标作为路径时使用共享的字符串,避免每个数组元素生成新的字符串 */
+	private static final String[] INDEXES = new String[1024];
+
+	static {
+		for (int i = 0; i < INDEXES.length; i++) {
+			INDEXES[i] = Integer.toString(i);
+		}
+	}
+
 	private Class<T> clz;
 
+	private Supplier<T> supplier;
+
 	public DataItemConverter(Class<T> clz) {
 		this.clz = clz;
+		try {
+			Constructor<T> constructor = clz.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			this.supplier = () -> {
+				try {
+					return constructor.newInstance();
+				} catch (Exception e) {
+					throw new IllegalStateException("can not create instance of " + this.clz.getName() + ".", e);
+				}
+			};
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("can not find default constructor of " + clz.getName() + ".", e);
+		}
+	}
+
+	public DataItemConverter(Class<T> clz, Supplier<T> supplier) {
+		this.clz = clz;
+		this.supplier = supplier;
 	}
 
 	public List<T> disassemble(JsonElement root, String... prefixPaths) throws Exception {
-		List<String> paths = new ArrayList<>();
-		for (String str : prefixPaths) {
-			paths.add(str);
+		Walker walker = new Walker(prefixPaths);
+		walker.walk(root);
+		return this.arrayFromNumericObject(walker.list);
+	}
+
+	/**
+	 * 从流中直接拆分数据,不需要先构造完整的JsonElement树.
+	 */
+	public List<T> disassemble(JsonReader reader, String... prefixPaths) throws Exception {
+		Walker walker = new Walker(prefixPaths);
+		walker.walk(reader);
+		return this.arrayFromNumericObject(walker.list);
+	}
+
+	public List<T> disassemble(Reader reader, String... prefixPaths) throws Exception {
+		try (JsonReader jsonReader = new JsonReader(reader)) {
+			return this.disassemble(jsonReader, prefixPaths);
 		}
-		List<T> list = this.disassemble(root, paths, new ArrayList<T>());
+	}
+
+	private List<T> arrayFromNumericObject(List<T> list) {
 		/**
 		 * 20170905 通过 javascripting 转换的Map将 array -> {0:"xxxxx"}
 		 * 的格式,变成了一个对象而非array,所以这里需要进行单独的判断,把用数字下标的Map强制设置为List
@@ -45,8 +103,7 @@ public class DataItemConverter<T extends DataItem> {
 			if (t.getItemType() == ItemType.o) {
 				T next = list.get(i + 1);
 				/** 是一个数字的值,说明是数组中的一个 */
-				if (StringUtils.isNumeric(next.paths().get(next.paths().size() - 1))) {
-					// if (NumberUtils.isNumber(next.paths().get(next.paths().size() - 1))) {
+				if (StringUtils.isNumeric(this.lastPath(next))) {
 					/** 说明上一个T应该是一个Array */
 					t.setItemType(ItemType.a);
 				}
@@ -55,51 +112,143 @@ public class DataItemConverter<T extends DataItem> {
 		return list;
 	}
 
-	private List<T> disassemble(JsonElement root, List<String> paths, List<T> list) throws Exception {
-		T t = clz.newInstance();
-		t.path(paths);
-		list.add(t);
-		if (root.isJsonPrimitive()) {
-			t.setItemType(ItemType.p);
-			JsonPrimitive jsonPrimitive = root.getAsJsonPrimitive();
-			if (jsonPrimitive.isBoolean()) {
-				t.setItemPrimitiveType(ItemPrimitiveType.b);
-				t.setItemStringValueType(ItemStringValueType.u);
-				t.value(jsonPrimitive.getAsBoolean());
-			} else if (jsonPrimitive.isNumber()) {
-				t.setItemPrimitiveType(ItemPrimitiveType.n);
+	private String lastPath(T t) {
+		for (int i = MAX_PATH_DEPTH - 1; i >= 0; i--) {
+			String path = t.path(i);
+			if (StringUtils.isNotEmpty(path)) {
+				return path;
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * 深度优先拆分,所有节点共用一个路径栈,属性名在同一次拆分中只保留一个实例.
+	 */
+	private class Walker {
+
+		private List<T> list = new ArrayList<>();
+		private String[] stack;
+		private int depth;
+		private Map<String, String> names = new HashMap<>();
+
+		private Walker(String... prefixPaths) {
+			this.stack = new String[Math.max(MAX_PATH_DEPTH, prefixPaths.length + 16)];
+			for (String str : prefixPaths) {
+				this.push(str);
+			}
+		}
+
+		private void push(String path) {
+			if (depth == stack.length) {
+				stack = Arrays.copyOf(stack, stack.length * 2);
+			}
+			stack[depth++] = path;
+		}
+
+		private void pop() {
+			stack[--depth] = null;
+		}
+
+		private String name(String name) {
+			String value = names.putIfAbsent(name, name);
+			return (null == value) ? name : value;
+		}
+
+		private String index(int i) {
+			return (i < INDEXES.length) ? INDEXES[i] : Integer.toString(i);
+		}
+
+		private T create(ItemType itemType) {
+			T t = supplier.get();
+			t.setPath0(depth > 0 ? stack[0] : "");
+			t.setPath1(depth > 1 ? stack[1] : "");
+			t.setPath2(depth > 2 ? stack[2] : "");
+			t.setPath3(depth > 3 ? stack[3] : "");
+			t.setPath4(depth > 4 ? stack[4] : "");
+			t.setPath5(depth > 5 ? stack[5] : "");
+			t.setPath6(depth > 6 ? stack[6] : "");
+			t.setPath7(depth > 7 ? stack[7] : "");
+			t.setItemType(itemType);
+			if (!Objects.equals(itemType, ItemType.p)) {
+				t.setItemPrimitiveType(ItemPrimitiveType.u);
 				t.setItemStringValueType(ItemStringValueType.u);
-				t.value(jsonPrimitive.getAsDouble());
-			} else if (jsonPrimitive.isString()) {
-				t.setItemPrimitiveType(ItemPrimitiveType.s);
-				t.setItemStringValueType(ItemStringValueType.s);
-				t.value(jsonPrimitive.getAsString());
 			}
-		} else if (root.isJsonArray()) {
-			t.setItemType(ItemType.a);
-			t.setItemPrimitiveType(ItemPrimitiveType.u);
-			t.setItemStringValueType(ItemStringValueType.u);
-			int i = 0;
-			for (JsonElement o : root.getAsJsonArray()) {
-				List<String> ps = new ArrayList<>(paths);
-				ps.add(Integer.toString(i++));
-				this.disassemble(o, ps, list);
+			list.add(t);
+			return t;
+		}
+
+		private void walk(JsonElement root) throws Exception {
+			if (root.isJsonPrimitive()) {
+				T t = this.create(ItemType.p);
+				JsonPrimitive jsonPrimitive = root.getAsJsonPrimitive();
+				if (jsonPrimitive.isBoolean()) {
+					t.value(jsonPrimitive.getAsBoolean());
+				} else if (jsonPrimitive.isNumber()) {
+					t.value(jsonPrimitive.getAsDouble());
+				} else if (jsonPrimitive.isString()) {
+					t.value(jsonPrimitive.getAsString());
+				}
+			} else if (root.isJsonArray()) {
+				this.create(ItemType.a);
+				int i = 0;
+				for (JsonElement o : root.getAsJsonArray()) {
+					this.push(this.index(i++));
+					this.walk(o);
+					this.pop();
+				}
+			} else if (root.isJsonNull()) {
+				this.create(ItemType.n);
+			} else if (root.isJsonObject()) {
+				this.create(ItemType.o);
+				for (Entry<String, JsonElement> entry : root.getAsJsonObject().entrySet()) {
+					this.push(this.name(entry.getKey()));
+					this.walk(entry.getValue());
+					this.pop();
+				}
 			}
-		} else if (root.isJsonNull()) {
-			t.setItemType(ItemType.n);
-			t.setItemPrimitiveType(ItemPrimitiveType.u);
-			t.setItemStringValueType(ItemStringValueType.u);
-		} else if (root.isJsonObject()) {
-			t.setItemType(ItemType.o);
-			t.setItemPrimitiveType(ItemPrimitiveType.u);
-			t.setItemStringValueType(ItemStringValueType.u);
-			for (Entry<String, JsonElement> entry : root.getAsJsonObject().entrySet()) {
-				List<String> ps = new ArrayList<String>(paths);
-				ps.add(entry.getKey());
-				this.disassemble(entry.getValue(), ps, list);
+		}
+
+		private void walk(JsonReader reader) throws Exception {
+			switch (reader.peek()) {
+			case BOOLEAN:
+				this.create(ItemType.p).value(reader.nextBoolean());
+				break;
+			case NUMBER:
+				this.create(ItemType.p).value(reader.nextDouble());
+				break;
+			case STRING:
+				this.create(ItemType.p).value(reader.nextString());
+				break;
+			case NULL:
+				reader.nextNull();
+				this.create(ItemType.n);
+				break;
+			case BEGIN_ARRAY:
+				this.create(ItemType.a);
+				reader.beginArray();
+				int i = 0;
+				while (reader.hasNext()) {
+					this.push(this.index(i++));
+					this.walk(reader);
+					this.pop();
+				}
+				reader.endArray();
+				break;
+			case BEGIN_OBJECT:
+				this.create(ItemType.o);
+				reader.beginObject();
+				while (reader.hasNext()) {
+					this.push(this.name(reader.nextName()));
+					this.walk(reader);
+					this.pop();
+				}
+				reader.endObject();
+				break;
+			default:
+				throw new IllegalStateException("unexpected json token: " + reader.peek() + ".");
 			}
 		}
-		return list;
 	}
 
 	public JsonElement assemble(List<T> list) {
@@ -250,18 +399,27 @@ public class DataItemConverter<T extends DataItem> {
 		return ObjectUtils.compare(pl1, pl2);
 	}
 
+	/**
+	 * 返回l1中在l2里没有相同值的部分,按路径分组比较,重复的值按次数扣除.
+	 */
 	public List<T> subtract(List<T> l1, List<T> l2) throws Exception {
+		return this.remain(l1, l2);
+	}
+
+	private List<T> remain(List<T> l1, List<T> l2) {
 		List<T> result = new ArrayList<>();
-		List<T> list2 = new ArrayList<>(l2);
-		T dummy = null;
+		Map<String, List<T>> group = new HashMap<>();
+		for (T t2 : l2) {
+			group.computeIfAbsent(this.key(t2), k -> new LinkedList<>()).add(t2);
+		}
 		next: for (T t1 : l1) {
-			if (null != dummy) {
-				list2.remove(dummy);
-			}
-			for (T t2 : list2) {
-				if (this.equate(t1, t2)) {
-					dummy = t2;
-					continue next;
+			List<T> candidates = group.get(this.key(t1));
+			if (null != candidates) {
+				for (Iterator<T> iterator = candidates.iterator(); iterator.hasNext();) {
+					if (this.equate(t1, iterator.next())) {
+						iterator.remove();
+						continue next;
+					}
 				}
 			}
 			result.add(t1);
@@ -269,6 +427,76 @@ public class DataItemConverter<T extends DataItem> {
 		return result;
 	}
 
+	/**
+	 * 按路径一次合并比较已有数据和当前数据.<br/>
+	 * 路径相同但值不同的作为修改,由调用方使用copy在已有对象上更新,不需要删除后再新增.<br/>
+	 * 数据只保存前8层路径,超过8层的数据与其上层共用路径,出现重复路径时退回到按值比较(subtract),只有新增和删除.
+	 */
+	public Diff<T> diff(List<T> exists, List<T> currents) {
+		Diff<T> diff = new Diff<>();
+		Map<String, T> map = new HashMap<>(exists.size() * 2);
+		boolean unique = true;
+		for (T t : exists) {
+			if (null != map.putIfAbsent(this.key(t), t)) {
+				unique = false;
+				break;
+			}
+		}
+		if (unique) {
+			Set<String> keys = new HashSet<>(currents.size() * 2);
+			for (T t : currents) {
+				if (!keys.add(this.key(t))) {
+					unique = false;
+					break;
+				}
+			}
+		}
+		if (!unique) {
+			diff.removes.addAll(this.remain(exists, currents));
+			diff.adds.addAll(this.remain(currents, exists));
+			return diff;
+		}
+		for (T current : currents) {
+			T exist = map.remove(this.key(current));
+			if (null == exist) {
+				diff.adds.add(current);
+			} else if (!this.equate(exist, current)) {
+				diff.changes.add(new Change<>(exist, current));
+			}
+		}
+		diff.removes.addAll(map.values());
+		return diff;
+	}
+
+	/**
+	 * 将current的类型和值复制到exist上,路径不变.
+	 */
+	public void copy(T current, T exist) {
+		exist.setItemType(current.getItemType());
+		exist.setItemPrimitiveType(current.getItemPrimitiveType());
+		exist.setItemStringValueType(current.getItemStringValueType());
+		exist.setStringShortValue(current.getStringShortValue());
+		exist.setStringLongValue(current.getStringLongValue());
+		exist.setNumberValue(current.getNumberValue());
+		exist.setBooleanValue(current.getBooleanValue());
+		exist.setDateTimeValue(current.getDateTimeValue());
+		exist.setDateValue(current.getDateValue());
+		exist.setTimeValue(current.getTimeValue());
+	}
+
+	private String key(T t) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(StringUtils.defaultString(t.getPath0())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath1())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath2())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath3())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath4())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath5())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath6())).append('\u0000');
+		buffer.append(StringUtils.defaultString(t.getPath7()));
+		return buffer.toString();
+	}
+
 	public boolean equate(T t1, T t2) {
 		if (!Objects.equals(t1.getPath0(), t2.getPath0())) {
 			return false;
@@ -353,4 +581,50 @@ public class DataItemConverter<T extends DataItem> {
 		}
 		return buffer.toString();
 	}
+
+	public static class Change<T> {
+
+		private T exist;
+
+		private T current;
+
+		public Change(T exist, T current) {
+			this.exist = exist;
+			this.current = current;
+		}
+
+		public T getExist() {
+			return exist;
+		}
+
+		public T getCurrent() {
+			return current;
+		}
+	}
+
+	public static class Diff<T> {
+
+		private List<T> adds = new ArrayList<>();
+
+		private List<T> removes = new ArrayList<>();
+
+		private List<Change<T>> changes = new ArrayList<>();
+
+		public List<T> getAdds() {
+			return adds;
+		}
+
+		public List<T> getRemoves() {
+			return removes;
+		}
+
+		public List<Change<T>> getChanges() {
+			return changes;
+		}
+
+		public boolean isEmpty() {
+			return adds.isEmpty() && removes.isEmpty() && changes.isEmpty();
+		}
+	}
+
 }
\ No newline at end of file
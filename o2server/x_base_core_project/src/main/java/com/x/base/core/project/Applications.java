@@ -1,5 +1,6 @@
 package com.x.base.core.project;
 
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.Collection;
@@ -183,6 +184,28 @@ public class Applications extends ConcurrentHashMap<String, CopyOnWriteArrayList
 	}
 
 	public byte[] getQueryBinary(Boolean xdebugger, String applicationName, String uri, String seed) throws Exception {
+		return CipherConnectionAction.getBinary(xdebugger,
+				this.queryBinaryAddress(applicationName, seed) + CipherConnectionAction.trim(uri));
+	}
+
+	/**
+	 * 将返回内容直接写入output,适用于较大的文件.
+	 *
+	 * @return 是否读取到内容
+	 */
+	public boolean getQueryBinary(Boolean xdebugger, String applicationName, String uri, String seed,
+			OutputStream output) throws Exception {
+		return CipherConnectionAction.getBinary(xdebugger,
+				this.queryBinaryAddress(applicationName, seed) + CipherConnectionAction.trim(uri), output);
+	}
+
+	public boolean getQueryBinary(Boolean xdebugger, Application application, String uri, OutputStream output)
+			throws Exception {
+		return CipherConnectionAction.getBinary(xdebugger,
+				application.getUrlJaxrsRoot() + CipherConnectionAction.trim(uri), output);
+	}
+
+	private String queryBinaryAddress(String applicationName, String seed) throws Exception {
 		String name = this.findApplicationName(applicationName);
 		if (applicationName.equalsIgnoreCase(x_program_center.class.getSimpleName())
 				|| applicationName.equalsIgnoreCase(x_program_center.class.getName())) {
@@ -199,8 +222,7 @@ public class Applications extends ConcurrentHashMap<String, CopyOnWriteArrayList
 								.append(":" + port);
 					}
 					buffer.append("/x_program_center/jaxrs/");
-					return CipherConnectionAction.getBinary(xdebugger,
-							buffer.toString() + CipherConnectionAction.trim(uri));
+					return buffer.toString();
 				}
 			}
 		}
@@ -218,8 +240,7 @@ public class Applications extends ConcurrentHashMap<String, CopyOnWriteArrayList
 		} else {
 			application = this.randomWithSeed(name, seed);
 		}
-		return CipherConnectionAction.getBinary(xdebugger,
-				application.getUrlJaxrsRoot() + CipherConnectionAction.trim(uri));
+		return application.getUrlJaxrsRoot();
 	}
 
 	public ActionResponse deleteQuery(Class<?> applicationClass, String uri) throws Exception {
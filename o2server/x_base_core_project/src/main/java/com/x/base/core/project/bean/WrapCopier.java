@@ -1,19 +1,23 @@
 package com.x.base.core.project.bean;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
-import org.apache.commons.beanutils.PropertyUtilsBean;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
-import com.x.base.core.entity.JpaObject;
 import com.x.base.core.project.tools.ListTools;
 
+import net.sf.cglib.reflect.FastMethod;
+
+/**
+ * 由WrapCopierFactory创建,复制使用预先生成的访问器(cglib FastClass)直接调用getter/setter,不再逐个字段进行反射查找.
+ */
 public class WrapCopier<T, W> {
 
+	private static final Object[] EMPTY_ARGS = new Object[0];
+
 	private List<String> copyFields = new ArrayList<>();
 
 	private List<String> eraseFields = new ArrayList<>();
@@ -22,17 +26,28 @@ public class WrapCopier<T, W> {
 
 	private Class<W> destClass;
 
-	private PropertyUtilsBean propertyUtilsBean;
-
 	private boolean ignoreNull;
 
+	/* 与copyFields一一对应 */
+	private Accessor[] getters;
+
+	private Accessor[] setters;
+
+	/* 基本类型的字段无法置空,不包含在内 */
+	private Accessor[] erasers;
+
+	/* openjpa在访问主键(getId()会执行pcGetId())会发起一个锁定所以在这里对id(xid column)进行单独的处理 */
+	private Field idField;
+
+	private int idIndex;
+
 	@SuppressWarnings("unused")
 	private WrapCopier() {
 	}
 
-	protected WrapCopier(PropertyUtilsBean propertyUtilsBean, Class<T> origClass, Class<W> destClass,
-			List<String> copyFields, List<String> eraseFields, boolean ignoreNull) {
-		this.propertyUtilsBean = propertyUtilsBean;
+	protected WrapCopier(Class<T> origClass, Class<W> destClass, List<String> copyFields, List<String> eraseFields,
+			boolean ignoreNull, Accessor[] getters, Accessor[] setters, Accessor[] erasers, Field idField,
+			int idIndex) {
 		this.origClass = origClass;
 		this.destClass = destClass;
 		if (ListTools.isNotEmpty(copyFields)) {
@@ -42,40 +57,34 @@ public class WrapCopier<T, W> {
 			this.eraseFields = eraseFields;
 		}
 		this.ignoreNull = ignoreNull;
+		this.getters = getters;
+		this.setters = setters;
+		this.erasers = erasers;
+		this.idField = idField;
+		this.idIndex = idIndex;
 	}
 
 	public W copy(T orig, W dest) throws Exception {
 		if (null == orig) {
 			return null;
 		}
-		copyFields.stream().forEach(f -> {
+		for (int i = 0; i < setters.length; i++) {
 			try {
-				//openjpa在访问主键(getId()会执行pcGetId())会发起一个锁定所以在这里对id(xid column)进行单独的处理
-				if (StringUtils.equals(f, JpaObject.id_FIELDNAME)) {
-					Field field = FieldUtils.getField(orig.getClass(), f, true);
-					if (null != field) {
-						Object o = FieldUtils.readField(field, orig, true);
-						if (null != o || (!ignoreNull)) {
-							propertyUtilsBean.setProperty(dest, f, o);
-						}
-					}
-				} else {
-					Object o = propertyUtilsBean.getProperty(orig, f);
-					if (null != o || (!ignoreNull)) {
-						propertyUtilsBean.setProperty(dest, f, o);
-					}
+				Object o = (i == idIndex) ? idField.get(orig) : getters[i].invoke(orig, EMPTY_ARGS);
+				if (null != o || (!ignoreNull)) {
+					setters[i].invoke(dest, new Object[] { o });
 				}
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
-		});
-		eraseFields.stream().forEach(f -> {
+		}
+		for (Accessor eraser : erasers) {
 			try {
-				propertyUtilsBean.setProperty(dest, f, null);
+				eraser.invoke(dest, new Object[] { null });
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
-		});
+		}
 		return dest;
 	}
 
@@ -89,13 +98,13 @@ public class WrapCopier<T, W> {
 
 	public List<W> copy(List<T> origs, List<W> dests) throws Exception {
 		if (null != origs) {
-			origs.stream().forEach(t -> {
+			for (T t : origs) {
 				try {
 					dests.add(this.copy(t));
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
-			});
+			}
 		}
 		return dests;
 	}
@@ -103,13 +112,13 @@ public class WrapCopier<T, W> {
 	public List<W> copy(List<T> origs) throws Exception {
 		List<W> dests = new ArrayList<W>();
 		if (null != origs) {
-			origs.stream().forEach(t -> {
+			for (T t : origs) {
 				try {
 					dests.add(this.copy(t));
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
-			});
+			}
 		}
 		return dests;
 	}
@@ -140,4 +149,26 @@ public class WrapCopier<T, W> {
 				&& (null != FieldUtils.getField(destClass, fieldName, true)));
 	}
 
+	/**
+	 * getter/setter访问器,优先使用生成的FastMethod,无法生成时退回到已经解析的Method.
+	 */
+	static class Accessor {
+
+		private final FastMethod fastMethod;
+
+		private final Method method;
+
+		Accessor(FastMethod fastMethod, Method method) {
+			this.fastMethod = fastMethod;
+			this.method = method;
+		}
+
+		Object invoke(Object obj, Object[] args) throws Exception {
+			if (null != fastMethod) {
+				return fastMethod.invoke(obj, args);
+			}
+			return method.invoke(obj, args);
+		}
+	}
+
 }
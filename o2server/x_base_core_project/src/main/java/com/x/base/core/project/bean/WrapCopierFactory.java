@@ -1,17 +1,21 @@
 package com.x.base.core.project.bean;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.commons.beanutils.PropertyUtilsBean;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 
+import com.x.base.core.entity.JpaObject;
+import com.x.base.core.project.bean.WrapCopier.Accessor;
 import com.x.base.core.project.tools.ListTools;
 
+import net.sf.cglib.reflect.FastClass;
+
 public class WrapCopierFactory {
 
 	private static String GET_PREFIX = "get";
@@ -31,47 +35,17 @@ public class WrapCopierFactory {
 			List<String> copyFieldNames = new ArrayList<>();
 			ListTools.includesExcludes(ListUtils.intersection(origFieldNames, destFieldNames), includes, excludes)
 					.stream().forEach(s -> {
-						try {
-							Field origField = FieldUtils.getField(origClass, s, true);
-							Field destField = FieldUtils.getField(destClass, s, true);
-							if ((null != origField) && (null != destField)) {
-								if (origField.getType() == destField.getType()) {
-									if (null != MethodUtils.getAccessibleMethod(origClass, getGetterName(origField),
-											new Class<?>[] {})) {
-										if (null != MethodUtils.getAccessibleMethod(destClass, getSetterName(destField),
-												new Class<?>[] { destField.getType() })) {
-											copyFieldNames.add(s);
-										}
-									}
-								}
-							}
-						} catch (Exception e) {
-							e.printStackTrace();
+						if (copyable(origClass, destClass, s)) {
+							copyFieldNames.add(s);
 						}
 					});
 			List<String> eraseFieldNames = new ArrayList<>();
 			ListUtils.subtract(destFieldNames, copyFieldNames).stream().forEach(s -> {
-				try {
-					Field origField = FieldUtils.getField(origClass, s, true);
-					Field destField = FieldUtils.getField(destClass, s, true);
-					if ((null != origField) && (null != destField)) {
-						if (origField.getType() == destField.getType()) {
-							if (null != MethodUtils.getAccessibleMethod(origClass, getGetterName(origField),
-									new Class<?>[] {})) {
-								if (null != MethodUtils.getAccessibleMethod(destClass, getSetterName(destField),
-										new Class<?>[] { destField.getType() })) {
-									eraseFieldNames.add(s);
-								}
-							}
-						}
-					}
-				} catch (Exception e) {
-					e.printStackTrace();
+				if (copyable(origClass, destClass, s)) {
+					eraseFieldNames.add(s);
 				}
 			});
-			WrapCopier<T, W> copier = new WrapCopier<T, W>(new PropertyUtilsBean(), origClass, destClass,
-					copyFieldNames, eraseFieldNames, ingoreNull);
-			return copier;
+			return generate(origClass, destClass, copyFieldNames, eraseFieldNames, ingoreNull);
 		} catch (Exception e) {
 			e.printStackTrace();
 			return null;
@@ -91,33 +65,90 @@ public class WrapCopierFactory {
 			List<String> copyFieldNames = new ArrayList<>();
 			ListTools.includesExcludes(ListUtils.intersection(origFieldNames, destFieldNames), includes, excludes)
 					.stream().forEach(s -> {
-						try {
-							Field origField = FieldUtils.getField(origClass, s, true);
-							Field destField = FieldUtils.getField(destClass, s, true);
-							if ((null != origField) && (null != destField)) {
-								if (origField.getType() == destField.getType()) {
-									if (null != MethodUtils.getAccessibleMethod(origClass, getGetterName(origField),
-											new Class<?>[] {})) {
-										if (null != MethodUtils.getAccessibleMethod(destClass, getSetterName(destField),
-												new Class<?>[] { destField.getType() })) {
-											copyFieldNames.add(s);
-										}
-									}
-								}
-							}
-						} catch (Exception e) {
-							e.printStackTrace();
+						if (copyable(origClass, destClass, s)) {
+							copyFieldNames.add(s);
 						}
 					});
-			WrapCopier<T, W> copier = new WrapCopier<T, W>(new PropertyUtilsBean(), origClass, destClass,
-					copyFieldNames, new ArrayList<String>(), ingoreNull);
-			return copier;
+			return generate(origClass, destClass, copyFieldNames, new ArrayList<String>(), ingoreNull);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/* 字段在两边类型相同,来源有getter,目标有setter */
+	private static boolean copyable(Class<?> origClass, Class<?> destClass, String name) {
+		try {
+			Field origField = FieldUtils.getField(origClass, name, true);
+			Field destField = FieldUtils.getField(destClass, name, true);
+			return (null != origField) && (null != destField) && (origField.getType() == destField.getType())
+					&& (null != getter(origClass, origField)) && (null != setter(destClass, destField));
+		} catch (Exception e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * 创建时解析全部getter/setter,并为来源类和目标类生成FastClass,复制时按下标直接调用,不再经过PropertyUtilsBean的反射查找.<br/>
+	 * 生成的类由cglib按类缓存在类所在的ClassLoader中,无法生成时使用解析好的Method.
+	 */
+	private static <T, W> WrapCopier<T, W> generate(Class<T> origClass, Class<W> destClass,
+			List<String> copyFieldNames, List<String> eraseFieldNames, boolean ingoreNull) throws Exception {
+		FastClass origFastClass = fastClass(origClass);
+		FastClass destFastClass = fastClass(destClass);
+		Accessor[] getters = new Accessor[copyFieldNames.size()];
+		Accessor[] setters = new Accessor[copyFieldNames.size()];
+		Field idField = null;
+		int idIndex = -1;
+		for (int i = 0; i < copyFieldNames.size(); i++) {
+			String name = copyFieldNames.get(i);
+			getters[i] = accessor(origFastClass, getter(origClass, FieldUtils.getField(origClass, name, true)));
+			setters[i] = accessor(destFastClass, setter(destClass, FieldUtils.getField(destClass, name, true)));
+			if (StringUtils.equals(name, JpaObject.id_FIELDNAME)) {
+				idField = FieldUtils.getField(origClass, name, true);
+				idIndex = i;
+			}
+		}
+		List<Accessor> erasers = new ArrayList<>();
+		for (String name : eraseFieldNames) {
+			Field field = FieldUtils.getField(destClass, name, true);
+			if (!field.getType().isPrimitive()) {
+				erasers.add(accessor(destFastClass, setter(destClass, field)));
+			}
+		}
+		return new WrapCopier<T, W>(origClass, destClass, copyFieldNames, eraseFieldNames, ingoreNull, getters,
+				setters, erasers.toArray(new Accessor[erasers.size()]), idField, idIndex);
+	}
+
+	private static FastClass fastClass(Class<?> cls) {
+		try {
+			return FastClass.create(cls);
 		} catch (Exception e) {
 			e.printStackTrace();
 			return null;
 		}
 	}
 
+	private static Accessor accessor(FastClass fastClass, Method method) {
+		if (null != fastClass) {
+			try {
+				return new Accessor(fastClass.getMethod(method), method);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		return new Accessor(null, method);
+	}
+
+	private static Method getter(Class<?> cls, Field field) throws Exception {
+		return MethodUtils.getAccessibleMethod(cls, getGetterName(field), new Class<?>[] {});
+	}
+
+	private static Method setter(Class<?> cls, Field field) throws Exception {
+		return MethodUtils.getAccessibleMethod(cls, getSetterName(field), new Class<?>[] { field.getType() });
+	}
+
 	private static String getGetterName(Field field) throws Exception {
 		if (field.getType() == boolean.class) {
 			return IS_PREFIX + StringUtils.capitalize(field.getName());
@@ -137,4 +168,4 @@ public class WrapCopierFactory {
 		}
 		return names;
 	}
-}
\ No newline at end of file
+}
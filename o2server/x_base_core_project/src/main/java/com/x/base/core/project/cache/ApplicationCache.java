@@ -8,8 +8,6 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.x.base.core.entity.JpaObject;
-import com.x.base.core.project.config.Config;
-import com.x.base.core.project.connection.CipherConnectionAction;
 import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
 import com.x.base.core.project.tools.ListTools;
 
@@ -22,6 +20,7 @@ import net.sf.ehcache.Element;
 public class ApplicationCache extends AbstractApplicationCache {
 
 	private NotifyThread notifyThread;
+	private CacheNotifyStatistic notifyStatistic = new CacheNotifyStatistic();
 	private ReceiveThread receiveThread;
 
 	private volatile static ApplicationCache INSTANCE;
@@ -158,15 +157,25 @@ public class ApplicationCache extends AbstractApplicationCache {
 
 	public class NotifyThread extends Thread {
 		public void run() {
-			out: while (true) {
+			boolean stop = false;
+			while (!stop) {
 				try {
-					WrapClearCacheRequest wi = NotifyQueue.take();
-					if (wi instanceof StopNotifyThreadSignal) {
-						break out;
-					} else {
-						String url = Config.url_x_program_center_jaxrs("cachedispatch");
-						CipherConnectionAction.put(false, url, wi);
+					List<WrapClearCacheRequest> list = new ArrayList<>();
+					list.add(NotifyQueue.take());
+					Thread.sleep(CacheEhcacheNotifyThread.MERGE_WINDOW);
+					NotifyQueue.drainTo(list, CacheEhcacheNotifyThread.MAX_BATCH_SIZE - 1);
+					/** 合并窗口内的请求一次发送 */
+					List<WrapClearCacheRequest> requests = new ArrayList<>();
+					for (WrapClearCacheRequest wi : list) {
+						if (wi instanceof StopNotifyThreadSignal) {
+							stop = true;
+						} else {
+							requests.add(wi);
+						}
 					}
+					CacheEhcacheNotifyThread.dispatch(requests, notifyStatistic);
+				} catch (InterruptedException e) {
+					break;
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
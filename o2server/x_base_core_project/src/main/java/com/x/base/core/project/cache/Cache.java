@@ -16,6 +16,9 @@ public interface Cache {
 	public static final String TYPE_EHCACHE = "ehcache";
 	public static final String TYPE_REDIS = "redis";
 
+	public static final String CODEC_JAVA = "java";
+	public static final String CODEC_BINARY = "binary";
+
 	public abstract void put(CacheCategory category, CacheKey key, Object o) throws Exception;
 
 	public abstract Optional<?> get(CacheCategory category, CacheKey key) throws Exception;
@@ -26,6 +29,10 @@ public interface Cache {
 
 	public abstract void notify(Class<?> clz, List<Object> keys) throws Exception;
 
+	public abstract List<CacheStatistic> statistics();
+
+	public abstract CacheNotifyStatistic notifyStatistic();
+
 	public static class CacheCategory {
 
 		public static final String SPLIT = "#";
@@ -68,6 +75,28 @@ public interface Cache {
 		}
 	}
 
+	/**
+	 * 缓存对象编解码,用于需要将缓存对象写出进程的实现(如redis).<br>
+	 * encode返回null表示该对象无法编码,不进行缓存.
+	 */
+	public static interface CacheCodec {
+
+		public abstract byte[] encode(Object o) throws Exception;
+
+		public abstract Object decode(byte[] bytes) throws Exception;
+
+	}
+
+	/**
+	 * 缓存未命中时加载数据,返回null表示数据不存在,不进行缓存.
+	 */
+	@FunctionalInterface
+	public static interface CacheLoader<T> {
+
+		public abstract T load() throws Exception;
+
+	}
+
 	static String stringify(Object o) {
 		if (null == o) {
 			return "";
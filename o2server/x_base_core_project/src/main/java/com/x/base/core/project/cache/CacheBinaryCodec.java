@@ -0,0 +1,506 @@
+package com.x.base.core.project.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.x.base.core.project.cache.Cache.CacheCodec;
+import com.x.base.core.project.gson.GsonPropertyObject;
+
+/**
+ * 二进制缓存编码,首字节为类型标识:<br>
+ * 字段均为简单类型(基本类型及其包装类,字符串,日期,枚举,字符串列表)的GsonPropertyObject(包括JpaObject)及其同类型列表按字段顺序直接写出二进制值,只携带类名和字段摘要,不携带java序列化的类描述信息,日期按毫秒数保存;<br>
+ * 字符串,字符串列表,数字和布尔直接写出;其他类型,包括含有Object,Map,嵌套对象或者transient字段的类,退回到java序列化,避免丢失类型和状态.<br>
+ * 读取时字段摘要与当前类不一致(类在升级后增减了字段)视为未命中,返回null.
+ */
+public class CacheBinaryCodec implements CacheCodec {
+
+	private static final byte TAG_SERIALIZATION = 1;
+	private static final byte TAG_OBJECT = 2;
+	private static final byte TAG_OBJECT_LIST = 3;
+	private static final byte TAG_STRING = 4;
+	private static final byte TAG_STRING_LIST = 5;
+	private static final byte TAG_LONG = 6;
+	private static final byte TAG_INTEGER = 7;
+	private static final byte TAG_BOOLEAN = 8;
+	private static final byte TAG_JSON = 9;
+
+	/* openjpa增强后加入的状态字段,以pc开头并且为transient,不需要缓存 */
+	private static final String ENHANCE_FIELD_PREFIX = "pc";
+
+	private static final Map<Class<?>, Optional<Schema>> SCHEMAS = new ConcurrentHashMap<>();
+
+	private CacheJavaSerializationCodec serializationCodec = new CacheJavaSerializationCodec();
+
+	@Override
+	public byte[] encode(Object o) throws Exception {
+		if (o instanceof GsonPropertyObject) {
+			Optional<Schema> schema = schema(o.getClass());
+			if (schema.isPresent()) {
+				try (Output output = new Output(TAG_OBJECT)) {
+					output.dos.writeUTF(o.getClass().getName());
+					output.dos.writeInt(schema.get().digest);
+					schema.get().write(output.dos, o);
+					return output.toByteArray();
+				}
+			}
+		} else if (o instanceof String) {
+			try (Output output = new Output(TAG_STRING)) {
+				writeString(output.dos, (String) o);
+				return output.toByteArray();
+			}
+		} else if (o instanceof Long) {
+			try (Output output = new Output(TAG_LONG)) {
+				output.dos.writeLong((Long) o);
+				return output.toByteArray();
+			}
+		} else if (o instanceof Integer) {
+			try (Output output = new Output(TAG_INTEGER)) {
+				output.dos.writeInt((Integer) o);
+				return output.toByteArray();
+			}
+		} else if (o instanceof Boolean) {
+			try (Output output = new Output(TAG_BOOLEAN)) {
+				output.dos.writeBoolean((Boolean) o);
+				return output.toByteArray();
+			}
+		} else if (o instanceof JsonElement) {
+			try (Output output = new Output(TAG_JSON)) {
+				writeString(output.dos, o.toString());
+				return output.toByteArray();
+			}
+		} else if (o instanceof List) {
+			return this.encodeList((List<?>) o);
+		}
+		return this.serialization(o);
+	}
+
+	@Override
+	public Object decode(byte[] bytes) throws Exception {
+		if ((null == bytes) || (bytes.length == 0)) {
+			return null;
+		}
+		byte tag = bytes[0];
+		if (tag == TAG_SERIALIZATION) {
+			byte[] body = new byte[bytes.length - 1];
+			System.arraycopy(bytes, 1, body, 0, body.length);
+			return serializationCodec.decode(body);
+		}
+		try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+			switch (tag) {
+			case TAG_OBJECT:
+				return this.decodeObject(dis);
+			case TAG_OBJECT_LIST:
+				return this.decodeObjectList(dis);
+			case TAG_STRING:
+				return readString(dis);
+			case TAG_STRING_LIST:
+				return readStringList(dis);
+			case TAG_LONG:
+				return dis.readLong();
+			case TAG_INTEGER:
+				return dis.readInt();
+			case TAG_BOOLEAN:
+				return dis.readBoolean();
+			case TAG_JSON:
+				return new JsonParser().parse(readString(dis));
+			default:
+				throw new IOException("unknown cache codec tag:" + tag + ".");
+			}
+		}
+	}
+
+	private byte[] encodeList(List<?> list) throws Exception {
+		if (list.isEmpty() || list.stream().allMatch(String.class::isInstance)) {
+			try (Output output = new Output(TAG_STRING_LIST)) {
+				writeStringList(output.dos, list);
+				return output.toByteArray();
+			}
+		}
+		Object first = list.get(0);
+		if ((first instanceof GsonPropertyObject)
+				&& list.stream().allMatch(o -> (null != o) && Objects.equals(o.getClass(), first.getClass()))) {
+			Optional<Schema> schema = schema(first.getClass());
+			if (schema.isPresent()) {
+				try (Output output = new Output(TAG_OBJECT_LIST)) {
+					output.dos.writeUTF(first.getClass().getName());
+					output.dos.writeInt(schema.get().digest);
+					output.dos.writeInt(list.size());
+					for (Object o : list) {
+						schema.get().write(output.dos, o);
+					}
+					return output.toByteArray();
+				}
+			}
+		}
+		return this.serialization(list);
+	}
+
+	private Object decodeObject(DataInputStream dis) throws Exception {
+		/* 类名在内容之前写入,需要先读取 */
+		Optional<Schema> schema = this.readSchema(dis);
+		if (!schema.isPresent()) {
+			return null;
+		}
+		return schema.get().read(dis);
+	}
+
+	private Object decodeObjectList(DataInputStream dis) throws Exception {
+		Optional<Schema> schema = this.readSchema(dis);
+		if (!schema.isPresent()) {
+			return null;
+		}
+		int size = dis.readInt();
+		List<Object> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(schema.get().read(dis));
+		}
+		return list;
+	}
+
+	/**
+	 * 读取类名和字段摘要,摘要与当前类不一致时返回空.
+	 */
+	private Optional<Schema> readSchema(DataInputStream dis) throws Exception {
+		Optional<Schema> schema = schema(this.loadClass(dis.readUTF()));
+		int digest = dis.readInt();
+		if (schema.isPresent() && (schema.get().digest == digest)) {
+			return schema;
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 类及其父类的所有实例字段均为简单类型并且有无参构造函数时才可以按字段编码,结果按类缓存.
+	 */
+	private static Optional<Schema> schema(Class<?> cls) {
+		return SCHEMAS.computeIfAbsent(cls, CacheBinaryCodec::inspect);
+	}
+
+	private static Optional<Schema> inspect(Class<?> cls) {
+		if (Modifier.isAbstract(cls.getModifiers()) || cls.isAnonymousClass() || cls.isLocalClass()
+				|| (cls.isMemberClass() && !Modifier.isStatic(cls.getModifiers()))) {
+			return Optional.empty();
+		}
+		Constructor<?> constructor;
+		try {
+			constructor = cls.getDeclaredConstructor();
+			constructor.setAccessible(true);
+		} catch (Exception e) {
+			return Optional.empty();
+		}
+		List<Field> fields = new ArrayList<>();
+		List<Kind> kinds = new ArrayList<>();
+		for (Class<?> c = cls; (null != c) && (c != Object.class); c = c.getSuperclass()) {
+			List<Field> declared = new ArrayList<>();
+			for (Field field : c.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers)) {
+					continue;
+				}
+				if (Modifier.isTransient(modifiers)) {
+					if (field.getName().startsWith(ENHANCE_FIELD_PREFIX)) {
+						continue;
+					}
+					return Optional.empty();
+				}
+				declared.add(field);
+			}
+			/* getDeclaredFields不保证顺序,按名称排序保证各节点写出的字段顺序一致 */
+			declared.sort(Comparator.comparing(Field::getName));
+			for (Field field : declared) {
+				Kind kind = kind(field.getGenericType());
+				if (null == kind) {
+					return Optional.empty();
+				}
+				field.setAccessible(true);
+				fields.add(field);
+				kinds.add(kind);
+			}
+		}
+		return Optional.of(new Schema(constructor, fields, kinds));
+	}
+
+	private static Kind kind(Type type) {
+		if (type instanceof Class) {
+			Class<?> cls = (Class<?>) type;
+			if (cls.isEnum()) {
+				return Kind.ENUM;
+			} else if (cls == String.class) {
+				return Kind.STRING;
+			} else if (cls == Date.class) {
+				return Kind.DATE;
+			} else if ((cls == boolean.class) || (cls == Boolean.class)) {
+				return Kind.BOOLEAN;
+			} else if ((cls == byte.class) || (cls == Byte.class)) {
+				return Kind.BYTE;
+			} else if ((cls == short.class) || (cls == Short.class)) {
+				return Kind.SHORT;
+			} else if ((cls == char.class) || (cls == Character.class)) {
+				return Kind.CHAR;
+			} else if ((cls == int.class) || (cls == Integer.class)) {
+				return Kind.INT;
+			} else if ((cls == long.class) || (cls == Long.class)) {
+				return Kind.LONG;
+			} else if ((cls == float.class) || (cls == Float.class)) {
+				return Kind.FLOAT;
+			} else if ((cls == double.class) || (cls == Double.class)) {
+				return Kind.DOUBLE;
+			}
+			return null;
+		}
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+			Type raw = parameterizedType.getRawType();
+			if (((raw == List.class) || (raw == ArrayList.class))
+					&& (parameterizedType.getActualTypeArguments()[0] == String.class)) {
+				return Kind.STRING_LIST;
+			}
+		}
+		return null;
+	}
+
+	private byte[] serialization(Object o) throws Exception {
+		byte[] body = serializationCodec.encode(o);
+		if (null == body) {
+			return null;
+		}
+		byte[] bytes = new byte[body.length + 1];
+		bytes[0] = TAG_SERIALIZATION;
+		System.arraycopy(body, 0, bytes, 1, body.length);
+		return bytes;
+	}
+
+	/**
+	 * 字符串按UTF-8字节长度加内容写出,长度-1表示null,不受writeUTF的64K限制.
+	 */
+	private static void writeString(DataOutputStream dos, String value) throws IOException {
+		if (null == value) {
+			dos.writeInt(-1);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			dos.writeInt(bytes.length);
+			dos.write(bytes);
+		}
+	}
+
+	private static String readString(DataInputStream dis) throws IOException {
+		int length = dis.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		dis.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 列表按元素个数加元素写出,个数-1表示null.
+	 */
+	private static void writeStringList(DataOutputStream dos, List<?> list) throws IOException {
+		if (null == list) {
+			dos.writeInt(-1);
+			return;
+		}
+		dos.writeInt(list.size());
+		for (Object o : list) {
+			writeString(dos, (String) o);
+		}
+	}
+
+	private static List<String> readStringList(DataInputStream dis) throws IOException {
+		int size = dis.readInt();
+		if (size < 0) {
+			return null;
+		}
+		List<String> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(readString(dis));
+		}
+		return list;
+	}
+
+	private Class<?> loadClass(String className) throws ClassNotFoundException {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (null != classLoader) {
+			try {
+				return Class.forName(className, true, classLoader);
+			} catch (ClassNotFoundException e) {
+				/* 退回到当前类加载器 */
+			}
+		}
+		return Class.forName(className);
+	}
+
+	private enum Kind {
+		BOOLEAN, BYTE, SHORT, CHAR, INT, LONG, FLOAT, DOUBLE, STRING, DATE, ENUM, STRING_LIST
+	}
+
+	/**
+	 * 类的字段布局,digest由字段名和类型计算,用于识别不同版本的类.
+	 */
+	private static class Schema {
+
+		private Constructor<?> constructor;
+		private Field[] fields;
+		private Kind[] kinds;
+		private int digest;
+
+		private Schema(Constructor<?> constructor, List<Field> fields, List<Kind> kinds) {
+			this.constructor = constructor;
+			this.fields = fields.toArray(new Field[0]);
+			this.kinds = kinds.toArray(new Kind[0]);
+			int value = 1;
+			for (Field field : this.fields) {
+				value = 31 * value + field.getName().hashCode();
+				value = 31 * value + field.getGenericType().getTypeName().hashCode();
+			}
+			this.digest = value;
+		}
+
+		private void write(DataOutputStream dos, Object o) throws Exception {
+			for (int i = 0; i < fields.length; i++) {
+				Object value = fields[i].get(o);
+				if ((kinds[i] == Kind.STRING) || (kinds[i] == Kind.STRING_LIST)) {
+					/* 字符串和字符串列表通过长度-1表示null */
+				} else if (!fields[i].getType().isPrimitive()) {
+					dos.writeBoolean(null != value);
+					if (null == value) {
+						continue;
+					}
+				}
+				writeValue(dos, kinds[i], value);
+			}
+		}
+
+		private Object read(DataInputStream dis) throws Exception {
+			Object o = constructor.newInstance();
+			for (int i = 0; i < fields.length; i++) {
+				if ((kinds[i] != Kind.STRING) && (kinds[i] != Kind.STRING_LIST)
+						&& (!fields[i].getType().isPrimitive()) && (!dis.readBoolean())) {
+					fields[i].set(o, null);
+				} else {
+					fields[i].set(o, readValue(dis, fields[i], kinds[i]));
+				}
+			}
+			return o;
+		}
+
+		private void writeValue(DataOutputStream dos, Kind kind, Object value) throws IOException {
+			switch (kind) {
+			case BOOLEAN:
+				dos.writeBoolean((Boolean) value);
+				break;
+			case BYTE:
+				dos.writeByte((Byte) value);
+				break;
+			case SHORT:
+				dos.writeShort((Short) value);
+				break;
+			case CHAR:
+				dos.writeChar((Character) value);
+				break;
+			case INT:
+				dos.writeInt((Integer) value);
+				break;
+			case LONG:
+				dos.writeLong((Long) value);
+				break;
+			case FLOAT:
+				dos.writeFloat((Float) value);
+				break;
+			case DOUBLE:
+				dos.writeDouble((Double) value);
+				break;
+			case STRING:
+				writeString(dos, (String) value);
+				break;
+			case DATE:
+				dos.writeLong(((Date) value).getTime());
+				break;
+			case ENUM:
+				dos.writeUTF(((Enum<?>) value).name());
+				break;
+			case STRING_LIST:
+				writeStringList(dos, (List<?>) value);
+				break;
+			default:
+				throw new IOException("unknown cache codec field kind:" + kind + ".");
+			}
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private Object readValue(DataInputStream dis, Field field, Kind kind) throws IOException {
+			switch (kind) {
+			case BOOLEAN:
+				return dis.readBoolean();
+			case BYTE:
+				return dis.readByte();
+			case SHORT:
+				return dis.readShort();
+			case CHAR:
+				return dis.readChar();
+			case INT:
+				return dis.readInt();
+			case LONG:
+				return dis.readLong();
+			case FLOAT:
+				return dis.readFloat();
+			case DOUBLE:
+				return dis.readDouble();
+			case STRING:
+				return readString(dis);
+			case DATE:
+				return new Date(dis.readLong());
+			case ENUM:
+				return Enum.valueOf((Class<Enum>) field.getType(), dis.readUTF());
+			case STRING_LIST:
+				return readStringList(dis);
+			default:
+				throw new IOException("unknown cache codec field kind:" + kind + ".");
+			}
+		}
+	}
+
+	/**
+	 * 写出类型标识后返回可继续写入的输出流.
+	 */
+	private static class Output implements AutoCloseable {
+
+		private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		private DataOutputStream dos = new DataOutputStream(baos);
+
+		private Output(byte tag) throws IOException {
+			dos.writeByte(tag);
+		}
+
+		private byte[] toByteArray() throws IOException {
+			dos.flush();
+			return baos.toByteArray();
+		}
+
+		@Override
+		public void close() throws IOException {
+			dos.close();
+		}
+	}
+
+}
@@ -3,13 +3,18 @@ package com.x.base.core.project.cache;
 import java.lang.management.ManagementFactory;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import com.x.base.core.project.cache.ApplicationCache.ClearCacheRequest;
+import com.x.base.core.project.config.Cache.Category;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
+import com.x.base.core.project.tools.NumberTools;
 
 import net.sf.ehcache.CacheException;
 import net.sf.ehcache.CacheManager;
@@ -17,8 +22,11 @@ import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.config.CacheConfiguration;
 import net.sf.ehcache.config.Configuration;
+import net.sf.ehcache.config.MemoryUnit;
 import net.sf.ehcache.config.PersistenceConfiguration;
+import net.sf.ehcache.config.SizeOfPolicyConfiguration;
 import net.sf.ehcache.management.ManagementService;
+import net.sf.ehcache.statistics.StatisticsGateway;
 import net.sf.ehcache.store.MemoryStoreEvictionPolicy;
 
 public class CacheEhcacheImpl implements Cache {
@@ -33,15 +41,30 @@ public class CacheEhcacheImpl implements Cache {
 
 	private CacheEhcacheNotifyThread notifyThread;
 
+	/* 已创建的缓存,查找时无需加锁 */
+	private ConcurrentHashMap<String, Ehcache> caches = new ConcurrentHashMap<>();
+
+	private Integer maxEntries;
+
+	private Integer timeToIdle;
+
+	private Integer timeToLive;
+
+	private com.x.base.core.project.config.Cache.Ehcache config;
+
 	public CacheEhcacheImpl(String application) throws Exception {
-		CacheConfiguration cacheConfiguration = new CacheConfiguration();
-		cacheConfiguration.maxEntriesLocalHeap(1000);
-		cacheConfiguration.persistence(new PersistenceConfiguration().strategy(PersistenceConfiguration.Strategy.NONE));
-		cacheConfiguration.timeToIdleSeconds(1800);
-		cacheConfiguration.timeToLiveSeconds(3600);
-		cacheConfiguration.memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.LFU);
+		this(application, Config.cache().getEhcache().getMaxEntries(), Config.cache().getEhcache().getTimeToIdle(),
+				Config.cache().getEhcache().getTimeToLive());
+	}
+
+	public CacheEhcacheImpl(String application, Integer maxEntries, Integer timeToIdle, Integer timeToLive)
+			throws Exception {
+		this.config = Config.cache().getEhcache();
+		this.maxEntries = maxEntries;
+		this.timeToIdle = timeToIdle;
+		this.timeToLive = timeToLive;
 		Configuration configuration = new Configuration();
-		configuration.setDefaultCacheConfiguration(cacheConfiguration);
+		configuration.setDefaultCacheConfiguration(this.cacheConfiguration(null));
 		configuration.setName(application);
 		this.cacheManager = new CacheManager(configuration);
 		if (BooleanUtils.isTrue(Config.cache().getEhcache().getJmxEnable())) {
@@ -86,15 +109,77 @@ public class CacheEhcacheImpl implements Cache {
 		this.notifyQueue.put(req);
 	}
 
+	/**
+	 * 取ehcache自身按缓存分类的命中统计,ehcache为进程内缓存,命中计入本地一级缓存命中.
+	 */
+	@Override
+	public List<CacheStatistic> statistics() {
+		return this.caches.entrySet().stream().map(o -> {
+			StatisticsGateway gateway = o.getValue().getStatistics();
+			return new CacheStatistic(o.getKey(), gateway.cacheHitCount(), 0L, gateway.cacheMissCount());
+		}).collect(Collectors.toList());
+	}
+
+	@Override
+	public CacheNotifyStatistic notifyStatistic() {
+		return this.notifyThread.statistic();
+	}
+
 	@Override
 	public void shutdown() {
 		this.receiveThread.interrupt();
 		this.notifyThread.interrupt();
+		this.caches.clear();
 		this.cacheManager.shutdown();
 	}
 
-	private synchronized Ehcache getCache(String name) {
-		return cacheManager.addCacheIfAbsent(name);
+	private Ehcache getCache(String name) {
+		Ehcache cache = caches.get(name);
+		if (null == cache) {
+			cache = caches.computeIfAbsent(name,
+					k -> cacheManager.addCacheIfAbsent(new net.sf.ehcache.Cache(this.cacheConfiguration(k))));
+		}
+		return cache;
+	}
+
+	/**
+	 * 根据缓存分类的配置生成缓存配置,设置了maxBytes的分类按估算的对象大小限制内存,否则按条目数限制.
+	 */
+	private CacheConfiguration cacheConfiguration(String name) {
+		CacheConfiguration cacheConfiguration = new CacheConfiguration();
+		if (null != name) {
+			cacheConfiguration.setName(name);
+		}
+		cacheConfiguration.persistence(new PersistenceConfiguration().strategy(PersistenceConfiguration.Strategy.NONE));
+		cacheConfiguration.timeToIdleSeconds(this.timeToIdle);
+		cacheConfiguration.timeToLiveSeconds(this.timeToLive);
+		cacheConfiguration.memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.fromString(config.getEvictionPolicy()));
+		Optional<Category> optional = (null == name) ? Optional.empty() : config.category(name);
+		if (optional.isPresent()) {
+			Category category = optional.get();
+			if (NumberTools.greaterThan(category.getMaxBytes(), 0)) {
+				cacheConfiguration.maxBytesLocalHeap(category.getMaxBytes(), MemoryUnit.BYTES);
+				cacheConfiguration.sizeOfPolicy(new SizeOfPolicyConfiguration().maxDepth(config.getSizeOfMaxDepth())
+						.maxDepthExceededBehavior(SizeOfPolicyConfiguration.MaxDepthExceededBehavior.ABORT));
+			} else {
+				cacheConfiguration.maxEntriesLocalHeap(
+						NumberTools.nullOrLessThan(category.getMaxEntries(), 1) ? this.maxEntries
+								: category.getMaxEntries());
+			}
+			if (!NumberTools.nullOrLessThan(category.getTimeToIdle(), 0)) {
+				cacheConfiguration.timeToIdleSeconds(category.getTimeToIdle());
+			}
+			if (!NumberTools.nullOrLessThan(category.getTimeToLive(), 0)) {
+				cacheConfiguration.timeToLiveSeconds(category.getTimeToLive());
+			}
+			if (StringUtils.isNotBlank(category.getEvictionPolicy())) {
+				cacheConfiguration
+						.memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.fromString(category.getEvictionPolicy()));
+			}
+		} else {
+			cacheConfiguration.maxEntriesLocalHeap(this.maxEntries);
+		}
+		return cacheConfiguration;
 	}
 
 }
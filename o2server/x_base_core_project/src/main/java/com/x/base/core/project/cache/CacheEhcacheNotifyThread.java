@@ -1,26 +1,43 @@
 package com.x.base.core.project.cache;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.connection.CipherConnectionAction;
 import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
+import com.x.base.core.project.jaxrs.WrapClearCacheRequestBatch;
 
 public class CacheEhcacheNotifyThread extends Thread {
 
+	/* 合并窗口,窗口内到达的刷新请求合并后一次发送 */
+	public static final long MERGE_WINDOW = 200L;
+
+	/* 单次发送的最大请求数 */
+	public static final int MAX_BATCH_SIZE = 2000;
+
 	public CacheEhcacheNotifyThread(LinkedBlockingQueue<WrapClearCacheRequest> queue) {
 		this.queue = queue;
 	}
 
 	private LinkedBlockingQueue<WrapClearCacheRequest> queue;
 
+	private CacheNotifyStatistic statistic = new CacheNotifyStatistic();
+
+	public CacheNotifyStatistic statistic() {
+		return this.statistic;
+	}
+
 	@Override
 	public void run() {
 		while (!isInterrupted()) {
 			try {
-				WrapClearCacheRequest wi = queue.take();
-				String url = Config.url_x_program_center_jaxrs("cachedispatch");
-				CipherConnectionAction.put(false, url, wi);
+				List<WrapClearCacheRequest> list = new ArrayList<>();
+				list.add(queue.take());
+				Thread.sleep(MERGE_WINDOW);
+				queue.drainTo(list, MAX_BATCH_SIZE - 1);
+				dispatch(list, statistic);
 			} catch (InterruptedException e) {
 				break;
 			} catch (Exception e) {
@@ -29,4 +46,20 @@ public class CacheEhcacheNotifyThread extends Thread {
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * 合并刷新请求,并一次发送到center进行分发.
+	 */
+	public static void dispatch(List<? extends WrapClearCacheRequest> list, CacheNotifyStatistic statistic)
+			throws Exception {
+		if (list.isEmpty()) {
+			return;
+		}
+		WrapClearCacheRequestBatch batch = WrapClearCacheRequestBatch.merge(list);
+		statistic.queued(list.size());
+		statistic.merged((long) list.size() - batch.getRequests().size());
+		String url = Config.url_x_program_center_jaxrs("cachedispatch", "batch");
+		CipherConnectionAction.put(false, url, batch);
+		statistic.sent(batch.getRequests().size());
+	}
+
+}
@@ -29,11 +29,28 @@ public class CacheEhcacheReceiveThread extends Thread {
 	public void run() {
 		while (!isInterrupted()) {
 			try {
-				WrapClearCacheRequest wi = queue.take();
-				String keyValue = new CacheKey(wi.getKeys().toArray()).toString();
-				Stream.of(cacheManager.getCacheNames()).forEach(cacheName -> {
-					if (StringUtils.contains(cacheName, new CacheCategory(wi.getClassName()).toString())) {
-						checkCache(cacheName, keyValue);
+				// 一次取出所有待处理的请求,每个缓存只遍历一次
+				List<WrapClearCacheRequest> list = new ArrayList<>();
+				list.add(queue.take());
+				queue.drainTo(list);
+				String[] cacheNames = cacheManager.getCacheNames();
+				Stream.of(cacheNames).forEach(cacheName -> {
+					List<String> prefixes = new ArrayList<>();
+					boolean all = false;
+					for (WrapClearCacheRequest wi : list) {
+						if (StringUtils.contains(cacheName, new CacheCategory(wi.getClassName()).toString())) {
+							String keyValue = new CacheKey(wi.getKeys().toArray()).toString();
+							if (StringUtils.isEmpty(keyValue)) {
+								all = true;
+								break;
+							}
+							prefixes.add(keyValue);
+						}
+					}
+					if (all) {
+						checkCache(cacheName, new ArrayList<>());
+					} else if (!prefixes.isEmpty()) {
+						checkCache(cacheName, prefixes);
 					}
 				});
 			} catch (InterruptedException e) {
@@ -45,15 +62,19 @@ public class CacheEhcacheReceiveThread extends Thread {
 	}
 
 	@SuppressWarnings("unchecked")
-	private void checkCache(String cacheName, String prefix) {
+	private void checkCache(String cacheName, List<String> prefixes) {
 		Ehcache cache = cacheManager.getCache(cacheName);
 		if (null != cache) {
-			if (StringUtils.isNotEmpty(prefix)) {
+			if (!prefixes.isEmpty()) {
 				// 根据给定的关键字进行删除
 				List<Object> removes = new ArrayList<>();
 				cache.getKeys().forEach(o -> {
-					if (StringUtils.startsWith(Objects.toString(o, ""), prefix)) {
-						removes.add(o);
+					String key = Objects.toString(o, "");
+					for (String prefix : prefixes) {
+						if (StringUtils.startsWith(key, prefix)) {
+							removes.add(o);
+							break;
+						}
 					}
 				});
 				if (!removes.isEmpty()) {
@@ -64,4 +85,4 @@ public class CacheEhcacheReceiveThread extends Thread {
 			}
 		}
 	}
-}
\ No newline at end of file
+}
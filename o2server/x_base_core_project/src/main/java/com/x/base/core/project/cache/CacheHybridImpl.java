@@ -0,0 +1,87 @@
+package com.x.base.core.project.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.x.base.core.project.config.Cache.Redis;
+import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
+
+/**
+ * 两级缓存,进程内ehcache作为一级缓存,redis作为二级缓存.<br>
+ * 一级缓存通过cachedispatch的刷新通知在各节点间保持一致,二级缓存由redis刷新线程清理.
+ */
+public class CacheHybridImpl implements Cache {
+
+	private CacheEhcacheImpl local;
+
+	private CacheRedisImpl remote;
+
+	private ConcurrentHashMap<String, CacheStatistic> statistics = new ConcurrentHashMap<>();
+
+	public CacheHybridImpl(String application, Redis redis) throws Exception {
+		this.local = new CacheEhcacheImpl(application, redis.getLocalCacheSize(), redis.getLocalCacheTimeToLive(),
+				redis.getLocalCacheTimeToLive());
+		this.remote = new CacheRedisImpl(application);
+	}
+
+	@Override
+	public void put(CacheCategory category, CacheKey key, Object o) throws Exception {
+		if (null != o) {
+			this.local.put(category, key, o);
+			this.remote.put(category, key, o);
+		}
+	}
+
+	@Override
+	public Optional<?> get(CacheCategory category, CacheKey key) throws Exception {
+		CacheStatistic statistic = this.statistic(category);
+		Optional<?> optional = this.local.get(category, key);
+		if (optional.isPresent()) {
+			statistic.localHit();
+			return optional;
+		}
+		optional = this.remote.get(category, key);
+		if (optional.isPresent()) {
+			statistic.remoteHit();
+			this.local.put(category, key, optional.get());
+		} else {
+			statistic.miss();
+		}
+		return optional;
+	}
+
+	@Override
+	public void shutdown() {
+		this.local.shutdown();
+		this.remote.shutdown();
+	}
+
+	@Override
+	public void receive(WrapClearCacheRequest wi) throws Exception {
+		this.local.receive(wi);
+	}
+
+	@Override
+	public void notify(Class<?> clz, List<Object> keys) throws Exception {
+		/* 本地缓存通过center分发到所有节点(包括自身)进行清理 */
+		this.local.notify(clz, keys);
+		this.remote.notify(clz, keys);
+	}
+
+	@Override
+	public List<CacheStatistic> statistics() {
+		return new ArrayList<>(this.statistics.values());
+	}
+
+	@Override
+	public CacheNotifyStatistic notifyStatistic() {
+		return this.local.notifyStatistic();
+	}
+
+	private CacheStatistic statistic(CacheCategory category) {
+		return this.statistics.computeIfAbsent(category.toString(), CacheStatistic::new);
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.x.base.core.project.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import com.x.base.core.project.cache.Cache.CacheCodec;
+
+/**
+ * 使用java序列化进行编解码,不可序列化的对象(如CompiledScript)返回null.
+ */
+public class CacheJavaSerializationCodec implements CacheCodec {
+
+	@Override
+	public byte[] encode(Object o) throws Exception {
+		if (!(o instanceof Serializable)) {
+			return null;
+		}
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(o);
+			oos.flush();
+			return baos.toByteArray();
+		}
+	}
+
+	@Override
+	public Object decode(byte[] bytes) throws Exception {
+		try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+				ObjectInputStream ois = new ObjectInputStream(bais)) {
+			return ois.readObject();
+		}
+	}
+
+}
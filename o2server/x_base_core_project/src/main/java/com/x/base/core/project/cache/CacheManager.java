@@ -1,13 +1,28 @@
 package com.x.base.core.project.cache;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.x.base.core.project.cache.Cache.CacheCategory;
 import com.x.base.core.project.cache.Cache.CacheKey;
+import com.x.base.core.project.cache.Cache.CacheLoader;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
 import com.x.base.core.project.logger.Logger;
@@ -22,7 +37,32 @@ public abstract class CacheManager {
 	private CacheManager() {
 	}
 
-	private static Cache cache;
+	private static volatile Cache cache;
+
+	/* 单次等待其他线程加载的最长时间,超时后自行加载 */
+	private static final long LOAD_WAIT_SECONDS = 60;
+
+	/* 保留的过期值的最大数量 */
+	private static final int STALE_SIZE = 10000;
+
+	/* 正在进行的加载,同一个键在一个节点上只有一个加载 */
+	private static final ConcurrentHashMap<String, CompletableFuture<Object>> LOADINGS = new ConcurrentHashMap<>();
+
+	/* 最近一次加载的值,缓存失效后用于在后台刷新期间返回 */
+	private static final Map<String, Object> STALES = Collections
+			.synchronizedMap(new LinkedHashMap<String, Object>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+					return size() > STALE_SIZE;
+				}
+			});
+
+	/* 收到缓存清除请求后的回调,用于维护缓存之外由实体派生的数据 */
+	private static final List<Consumer<WrapClearCacheRequest>> RECEIVE_LISTENERS = new CopyOnWriteArrayList<>();
+
+	private static ExecutorService refreshExecutor;
 
 	private static String name = StringTools.uniqueToken();
 
@@ -31,10 +71,21 @@ public abstract class CacheManager {
 		cache();
 	}
 
-	private static synchronized Cache cache() throws Exception {
+	private static Cache cache() throws Exception {
+		if (null != cache) {
+			return cache;
+		}
+		return initCache();
+	}
+
+	private static synchronized Cache initCache() throws Exception {
 		if (null == cache) {
 			if (StringUtils.equals(Config.cache().getType(), Cache.TYPE_REDIS)) {
-				cache = new CacheRedisImpl(name);
+				if (BooleanUtils.isTrue(Config.cache().getRedis().getLocalCacheEnable())) {
+					cache = new CacheHybridImpl(name, Config.cache().getRedis());
+				} else {
+					cache = new CacheRedisImpl(name);
+				}
 			} else {
 				cache = new CacheEhcacheImpl(name);
 			}
@@ -59,8 +110,131 @@ public abstract class CacheManager {
 		return Optional.empty();
 	}
 
+	/**
+	 * 获取缓存,未命中时使用loader加载并放入缓存.同一节点上同一个键同时只有一个加载,其他调用者等待该加载的结果.
+	 */
+	public static <T> Optional<T> get(CacheCategory category, CacheKey key, CacheLoader<T> loader) throws Exception {
+		return get(category, key, loader, false);
+	}
+
+	/**
+	 * 获取缓存,未命中时使用loader加载并放入缓存.<br>
+	 * stale为true时,如果存在最近一次加载的值,那么直接返回该值并在后台刷新,此时loader在后台线程中运行,不能依赖调用线程的资源(如EntityManagerContainer).
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Optional<T> get(CacheCategory category, CacheKey key, CacheLoader<T> loader, boolean stale)
+			throws Exception {
+		Optional<?> optional = get(category, key);
+		if (optional.isPresent()) {
+			return (Optional<T>) optional;
+		}
+		String loadingKey = category.toString() + "&" + key.toString();
+		if (stale) {
+			Object o = STALES.get(loadingKey);
+			if (null != o) {
+				refresh(category, key, loader, loadingKey);
+				return Optional.of((T) o);
+			}
+		}
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = LOADINGS.putIfAbsent(loadingKey, future);
+		if (null != existing) {
+			try {
+				return Optional.ofNullable((T) existing.get(LOAD_WAIT_SECONDS, TimeUnit.SECONDS));
+			} catch (ExecutionException e) {
+				throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+			} catch (TimeoutException e) {
+				logger.warn("wait for cache loading timeout, category:{}, key:{}.", category, key);
+				return Optional.ofNullable(loader.load());
+			}
+		}
+		return Optional.ofNullable((T) load(category, key, loader, loadingKey, future, stale));
+	}
+
+	private static Object load(CacheCategory category, CacheKey key, CacheLoader<?> loader, String loadingKey,
+			CompletableFuture<Object> future, boolean stale) throws Exception {
+		try {
+			/* 获得加载权后再检查一次,前一个加载可能刚刚完成 */
+			Optional<?> optional = get(category, key);
+			Object o = optional.isPresent() ? optional.get() : loader.load();
+			if ((!optional.isPresent()) && (null != o)) {
+				put(category, key, o);
+			}
+			if (stale) {
+				if (null != o) {
+					STALES.put(loadingKey, o);
+				} else {
+					STALES.remove(loadingKey);
+				}
+			}
+			future.complete(o);
+			return o;
+		} catch (Exception e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			LOADINGS.remove(loadingKey, future);
+		}
+	}
+
+	private static void refresh(CacheCategory category, CacheKey key, CacheLoader<?> loader, String loadingKey) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		if (null == LOADINGS.putIfAbsent(loadingKey, future)) {
+			try {
+				refreshExecutor().execute(() -> {
+					try {
+						load(category, key, loader, loadingKey, future, true);
+					} catch (Exception e) {
+						logger.error(e);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				LOADINGS.remove(loadingKey, future);
+				future.completeExceptionally(e);
+			}
+		}
+	}
+
+	private static synchronized ExecutorService refreshExecutor() {
+		if (null == refreshExecutor) {
+			refreshExecutor = Executors.newFixedThreadPool(2, r -> {
+				Thread thread = new Thread(r, CacheManager.class.getName() + "-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return refreshExecutor;
+	}
+
+	public static List<CacheStatistic> statistics() {
+		try {
+			if (null != cache) {
+				return cache.statistics();
+			}
+		} catch (Exception e) {
+			logger.error(e);
+		}
+		return new ArrayList<>();
+	}
+
+	public static CacheNotifyStatistic notifyStatistic() {
+		try {
+			if (null != cache) {
+				return cache.notifyStatistic();
+			}
+		} catch (Exception e) {
+			logger.error(e);
+		}
+		return new CacheNotifyStatistic();
+	}
+
 	public static void shutdown() {
 		try {
+			synchronized (CacheManager.class) {
+				if (null != refreshExecutor) {
+					refreshExecutor.shutdown();
+				}
+			}
 			if (null != cache) {
 				cache.shutdown();
 			}
@@ -69,6 +243,12 @@ public abstract class CacheManager {
 		}
 	}
 
+	public static void addReceiveListener(Consumer<WrapClearCacheRequest> listener) {
+		if (null != listener) {
+			RECEIVE_LISTENERS.add(listener);
+		}
+	}
+
 	public static void receive(WrapClearCacheRequest wi) {
 		try {
 			if (null != cache) {
@@ -77,6 +257,13 @@ public abstract class CacheManager {
 		} catch (Exception e) {
 			logger.error(e);
 		}
+		for (Consumer<WrapClearCacheRequest> listener : RECEIVE_LISTENERS) {
+			try {
+				listener.accept(wi);
+			} catch (Exception e) {
+				logger.error(e);
+			}
+		}
 	}
 
 	public static void notify(Class<?> clz, List<Object> keys) {
@@ -0,0 +1,51 @@
+package com.x.base.core.project.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 缓存刷新通知的发送统计
+ */
+public class CacheNotifyStatistic {
+
+	/* 进入通知队列的请求数 */
+	private AtomicLong queued = new AtomicLong(0);
+
+	/* 合并掉的请求数 */
+	private AtomicLong merged = new AtomicLong(0);
+
+	/* 实际发送的请求数 */
+	private AtomicLong sent = new AtomicLong(0);
+
+	/* 发送的批次数 */
+	private AtomicLong batch = new AtomicLong(0);
+
+	public void queued(long count) {
+		this.queued.addAndGet(count);
+	}
+
+	public void merged(long count) {
+		this.merged.addAndGet(count);
+	}
+
+	public void sent(long count) {
+		this.sent.addAndGet(count);
+		this.batch.incrementAndGet();
+	}
+
+	public Long getQueued() {
+		return queued.get();
+	}
+
+	public Long getMerged() {
+		return merged.get();
+	}
+
+	public Long getSent() {
+		return sent.get();
+	}
+
+	public Long getBatch() {
+		return batch.get();
+	}
+
+}
@@ -1,16 +1,15 @@
 package com.x.base.core.project.cache;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 
-import javax.script.CompiledScript;
+import org.apache.commons.lang3.StringUtils;
 
+import com.x.base.core.project.config.Config;
 import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
 import com.x.base.core.project.tools.RedisTools;
 
@@ -27,7 +26,16 @@ public class CacheRedisImpl implements Cache {
 
 	private CacheRedisNotifyThread notifyThread;
 
+	private CacheCodec codec;
+
+	private ConcurrentHashMap<String, CacheStatistic> statistics = new ConcurrentHashMap<>();
+
 	public CacheRedisImpl(String application) throws Exception {
+		this(application, codec(Config.cache().getRedis().getCodec()));
+	}
+
+	public CacheRedisImpl(String application, CacheCodec codec) throws Exception {
+		this.codec = codec;
 		this.notifyQueue = new LinkedBlockingQueue<>();
 		this.application = application;
 		this.setParams = new SetParams();
@@ -38,38 +46,51 @@ public class CacheRedisImpl implements Cache {
 
 	@Override
 	public void put(CacheCategory category, CacheKey key, Object o) throws Exception {
-		// 无法序列化CompiledScript类型,在使用Redis缓存无法缓存CompiledScript类型,直接跳过
-		if ((null != o) && (!(o instanceof CompiledScript))) {
-			Jedis jedis = RedisTools.getJedis();
-			if (jedis != null) {
-				try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-						ObjectOutputStream oos = new ObjectOutputStream(baos)) {
-					oos.writeObject(o);
-					byte[] bytes = baos.toByteArray();
-					jedis.set(concrete(category, key).getBytes(StandardCharsets.UTF_8), bytes, setParams);
+		if (null != o) {
+			// 无法编码的类型(如CompiledScript)返回null,在使用Redis缓存时直接跳过
+			byte[] bytes = codec.encode(o);
+			if (null != bytes) {
+				Jedis jedis = RedisTools.getJedis();
+				if (jedis != null) {
+					try {
+						jedis.set(concrete(category, key).getBytes(StandardCharsets.UTF_8), bytes, setParams);
+					} finally {
+						RedisTools.closeJedis(jedis);
+					}
 				}
-				RedisTools.closeJedis(jedis);
 			}
 		}
-
 	}
 
 	@Override
 	public Optional<Object> get(CacheCategory category, CacheKey key) throws Exception {
+		CacheStatistic statistic = this.statistics.computeIfAbsent(category.toString(), CacheStatistic::new);
 		Jedis jedis = RedisTools.getJedis();
 		if (jedis != null) {
 			byte[] bytes = jedis.get(concrete(category, key).getBytes(StandardCharsets.UTF_8));
 			RedisTools.closeJedis(jedis);
 			if ((null != bytes) && bytes.length > 0) {
-				try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-						ObjectInputStream ois = new ObjectInputStream(bais)) {
-					return Optional.ofNullable(ois.readObject());
+				Optional<Object> optional = Optional.ofNullable(codec.decode(bytes));
+				if (optional.isPresent()) {
+					statistic.remoteHit();
+					return optional;
 				}
 			}
 		}
+		statistic.miss();
 		return Optional.empty();
 	}
 
+	@Override
+	public List<CacheStatistic> statistics() {
+		return new ArrayList<>(this.statistics.values());
+	}
+
+	@Override
+	public CacheNotifyStatistic notifyStatistic() {
+		return this.notifyThread.statistic();
+	}
+
 	@Override
 	public void shutdown() {
 		this.notifyThread.interrupt();
@@ -89,6 +110,18 @@ public class CacheRedisImpl implements Cache {
 		this.notifyQueue.put(wi);
 	}
 
+	/**
+	 * 根据配置创建编解码器,可以是java,binary或者实现了CacheCodec的类名.
+	 */
+	public static CacheCodec codec(String name) throws Exception {
+		if (StringUtils.isEmpty(name) || StringUtils.equalsIgnoreCase(name, CODEC_JAVA)) {
+			return new CacheJavaSerializationCodec();
+		} else if (StringUtils.equalsIgnoreCase(name, CODEC_BINARY)) {
+			return new CacheBinaryCodec();
+		}
+		return (CacheCodec) Class.forName(name).newInstance();
+	}
+
 	private String concrete(CacheCategory category, CacheKey key) {
 		return this.application + "&" + category.toString() + "&" + key.toString();
 	}
@@ -18,11 +18,18 @@ public class CacheRedisNotifyThread extends Thread {
 
 	private LinkedBlockingQueue<WrapClearCacheRequest> queue;
 
+	private CacheNotifyStatistic statistic = new CacheNotifyStatistic();
+
+	public CacheNotifyStatistic statistic() {
+		return this.statistic;
+	}
+
 	@Override
 	public void run() {
 		while (!isInterrupted()) {
 			try {
 				WrapClearCacheRequest wi = queue.take();
+				statistic.queued(1);
 //				String pattern = "^([\\s\\S]*)\\&(([\\s\\S]*)(" + new CacheCategory(wi.getClassName()).toString()
 //						+ ")(([\\s\\S]*)\\&))($|(([\\s\\S]*)" + new CacheKey(wi.getKeys()).toString()
 //						+ "([\\s\\S]*)$))";
@@ -36,6 +43,7 @@ public class CacheRedisNotifyThread extends Thread {
 						jedis.flushDB();
 					}
 					RedisTools.closeJedis(jedis);
+					statistic.sent(1);
 				}
 			} catch (InterruptedException ie) {
 				break;
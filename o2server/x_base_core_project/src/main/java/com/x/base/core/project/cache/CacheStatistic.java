@@ -0,0 +1,60 @@
+package com.x.base.core.project.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按缓存分类统计的命中情况
+ */
+public class CacheStatistic {
+
+	private String category;
+
+	/* 本地一级缓存命中次数 */
+	private AtomicLong localHit = new AtomicLong(0);
+
+	/* 远程二级缓存命中次数 */
+	private AtomicLong remoteHit = new AtomicLong(0);
+
+	/* 未命中次数 */
+	private AtomicLong miss = new AtomicLong(0);
+
+	public CacheStatistic(String category) {
+		this.category = category;
+	}
+
+	public CacheStatistic(String category, long localHit, long remoteHit, long miss) {
+		this.category = category;
+		this.localHit.set(localHit);
+		this.remoteHit.set(remoteHit);
+		this.miss.set(miss);
+	}
+
+	public void localHit() {
+		this.localHit.incrementAndGet();
+	}
+
+	public void remoteHit() {
+		this.remoteHit.incrementAndGet();
+	}
+
+	public void miss() {
+		this.miss.incrementAndGet();
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public Long getLocalHit() {
+		return localHit.get();
+	}
+
+	public Long getRemoteHit() {
+		return remoteHit.get();
+	}
+
+	public Long getMiss() {
+		return miss.get();
+	}
+
+}
@@ -1,5 +1,10 @@
 package com.x.base.core.project.config;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -39,7 +44,7 @@ public class Cache extends ConfigObject {
 	}
 
 	public Ehcache getEhcache() {
-		return this.redis == null ? new Ehcache() : this.ehcache;
+		return this.ehcache == null ? new Ehcache() : this.ehcache;
 	}
 
 	public static class Redis extends ConfigObject {
@@ -53,6 +58,10 @@ public class Cache extends ConfigObject {
 		public static final Boolean DEFAULT_SSLENABLE = false;
 		public static final Boolean DEFAULT_JMXENABLE = false;
 		public static final Integer DEFAULT_INDEX = 0;
+		public static final Boolean DEFAULT_LOCALCACHEENABLE = false;
+		public static final Integer DEFAULT_LOCALCACHESIZE = 1000;
+		public static final Integer DEFAULT_LOCALCACHETIMETOLIVE = 60;
+		public static final String DEFAULT_CODEC = com.x.base.core.project.cache.Cache.CODEC_JAVA;
 
 		public static Redis defaultInstance() {
 			return new Redis();
@@ -67,7 +76,10 @@ public class Cache extends ConfigObject {
 			this.user = DEFAULT_USER;
 			this.password = DEFAULT_PASSWORD;
 			this.index = DEFAULT_INDEX;
-
+			this.localCacheEnable = DEFAULT_LOCALCACHEENABLE;
+			this.localCacheSize = DEFAULT_LOCALCACHESIZE;
+			this.localCacheTimeToLive = DEFAULT_LOCALCACHETIMETOLIVE;
+			this.codec = DEFAULT_CODEC;
 		}
 
 		@FieldDescribe("redis服务器地址")
@@ -94,6 +106,18 @@ public class Cache extends ConfigObject {
 		@FieldDescribe("数据库编号")
 		private Integer index;
 
+		@FieldDescribe("是否启用本地一级缓存,启用后在redis前增加进程内缓存,通过缓存刷新通知保持一致.")
+		private Boolean localCacheEnable;
+
+		@FieldDescribe("本地一级缓存每个分类的最大条目数.")
+		private Integer localCacheSize;
+
+		@FieldDescribe("本地一级缓存存活时间,单位:秒.")
+		private Integer localCacheTimeToLive;
+
+		@FieldDescribe("缓存对象编码方式:java(默认,java序列化),binary(二进制编码,字段均为简单类型的对象按字段写出,其他对象仍使用java序列化),或者实现了com.x.base.core.project.cache.Cache$CacheCodec的类名.")
+		private String codec;
+
 		public String getHost() {
 			return StringUtils.isBlank(this.host) ? DEFAULT_HOST : this.host;
 		}
@@ -127,11 +151,33 @@ public class Cache extends ConfigObject {
 			return NumberTools.nullOrLessThan(this.index, 0) ? DEFAULT_INDEX : this.index;
 		}
 
+		public Boolean getLocalCacheEnable() {
+			return BooleanUtils.isTrue(localCacheEnable);
+		}
+
+		public Integer getLocalCacheSize() {
+			return NumberTools.nullOrLessThan(this.localCacheSize, 1) ? DEFAULT_LOCALCACHESIZE : this.localCacheSize;
+		}
+
+		public String getCodec() {
+			return StringUtils.isBlank(this.codec) ? DEFAULT_CODEC : this.codec;
+		}
+
+		public Integer getLocalCacheTimeToLive() {
+			return NumberTools.nullOrLessThan(this.localCacheTimeToLive, 1) ? DEFAULT_LOCALCACHETIMETOLIVE
+					: this.localCacheTimeToLive;
+		}
+
 	}
 
 	public static class Ehcache extends ConfigObject {
 		private static final long serialVersionUID = 1L;
 		public static final Boolean DEFAULT_JMXENABLE = false;
+		public static final Integer DEFAULT_MAXENTRIES = 1000;
+		public static final Integer DEFAULT_TIMETOIDLE = 1800;
+		public static final Integer DEFAULT_TIMETOLIVE = 3600;
+		public static final String DEFAULT_EVICTIONPOLICY = "LFU";
+		public static final Integer DEFAULT_SIZEOFMAXDEPTH = 1000;
 
 		public static Ehcache defaultInstance() {
 			return new Ehcache();
@@ -139,14 +185,117 @@ public class Cache extends ConfigObject {
 
 		public Ehcache() {
 			this.jmxEnable = DEFAULT_JMXENABLE;
+			this.maxEntries = DEFAULT_MAXENTRIES;
+			this.timeToIdle = DEFAULT_TIMETOIDLE;
+			this.timeToLive = DEFAULT_TIMETOLIVE;
+			this.evictionPolicy = DEFAULT_EVICTIONPOLICY;
+			this.sizeOfMaxDepth = DEFAULT_SIZEOFMAXDEPTH;
+			this.categories = new ArrayList<>();
 		}
 
 		@FieldDescribe("是否启用jmx")
 		private Boolean jmxEnable;
 
+		@FieldDescribe("默认每个缓存分类的最大条目数.")
+		private Integer maxEntries;
+
+		@FieldDescribe("默认空闲存活时间,单位:秒.")
+		private Integer timeToIdle;
+
+		@FieldDescribe("默认存活时间,单位:秒.")
+		private Integer timeToLive;
+
+		@FieldDescribe("默认淘汰策略:LFU,LRU,FIFO.")
+		private String evictionPolicy;
+
+		@FieldDescribe("按内存限制缓存时,估算对象大小遍历的最大对象数,超过后停止估算.")
+		private Integer sizeOfMaxDepth;
+
+		@FieldDescribe("按缓存分类单独配置,name匹配缓存分类的前缀,如:com.x.organization.core.entity.Unit.")
+		private List<Category> categories;
+
 		public Boolean getJmxEnable() {
 			return BooleanUtils.isTrue(jmxEnable);
 		}
+
+		public Integer getMaxEntries() {
+			return NumberTools.nullOrLessThan(this.maxEntries, 1) ? DEFAULT_MAXENTRIES : this.maxEntries;
+		}
+
+		public Integer getTimeToIdle() {
+			return NumberTools.nullOrLessThan(this.timeToIdle, 0) ? DEFAULT_TIMETOIDLE : this.timeToIdle;
+		}
+
+		public Integer getTimeToLive() {
+			return NumberTools.nullOrLessThan(this.timeToLive, 0) ? DEFAULT_TIMETOLIVE : this.timeToLive;
+		}
+
+		public String getEvictionPolicy() {
+			return StringUtils.isBlank(this.evictionPolicy) ? DEFAULT_EVICTIONPOLICY : this.evictionPolicy;
+		}
+
+		public Integer getSizeOfMaxDepth() {
+			return NumberTools.nullOrLessThan(this.sizeOfMaxDepth, 1) ? DEFAULT_SIZEOFMAXDEPTH : this.sizeOfMaxDepth;
+		}
+
+		public List<Category> getCategories() {
+			return null == this.categories ? new ArrayList<>() : this.categories;
+		}
+
+		/**
+		 * 查找与缓存分类匹配的配置,有多个匹配时取name最长的.
+		 */
+		public Optional<Category> category(String name) {
+			return this.getCategories().stream()
+					.filter(o -> StringUtils.isNotEmpty(o.getName()) && StringUtils.startsWith(name, o.getName()))
+					.max(Comparator.comparingInt(o -> o.getName().length()));
+		}
+	}
+
+	public static class Category extends ConfigObject {
+		private static final long serialVersionUID = 1L;
+
+		@FieldDescribe("缓存分类名称前缀.")
+		private String name;
+
+		@FieldDescribe("最大条目数,与maxBytes二选一,设置maxBytes后此项无效.")
+		private Integer maxEntries;
+
+		@FieldDescribe("最大占用内存,单位:字节,设置后按估算的对象大小进行淘汰.")
+		private Long maxBytes;
+
+		@FieldDescribe("空闲存活时间,单位:秒.")
+		private Integer timeToIdle;
+
+		@FieldDescribe("存活时间,单位:秒.")
+		private Integer timeToLive;
+
+		@FieldDescribe("淘汰策略:LFU,LRU,FIFO.")
+		private String evictionPolicy;
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getMaxEntries() {
+			return maxEntries;
+		}
+
+		public Long getMaxBytes() {
+			return maxBytes;
+		}
+
+		public Integer getTimeToIdle() {
+			return timeToIdle;
+		}
+
+		public Integer getTimeToLive() {
+			return timeToLive;
+		}
+
+		public String getEvictionPolicy() {
+			return evictionPolicy;
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -8,8 +8,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiFunction;
 
 import javax.naming.InitialContext;
 import javax.ws.rs.core.MediaType;
@@ -81,6 +83,7 @@ public class Config {
 	public static final String PATH_CONFIG_COMPONENTS = "config/components.json";
 	public static final String PATH_CONFIG_EMAIL = "config/email.json";
 	public static final String PATH_CONFIG_WEB = "config/web.json";
+	public static final String PATH_CONFIG_CONNECTION = "config/connection.json";
 
 	public static final String DIR_COMMONS = "commons";
 	public static final String DIR_COMMONS_TESS4J_TESSDATA = "commons/tess4j/tessdata";
@@ -1163,6 +1166,19 @@ public class Config {
 		return instance().components;
 	}
 
+	public Connection connection;
+
+	public static synchronized Connection connection() throws Exception {
+		if (null == instance().connection) {
+			Connection obj = BaseTools.readConfigObject(PATH_CONFIG_CONNECTION, Connection.class);
+			if (null == obj) {
+				obj = Connection.defaultInstance();
+			}
+			instance().connection = obj;
+		}
+		return instance().connection;
+	}
+
 	public JsonObject web;
 
 	public static synchronized JsonObject web() throws Exception {
@@ -1269,17 +1285,20 @@ public class Config {
 		initialContext().rebind(RESOURCE_NODE_CENTERSPRIMARYSSLENABLE, sslEnable);
 	}
 
-	public static synchronized ExecutorService[] resource_node_processPlatformExecutors() throws Exception {
+	/* 绑定的对象由console的类加载器创建,只能使用jdk类型 */
+	@SuppressWarnings("unchecked")
+	public static synchronized BiFunction<String, Callable<?>, CompletableFuture<?>> resource_node_processPlatformExecutors()
+			throws Exception {
 		Object o = initialContext().lookup(RESOURCE_NODE_PROCESSPLATFORMEXECUTORS);
 		if (null != o) {
-			return (ExecutorService[]) o;
+			return (BiFunction<String, Callable<?>, CompletableFuture<?>>) o;
 		}
 		return null;
 	}
 
-	public static synchronized void resource_node_processPlatformExecutors(ExecutorService[] executorServices)
-			throws Exception {
-		initialContext().rebind(RESOURCE_NODE_PROCESSPLATFORMEXECUTORS, executorServices);
+	public static synchronized void resource_node_processPlatformExecutors(
+			BiFunction<String, Callable<?>, CompletableFuture<?>> executor) throws Exception {
+		initialContext().rebind(RESOURCE_NODE_PROCESSPLATFORMEXECUTORS, executor);
 	}
 
 }
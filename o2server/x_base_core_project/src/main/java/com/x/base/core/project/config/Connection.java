@@ -0,0 +1,87 @@
+package com.x.base.core.project.config;
+
+import org.apache.commons.lang3.BooleanUtils;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.tools.NumberTools;
+
+/**
+ * 服务之间http调用的连接池配置.
+ */
+public class Connection extends ConfigObject {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final Boolean DEFAULT_ENABLE = true;
+	public static final Integer DEFAULT_MAXTOTAL = 200;
+	public static final Integer DEFAULT_MAXPERROUTE = 50;
+	public static final Integer DEFAULT_CONNECTTIMEOUT = 5000;
+	/* 启用连接池前每次新建的连接不设置读取超时,这里给出10分钟的上限,避免目标服务无响应时连接被长期占用;需要更长执行时间的调用可以调大或者设置为0 */
+	public static final Integer DEFAULT_READTIMEOUT = 600000;
+	public static final Integer DEFAULT_LEASETIMEOUT = 30000;
+	public static final Integer DEFAULT_IDLETIMEOUT = 60000;
+
+	public static Connection defaultInstance() {
+		return new Connection();
+	}
+
+	public Connection() {
+		this.enable = DEFAULT_ENABLE;
+		this.maxTotal = DEFAULT_MAXTOTAL;
+		this.maxPerRoute = DEFAULT_MAXPERROUTE;
+		this.connectTimeout = DEFAULT_CONNECTTIMEOUT;
+		this.readTimeout = DEFAULT_READTIMEOUT;
+		this.leaseTimeout = DEFAULT_LEASETIMEOUT;
+		this.idleTimeout = DEFAULT_IDLETIMEOUT;
+	}
+
+	@FieldDescribe("是否启用连接池,不启用时每次调用新建连接.")
+	private Boolean enable;
+
+	@FieldDescribe("连接池最大连接数.")
+	private Integer maxTotal;
+
+	@FieldDescribe("每个目标主机(host:port)的最大连接数.")
+	private Integer maxPerRoute;
+
+	@FieldDescribe("建立连接超时时间,毫秒.")
+	private Integer connectTimeout;
+
+	@FieldDescribe("读取超时时间,毫秒,默认600000(10分钟),0为不超时.超过此时间没有返回数据的调用将失败,耗时较长的同步调用(如数据导出,批量处理)需要相应调大.")
+	private Integer readTimeout;
+
+	@FieldDescribe("从连接池获取连接的等待时间,毫秒.")
+	private Integer leaseTimeout;
+
+	@FieldDescribe("空闲连接的保留时间,毫秒.")
+	private Integer idleTimeout;
+
+	public Boolean getEnable() {
+		return BooleanUtils.isNotFalse(this.enable);
+	}
+
+	public Integer getMaxTotal() {
+		return NumberTools.nullOrLessThan(this.maxTotal, 1) ? DEFAULT_MAXTOTAL : this.maxTotal;
+	}
+
+	public Integer getMaxPerRoute() {
+		return NumberTools.nullOrLessThan(this.maxPerRoute, 1) ? DEFAULT_MAXPERROUTE : this.maxPerRoute;
+	}
+
+	public Integer getConnectTimeout() {
+		return NumberTools.nullOrLessThan(this.connectTimeout, 1) ? DEFAULT_CONNECTTIMEOUT : this.connectTimeout;
+	}
+
+	public Integer getReadTimeout() {
+		return NumberTools.nullOrLessThan(this.readTimeout, 0) ? DEFAULT_READTIMEOUT : this.readTimeout;
+	}
+
+	public Integer getLeaseTimeout() {
+		return NumberTools.nullOrLessThan(this.leaseTimeout, 1) ? DEFAULT_LEASETIMEOUT : this.leaseTimeout;
+	}
+
+	public Integer getIdleTimeout() {
+		return NumberTools.nullOrLessThan(this.idleTimeout, 1) ? DEFAULT_IDLETIMEOUT : this.idleTimeout;
+	}
+
+}
@@ -13,6 +13,7 @@ import org.quartz.CronExpression;
 import com.x.base.core.project.annotation.FieldDescribe;
 import com.x.base.core.project.gson.XGsonBuilder;
 import com.x.base.core.project.tools.DefaultCharset;
+import com.x.base.core.project.tools.NumberTools;
 
 public class Query extends ConfigObject {
 
@@ -24,11 +25,17 @@ public class Query extends ConfigObject {
 		this.crawlWorkCompleted = new CrawlWorkCompleted();
 		this.crawlWork = new CrawlWork();
 		this.crawlCms = new CrawlCms();
+		this.planFetch = new PlanFetch();
+		this.segmentIndex = new SegmentIndex();
 		this.extractOffice = DEFAULT_EXTRACTOFFICE;
 		this.extractPdf = DEFAULT_EXTRACTPDF;
 		this.extractText = DEFAULT_EXTRACTTEXT;
 		this.extractImage = DEFAULT_EXTRACTIMAGE;
 		this.tessLanguage = DEFAULT_TESSLANGUAGE;
+		this.crawlThreadCount = DEFAULT_CRAWLTHREADCOUNT;
+		this.crawlTextCache = DEFAULT_CRAWLTEXTCACHE;
+		this.crawlTextCacheMaxSize = DEFAULT_CRAWLTEXTCACHEMAXSIZE;
+		this.crawlTextCacheMaxAge = DEFAULT_CRAWLTEXTCACHEMAXAGE;
 	}
 
 	@FieldDescribe("已完成工作收集器设置.")
@@ -40,6 +47,12 @@ public class Query extends ConfigObject {
 	@FieldDescribe("内容管理收集器设置.")
 	private CrawlCms crawlCms;
 
+	@FieldDescribe("视图取数设置.")
+	private PlanFetch planFetch;
+
+	@FieldDescribe("分词倒排索引设置.")
+	private SegmentIndex segmentIndex;
+
 	@FieldDescribe("抽取office中的文本.")
 	private Boolean extractOffice = true;
 
@@ -55,11 +68,27 @@ public class Query extends ConfigObject {
 	@FieldDescribe("tess使用语言.")
 	private String tessLanguage = "chi_sim";
 
+	@FieldDescribe("收集器并行处理的线程数量.")
+	private Integer crawlThreadCount = DEFAULT_CRAWLTHREADCOUNT;
+
+	@FieldDescribe("收集时按附件内容摘要缓存抽取的文本,内容未变化的附件不再重复解析.")
+	private Boolean crawlTextCache = DEFAULT_CRAWLTEXTCACHE;
+
+	@FieldDescribe("抽取文本缓存的最大容量(MB),超过后删除最久未使用的缓存.")
+	private Integer crawlTextCacheMaxSize = DEFAULT_CRAWLTEXTCACHEMAXSIZE;
+
+	@FieldDescribe("抽取文本缓存的最长保留时间(天),超过后删除.")
+	private Integer crawlTextCacheMaxAge = DEFAULT_CRAWLTEXTCACHEMAXAGE;
+
 	public static final Boolean DEFAULT_EXTRACTOFFICE = true;
 	public static final Boolean DEFAULT_EXTRACTPDF = true;
 	public static final Boolean DEFAULT_EXTRACTTEXT = true;
 	public static final Boolean DEFAULT_EXTRACTIMAGE = false;
 	public static final String DEFAULT_TESSLANGUAGE = "chi_sim";
+	public static final Integer DEFAULT_CRAWLTHREADCOUNT = 4;
+	public static final Boolean DEFAULT_CRAWLTEXTCACHE = true;
+	public static final Integer DEFAULT_CRAWLTEXTCACHEMAXSIZE = 1024;
+	public static final Integer DEFAULT_CRAWLTEXTCACHEMAXAGE = 30;
 
 	public Boolean getExtractOffice() {
 		return BooleanUtils.isTrue(extractOffice);
@@ -81,6 +110,25 @@ public class Query extends ConfigObject {
 		return StringUtils.isNotEmpty(this.tessLanguage) ? this.tessLanguage : DEFAULT_TESSLANGUAGE;
 	}
 
+	public Integer getCrawlThreadCount() {
+		return NumberTools.nullOrLessThan(this.crawlThreadCount, 1) ? DEFAULT_CRAWLTHREADCOUNT
+				: this.crawlThreadCount;
+	}
+
+	public Boolean getCrawlTextCache() {
+		return BooleanUtils.isNotFalse(this.crawlTextCache);
+	}
+
+	public Integer getCrawlTextCacheMaxSize() {
+		return NumberTools.nullOrLessThan(this.crawlTextCacheMaxSize, 1) ? DEFAULT_CRAWLTEXTCACHEMAXSIZE
+				: this.crawlTextCacheMaxSize;
+	}
+
+	public Integer getCrawlTextCacheMaxAge() {
+		return NumberTools.nullOrLessThan(this.crawlTextCacheMaxAge, 1) ? DEFAULT_CRAWLTEXTCACHEMAXAGE
+				: this.crawlTextCacheMaxAge;
+	}
+
 	public CrawlCms getCrawlCms() {
 		return this.crawlCms == null ? new CrawlCms() : this.crawlCms;
 	}
@@ -93,6 +141,14 @@ public class Query extends ConfigObject {
 		return this.crawlWorkCompleted == null ? new CrawlWorkCompleted() : this.crawlWorkCompleted;
 	}
 
+	public PlanFetch getPlanFetch() {
+		return this.planFetch == null ? new PlanFetch() : this.planFetch;
+	}
+
+	public SegmentIndex getSegmentIndex() {
+		return this.segmentIndex == null ? new SegmentIndex() : this.segmentIndex;
+	}
+
 	public void save() throws Exception {
 		File file = new File(Config.base(), Config.PATH_CONFIG_QUERY);
 		FileUtils.write(file, XGsonBuilder.toJson(this), DefaultCharset.charset);
@@ -119,7 +175,7 @@ public class Query extends ConfigObject {
 		@FieldDescribe("定时cron表达式.")
 		private String cron = DEFAULT_CRON;
 
-		@FieldDescribe("每次处理的数量,默认每小时处理所以默认为30,同时每次将重爬最旧的50%,按时间轮询50%.")
+		@FieldDescribe("每批处理的数量,按更新时间水位增量处理直到没有变更,同时检查同样数量的已索引条目来源是否已删除.")
 		private Integer count = DEFAULT_CONUT;
 
 		@FieldDescribe("忽略附件名称.")
@@ -195,7 +251,7 @@ public class Query extends ConfigObject {
 		@FieldDescribe("定时cron表达式.")
 		private String cron = DEFAULT_CRON;
 
-		@FieldDescribe("每次处理的数量,默认每小时处理所以默认为50,同时每次将重爬最旧的50%,按时间轮询50%.")
+		@FieldDescribe("每批处理的数量,按更新时间水位增量处理直到没有变更,同时检查同样数量的已索引条目来源是否已删除.")
 		private Integer count = DEFAULT_CONUT;
 
 		@FieldDescribe("忽略附件名称.")
@@ -282,7 +338,7 @@ public class Query extends ConfigObject {
 		@FieldDescribe("定时cron表达式.")
 		private String cron = DEFAULT_CRON;
 
-		@FieldDescribe("每次处理的数量,默认每小时处理所以默认为500,同时每次将重爬最旧的25%,按时间轮询25%.")
+		@FieldDescribe("每批处理的数量,按更新时间水位增量处理直到没有变更,同时检查同样数量的已索引条目来源是否已删除.")
 		private Integer count = DEFAULT_CONUT;
 
 		@FieldDescribe("忽略附件名称.")
@@ -348,6 +404,148 @@ public class Query extends ConfigObject {
 
 	}
 
+	public static class PlanFetch extends ConfigObject {
+
+		public static PlanFetch defaultInstance() {
+			PlanFetch o = new PlanFetch();
+			return o;
+		}
+
+		public final static Boolean DEFAULT_MERGEQUERY = true;
+
+		public final static Integer DEFAULT_THREADCOUNT = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+		public final static Integer DEFAULT_VIEWCONCURRENCY = 4;
+
+		public final static Integer DEFAULT_MATERIALIZEDMAXAGE = 60;
+
+		@FieldDescribe("每批数据的所有列使用一次查询获取,false时每列单独查询.")
+		private Boolean mergeQuery = DEFAULT_MERGEQUERY;
+
+		@FieldDescribe("视图取数线程池的线程数量,所有视图共用.")
+		private Integer threadCount = DEFAULT_THREADCOUNT;
+
+		@FieldDescribe("单个视图同时执行的查询数量.")
+		private Integer viewConcurrency = DEFAULT_VIEWCONCURRENCY;
+
+		@FieldDescribe("物化视图行数据的最长使用时间(分钟),超过后重新计算,用于处理删除的数据.")
+		private Integer materializedMaxAge = DEFAULT_MATERIALIZEDMAXAGE;
+
+		public Boolean getMergeQuery() {
+			return BooleanUtils.isNotFalse(this.mergeQuery);
+		}
+
+		public Integer getThreadCount() {
+			return NumberTools.nullOrLessThan(this.threadCount, 1) ? DEFAULT_THREADCOUNT : this.threadCount;
+		}
+
+		public Integer getViewConcurrency() {
+			return NumberTools.nullOrLessThan(this.viewConcurrency, 1) ? DEFAULT_VIEWCONCURRENCY
+					: this.viewConcurrency;
+		}
+
+		public Integer getMaterializedMaxAge() {
+			return NumberTools.nullOrLessThan(this.materializedMaxAge, 1) ? DEFAULT_MATERIALIZEDMAXAGE
+					: this.materializedMaxAge;
+		}
+
+		public void setMergeQuery(Boolean mergeQuery) {
+			this.mergeQuery = mergeQuery;
+		}
+
+		public void setThreadCount(Integer threadCount) {
+			this.threadCount = threadCount;
+		}
+
+		public void setViewConcurrency(Integer viewConcurrency) {
+			this.viewConcurrency = viewConcurrency;
+		}
+
+		public void setMaterializedMaxAge(Integer materializedMaxAge) {
+			this.materializedMaxAge = materializedMaxAge;
+		}
+
+	}
+
+	public static class SegmentIndex extends ConfigObject {
+
+		public static SegmentIndex defaultInstance() {
+			SegmentIndex o = new SegmentIndex();
+			return o;
+		}
+
+		/* 索引保存在单个节点本地,收集和搜索请求均使用该值选择节点 */
+		public final static String NODE_SEED = "segmentIndex";
+
+		/* 升级后索引为空,默认关闭,先调用segment/index/rebuild(未启用时即可执行)完成重建后再启用,否则搜索将查询空索引 */
+		public final static Boolean DEFAULT_ENABLE = false;
+
+		public final static Boolean DEFAULT_WRITEWORD = false;
+
+		public final static Integer DEFAULT_MAXBUFFEREDDOCUMENTS = 1000;
+
+		public final static Integer DEFAULT_FLUSHINTERVAL = 30;
+
+		public final static Integer DEFAULT_MERGEFACTOR = 10;
+
+		@FieldDescribe("是否启用本地倒排索引,启用后分词搜索使用索引并按BM25排序,否则使用Word表统计.启用前需要调用segment/index/rebuild重建索引,重建在未启用时即可执行,完成后索引随收集持续更新.")
+		private Boolean enable = DEFAULT_ENABLE;
+
+		@FieldDescribe("收集时是否同时写入Word表,仅在需要回退到Word表搜索时开启.")
+		private Boolean writeWord = DEFAULT_WRITEWORD;
+
+		@FieldDescribe("内存中缓存的最大文档数量,超过后写入磁盘段.")
+		private Integer maxBufferedDocuments = DEFAULT_MAXBUFFEREDDOCUMENTS;
+
+		@FieldDescribe("内存缓存写入磁盘段的间隔(秒).")
+		private Integer flushInterval = DEFAULT_FLUSHINTERVAL;
+
+		@FieldDescribe("磁盘段数量超过该值时进行合并.")
+		private Integer mergeFactor = DEFAULT_MERGEFACTOR;
+
+		public Boolean getEnable() {
+			return BooleanUtils.isTrue(this.enable);
+		}
+
+		public Boolean getWriteWord() {
+			return BooleanUtils.isTrue(this.writeWord);
+		}
+
+		public Integer getMaxBufferedDocuments() {
+			return NumberTools.nullOrLessThan(this.maxBufferedDocuments, 1) ? DEFAULT_MAXBUFFEREDDOCUMENTS
+					: this.maxBufferedDocuments;
+		}
+
+		public Integer getFlushInterval() {
+			return NumberTools.nullOrLessThan(this.flushInterval, 1) ? DEFAULT_FLUSHINTERVAL : this.flushInterval;
+		}
+
+		public Integer getMergeFactor() {
+			return NumberTools.nullOrLessThan(this.mergeFactor, 2) ? DEFAULT_MERGEFACTOR : this.mergeFactor;
+		}
+
+		public void setEnable(Boolean enable) {
+			this.enable = enable;
+		}
+
+		public void setWriteWord(Boolean writeWord) {
+			this.writeWord = writeWord;
+		}
+
+		public void setMaxBufferedDocuments(Integer maxBufferedDocuments) {
+			this.maxBufferedDocuments = maxBufferedDocuments;
+		}
+
+		public void setFlushInterval(Integer flushInterval) {
+			this.flushInterval = flushInterval;
+		}
+
+		public void setMergeFactor(Integer mergeFactor) {
+			this.mergeFactor = mergeFactor;
+		}
+
+	}
+
 	public void setCrawlWorkCompleted(CrawlWorkCompleted crawlWorkCompleted) {
 		this.crawlWorkCompleted = crawlWorkCompleted;
 	}
@@ -376,7 +574,31 @@ public class Query extends ConfigObject {
 		this.extractImage = extractImage;
 	}
 
+	public void setPlanFetch(PlanFetch planFetch) {
+		this.planFetch = planFetch;
+	}
+
+	public void setSegmentIndex(SegmentIndex segmentIndex) {
+		this.segmentIndex = segmentIndex;
+	}
+
 	public void setTessLanguage(String tessLanguage) {
 		this.tessLanguage = tessLanguage;
 	}
+
+	public void setCrawlThreadCount(Integer crawlThreadCount) {
+		this.crawlThreadCount = crawlThreadCount;
+	}
+
+	public void setCrawlTextCache(Boolean crawlTextCache) {
+		this.crawlTextCache = crawlTextCache;
+	}
+
+	public void setCrawlTextCacheMaxSize(Integer crawlTextCacheMaxSize) {
+		this.crawlTextCacheMaxSize = crawlTextCacheMaxSize;
+	}
+
+	public void setCrawlTextCacheMaxAge(Integer crawlTextCacheMaxAge) {
+		this.crawlTextCacheMaxAge = crawlTextCacheMaxAge;
+	}
 }
\ No newline at end of file
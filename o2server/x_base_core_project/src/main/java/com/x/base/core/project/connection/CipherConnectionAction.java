@@ -1,5 +1,6 @@
 package com.x.base.core.project.connection;
 
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 
@@ -45,6 +46,14 @@ public class CipherConnectionAction {
 		return getBinary(xdebugger, addr);
 	}
 
+	public static boolean getBinary(Boolean xdebugger, String address, OutputStream output) throws Exception {
+		List<NameValuePair> headers = cipher();
+		if (BooleanUtils.isTrue(xdebugger)) {
+			headers.add(new NameValuePair(HttpToken.X_Debugger, true));
+		}
+		return ConnectionAction.getBinary(address, headers, output);
+	}
+
 	public static ActionResponse delete(Boolean xdebugger, String address) throws Exception {
 		List<NameValuePair> headers = cipher();
 		if (BooleanUtils.isTrue(xdebugger)) {
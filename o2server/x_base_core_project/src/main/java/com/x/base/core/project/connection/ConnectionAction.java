@@ -3,7 +3,9 @@ package com.x.base.core.project.connection;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -27,9 +29,17 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
 
 public class ConnectionAction {
 
@@ -57,6 +67,15 @@ public class ConnectionAction {
 	private static Gson gson = XGsonBuilder.instance();
 
 	private static ActionResponse getDelete(String address, String method, List<NameValuePair> heads) throws Exception {
+		long start = System.currentTimeMillis();
+		ActionResponse response = ConnectionPool.enable() ? execute(address, method, heads, null)
+				: getDeleteConnection(address, method, heads);
+		ConnectionPool.record(address, start, success(response));
+		return response;
+	}
+
+	private static ActionResponse getDeleteConnection(String address, String method, List<NameValuePair> heads)
+			throws Exception {
 		ActionResponse response = new ActionResponse();
 		HttpURLConnection connection = null;
 		try {
@@ -93,6 +112,27 @@ public class ConnectionAction {
 	}
 
 	private static byte[] getDeleteBinary(String address, String method, List<NameValuePair> heads) throws Exception {
+		try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+			return getDeleteBinary(address, method, heads, output) ? output.toByteArray() : null;
+		}
+	}
+
+	private static boolean getDeleteBinary(String address, String method, List<NameValuePair> heads,
+			OutputStream output) throws Exception {
+		long start = System.currentTimeMillis();
+		boolean success = false;
+		try {
+			boolean written = ConnectionPool.enable() ? executeBinary(address, method, heads, null, output)
+					: getDeleteBinaryConnection(address, method, heads, output);
+			success = true;
+			return written;
+		} finally {
+			ConnectionPool.record(address, start, success);
+		}
+	}
+
+	private static boolean getDeleteBinaryConnection(String address, String method, List<NameValuePair> heads,
+			OutputStream output) throws Exception {
 		HttpURLConnection connection = null;
 		try {
 			URL url = new URL(address);
@@ -110,19 +150,38 @@ public class ConnectionAction {
 		} catch (Exception e) {
 			throw new ExceptionGetBinary(e, connection);
 		}
-		return readBinary(connection);
+		return readBinary(connection, output);
 	}
 
 	public static byte[] getBinary(String address, List<NameValuePair> heads) throws Exception {
 		return getDeleteBinary(address, METHOD_GET, heads);
 	}
 
+	/**
+	 * 将返回内容直接写入output,不在内存中缓存整个内容.
+	 *
+	 * @return 是否读取到内容
+	 */
+	public static boolean getBinary(String address, List<NameValuePair> heads, OutputStream output)
+			throws Exception {
+		return getDeleteBinary(address, METHOD_GET, heads, output);
+	}
+
 	public static byte[] deleteBinary(String address, List<NameValuePair> heads) throws Exception {
 		return getDeleteBinary(address, METHOD_DELETE, heads);
 	}
 
 	public static ActionResponse postPut(String address, String method, List<NameValuePair> heads, Object body)
 			throws Exception {
+		long start = System.currentTimeMillis();
+		ActionResponse response = ConnectionPool.enable() ? execute(address, method, heads, body)
+				: postPutConnection(address, method, heads, body);
+		ConnectionPool.record(address, start, success(response));
+		return response;
+	}
+
+	private static ActionResponse postPutConnection(String address, String method, List<NameValuePair> heads,
+			Object body) throws Exception {
 		ActionResponse response = new ActionResponse();
 		HttpURLConnection connection = null;
 		try {
@@ -174,6 +233,20 @@ public class ConnectionAction {
 
 	private static byte[] postPutBinary(String address, String method, List<NameValuePair> heads, Object body)
 			throws Exception {
+		long start = System.currentTimeMillis();
+		boolean success = false;
+		try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+			boolean written = ConnectionPool.enable() ? executeBinary(address, method, heads, body, output)
+					: postPutBinaryConnection(address, method, heads, body, output);
+			success = true;
+			return written ? output.toByteArray() : null;
+		} finally {
+			ConnectionPool.record(address, start, success);
+		}
+	}
+
+	private static boolean postPutBinaryConnection(String address, String method, List<NameValuePair> heads,
+			Object body, OutputStream target) throws Exception {
 		HttpURLConnection connection = null;
 		try {
 			URL url = new URL(address);
@@ -202,7 +275,7 @@ public class ConnectionAction {
 		} catch (Exception e) {
 			throw new ExceptionBinary(e, connection);
 		}
-		return readBinary(connection);
+		return readBinary(connection, target);
 	}
 
 	public static byte[] postBinary(String address, List<NameValuePair> heads, Object body) throws Exception {
@@ -379,8 +452,14 @@ public class ConnectionAction {
 	}
 
 	private static byte[] readBinary(HttpURLConnection connection) throws Exception {
+		try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+			return readBinary(connection, output) ? output.toByteArray() : null;
+		}
+	}
+
+	private static boolean readBinary(HttpURLConnection connection, OutputStream output) throws Exception {
 		int code = connection.getResponseCode();
-		byte[] bytes = null;
+		boolean written = false;
 		if (code >= 500) {
 			try (InputStream input = connection.getErrorStream()) {
 				byte[] buffer = IOUtils.toByteArray(input);
@@ -390,16 +469,143 @@ public class ConnectionAction {
 			throw new ExceptionReadBinary(connection.getURL(), connection.getRequestMethod(), code);
 		} else if (code == 200) {
 			try (InputStream input = connection.getInputStream()) {
-				bytes = IOUtils.toByteArray(input);
+				IOUtils.copy(input, output);
+				written = true;
 			} catch (Exception e) {
 				throw new ExceptionReadBinary(e, connection, code);
 			}
 		}
 		connection.disconnect();
-		return bytes;
+		return written;
+	}
+
+	private static boolean success(ActionResponse response) {
+		return (null != response) && (!Objects.equals(response.getType(), Type.connectFatal))
+				&& (!Objects.equals(response.getType(), Type.error));
+	}
+
+	private static HttpRequestBase request(String address, String method, List<NameValuePair> heads, Object body) {
+		HttpRequestBase request;
+		switch (method) {
+		case METHOD_POST:
+			request = new HttpPost(address);
+			break;
+		case METHOD_PUT:
+			request = new HttpPut(address);
+			break;
+		case METHOD_DELETE:
+			request = new HttpDelete(address);
+			break;
+		default:
+			request = new HttpGet(address);
+			break;
+		}
+		heads(heads).entrySet().forEach(o -> request.addHeader(o.getKey(), o.getValue()));
+		if (request instanceof HttpEntityEnclosingRequestBase) {
+			byte[] bytes = new byte[0];
+			if (null != body) {
+				bytes = ((body instanceof CharSequence) ? Objects.toString(body) : gson.toJson(body))
+						.getBytes(StandardCharsets.UTF_8);
+			}
+			((HttpEntityEnclosingRequestBase) request).setEntity(new ByteArrayEntity(bytes));
+		}
+		return request;
+	}
+
+	/**
+	 * 通过连接池调用,读取完成后连接归还连接池.
+	 */
+	private static ActionResponse execute(String address, String method, List<NameValuePair> heads, Object body) {
+		ActionResponse response = new ActionResponse();
+		HttpRequestBase request;
+		try {
+			request = request(address, method, heads, body);
+		} catch (Exception e) {
+			response.setType(Type.connectFatal);
+			response.setMessage(String.format("%s create connection error, address: %s, because: %s.", method, address,
+					e.getMessage()));
+			return response;
+		}
+		try (CloseableHttpResponse httpResponse = ConnectionPool.client().execute(request)) {
+			return read(response, httpResponse, address, method);
+		} catch (Exception e) {
+			response.setType(Type.connectFatal);
+			response.setMessage(
+					String.format("%s connect error, address: %s, because: %s.", method, address, e.getMessage()));
+			return response;
+		}
+	}
+
+	private static boolean executeBinary(String address, String method, List<NameValuePair> heads, Object body,
+			OutputStream output) throws Exception {
+		HttpRequestBase request;
+		try {
+			request = request(address, method, heads, body);
+		} catch (Exception e) {
+			throw new ExceptionBinary(e, address, method);
+		}
+		try (CloseableHttpResponse httpResponse = ConnectionPool.client().execute(request)) {
+			return readBinary(httpResponse, address, method, output);
+		} catch (IOException e) {
+			throw new ExceptionBinary(e, address, method);
+		}
+	}
+
+	private static ActionResponse read(ActionResponse response, HttpResponse httpResponse, String address,
+			String method) throws IOException {
+		int code = httpResponse.getStatusLine().getStatusCode();
+		HttpEntity entity = httpResponse.getEntity();
+		if (code >= 500) {
+			byte[] buffer = (null == entity) ? new byte[0] : EntityUtils.toByteArray(entity);
+			response.setMessage(extractErrorMessageIfExist(new String(buffer, DefaultCharset.name)));
+			response.setType(Type.error);
+		} else if (code >= 400) {
+			EntityUtils.consume(entity);
+			response.setMessage(String.format("url invalid error, address: %s, method: %s, code: %d.", address,
+					method, code));
+			response.setType(Type.error);
+		} else if (code == 200) {
+			try (Reader reader = new InputStreamReader(entity.getContent(), DefaultCharset.charset)) {
+				response = gson.fromJson(reader, ActionResponse.class);
+			} catch (Exception e) {
+				response.setType(Type.connectFatal);
+				response.setMessage(String.format(
+						"convert input to json error, address: %s, method: %s, code: %d, because: %s.", address,
+						method, code, e.getMessage()));
+			}
+		} else {
+			EntityUtils.consume(entity);
+		}
+		return response;
+	}
+
+	private static boolean readBinary(HttpResponse httpResponse, String address, String method, OutputStream output)
+			throws Exception {
+		int code = httpResponse.getStatusLine().getStatusCode();
+		HttpEntity entity = httpResponse.getEntity();
+		if (code >= 500) {
+			throw new ExceptionReadBinary(address, method, code,
+					(null == entity) ? new byte[0] : EntityUtils.toByteArray(entity));
+		} else if (code >= 400) {
+			EntityUtils.consume(entity);
+			throw new ExceptionReadBinary(address, method, code);
+		} else if ((code == 200) && (null != entity)) {
+			try {
+				entity.writeTo(output);
+			} catch (Exception e) {
+				throw new ExceptionReadBinary(e, address, method, code);
+			}
+			return true;
+		}
+		EntityUtils.consume(entity);
+		return false;
 	}
 
 	private static void addHeads(HttpURLConnection connection, List<NameValuePair> heads) {
+		heads(heads).entrySet().forEach((o -> connection.addRequestProperty(o.getKey(), o.getValue())));
+	}
+
+	private static Map<String, String> heads(List<NameValuePair> heads) {
 		Map<String, String> map = new TreeMap<>();
 		map.put(ACCESS_CONTROL_ALLOW_CREDENTIALS, ACCESS_CONTROL_ALLOW_CREDENTIALS_VALUE);
 		map.put(ACCESS_CONTROL_ALLOW_HEADERS, ACCESS_CONTROL_ALLOW_HEADERS_VALUE);
@@ -415,7 +621,7 @@ public class ConnectionAction {
 				}
 			}
 		}
-		map.entrySet().forEach((o -> connection.addRequestProperty(o.getKey(), o.getValue())));
+		return map;
 	}
 
 	private static void addHeadsMultiPart(HttpURLConnection connection, List<NameValuePair> heads, String boundary) {
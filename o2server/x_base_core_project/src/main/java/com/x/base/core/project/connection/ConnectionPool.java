@@ -0,0 +1,140 @@
+package com.x.base.core.project.connection;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HttpsURLConnection;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.config.Connection;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+/**
+ * 服务之间http调用使用的长连接池,以及按目标应用汇总的调用统计.
+ *
+ * 连接池在第一次调用时按照config/connection.json创建,https沿用HttpsURLConnection的默认SSL设置.
+ * 不保存cookie,避免不同用户的令牌在复用的连接之间串用.
+ * 只有请求还没有发出(例如复用的连接已被对方关闭)或者GET请求时才重试一次,已经发出的POST,PUT,DELETE不重试,避免重复执行.
+ * 读取超时默认为10分钟,见{@link Connection#getReadTimeout()}.
+ */
+public class ConnectionPool {
+
+	private static Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+
+	private ConnectionPool() {
+	}
+
+	private static final Map<String, ConnectionStatistic> STATISTICS = new ConcurrentHashMap<>();
+
+	private static volatile CloseableHttpClient client;
+
+	private static PoolingHttpClientConnectionManager manager;
+
+	static boolean enable() {
+		try {
+			return Config.connection().getEnable();
+		} catch (Exception e) {
+			logger.error(e);
+			return false;
+		}
+	}
+
+	static CloseableHttpClient client() throws Exception {
+		CloseableHttpClient o = client;
+		if (null == o) {
+			synchronized (ConnectionPool.class) {
+				o = client;
+				if (null == o) {
+					o = create(Config.connection());
+					client = o;
+				}
+			}
+		}
+		return o;
+	}
+
+	private static CloseableHttpClient create(Connection config) {
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory(),
+						HttpsURLConnection.getDefaultHostnameVerifier()))
+				.build();
+		manager = new PoolingHttpClientConnectionManager(registry);
+		manager.setMaxTotal(config.getMaxTotal());
+		manager.setDefaultMaxPerRoute(config.getMaxPerRoute());
+		manager.setValidateAfterInactivity(2000);
+		RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(config.getConnectTimeout())
+				.setSocketTimeout(config.getReadTimeout()).setConnectionRequestTimeout(config.getLeaseTimeout())
+				.build();
+		logger.info("create connection pool, max total: {}, max per route: {}, connect timeout: {}ms, read timeout: {}ms.",
+				config.getMaxTotal(), config.getMaxPerRoute(), config.getConnectTimeout(), config.getReadTimeout());
+		return HttpClients.custom().setConnectionManager(manager).setDefaultRequestConfig(requestConfig)
+				.setRetryHandler(new RetryHandler()).disableCookieManagement().evictExpiredConnections()
+				.evictIdleConnections(config.getIdleTimeout(), TimeUnit.MILLISECONDS).build();
+	}
+
+	static void record(String address, long start, boolean success) {
+		STATISTICS.computeIfAbsent(target(address), ConnectionStatistic::new)
+				.record(System.currentTimeMillis() - start, success);
+	}
+
+	/** 目标应用名,取地址中的第一段路径,没有路径时使用主机名 */
+	private static String target(String address) {
+		try {
+			URL url = new URL(address);
+			String path = StringUtils.substringBefore(StringUtils.removeStart(url.getPath(), "/"), "/");
+			return StringUtils.isEmpty(path) ? url.getHost() : path;
+		} catch (MalformedURLException e) {
+			return StringUtils.substringBefore(address, "?");
+		}
+	}
+
+	public static List<ConnectionStatistic> statistics() {
+		return new ArrayList<>(STATISTICS.values());
+	}
+
+	/** 连接池当前的连接数,连接池还没有创建时返回null */
+	public static PoolStats poolStats() {
+		PoolingHttpClientConnectionManager o = manager;
+		return (null == o) ? null : o.getTotalStats();
+	}
+
+	/**
+	 * 默认的重试策略把DELETE等没有请求体的方法都视为幂等,请求已经发出后仍会重试,这里只把GET视为幂等.
+	 */
+	private static class RetryHandler extends DefaultHttpRequestRetryHandler {
+
+		private static final int RETRY_COUNT = 1;
+
+		private RetryHandler() {
+			super(RETRY_COUNT, false);
+		}
+
+		@Override
+		protected boolean handleAsIdempotent(HttpRequest request) {
+			return StringUtils.equalsIgnoreCase(HttpGet.METHOD_NAME, request.getRequestLine().getMethod());
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.x.base.core.project.connection;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按目标应用汇总的服务调用统计,目标应用为地址中的第一段路径,例如x_processplatform_assemble_surface.
+ */
+public class ConnectionStatistic {
+
+	private String name;
+
+	private AtomicLong count = new AtomicLong(0);
+
+	private AtomicLong failed = new AtomicLong(0);
+
+	private AtomicLong elapsed = new AtomicLong(0);
+
+	private AtomicLong maxElapsed = new AtomicLong(0);
+
+	private volatile long lastTime = 0;
+
+	public ConnectionStatistic(String name) {
+		this.name = name;
+	}
+
+	void record(long time, boolean success) {
+		this.count.incrementAndGet();
+		if (!success) {
+			this.failed.incrementAndGet();
+		}
+		this.elapsed.addAndGet(time);
+		this.maxElapsed.accumulateAndGet(time, Math::max);
+		this.lastTime = System.currentTimeMillis();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Long getCount() {
+		return count.get();
+	}
+
+	public Long getFailed() {
+		return failed.get();
+	}
+
+	/** 平均耗时,毫秒 */
+	public Long getAverageElapsed() {
+		long c = count.get();
+		return (c == 0) ? 0L : elapsed.get() / c;
+	}
+
+	public Long getMaxElapsed() {
+		return maxElapsed.get();
+	}
+
+	/** 最后一次调用完成的时间 */
+	public Long getLastTime() {
+		return lastTime;
+	}
+
+}
@@ -18,4 +18,8 @@ public class ExceptionBinary extends PromptException {
 				null == connection ? null : connection.getRequestMethod());
 	}
 
+	public ExceptionBinary(Throwable e, String address, String method) {
+		super(e, "binary error, address: {}, method: {}, because: {}.", address, method, e.getMessage());
+	}
+
 }
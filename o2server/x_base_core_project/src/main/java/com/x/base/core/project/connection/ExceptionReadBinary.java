@@ -23,4 +23,18 @@ public class ExceptionReadBinary extends PromptException {
 		super("read binary input error, address: {}, method: {}, code:{}, because: {}.", url, method, code,
 				new String(bytes));
 	}
+
+	public ExceptionReadBinary(Throwable e, String address, String method, int code) {
+		super(e, "read binary input error, address: {}, method: {}, code: {}, because: {}.", address, method, code,
+				e.getMessage());
+	}
+
+	public ExceptionReadBinary(String address, String method, int code) {
+		super("read binary input error, address: {}, method: {}, code: {}.", address, method, code);
+	}
+
+	public ExceptionReadBinary(String address, String method, int code, byte[] bytes) {
+		super("read binary input error, address: {}, method: {}, code:{}, because: {}.", address, method, code,
+				new String(bytes));
+	}
 }
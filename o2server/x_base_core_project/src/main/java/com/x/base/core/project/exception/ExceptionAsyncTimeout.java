@@ -0,0 +1,11 @@
+package com.x.base.core.project.exception;
+
+public class ExceptionAsyncTimeout extends RunningException {
+
+	private static final long serialVersionUID = -3541327186404736912L;
+
+	public ExceptionAsyncTimeout(long seconds, String uri) {
+		super("执行超时:{}秒, 请求:{}, 任务仍在后台继续执行.", seconds, uri);
+	}
+
+}
@@ -0,0 +1,435 @@
+package com.x.base.core.project.executor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+/**
+ * 按键串行的执行器.<br/>
+ * 相同键的任务按提交顺序依次执行,不同键的任务互不等待,全部运行在共享的ForkJoinPool上.<br/>
+ * 同时执行的任务数量不超过parallelism,超出的键在就绪队列中按顺序等待,每执行完一个任务键重新排到队尾.<br/>
+ * 任务通过ForkJoinPool.managedBlock执行,所有任务都阻塞时线程池仍可以补充线程完成返回的CompletableFuture,补充的线程不会执行新的任务.<br/>
+ * 每个键只在有任务排队或执行时存在,记录队列深度和队首等待时间.<br/>
+ * 由console创建后绑定到jndi,应用的webapp优先使用自身的类加载器,所以应用中只能以BiFunction(键,callable)的jdk类型使用.
+ */
+public class KeyedExecutor implements BiFunction<String, Callable<?>, CompletableFuture<?>> {
+
+	private static Logger logger = LoggerFactory.getLogger(KeyedExecutor.class);
+
+	private final ForkJoinPool pool;
+
+	private final ConcurrentHashMap<String, Serial> serials = new ConcurrentHashMap<>();
+
+	/* 同时执行任务的许可,ForkJoinPool在managedBlock时会补充线程,不能以线程数限制并发 */
+	private final int maxRunning;
+	private final Semaphore permits;
+	private final ConcurrentLinkedQueue<Serial> ready = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+
+	public KeyedExecutor(String name, int parallelism) {
+		AtomicLong sequence = new AtomicLong();
+		this.maxRunning = Math.max(1, parallelism);
+		this.permits = new Semaphore(this.maxRunning);
+		this.pool = new ForkJoinPool(this.maxRunning, p -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+			thread.setName(name + "-" + sequence.incrementAndGet());
+			return thread;
+		}, (t, e) -> logger.error(new Exception(e)), true);
+	}
+
+	/**
+	 * 返回键对应的ExecutorService视图,提交的任务与同一键的其他任务串行执行.<br/>
+	 * 视图不持有线程,不能单独关闭.
+	 */
+	public ExecutorService executor(String key) {
+		return new KeyExecutorService(Objects.toString(key, ""));
+	}
+
+	public void execute(String key, Runnable runnable) {
+		if (pool.isShutdown()) {
+			throw new RejectedExecutionException("keyed executor is shutdown.");
+		}
+		Task task = new Task(runnable);
+		submitted.incrementAndGet();
+		while (true) {
+			Serial serial = serials.computeIfAbsent(key, Serial::new);
+			boolean schedule = false;
+			synchronized (serial) {
+				/* 已经执行完并从map中移除,重新获取 */
+				if (serial.retired) {
+					continue;
+				}
+				serial.queue.add(task);
+				if (!serial.running) {
+					serial.running = true;
+					schedule = true;
+				}
+			}
+			if (schedule) {
+				ready.add(serial);
+				this.dispatch();
+			}
+			return;
+		}
+	}
+
+	/**
+	 * 按键串行执行callable,返回的CompletableFuture在共享线程池上完成,后续回调不会占用这个键.
+	 */
+	public <T> CompletableFuture<T> submit(String key, Callable<T> callable) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		this.execute(Objects.toString(key, ""), () -> {
+			try {
+				T t = callable.call();
+				Task callback = new Task(() -> future.complete(t));
+				pool.execute(() -> block(callback));
+			} catch (Throwable e) {
+				Task callback = new Task(() -> future.completeExceptionally(e));
+				pool.execute(() -> block(callback));
+			}
+		});
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> apply(String key, Callable<?> callable) {
+		return this.submit(key, callable);
+	}
+
+	/* 在许可范围内从就绪队列取出键执行,每次释放许可或者有键就绪时调用 */
+	private void dispatch() {
+		while ((!ready.isEmpty()) && permits.tryAcquire()) {
+			Serial serial = ready.poll();
+			if (null == serial) {
+				permits.release();
+			} else {
+				pool.execute(() -> this.drain(serial));
+			}
+		}
+	}
+
+	/* 持有许可,每次只执行一个任务,然后重新排到就绪队列的末尾,其他键可以插入执行 */
+	private void drain(Serial serial) {
+		Task task;
+		synchronized (serial) {
+			task = serial.queue.poll();
+		}
+		boolean again = false;
+		try {
+			if (null != task) {
+				this.run(task);
+			}
+		} finally {
+			synchronized (serial) {
+				if (serial.queue.isEmpty()) {
+					serial.running = false;
+					serial.retired = true;
+					serials.remove(serial.key, serial);
+				} else {
+					again = true;
+				}
+			}
+			if (again) {
+				ready.add(serial);
+			}
+			permits.release();
+			this.dispatch();
+		}
+	}
+
+	private void run(Task task) {
+		long wait = System.nanoTime() - task.enqueued;
+		totalWaitNanos.addAndGet(wait);
+		maxWaitNanos.accumulateAndGet(wait, Math::max);
+		try {
+			block(task);
+		} finally {
+			completed.incrementAndGet();
+		}
+	}
+
+	/* 使用提交者的ClassLoader,不同应用提交的任务运行在同一线程池中 */
+	private static void block(Task task) {
+		Thread thread = Thread.currentThread();
+		ClassLoader classLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(task.classLoader);
+		try {
+			ForkJoinPool.managedBlock(task);
+		} catch (InterruptedException e) {
+			thread.interrupt();
+		} catch (Exception e) {
+			logger.error(e);
+		} finally {
+			thread.setContextClassLoader(classLoader);
+		}
+	}
+
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return pool.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * 按队列深度倒序返回当前有任务的键,最多返回count个.
+	 */
+	public List<KeyStatistic> keyStatistics(int count) {
+		long now = System.nanoTime();
+		List<KeyStatistic> list = new ArrayList<>();
+		for (Serial serial : serials.values()) {
+			synchronized (serial) {
+				Task head = serial.queue.peek();
+				list.add(new KeyStatistic(serial.key, serial.queue.size(), serial.running,
+						(null == head) ? 0L : TimeUnit.NANOSECONDS.toMillis(now - head.enqueued)));
+			}
+		}
+		Collections.sort(list, Comparator.comparingInt(KeyStatistic::getDepth)
+				.thenComparingLong(KeyStatistic::getWaitMilliseconds).reversed());
+		return (list.size() > count) ? list.subList(0, count) : list;
+	}
+
+	public Statistic statistic() {
+		Statistic o = new Statistic();
+		o.setParallelism(pool.getParallelism());
+		o.setRunning(maxRunning - permits.availablePermits());
+		o.setReadyKeyCount(ready.size());
+		o.setPoolSize(pool.getPoolSize());
+		o.setActiveThreadCount(pool.getActiveThreadCount());
+		o.setKeyCount(serials.size());
+		o.setSubmitted(submitted.get());
+		o.setCompleted(completed.get());
+		long count = completed.get();
+		o.setAverageWaitMilliseconds((count == 0) ? 0L : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count));
+		o.setMaxWaitMilliseconds(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+		return o;
+	}
+
+	private static class Serial {
+
+		private final String key;
+		private final ArrayDeque<Task> queue = new ArrayDeque<>();
+		private boolean running = false;
+		private boolean retired = false;
+
+		private Serial(String key) {
+			this.key = key;
+		}
+	}
+
+	private static class Task implements ForkJoinPool.ManagedBlocker {
+
+		private final Runnable runnable;
+		private final long enqueued = System.nanoTime();
+		private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		private boolean done = false;
+
+		private Task(Runnable runnable) {
+			this.runnable = runnable;
+		}
+
+		@Override
+		public boolean block() {
+			try {
+				runnable.run();
+			} finally {
+				done = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return done;
+		}
+	}
+
+	private class KeyExecutorService extends AbstractExecutorService {
+
+		private final String key;
+
+		private KeyExecutorService(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			KeyedExecutor.this.execute(key, command);
+		}
+
+		@Override
+		public void shutdown() {
+			throw new UnsupportedOperationException("keyed executor view can not shutdown.");
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			throw new UnsupportedOperationException("keyed executor view can not shutdown.");
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return pool.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return pool.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return pool.awaitTermination(timeout, unit);
+		}
+	}
+
+	public static class KeyStatistic {
+
+		private String key;
+		private int depth;
+		private boolean running;
+		private long waitMilliseconds;
+
+		public KeyStatistic(String key, int depth, boolean running, long waitMilliseconds) {
+			this.key = key;
+			this.depth = depth;
+			this.running = running;
+			this.waitMilliseconds = waitMilliseconds;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public int getDepth() {
+			return depth;
+		}
+
+		public boolean getRunning() {
+			return running;
+		}
+
+		public long getWaitMilliseconds() {
+			return waitMilliseconds;
+		}
+	}
+
+	public static class Statistic {
+
+		private int parallelism;
+		private int poolSize;
+		private int activeThreadCount;
+		private int running;
+		private int readyKeyCount;
+		private int keyCount;
+		private long submitted;
+		private long completed;
+		private long averageWaitMilliseconds;
+		private long maxWaitMilliseconds;
+
+		public int getParallelism() {
+			return parallelism;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+		public int getPoolSize() {
+			return poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+		public int getActiveThreadCount() {
+			return activeThreadCount;
+		}
+
+		public void setActiveThreadCount(int activeThreadCount) {
+			this.activeThreadCount = activeThreadCount;
+		}
+
+		public int getRunning() {
+			return running;
+		}
+
+		public void setRunning(int running) {
+			this.running = running;
+		}
+
+		public int getReadyKeyCount() {
+			return readyKeyCount;
+		}
+
+		public void setReadyKeyCount(int readyKeyCount) {
+			this.readyKeyCount = readyKeyCount;
+		}
+
+		public int getKeyCount() {
+			return keyCount;
+		}
+
+		public void setKeyCount(int keyCount) {
+			this.keyCount = keyCount;
+		}
+
+		public long getSubmitted() {
+			return submitted;
+		}
+
+		public void setSubmitted(long submitted) {
+			this.submitted = submitted;
+		}
+
+		public long getCompleted() {
+			return completed;
+		}
+
+		public void setCompleted(long completed) {
+			this.completed = completed;
+		}
+
+		public long getAverageWaitMilliseconds() {
+			return averageWaitMilliseconds;
+		}
+
+		public void setAverageWaitMilliseconds(long averageWaitMilliseconds) {
+			this.averageWaitMilliseconds = averageWaitMilliseconds;
+		}
+
+		public long getMaxWaitMilliseconds() {
+			return maxWaitMilliseconds;
+		}
+
+		public void setMaxWaitMilliseconds(long maxWaitMilliseconds) {
+			this.maxWaitMilliseconds = maxWaitMilliseconds;
+		}
+	}
+
+}
@@ -1,8 +1,13 @@
 package com.x.base.core.project.executor;
 
-import java.util.Objects;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.zip.CRC32;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 import com.x.base.core.project.config.Config;
 
@@ -12,16 +17,75 @@ public class ProcessPlatformExecutorFactory {
 		throw new IllegalStateException("ProcessPlatformExecutorFactory class");
 	}
 
-	private static ExecutorService[] executors;
+	/* console绑定的KeyedExecutor,与应用不在同一个类加载器中,只能通过jdk接口调用 */
+	private static volatile BiFunction<String, Callable<?>, CompletableFuture<?>> executor;
 
-	public static synchronized ExecutorService get(String seed) throws Exception {
-		if (null == executors) {
-			executors = Config.resource_node_processPlatformExecutors();
+	/**
+	 * 返回seed对应的串行执行器,相同seed(work/job)的任务依次执行,不同seed之间不会相互阻塞.
+	 */
+	public static ExecutorService get(String seed) throws Exception {
+		return new SeedExecutorService(seed, executor());
+	}
+
+	/**
+	 * 在seed对应的串行执行器上执行callable,不阻塞调用线程.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> CompletableFuture<T> submit(String seed, Callable<T> callable) throws Exception {
+		return (CompletableFuture<T>) executor().apply(seed, callable);
+	}
+
+	private static BiFunction<String, Callable<?>, CompletableFuture<?>> executor() throws Exception {
+		if (null == executor) {
+			synchronized (ProcessPlatformExecutorFactory.class) {
+				if (null == executor) {
+					executor = Config.resource_node_processPlatformExecutors();
+				}
+			}
+		}
+		return executor;
+	}
+
+	private static class SeedExecutorService extends AbstractExecutorService {
+
+		private final String seed;
+
+		private final BiFunction<String, Callable<?>, CompletableFuture<?>> executor;
+
+		private SeedExecutorService(String seed, BiFunction<String, Callable<?>, CompletableFuture<?>> executor) {
+			this.seed = seed;
+			this.executor = executor;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			executor.apply(seed, Executors.callable(command));
+		}
+
+		@Override
+		public void shutdown() {
+			throw new UnsupportedOperationException("seed executor can not shutdown.");
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			throw new UnsupportedOperationException("seed executor can not shutdown.");
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return false;
 		}
-		CRC32 crc32 = new CRC32();
-		crc32.update(Objects.toString(seed, "").getBytes());
-		int idx = (int) (Math.abs(crc32.getValue()) % executors.length);
-		return executors[idx];
 	}
 
-}
\ No newline at end of file
+}
@@ -1,10 +1,12 @@
 package com.x.base.core.project.http;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Date;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import com.x.base.core.project.connection.ActionResponse;
 import com.x.base.core.project.exception.PromptException;
 import com.x.base.core.project.gson.XGsonBuilder;
@@ -89,6 +91,56 @@ public class ActionResult<T> implements Serializable {
 		return str;
 	}
 
+	/**
+	 * 直接写入JsonWriter,输出与toJson()相同,不生成中间的String.<br/>
+	 * 输出data的前后调用dataListener,用于只对data部分的字节计算ETag.
+	 */
+	public void toJson(Gson gson, JsonWriter writer, DataListener dataListener) throws IOException {
+		this.spent = (new Date()).getTime() - date.getTime();
+		writer.beginObject();
+		writer.name("type");
+		gson.toJson(type, Type.class, writer);
+		if (null != data) {
+			writer.flush();
+			dataListener.begin();
+			writer.name("data");
+			gson.toJson(data, data.getClass(), writer);
+			writer.flush();
+			dataListener.end();
+		}
+		if (null != message) {
+			writer.name("message").value(message);
+		}
+		if (null != date) {
+			writer.name("date");
+			gson.toJson(date, Date.class, writer);
+		}
+		if (null != spent) {
+			writer.name("spent").value(spent);
+		}
+		if (null != size) {
+			writer.name("size").value(size);
+		}
+		if (null != count) {
+			writer.name("count").value(count);
+		}
+		if (null != position) {
+			writer.name("position").value(position);
+		}
+		if (null != prompt) {
+			writer.name("prompt").value(prompt);
+		}
+		writer.endObject();
+		writer.flush();
+	}
+
+	public interface DataListener {
+
+		void begin();
+
+		void end();
+	}
+
 	public void error(Throwable th) {
 		this.throwable = th;
 		if (th instanceof PromptException) {
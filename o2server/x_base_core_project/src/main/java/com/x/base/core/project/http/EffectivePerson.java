@@ -105,6 +105,17 @@ public class EffectivePerson extends GsonPropertyObject {
 		return effectivePerson;
 	}
 
+	/**
+	 * 使用已经验证过的令牌,不重新生成令牌.
+	 */
+	static EffectivePerson verified(String distinguishedName, TokenType tokenType, String token) {
+		EffectivePerson effectivePerson = new EffectivePerson();
+		effectivePerson.setDistinguishedName(distinguishedName);
+		effectivePerson.setTokenType(tokenType);
+		effectivePerson.token = token;
+		return effectivePerson;
+	}
+
 	public static EffectivePerson cipher(String key) throws Exception {
 		EffectivePerson effectivePerson = new EffectivePerson(CIPHER, TokenType.cipher, key);
 		return effectivePerson;
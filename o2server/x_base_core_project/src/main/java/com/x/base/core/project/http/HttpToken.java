@@ -3,7 +3,9 @@ package com.x.base.core.project.http;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,8 +40,20 @@ public class HttpToken {
 	private static final String RegularExpression_IP = "([1-9]|[1-9]\\d|1\\d{2}|2[0-4]\\d|25[0-5])(\\.(\\d|[1-9]\\d|1\\d{2}|2[0-4]\\d|25[0-5])){3}";
 	private static final String RegularExpression_Token = "^(anonymous|user|manager|cipher)([2][0][1-2][0-9][0-1][0-9][0-3][0-9][0-5][0-9][0-5][0-9][0-5][0-9])(\\S{1,})$";
 
+	private static final Pattern PATTERN_IP = Pattern.compile(RegularExpression_IP);
+	private static final Pattern PATTERN_TOKEN = Pattern.compile(RegularExpression_Token, Pattern.CASE_INSENSITIVE);
+
+	/* cipher令牌的有效时间 */
+	private static final long CIPHER_EXPIRED = 60000L * 20;
+	/* 令牌重新签发的最长间隔,令牌使用时间超过有效时间的1/4或者此间隔后重新签发 */
+	private static final long MAX_REFRESH_INTERVAL = 60000L * 5;
+	/* 已经验证过的令牌,超过上限后清空 */
+	private static final int MAX_VERIFIED_SIZE = 50000;
+	private static final Map<String, Verified> VERIFIEDS = new ConcurrentHashMap<>();
+
 	public EffectivePerson who(HttpServletRequest request, HttpServletResponse response, String key) throws Exception {
-		EffectivePerson effectivePerson = this.who(this.getToken(request), key, remoteAddress(request));
+		String token = this.getToken(request);
+		EffectivePerson effectivePerson = this.who(token, key, remoteAddress(request));
 		effectivePerson.setRemoteAddress(HttpToken.remoteAddress(request));
 		effectivePerson.setUserAgent(this.userAgent(request));
 		effectivePerson.setUri(request.getRequestURI());
@@ -47,7 +61,10 @@ public class HttpToken {
 		Object debugger = request.getHeader(HttpToken.X_Debugger);
 		effectivePerson.setDebugger((null != debugger) && BooleanUtils.toBoolean(Objects.toString(debugger)));
 		setAttribute(request, effectivePerson);
-		setToken(request, response, effectivePerson);
+		// 令牌没有重新签发时客户端持有的令牌仍然有效,不需要重新设置cookie
+		if (effectivePerson.isCipher() || (!StringUtils.equals(token, effectivePerson.getToken()))) {
+			setToken(request, response, effectivePerson);
+		}
 		return effectivePerson;
 	}
 
@@ -57,44 +74,70 @@ public class HttpToken {
 			return EffectivePerson.anonymous();
 		}
 		try {
-			String plain = "";
-			try {
-				plain = Crypto.decrypt(token, key);
-			} catch (Exception e) {
-				logger.warn("can not decrypt token:{}, {}, remote address:{}.", token, e.getMessage(), address);
-				return EffectivePerson.anonymous();
-			}
-			Pattern pattern = Pattern.compile(RegularExpression_Token, Pattern.CASE_INSENSITIVE);
-			Matcher matcher = pattern.matcher(plain);
-			if (!matcher.find()) {
-				// 不报错,跳过错误,将用户设置为anonymous
-				logger.warn("token format error:{}, remote address:{}.", plain, address);
-				return EffectivePerson.anonymous();
-			}
-			Date date = DateUtils.parseDate(matcher.group(2), DateTools.formatCompact_yyyyMMddHHmmss);
-			TokenType tokenType = TokenType.valueOf(matcher.group(1));
-			long diff = (System.currentTimeMillis() - date.getTime());
-			diff = Math.abs(diff);
-			if (TokenType.user.equals(tokenType) || TokenType.manager.equals(tokenType)) {
-				if (diff > (60000L * Config.person().getTokenExpiredMinutes())) {
-					// 不报错,跳过错误,将用户设置为anonymous
-					logger.warn("token expired, user:{}, token:{}, remote address:{}.",
-							URLDecoder.decode(matcher.group(3), StandardCharsets.UTF_8.name()), plain, address);
+			Verified verified = VERIFIEDS.get(token);
+			if ((null == verified) || (!StringUtils.equals(verified.key, key))) {
+				verified = this.verify(token, key, address);
+				if (null == verified) {
 					return EffectivePerson.anonymous();
 				}
+				if (VERIFIEDS.size() >= MAX_VERIFIED_SIZE) {
+					VERIFIEDS.clear();
+				}
+				VERIFIEDS.put(token, verified);
 			}
-			if (TokenType.cipher.equals(tokenType) && (diff > (60000 * 20))) {
-				// 不报错,跳过错误,将用户设置为anonymous
+			long diff = Math.abs(System.currentTimeMillis() - verified.time);
+			long expired = this.expired(verified.tokenType);
+			if (diff > expired) {
+				VERIFIEDS.remove(token);
+				if (!TokenType.cipher.equals(verified.tokenType)) {
+					// 不报错,跳过错误,将用户设置为anonymous
+					logger.warn("token expired, user:{}, token:{}, remote address:{}.", verified.distinguishedName,
+							token, address);
+				}
 				return EffectivePerson.anonymous();
 			}
-			return new EffectivePerson(URLDecoder.decode(matcher.group(3), StandardCharsets.UTF_8.name()), tokenType,
-					key);
+			if ((!TokenType.anonymous.equals(verified.tokenType))
+					&& (diff < Math.min(expired / 4, MAX_REFRESH_INTERVAL))) {
+				return EffectivePerson.verified(verified.distinguishedName, verified.tokenType, token);
+			}
+			return new EffectivePerson(verified.distinguishedName, verified.tokenType, key);
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 		return EffectivePerson.anonymous();
 	}
 
+	/**
+	 * 解密令牌并校验格式,不校验有效期.
+	 */
+	private Verified verify(String token, String key, String address) throws Exception {
+		String plain = "";
+		try {
+			plain = Crypto.decrypt(token, key);
+		} catch (Exception e) {
+			logger.warn("can not decrypt token:{}, {}, remote address:{}.", token, e.getMessage(), address);
+			return null;
+		}
+		Matcher matcher = PATTERN_TOKEN.matcher(plain);
+		if (!matcher.find()) {
+			// 不报错,跳过错误,将用户设置为anonymous
+			logger.warn("token format error:{}, remote address:{}.", plain, address);
+			return null;
+		}
+		Date date = DateUtils.parseDate(matcher.group(2), DateTools.formatCompact_yyyyMMddHHmmss);
+		return new Verified(key, TokenType.valueOf(matcher.group(1)),
+				URLDecoder.decode(matcher.group(3), StandardCharsets.UTF_8.name()), date.getTime());
+	}
+
+	private long expired(TokenType tokenType) throws Exception {
+		if (TokenType.user.equals(tokenType) || TokenType.manager.equals(tokenType)) {
+			return 60000L * Config.person().getTokenExpiredMinutes();
+		} else if (TokenType.cipher.equals(tokenType)) {
+			return CIPHER_EXPIRED;
+		}
+		return Long.MAX_VALUE;
+	}
+
 	public void deleteToken(HttpServletRequest request, HttpServletResponse response) throws Exception {
 		try {
 			// String cookie = X_Token + "=; path=/; domain=" +
@@ -179,8 +222,7 @@ public class HttpToken {
 	private String domain(HttpServletRequest request) throws Exception {
 		String str = request.getServerName();
 		if (StringUtils.contains(str, ".")) {
-			Pattern pattern = Pattern.compile(RegularExpression_IP);
-			Matcher matcher = pattern.matcher(str);
+			Matcher matcher = PATTERN_IP.matcher(str);
 			if (!matcher.find()) {
 				if (StringUtils.equalsIgnoreCase(DomainTools.getMainDomain(str), str)) {
 					return str;
@@ -208,4 +250,23 @@ public class HttpToken {
 		return Objects.toString(request.getHeader("User-Agent"), "");
 	}
 
+	private static class Verified {
+
+		private final String key;
+
+		private final TokenType tokenType;
+
+		private final String distinguishedName;
+
+		/* 令牌签发时间 */
+		private final long time;
+
+		private Verified(String key, TokenType tokenType, String distinguishedName, long time) {
+			this.key = key;
+			this.tokenType = tokenType;
+			this.distinguishedName = distinguishedName;
+			this.time = time;
+		}
+	}
+
 }
\ No newline at end of file
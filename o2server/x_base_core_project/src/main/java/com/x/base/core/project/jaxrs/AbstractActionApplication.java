@@ -8,9 +8,12 @@ import javax.ws.rs.core.Application;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 
 import com.x.base.core.project.jaxrs.cache.CacheAction;
+import com.x.base.core.project.jaxrs.connection.ConnectionPoolAction;
 import com.x.base.core.project.jaxrs.echo.EchoAction;
 import com.x.base.core.project.jaxrs.fireschedule.FireScheduleAction;
 import com.x.base.core.project.jaxrs.logger.LoggerAction;
+import com.x.base.core.project.jaxrs.queue.QueueAction;
+import com.x.base.core.project.jaxrs.scriptengine.ScriptEngineAction;
 import com.x.base.core.project.jaxrs.sysresource.SysResourceAction;
 import com.x.base.core.project.jaxrs.thread.ThreadAction;
 
@@ -22,11 +25,15 @@ public abstract class AbstractActionApplication extends Application {
 		classes.add(EchoAction.class);
 		classes.add(CacheAction.class);
 		classes.add(LoggerAction.class);
+		classes.add(QueueAction.class);
+		classes.add(ConnectionPoolAction.class);
+		classes.add(ScriptEngineAction.class);
 		classes.add(FireScheduleAction.class);
 		classes.add(SysResourceAction.class);
 		classes.add(ThreadAction.class);
 		// providers
 		classes.add(MessageBodyReaderImpl.class);
+		classes.add(ActionResultEntityWriter.class);
 		classes.add(MultiPartFeature.class);
 	}
 
@@ -0,0 +1,116 @@
+package com.x.base.core.project.jaxrs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.zip.CRC32;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import com.x.base.core.project.gson.XGsonBuilder;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.tools.DefaultCharset;
+
+/**
+ * 响应中的ActionResult,由ActionResultEntityWriter直接序列化到响应流,不再先转换为String.<br/>
+ * 需要ETag时,先序列化到限定大小的缓冲区,同时对data部分的字节计算CRC32,输出时直接写出缓冲区.<br/>
+ * 超过缓冲阈值的结果只计算CRC32不保留字节,输出时再次序列化,避免大结果在内存中同时存在多份.
+ */
+public class ActionResultEntity {
+
+	private ActionResult<?> result;
+
+	private ByteArrayOutputStream buffer;
+
+	private String etag;
+
+	public ActionResultEntity(ActionResult<?> result) {
+		this.result = result;
+	}
+
+	public static ActionResultEntity etag(ActionResult<?> result, int threshold) throws IOException {
+		ActionResultEntity entity = new ActionResultEntity(result);
+		EntityTagOutputStream out = new EntityTagOutputStream(threshold);
+		write(result, out, out);
+		entity.buffer = out.buffer;
+		entity.etag = out.crc.getValue() + "";
+		return entity;
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		if (null != buffer) {
+			buffer.writeTo(out);
+		} else {
+			write(result, out, NONE);
+		}
+	}
+
+	private static void write(ActionResult<?> result, OutputStream out, ActionResult.DataListener dataListener)
+			throws IOException {
+		Gson gson = XGsonBuilder.instance();
+		/* 不关闭,响应流由容器关闭 */
+		JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(out, DefaultCharset.charset_utf_8));
+		result.toJson(gson, writer, dataListener);
+	}
+
+	private static final ActionResult.DataListener NONE = new ActionResult.DataListener() {
+
+		@Override
+		public void begin() {
+		}
+
+		@Override
+		public void end() {
+		}
+	};
+
+	private static class EntityTagOutputStream extends OutputStream implements ActionResult.DataListener {
+
+		private final int threshold;
+
+		private final CRC32 crc = new CRC32();
+
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		private boolean data = false;
+
+		private EntityTagOutputStream(int threshold) {
+			this.threshold = threshold;
+		}
+
+		@Override
+		public void begin() {
+			data = true;
+		}
+
+		@Override
+		public void end() {
+			data = false;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (data) {
+				crc.update(b, off, len);
+			}
+			if (null != buffer) {
+				if (buffer.size() + len > threshold) {
+					buffer = null;
+				} else {
+					buffer.write(b, off, len);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.x.base.core.project.jaxrs;
+
+import javax.servlet.annotation.WebFilter;
+
+@WebFilter(urlPatterns = { "/jaxrs/queue/*" }, asyncSupported = true)
+public class QueueJaxrsFilter extends CipherManagerJaxrsFilter {
+
+}
@@ -1,5 +1,7 @@
 package com.x.base.core.project.jaxrs;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.Objects;
 import java.util.zip.CRC32;
@@ -13,7 +15,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
 import com.x.base.core.project.exception.CallbackPromptException;
-import com.x.base.core.project.gson.XGsonBuilder;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.HttpMediaType;
 import com.x.base.core.project.tools.DefaultCharset;
@@ -27,12 +28,16 @@ public class ResponseFactory {
 	public static final String Content_Type = "Content-Type";
 	public static final String Content_Length = "Content-Length";
 
+	/* 计算ETag时最多缓冲的字节数,超过时只计算ETag,输出时再次序列化 */
+	public static final int ETAG_BUFFER_THRESHOLD = 1024 * 1024;
+
 	public static <T> Response getDefaultActionResultResponse(ActionResult<T> result) {
 		if (result.getType().equals(ActionResult.Type.error)) {
 			if ((result.throwable instanceof CallbackPromptException)) {
 				return Response.ok(callbackError(result)).cacheControl(defaultCacheControl).build();
 			} else {
-				return Response.serverError().entity(result.toJson()).cacheControl(defaultCacheControl).build();
+				return Response.serverError().entity(new ActionResultEntity(result)).cacheControl(defaultCacheControl)
+						.build();
 			}
 		} else {
 			if ((null != result.getData()) && (result.getData() instanceof WoFile)) {
@@ -66,7 +71,7 @@ public class ResponseFactory {
 							.cacheControl(defaultCacheControl).build();
 				}
 			} else {
-				return Response.ok(result.toJson()).cacheControl(defaultCacheControl).build();
+				return Response.ok(new ActionResultEntity(result)).cacheControl(defaultCacheControl).build();
 			}
 		}
 	}
@@ -76,7 +81,7 @@ public class ResponseFactory {
 			if ((result.throwable instanceof CallbackPromptException)) {
 				return Response.ok(callbackError(result)).build();
 			} else {
-				return Response.serverError().entity(result.toJson()).build();
+				return Response.serverError().entity(new ActionResultEntity(result)).build();
 			}
 		} else {
 			if ((null != result.getData()) && (result.getData() instanceof WoFile)) {
@@ -129,13 +134,23 @@ public class ResponseFactory {
 				if (null != maxAge) {
 					CacheControl cacheControl = new CacheControl();
 					cacheControl.setMaxAge(maxAge);
-					return Response.ok(result.toJson()).cacheControl(cacheControl).build();
+					return Response.ok(new ActionResultEntity(result)).cacheControl(cacheControl).build();
 				} else {
-					EntityTag tag = new EntityTag(etagDefault(result.getData()));
+					String fastETag = fastETagDefault(result.getData());
+					if (null != fastETag) {
+						EntityTag tag = new EntityTag(fastETag);
+						if (notModified(request, tag)) {
+							return Response.notModified().tag(tag).build();
+						}
+						return Response.ok(new ActionResultEntity(result)).tag(tag).build();
+					}
+					// 序列化一次,同时计算data部分的ETag
+					ActionResultEntity entity = etagEntity(result);
+					EntityTag tag = new EntityTag(entity.getEtag());
 					if (notModified(request, tag)) {
 						return Response.notModified().tag(tag).build();
 					}
-					return Response.ok(result.toJson()).tag(tag).build();
+					return Response.ok(entity).tag(tag).build();
 				}
 			}
 		}
@@ -172,19 +187,24 @@ public class ResponseFactory {
 		return crc.getValue() + "";
 	}
 
-	private static String etagDefault(Object o) {
-		CRC32 crc = new CRC32();
+	private static String fastETagDefault(Object o) {
 		if (o instanceof WoMaxAgeFastETag) {
 			WoMaxAgeFastETag fast = ((WoMaxAgeFastETag) o);
 			if (StringUtils.isNotEmpty(fast.getFastETag())) {
+				CRC32 crc = new CRC32();
 				crc.update(fast.getFastETag().getBytes(DefaultCharset.charset_utf_8));
-			} else {
-				crc.update(XGsonBuilder.toJson(o).getBytes(DefaultCharset.charset_utf_8));
+				return crc.getValue() + "";
 			}
-		} else {
-			crc.update(XGsonBuilder.toJson(o).getBytes(DefaultCharset.charset_utf_8));
 		}
-		return crc.getValue() + "";
+		return null;
+	}
+
+	private static ActionResultEntity etagEntity(ActionResult<?> result) {
+		try {
+			return ActionResultEntity.etag(result, ETAG_BUFFER_THRESHOLD);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	private static Integer maxAgeDefault(Object o) {
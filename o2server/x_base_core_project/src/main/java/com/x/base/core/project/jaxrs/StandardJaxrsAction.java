@@ -3,6 +3,10 @@ package com.x.base.core.project.jaxrs;
 import java.lang.reflect.Constructor;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -13,19 +17,24 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.AsyncResponse;
 
 import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections4.map.ListOrderedMap;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
 import com.x.base.core.entity.JpaObject;
 import com.x.base.core.project.bean.WrapCopier;
+import com.x.base.core.project.exception.ExceptionAsyncTimeout;
 import com.x.base.core.project.exception.ExceptionWhen;
 import com.x.base.core.project.gson.GsonPropertyObject;
 import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.tools.CollectionTools;
 import com.x.base.core.project.tools.ListTools;
 
@@ -37,6 +46,63 @@ public abstract class StandardJaxrsAction extends AbstractJaxrsAction {
 	protected static final String DESC = "desc";
 	protected static final String ASC = "asc";
 
+	/* 异步执行的超时时间,与原先同步等待执行器的时间一致 */
+	protected static final long ASYNC_TIMEOUT_SECONDS = 300;
+
+	@FunctionalInterface
+	protected interface AsyncExecute<T> {
+		CompletableFuture<ActionResult<T>> execute() throws Exception;
+	}
+
+	/**
+	 * 异步执行并返回结果,容器线程在任务提交后立即释放.<br/>
+	 * 超时由AsyncResponse控制,超时后返回错误,已经提交的任务继续执行.
+	 * 
+	 * @param asyncResponse   挂起的响应
+	 * @param request         请求
+	 * @param effectivePerson 当前用户,用于记录错误
+	 * @param jsonElement     请求内容,用于记录错误
+	 * @param logger          调用方的logger
+	 * @param execute         返回CompletableFuture的执行方法
+	 */
+	protected <T> void asyncResume(AsyncResponse asyncResponse, HttpServletRequest request,
+			EffectivePerson effectivePerson, JsonElement jsonElement, Logger logger, AsyncExecute<T> execute) {
+		String uri = request.getRequestURI();
+		asyncResponse.setTimeout(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		asyncResponse.setTimeoutHandler(o -> {
+			ActionResult<T> result = new ActionResult<>();
+			Exception e = new ExceptionAsyncTimeout(ASYNC_TIMEOUT_SECONDS, uri);
+			logger.error(e, effectivePerson, request, jsonElement);
+			result.error(e);
+			o.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		});
+		CompletableFuture<ActionResult<T>> future;
+		try {
+			future = execute.execute();
+		} catch (Exception e) {
+			future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+		}
+		future.whenComplete((result, throwable) -> {
+			if (null != throwable) {
+				Exception e = asyncCause(throwable);
+				logger.error(e, effectivePerson, request, jsonElement);
+				result = new ActionResult<>();
+				result.error(e);
+			}
+			asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		});
+	}
+
+	private static Exception asyncCause(Throwable throwable) {
+		Throwable cause = throwable;
+		while (((cause instanceof CompletionException) || (cause instanceof ExecutionException))
+				&& (null != cause.getCause())) {
+			cause = cause.getCause();
+		}
+		return (cause instanceof Exception) ? (Exception) cause : new Exception(cause);
+	}
+
 	/**
 	 * 查询数据的下一页对象信息
 	 * 
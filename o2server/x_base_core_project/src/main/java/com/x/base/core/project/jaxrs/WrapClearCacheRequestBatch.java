@@ -0,0 +1,65 @@
+package com.x.base.core.project.jaxrs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.gson.GsonPropertyObject;
+
+public class WrapClearCacheRequestBatch extends GsonPropertyObject {
+
+	@FieldDescribe("刷新请求")
+	private List<Request> requests;
+
+	public List<Request> getRequests() {
+		return null == requests ? new ArrayList<>() : requests;
+	}
+
+	public void setRequests(List<Request> requests) {
+		this.requests = requests;
+	}
+
+	/**
+	 * 按类名合并刷新请求:相同类名和关键字的请求只保留一个,如果同一类名存在不带关键字的请求(清空全部),那么该类名下的其他请求全部合并到此请求.
+	 */
+	public static WrapClearCacheRequestBatch merge(Collection<? extends WrapClearCacheRequest> list) {
+		Map<String, Map<String, Request>> map = new LinkedHashMap<>();
+		for (WrapClearCacheRequest o : list) {
+			Map<String, Request> requests = map.computeIfAbsent(o.getClassName(), k -> new LinkedHashMap<>());
+			if (requests.containsKey(CLEAR_ALL)) {
+				continue;
+			}
+			if (o.getKeys().isEmpty()) {
+				requests.clear();
+				requests.put(CLEAR_ALL, new Request(o));
+			} else {
+				requests.putIfAbsent(Objects.toString(o.getKeys()), new Request(o));
+			}
+		}
+		List<Request> requests = new ArrayList<>();
+		map.values().forEach(o -> requests.addAll(o.values()));
+		WrapClearCacheRequestBatch batch = new WrapClearCacheRequestBatch();
+		batch.setRequests(requests);
+		return batch;
+	}
+
+	private static final String CLEAR_ALL = "";
+
+	public static class Request extends WrapClearCacheRequest {
+
+		public Request() {
+		}
+
+		public Request(WrapClearCacheRequest o) {
+			this.setNodeName(o.getNodeName());
+			this.setClassName(o.getClassName());
+			this.setKeys(o.getKeys());
+		}
+
+	}
+
+}
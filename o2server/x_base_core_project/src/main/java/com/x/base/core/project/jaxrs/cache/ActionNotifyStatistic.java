@@ -0,0 +1,62 @@
+package com.x.base.core.project.jaxrs.cache;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.cache.CacheManager;
+import com.x.base.core.project.cache.CacheNotifyStatistic;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+class ActionNotifyStatistic extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionNotifyStatistic.class);
+
+	ActionResult<Wo> execute(EffectivePerson effectivePerson) throws Exception {
+		logger.debug(effectivePerson, "notify statistic.");
+		ActionResult<Wo> result = new ActionResult<>();
+		result.setData(new Wo(CacheManager.notifyStatistic()));
+		return result;
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		public Wo(CacheNotifyStatistic statistic) {
+			this.queued = statistic.getQueued();
+			this.merged = statistic.getMerged();
+			this.sent = statistic.getSent();
+			this.batch = statistic.getBatch();
+		}
+
+		@FieldDescribe("进入通知队列的请求数")
+		private Long queued;
+
+		@FieldDescribe("合并掉的请求数")
+		private Long merged;
+
+		@FieldDescribe("实际发送的请求数")
+		private Long sent;
+
+		@FieldDescribe("发送的批次数")
+		private Long batch;
+
+		public Long getQueued() {
+			return queued;
+		}
+
+		public Long getMerged() {
+			return merged;
+		}
+
+		public Long getSent() {
+			return sent;
+		}
+
+		public Long getBatch() {
+			return batch;
+		}
+
+	}
+
+}
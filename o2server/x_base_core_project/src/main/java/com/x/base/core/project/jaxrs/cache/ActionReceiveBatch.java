@@ -0,0 +1,49 @@
+package com.x.base.core.project.jaxrs.cache;
+
+import javax.servlet.ServletContext;
+
+import com.google.gson.JsonElement;
+import com.x.base.core.project.AbstractContext;
+import com.x.base.core.project.cache.ApplicationCache;
+import com.x.base.core.project.cache.CacheManager;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
+import com.x.base.core.project.jaxrs.WrapClearCacheRequestBatch;
+import com.x.base.core.project.jaxrs.WrapInteger;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+class ActionReceiveBatch extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionReceiveBatch.class);
+
+	ActionResult<Wo> execute(EffectivePerson effectivePerson, ServletContext servletContext, JsonElement jsonElement)
+			throws Exception {
+		logger.debug(effectivePerson, "receive batch:{}.", jsonElement);
+		ActionResult<Wo> result = new ActionResult<>();
+		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
+		AbstractContext ctx = AbstractContext.fromServletContext(servletContext);
+		for (WrapClearCacheRequest o : wi.getRequests()) {
+			if (null != ctx.clearCacheRequestQueue()) {
+				ctx.clearCacheRequestQueue().send(o);
+			} else {
+				ApplicationCache.receive(o);
+				CacheManager.receive(o);
+			}
+		}
+		Wo wo = new Wo();
+		wo.setValue(wi.getRequests().size());
+		result.setData(wo);
+		return result;
+	}
+
+	public static class Wo extends WrapInteger {
+
+	}
+
+	public static class Wi extends WrapClearCacheRequestBatch {
+
+	}
+
+}
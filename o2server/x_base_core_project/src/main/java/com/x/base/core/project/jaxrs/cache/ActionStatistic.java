@@ -0,0 +1,66 @@
+package com.x.base.core.project.jaxrs.cache;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.cache.CacheManager;
+import com.x.base.core.project.cache.CacheStatistic;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+class ActionStatistic extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionStatistic.class);
+
+	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson) throws Exception {
+		logger.debug(effectivePerson, "statistic.");
+		ActionResult<List<Wo>> result = new ActionResult<>();
+		List<Wo> wos = CacheManager.statistics().stream().map(Wo::new).collect(Collectors.toList());
+		result.setData(wos);
+		return result;
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		public Wo(CacheStatistic statistic) {
+			this.category = statistic.getCategory();
+			this.localHit = statistic.getLocalHit();
+			this.remoteHit = statistic.getRemoteHit();
+			this.miss = statistic.getMiss();
+		}
+
+		@FieldDescribe("缓存分类")
+		private String category;
+
+		@FieldDescribe("本地一级缓存命中次数")
+		private Long localHit;
+
+		@FieldDescribe("远程二级缓存命中次数")
+		private Long remoteHit;
+
+		@FieldDescribe("未命中次数")
+		private Long miss;
+
+		public String getCategory() {
+			return category;
+		}
+
+		public Long getLocalHit() {
+			return localHit;
+		}
+
+		public Long getRemoteHit() {
+			return remoteHit;
+		}
+
+		public Long getMiss() {
+			return miss;
+		}
+
+	}
+
+}
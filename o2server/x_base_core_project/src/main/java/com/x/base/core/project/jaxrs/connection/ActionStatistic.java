@@ -0,0 +1,150 @@
+package com.x.base.core.project.jaxrs.connection;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.http.pool.PoolStats;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.config.Connection;
+import com.x.base.core.project.connection.ConnectionPool;
+import com.x.base.core.project.connection.ConnectionStatistic;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+class ActionStatistic extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionStatistic.class);
+
+	ActionResult<Wo> execute(EffectivePerson effectivePerson) throws Exception {
+		logger.debug(effectivePerson, "statistic.");
+		ActionResult<Wo> result = new ActionResult<>();
+		Connection config = Config.connection();
+		Wo wo = new Wo();
+		wo.enable = config.getEnable();
+		wo.maxTotal = config.getMaxTotal();
+		wo.maxPerRoute = config.getMaxPerRoute();
+		PoolStats stats = ConnectionPool.poolStats();
+		if (null != stats) {
+			wo.leased = stats.getLeased();
+			wo.available = stats.getAvailable();
+			wo.pending = stats.getPending();
+		}
+		wo.targetList = ConnectionPool.statistics().stream().map(WoTarget::new).collect(Collectors.toList());
+		result.setData(wo);
+		return result;
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		@FieldDescribe("是否启用连接池")
+		private Boolean enable;
+
+		@FieldDescribe("连接池最大连接数")
+		private Integer maxTotal;
+
+		@FieldDescribe("每个目标主机的最大连接数")
+		private Integer maxPerRoute;
+
+		@FieldDescribe("使用中的连接数")
+		private Integer leased = 0;
+
+		@FieldDescribe("空闲的连接数")
+		private Integer available = 0;
+
+		@FieldDescribe("等待获取连接的请求数")
+		private Integer pending = 0;
+
+		@FieldDescribe("按目标应用的调用统计")
+		private List<WoTarget> targetList;
+
+		public Boolean getEnable() {
+			return enable;
+		}
+
+		public Integer getMaxTotal() {
+			return maxTotal;
+		}
+
+		public Integer getMaxPerRoute() {
+			return maxPerRoute;
+		}
+
+		public Integer getLeased() {
+			return leased;
+		}
+
+		public Integer getAvailable() {
+			return available;
+		}
+
+		public Integer getPending() {
+			return pending;
+		}
+
+		public List<WoTarget> getTargetList() {
+			return targetList;
+		}
+
+	}
+
+	public static class WoTarget extends GsonPropertyObject {
+
+		public WoTarget(ConnectionStatistic statistic) {
+			this.name = statistic.getName();
+			this.count = statistic.getCount();
+			this.failed = statistic.getFailed();
+			this.averageElapsed = statistic.getAverageElapsed();
+			this.maxElapsed = statistic.getMaxElapsed();
+			this.lastTime = statistic.getLastTime();
+		}
+
+		@FieldDescribe("目标应用")
+		private String name;
+
+		@FieldDescribe("调用次数")
+		private Long count;
+
+		@FieldDescribe("失败次数")
+		private Long failed;
+
+		@FieldDescribe("平均耗时(毫秒)")
+		private Long averageElapsed;
+
+		@FieldDescribe("最长耗时(毫秒)")
+		private Long maxElapsed;
+
+		@FieldDescribe("最后一次调用完成的时间")
+		private Long lastTime;
+
+		public String getName() {
+			return name;
+		}
+
+		public Long getCount() {
+			return count;
+		}
+
+		public Long getFailed() {
+			return failed;
+		}
+
+		public Long getAverageElapsed() {
+			return averageElapsed;
+		}
+
+		public Long getMaxElapsed() {
+			return maxElapsed;
+		}
+
+		public Long getLastTime() {
+			return lastTime;
+		}
+
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.x.base.core.project.jaxrs.connection;
+
+import com.x.base.core.project.jaxrs.StandardJaxrsAction;
+
+abstract class BaseAction extends StandardJaxrsAction {
+
+}
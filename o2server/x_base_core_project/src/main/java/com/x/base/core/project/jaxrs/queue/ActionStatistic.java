@@ -0,0 +1,154 @@
+package com.x.base.core.project.jaxrs.queue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.queue.AbstractQueue;
+import com.x.base.core.project.queue.QueueStatistic;
+
+class ActionStatistic extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionStatistic.class);
+
+	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson) throws Exception {
+		logger.debug(effectivePerson, "statistic.");
+		ActionResult<List<Wo>> result = new ActionResult<>();
+		List<Wo> wos = AbstractQueue.statistics().stream().map(Wo::new).collect(Collectors.toList());
+		result.setData(wos);
+		return result;
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		public Wo(QueueStatistic statistic) {
+			this.name = statistic.getName();
+			this.capacity = statistic.getCapacity();
+			this.overflowPolicy = statistic.getOverflowPolicy();
+			this.depth = statistic.getDepth();
+			this.executing = statistic.getExecuting();
+			this.sent = statistic.getSent();
+			this.deduplicated = statistic.getDeduplicated();
+			this.dropped = statistic.getDropped();
+			this.blocked = statistic.getBlocked();
+			this.executed = statistic.getExecuted();
+			this.failed = statistic.getFailed();
+			this.averageWaitTime = statistic.getAverageWaitTime();
+			this.maxWaitTime = statistic.getMaxWaitTime();
+			this.averageExecuteTime = statistic.getAverageExecuteTime();
+			this.throughput = statistic.getThroughput();
+		}
+
+		@FieldDescribe("队列类名")
+		private String name;
+
+		@FieldDescribe("容量")
+		private Integer capacity;
+
+		@FieldDescribe("溢出策略")
+		private String overflowPolicy;
+
+		@FieldDescribe("等待中的数量")
+		private Integer depth;
+
+		@FieldDescribe("执行中的数量")
+		private Integer executing;
+
+		@FieldDescribe("进入队列的数量")
+		private Long sent;
+
+		@FieldDescribe("因重复被合并的数量")
+		private Long deduplicated;
+
+		@FieldDescribe("因队列满被丢弃的数量")
+		private Long dropped;
+
+		@FieldDescribe("因队列满发送方等待的次数")
+		private Long blocked;
+
+		@FieldDescribe("执行成功的数量")
+		private Long executed;
+
+		@FieldDescribe("执行失败的数量")
+		private Long failed;
+
+		@FieldDescribe("平均等待时间(毫秒)")
+		private Long averageWaitTime;
+
+		@FieldDescribe("最长等待时间(毫秒)")
+		private Long maxWaitTime;
+
+		@FieldDescribe("平均执行时间(毫秒)")
+		private Long averageExecuteTime;
+
+		@FieldDescribe("启动以来每秒完成的数量")
+		private Double throughput;
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getCapacity() {
+			return capacity;
+		}
+
+		public String getOverflowPolicy() {
+			return overflowPolicy;
+		}
+
+		public Integer getDepth() {
+			return depth;
+		}
+
+		public Integer getExecuting() {
+			return executing;
+		}
+
+		public Long getSent() {
+			return sent;
+		}
+
+		public Long getDeduplicated() {
+			return deduplicated;
+		}
+
+		public Long getDropped() {
+			return dropped;
+		}
+
+		public Long getBlocked() {
+			return blocked;
+		}
+
+		public Long getExecuted() {
+			return executed;
+		}
+
+		public Long getFailed() {
+			return failed;
+		}
+
+		public Long getAverageWaitTime() {
+			return averageWaitTime;
+		}
+
+		public Long getMaxWaitTime() {
+			return maxWaitTime;
+		}
+
+		public Long getAverageExecuteTime() {
+			return averageExecuteTime;
+		}
+
+		public Double getThroughput() {
+			return throughput;
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.x.base.core.project.jaxrs.scriptengine;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.script.ScriptFactory;
+import com.x.base.core.project.script.ScriptStatistic;
+
+class ActionStatistic extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionStatistic.class);
+
+	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson) throws Exception {
+		logger.debug(effectivePerson, "statistic.");
+		ActionResult<List<Wo>> result = new ActionResult<>();
+		List<Wo> wos = ScriptFactory.statistics().stream().map(Wo::new).collect(Collectors.toList());
+		result.setData(wos);
+		return result;
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		public Wo(ScriptStatistic statistic) {
+			this.name = statistic.getName();
+			this.hit = statistic.getHit();
+			this.compiled = statistic.getCompiled();
+			this.hitRate = statistic.getHitRate();
+			this.averageCompileTime = statistic.getAverageCompileTime();
+			this.evaluated = statistic.getEvaluated();
+			this.failed = statistic.getFailed();
+			this.averageEvalTime = statistic.getAverageEvalTime();
+			this.maxEvalTime = statistic.getMaxEvalTime();
+		}
+
+		@FieldDescribe("脚本标识")
+		private String name;
+
+		@FieldDescribe("编译缓存命中次数")
+		private Long hit;
+
+		@FieldDescribe("编译次数")
+		private Long compiled;
+
+		@FieldDescribe("编译缓存命中率")
+		private Double hitRate;
+
+		@FieldDescribe("平均编译时间(毫秒)")
+		private Double averageCompileTime;
+
+		@FieldDescribe("执行次数")
+		private Long evaluated;
+
+		@FieldDescribe("执行失败次数")
+		private Long failed;
+
+		@FieldDescribe("平均执行时间(毫秒)")
+		private Double averageEvalTime;
+
+		@FieldDescribe("最长执行时间(毫秒)")
+		private Double maxEvalTime;
+
+		public String getName() {
+			return name;
+		}
+
+		public Long getHit() {
+			return hit;
+		}
+
+		public Long getCompiled() {
+			return compiled;
+		}
+
+		public Double getHitRate() {
+			return hitRate;
+		}
+
+		public Double getAverageCompileTime() {
+			return averageCompileTime;
+		}
+
+		public Long getEvaluated() {
+			return evaluated;
+		}
+
+		public Long getFailed() {
+			return failed;
+		}
+
+		public Double getAverageEvalTime() {
+			return averageEvalTime;
+		}
+
+		public Double getMaxEvalTime() {
+			return maxEvalTime;
+		}
+
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.x.base.core.project.jaxrs.scriptengine;
+
+import com.x.base.core.project.jaxrs.StandardJaxrsAction;
+
+abstract class BaseAction extends StandardJaxrsAction {
+
+}
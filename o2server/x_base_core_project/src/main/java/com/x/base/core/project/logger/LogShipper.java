@@ -0,0 +1,205 @@
+package com.x.base.core.project.logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.connection.CipherConnectionAction;
+import com.x.base.core.project.tools.DateTools;
+import com.x.base.core.project.tools.StringTools;
+
+/**
+ * 将warn和error日志发送到中心服务器.<br/>
+ * 日志先放入有界队列,由单个后台线程每隔一段时间取出一批,按类型调用中心服务器的批量接口发送.<br/>
+ * 同一批次中相同logger的相同堆栈(警告为相同消息)合并为一条,消息前标注重复次数.<br/>
+ * 每个logger按令牌桶限速,队列已满或超过限速时直接丢弃,不阻塞调用线程,丢弃数量作为一条警告随下一批发送.
+ */
+class LogShipper {
+
+	static final String TYPE_WARN = "warnlog";
+	static final String TYPE_PROMPTERROR = "prompterrorlog";
+	static final String TYPE_UNEXPECTEDERROR = "unexpectederrorlog";
+
+	private static final String PARAMETER_ID = "id";
+	private static final String PARAMETER_VERSION = "version";
+	private static final String PARAMETER_OCCURTIME = "occurTime";
+	private static final String PARAMETER_LOGGERNAME = "loggerName";
+	private static final String PARAMETER_MESSAGE = "message";
+
+	private static final int QUEUE_CAPACITY = 4096;
+	private static final int BATCH_SIZE = 500;
+	/* 发送间隔,毫秒 */
+	private static final long INTERVAL = 2000;
+	/* 每个logger每秒发送的数量和允许的突发数量 */
+	private static final double RATE = 10;
+	private static final double BURST = 100;
+
+	private static final LogShipper INSTANCE = new LogShipper();
+
+	private final ArrayBlockingQueue<Record> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+	private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	private final AtomicLong queueDropped = new AtomicLong();
+
+	private final AtomicLong sendDropped = new AtomicLong();
+
+	private volatile Thread thread;
+
+	static LogShipper instance() {
+		return INSTANCE;
+	}
+
+	private LogShipper() {
+	}
+
+	/**
+	 * 放入发送队列,不阻塞.
+	 *
+	 * @param key 合并相同日志使用的标识
+	 */
+	void ship(String type, String loggerName, String key, Map<String, Object> parameters) {
+		TokenBucket bucket = buckets.computeIfAbsent(loggerName, k -> new TokenBucket());
+		if (!bucket.tryAcquire()) {
+			return;
+		}
+		if (!queue.offer(new Record(type, type + loggerName + key, parameters))) {
+			queueDropped.incrementAndGet();
+			return;
+		}
+		if (null == thread) {
+			this.start();
+		}
+	}
+
+	private synchronized void start() {
+		if (null == thread) {
+			Thread t = new Thread(this::run, LogShipper.class.getName());
+			t.setDaemon(true);
+			t.start();
+			thread = t;
+		}
+	}
+
+	private void run() {
+		List<Record> batch = new ArrayList<>();
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				Thread.sleep(INTERVAL);
+				queue.drainTo(batch, BATCH_SIZE);
+				Record dropped = this.dropped();
+				if (null != dropped) {
+					batch.add(dropped);
+				}
+				if (!batch.isEmpty()) {
+					this.flush(batch);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (Exception e) {
+				e.printStackTrace();
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<Record> batch) throws Exception {
+		Map<String, Record> merged = new LinkedHashMap<>();
+		for (Record o : batch) {
+			Record exist = merged.putIfAbsent(o.key, o);
+			if (null != exist) {
+				exist.count++;
+			}
+		}
+		String version = Config.version();
+		Map<String, List<Map<String, Object>>> types = new LinkedHashMap<>();
+		for (Record o : merged.values()) {
+			o.parameters.put(PARAMETER_VERSION, version);
+			if (o.count > 1) {
+				o.parameters.put(PARAMETER_MESSAGE, "[重复" + o.count + "次] " + o.parameters.get(PARAMETER_MESSAGE));
+			}
+			types.computeIfAbsent(o.type, k -> new ArrayList<>()).add(o.parameters);
+		}
+		for (Entry<String, List<Map<String, Object>>> en : types.entrySet()) {
+			try {
+				CipherConnectionAction.post(false, Config.url_x_program_center_jaxrs(en.getKey(), "batch"),
+						en.getValue());
+			} catch (Exception e) {
+				/* 中心服务器不可用时不重试,避免积压 */
+				sendDropped.addAndGet(en.getValue().size());
+				System.err.println(DateTools.nowMs() + " " + Logger.ERROR + " " + LogShipper.class.getName()
+						+ " - send " + en.getKey() + " error:" + e.getMessage());
+			}
+		}
+	}
+
+	/* 汇总上一个周期丢弃的数量 */
+	private Record dropped() {
+		long queueCount = queueDropped.getAndSet(0);
+		long sendCount = sendDropped.getAndSet(0);
+		long rateCount = 0;
+		StringBuilder loggers = new StringBuilder();
+		for (Entry<String, TokenBucket> en : buckets.entrySet()) {
+			long count = en.getValue().dropped.getAndSet(0);
+			if (count > 0) {
+				rateCount += count;
+				loggers.append(loggers.length() > 0 ? ", " : "").append(en.getKey()).append(":").append(count);
+			}
+		}
+		if ((queueCount + rateCount + sendCount) == 0) {
+			return null;
+		}
+		String message = "日志丢弃, 队列已满:" + queueCount + ", 超过限速:" + rateCount + "(" + loggers + "), 发送失败:"
+				+ sendCount + ".";
+		System.err.println(DateTools.nowMs() + " " + Logger.WARN + " " + LogShipper.class.getName() + " - " + message);
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put(PARAMETER_ID, StringTools.uniqueToken());
+		parameters.put(PARAMETER_OCCURTIME, DateTools.now());
+		parameters.put(PARAMETER_LOGGERNAME, LogShipper.class.getName());
+		parameters.put(PARAMETER_MESSAGE, message);
+		return new Record(TYPE_WARN, TYPE_WARN + StringTools.uniqueToken(), parameters);
+	}
+
+	private static class Record {
+
+		private final String type;
+		private final String key;
+		private final Map<String, Object> parameters;
+		private int count = 1;
+
+		private Record(String type, String key, Map<String, Object> parameters) {
+			this.type = type;
+			this.key = key;
+			this.parameters = parameters;
+		}
+	}
+
+	private static class TokenBucket {
+
+		private double tokens = BURST;
+		private long last = System.nanoTime();
+		private final AtomicLong dropped = new AtomicLong();
+
+		private synchronized boolean tryAcquire() {
+			long now = System.nanoTime();
+			tokens = Math.min(BURST, tokens + (now - last) * RATE / TimeUnit.SECONDS.toNanos(1));
+			last = now;
+			if (tokens >= 1) {
+				tokens--;
+				return true;
+			}
+			dropped.incrementAndGet();
+			return false;
+		}
+	}
+
+}
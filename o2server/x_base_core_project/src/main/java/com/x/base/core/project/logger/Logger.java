@@ -12,8 +12,6 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.x.base.core.project.config.Config;
-import com.x.base.core.project.connection.CipherConnectionAction;
 import com.x.base.core.project.exception.PromptException;
 import com.x.base.core.project.gson.XGsonBuilder;
 import com.x.base.core.project.http.EffectivePerson;
@@ -50,7 +48,6 @@ public class Logger {
 	public final static String ERROR = "ERROR";
 
 	private final static String PARAMETER_ID = "id";
-	private final static String PARAMETER_VERSION = "version";
 	private final static String PARAMETER_OCCURTIME = "occurTime";
 	private final static String PARAMETER_LOGGERNAME = "loggerName";
 	private final static String PARAMETER_EXCEPTIONCLASS = "exceptionClass";
@@ -127,24 +124,12 @@ public class Logger {
 			String str = format(message, os);
 			sb.append(str);
 			System.out.println(sb.toString());
-			String loggerName = this.getName();
-			Thread thread = new Thread(new Runnable() {
-				public void run() {
-					try {
-						Map<String, Object> parameters = new HashMap<>();
-						parameters.put(PARAMETER_ID, id);
-						parameters.put(PARAMETER_VERSION, Config.version());
-						parameters.put(PARAMETER_OCCURTIME, DateTools.now());
-						parameters.put(PARAMETER_LOGGERNAME, loggerName);
-						parameters.put(PARAMETER_MESSAGE, str);
-						String url = Config.url_x_program_center_jaxrs("warnlog");
-						CipherConnectionAction.post(false, url, parameters);
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				}
-			});
-			thread.start();
+			Map<String, Object> parameters = new HashMap<>();
+			parameters.put(PARAMETER_ID, id);
+			parameters.put(PARAMETER_OCCURTIME, DateTools.now());
+			parameters.put(PARAMETER_LOGGERNAME, this.getName());
+			parameters.put(PARAMETER_MESSAGE, str);
+			LogShipper.instance().ship(LogShipper.TYPE_WARN, this.getName(), str, parameters);
 		}
 	}
 
@@ -165,31 +150,14 @@ public class Logger {
 			sb.append(stackTraceString);
 		}
 		System.err.println(sb.toString());
-		String loggerName = this.getName();
-		Thread thread = new Thread(new Runnable() {
-			public void run() {
-				try {
-					Map<String, Object> parameters = new HashMap<>();
-					parameters.put(PARAMETER_ID, id);
-					parameters.put(PARAMETER_VERSION, Config.version());
-					parameters.put(PARAMETER_OCCURTIME, DateTools.now());
-					parameters.put(PARAMETER_LOGGERNAME, loggerName);
-					parameters.put(PARAMETER_EXCEPTIONCLASS, e.getClass().getName());
-					parameters.put(PARAMETER_MESSAGE, e.getMessage());
-					parameters.put(PARAMETER_STACKTRACE, stackTraceString);
-					if (e instanceof PromptException) {
-						String url = Config.url_x_program_center_jaxrs("prompterrorlog");
-						CipherConnectionAction.post(false, url, parameters);
-					} else {
-						String url = Config.url_x_program_center_jaxrs("unexpectederrorlog");
-						CipherConnectionAction.post(false, url, parameters);
-					}
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
-			}
-		});
-		thread.start();
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put(PARAMETER_ID, id);
+		parameters.put(PARAMETER_OCCURTIME, DateTools.now());
+		parameters.put(PARAMETER_LOGGERNAME, this.getName());
+		parameters.put(PARAMETER_EXCEPTIONCLASS, e.getClass().getName());
+		parameters.put(PARAMETER_MESSAGE, e.getMessage());
+		parameters.put(PARAMETER_STACKTRACE, stackTraceString);
+		this.ship(e, stackTraceString, parameters);
 	}
 
 	public void error(Exception e, EffectivePerson effectivePerson, HttpServletRequest request, JsonElement body) {
@@ -209,40 +177,33 @@ public class Logger {
 			sb.append(stackTraceString);
 		}
 		System.err.println(sb.toString());
-		String loggerName = this.getName();
-		Thread thread = new Thread(new Runnable() {
-			public void run() {
-				try {
-					Map<String, Object> parameters = new HashMap<>();
-					parameters.put(PARAMETER_ID, id);
-					parameters.put(PARAMETER_VERSION, Config.version());
-					parameters.put(PARAMETER_OCCURTIME, DateTools.now());
-					parameters.put(PARAMETER_LOGGERNAME, loggerName);
-					parameters.put(PARAMETER_EXCEPTIONCLASS, e.getClass().getName());
-					parameters.put(PARAMETER_MESSAGE, e.getMessage());
-					parameters.put(PARAMETER_STACKTRACE, stackTraceString);
-					parameters.put(PARAMETER_PERSON,
-							(null == effectivePerson) ? null : effectivePerson.getDistinguishedName());
-					parameters.put(PARAMETER_REQUESTURL, requestUrl);
-					parameters.put(PARAMETER_REQUESTMETHOD, request.getMethod());
-					parameters.put(PARAMETER_REQUESTREMOTEADDR, request.getRemoteAddr());
-					parameters.put(PARAMETER_REQUESTHOST, request.getRemoteHost());
-					parameters.put(PARAMETER_REQUESTHEAD, headString);
-					parameters.put(PARAMETER_REQUESTBODY, bodyString);
-					parameters.put(PARAMETER_REQUESTBODYLENGTH, bodyString.length());
-					if (e instanceof PromptException) {
-						String url = Config.url_x_program_center_jaxrs("prompterrorlog");
-						CipherConnectionAction.post(false, url, parameters);
-					} else {
-						String url = Config.url_x_program_center_jaxrs("unexpectederrorlog");
-						CipherConnectionAction.post(false, url, parameters);
-					}
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
-			}
-		});
-		thread.start();
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put(PARAMETER_ID, id);
+		parameters.put(PARAMETER_OCCURTIME, DateTools.now());
+		parameters.put(PARAMETER_LOGGERNAME, this.getName());
+		parameters.put(PARAMETER_EXCEPTIONCLASS, e.getClass().getName());
+		parameters.put(PARAMETER_MESSAGE, e.getMessage());
+		parameters.put(PARAMETER_STACKTRACE, stackTraceString);
+		parameters.put(PARAMETER_PERSON, (null == effectivePerson) ? null : effectivePerson.getDistinguishedName());
+		parameters.put(PARAMETER_REQUESTURL, requestUrl);
+		parameters.put(PARAMETER_REQUESTMETHOD, request.getMethod());
+		parameters.put(PARAMETER_REQUESTREMOTEADDR, request.getRemoteAddr());
+		parameters.put(PARAMETER_REQUESTHOST, request.getRemoteHost());
+		parameters.put(PARAMETER_REQUESTHEAD, headString);
+		parameters.put(PARAMETER_REQUESTBODY, bodyString);
+		parameters.put(PARAMETER_REQUESTBODYLENGTH, bodyString.length());
+		this.ship(e, stackTraceString, parameters);
+	}
+
+	/* 相同的堆栈在发送时合并 */
+	private void ship(Exception e, String stackTraceString, Map<String, Object> parameters) {
+		if (e instanceof PromptException) {
+			LogShipper.instance().ship(LogShipper.TYPE_PROMPTERROR, this.getName(),
+					e.getClass().getName() + stackTraceString, parameters);
+		} else {
+			LogShipper.instance().ship(LogShipper.TYPE_UNEXPECTEDERROR, this.getName(),
+					e.getClass().getName() + stackTraceString, parameters);
+		}
 	}
 
 	private void log(String logLevel, String message, Object... os) {
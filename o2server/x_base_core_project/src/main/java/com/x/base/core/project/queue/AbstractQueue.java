@@ -1,37 +1,95 @@
 package com.x.base.core.project.queue;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.google.gson.Gson;
 import com.x.base.core.project.gson.XGsonBuilder;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
 
+/**
+ * 队列,默认不限容量,不去重,发送方不会等待,与原有行为一致.以下能力由子类在start之前按需启用:
+ *
+ * initDeduplicate: 等待中的元素按key()去重,重复发送时使用新的元素替换等待中的元素并保持原有位置,contains为O(1).
+ * initCapacity: 限制等待中元素的数量,队列满时按照溢出策略处理.
+ * 在execute中向同一队列发送(由执行线程发送)时不会等待,允许超出容量,避免执行线程等待自己释放空间造成死锁.
+ * 通过initCoalesce启用合并模式后,相同键的等待元素通过merge合并,并且元素在进入队列后至少等待一个刷新间隔再执行,
+ * 使同一对象的多次更新合并为一次执行.
+ */
 public abstract class AbstractQueue<T> {
 
 	private static Logger logger = LoggerFactory.getLogger(AbstractQueue.class);
 
 	private static Gson gson = XGsonBuilder.instance();
 
-	private LinkedBlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+	/** initCapacity没有指定容量时使用的容量 */
+	public static final int DEFAULT_CAPACITY = 100000;
+
+	/* 已经启动的队列,用于汇总统计 */
+	private static final Map<String, AbstractQueue<?>> QUEUES = new ConcurrentHashMap<>();
+
+	public enum OverflowPolicy {
+		/** 队列满时发送方等待 */
+		BLOCK,
+		/** 队列满时丢弃最早进入的元素 */
+		DROP_OLDEST,
+		/** 按照key()通过merge合并等待中的元素,队列满时发送方等待 */
+		COALESCE
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition notEmpty = lock.newCondition();
+
+	private final Condition notFull = lock.newCondition();
+
+	/* 等待执行的元素,保持进入顺序.去重时以key为键,否则每个元素使用单独的键 */
+	private final LinkedHashMap<Object, Pending<T>> pendings = new LinkedHashMap<>();
+
+	/* 执行中的元素key及数量 */
+	private final Map<Object, Integer> executings = new ConcurrentHashMap<>();
 
 	private volatile boolean turn = false;
 
 	private Integer fixedSize = 1;
 
+	private int capacity = Integer.MAX_VALUE;
+
+	private boolean deduplicate = false;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	/* 合并模式下元素进入队列后到可以执行的最短时间,毫秒 */
+	private long flushInterval = 0;
+
 	private String className = this.getClass().getName();
 
-	private List<Object> executings = new CopyOnWriteArrayList<>();
+	private QueueStatistic statistic = new QueueStatistic(className);
+
+	/* 控制同时在执行的数量,避免元素离开队列后堆积在线程池内部的无界队列中 */
+	private Semaphore permits;
+
+	/* 当前线程正在执行本队列的元素 */
+	private final ThreadLocal<Boolean> consuming = new ThreadLocal<>();
 
 	public boolean executing(T t) {
 		if (null == t) {
 			return false;
 		} else {
-			return executings.contains(t);
+			return executings.containsKey(this.key(t));
 		}
 	}
 
@@ -39,8 +97,22 @@ public abstract class AbstractQueue<T> {
 		if (null == t) {
 			return false;
 		}
-		if (this.queue.contains(t)) {
-			return true;
+		Object key = this.key(t);
+		lock.lock();
+		try {
+			if (deduplicate) {
+				if (this.pendings.containsKey(key)) {
+					return true;
+				}
+			} else {
+				for (Pending<T> o : this.pendings.values()) {
+					if (Objects.equals(key, o.key)) {
+						return true;
+					}
+				}
+			}
+		} finally {
+			lock.unlock();
 		}
 		return this.executing(t);
 	}
@@ -56,7 +128,7 @@ public abstract class AbstractQueue<T> {
 
 	/**
 	 * 初始化一个定长线程池
-	 * 
+	 *
 	 * @param count
 	 * @throws Exception
 	 */
@@ -69,8 +141,145 @@ public abstract class AbstractQueue<T> {
 		logger.info(className + " new fixed thread pool with max thread count : " + count);
 	}
 
+	/**
+	 * 设置队列容量和溢出策略,需要在start之前调用
+	 *
+	 * @param capacity       等待中元素的最大数量
+	 * @param overflowPolicy 队列满时的处理策略
+	 */
+	public void initCapacity(Integer capacity, OverflowPolicy overflowPolicy) {
+		this.capacity = (null == capacity || capacity < 1) ? DEFAULT_CAPACITY : capacity;
+		this.overflowPolicy = (null == overflowPolicy) ? OverflowPolicy.BLOCK : overflowPolicy;
+		logger.info("queue class: {} capacity: {}, overflow policy: {}.", className, this.capacity,
+				this.overflowPolicy);
+	}
+
+	/**
+	 * 启用去重,等待中相同key()的元素只保留最新发送的一个,需要在start之前调用
+	 */
+	public void initDeduplicate() {
+		this.deduplicate = true;
+		logger.info("queue class: {} deduplicate.", className);
+	}
+
+	/**
+	 * 启用合并模式,同时启用去重,需要在start之前调用
+	 *
+	 * @param capacity      等待中元素的最大数量
+	 * @param flushInterval 元素进入队列后至少等待的毫秒数,期间相同键的元素都合并到一起
+	 */
+	public void initCoalesce(Integer capacity, Long flushInterval) {
+		this.initCapacity(capacity, OverflowPolicy.COALESCE);
+		this.initDeduplicate();
+		this.flushInterval = (null == flushInterval || flushInterval < 0) ? 0 : flushInterval;
+		logger.info("queue class: {} coalesce with flush interval: {}ms.", className, this.flushInterval);
+	}
+
+	/**
+	 * 去重和判断是否在执行使用的键,默认为元素本身,即按照equals判断.使用COALESCE策略时可以返回更粗粒度的键.
+	 */
+	protected Object key(T t) {
+		return t;
+	}
+
+	/**
+	 * 合并模式下将新元素合并到等待中的相同键元素,默认使用新元素.在队列锁内调用,不应有耗时操作.
+	 *
+	 * @param pending 等待中的元素
+	 * @param t       新发送的元素
+	 * @return 合并后的元素
+	 */
+	protected T merge(T pending, T t) {
+		return t;
+	}
+
 	public void send(T t) throws Exception {
-		queue.put(t);
+		if (null == t) {
+			return;
+		}
+		Object key = this.key(t);
+		lock.lockInterruptibly();
+		try {
+			Pending<T> exist = deduplicate ? pendings.get(key) : null;
+			if (null != exist) {
+				exist.value = (overflowPolicy == OverflowPolicy.COALESCE) ? this.merge(exist.value, t) : t;
+				statistic.deduplicated();
+				return;
+			}
+			while (pendings.size() >= capacity) {
+				if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+					Iterator<Pending<T>> iterator = pendings.values().iterator();
+					Pending<T> eldest = iterator.next();
+					iterator.remove();
+					statistic.dropped();
+					logger.warn("queue class: {} is full, drop message: {}.", className, gson.toJson(eldest.value));
+				} else if (Boolean.TRUE.equals(consuming.get())) {
+					/* 执行线程等待会使队列无法被取出,直接超出容量放入 */
+					logger.debug("queue class: {} is full, reentrant send from execute exceeds capacity.", className);
+					break;
+				} else {
+					statistic.blocked();
+					notFull.await();
+				}
+			}
+			pendings.put(deduplicate ? key : new Object(), new Pending<>(key, t));
+			statistic.sent();
+			statistic.depth(pendings.size());
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Pending<T> take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (turn) {
+				if (pendings.isEmpty()) {
+					notEmpty.await();
+				} else {
+					long wait = (overflowPolicy == OverflowPolicy.COALESCE)
+							? pendings.values().iterator().next().time + flushInterval - System.currentTimeMillis()
+							: 0;
+					if (wait <= 0) {
+						break;
+					}
+					notEmpty.await(wait, TimeUnit.MILLISECONDS);
+				}
+			}
+			if (!turn) {
+				return null;
+			}
+			Iterator<Pending<T>> iterator = pendings.values().iterator();
+			Pending<T> pending = iterator.next();
+			iterator.remove();
+			/* 在释放锁之前标记为执行中,保证contains不会遗漏 */
+			executings.merge(pending.key, 1, Integer::sum);
+			statistic.depth(pendings.size());
+			notFull.signal();
+			return pending;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void process(Pending<T> pending) {
+		long start = System.currentTimeMillis();
+		boolean success = false;
+		statistic.begin(start - pending.time);
+		consuming.set(Boolean.TRUE);
+		try {
+			logger.debug("queue class: {} execute on message: {}.", className, gson.toJson(pending.value));
+			execute(pending.value);
+			success = true;
+		} catch (Exception e) {
+			e.printStackTrace();
+		} finally {
+			consuming.remove();
+			statistic.end(System.currentTimeMillis() - start, success);
+			executings.computeIfPresent(pending.key, (k, v) -> (v > 1) ? v - 1 : null);
+			permits.release();
+		}
 	}
 
 	public void start() {
@@ -78,37 +287,37 @@ public abstract class AbstractQueue<T> {
 			return;
 		}
 		turn = true;
+		permits = new Semaphore(fixedSize);
 		executorService = Executors.newFixedThreadPool(fixedSize);
+		statistic.config(capacity, overflowPolicy.name());
+		QUEUES.put(className, this);
 		new Thread() {
 			public void run() {
-				Object o = null;
 				while (turn) {
 					try {
-						o = queue.take();
-						if (null != o) {
-							executings.add(o);
-							if (o instanceof StopSignal) {
-								turn = false;
+						permits.acquire();
+						Pending<T> pending = take();
+						if (null == pending) {
+							permits.release();
+							break;
+						}
+						// 从线程池中获取空闲线程执行QueueProcessThread操作
+						if (fixedSize <= 1) {
+							process(pending);
+						} else {
+							try {
+								executorService.execute(new QueueProcessThread<>(abstractQueue, pending));
+							} catch (RejectedExecutionException e) {
+								executings.computeIfPresent(pending.key, (k, v) -> (v > 1) ? v - 1 : null);
+								permits.release();
 								break;
 							}
-							logger.debug("queue class: {} execute on message: {}.", className, gson.toJson(o));
-							// 从线程池中获取空闲线程执行QueueProcessThread操作
-							if (fixedSize <= 1) {
-								execute((T) o);
-							} else {
-								executorService.execute(new QueueProcessThread(abstractQueue, o));
-							}
 						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						break;
 					} catch (Exception e) {
 						e.printStackTrace();
-					} finally {
-						try {
-							if (null != o) {
-								executings.remove(o);
-							}
-						} catch (Exception e) {
-							e.printStackTrace();
-						}
 					}
 				}
 			}
@@ -121,8 +330,17 @@ public abstract class AbstractQueue<T> {
 
 	public void stop() {
 		try {
-			this.queue.clear();
-			queue.put(new StopSignal());
+			lock.lock();
+			try {
+				this.pendings.clear();
+				statistic.depth(0);
+				turn = false;
+				notEmpty.signalAll();
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+			QUEUES.remove(className, this);
 			logger.info("queue class: {} stop.", className);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -134,9 +352,38 @@ public abstract class AbstractQueue<T> {
 	}
 
 	public Boolean isEmpty() {
-		return this.queue.isEmpty();
+		lock.lock();
+		try {
+			return this.pendings.isEmpty();
+		} finally {
+			lock.unlock();
+		}
 	}
 
-	private static class StopSignal {
+	public QueueStatistic statistic() {
+		return this.statistic;
+	}
+
+	/** 当前已经启动的全部队列的统计 */
+	public static List<QueueStatistic> statistics() {
+		List<QueueStatistic> list = new ArrayList<>();
+		for (AbstractQueue<?> o : QUEUES.values()) {
+			list.add(o.statistic());
+		}
+		return list;
+	}
+
+	static class Pending<T> {
+
+		private final Object key;
+
+		private final long time = System.currentTimeMillis();
+
+		private T value;
+
+		private Pending(Object key, T value) {
+			this.key = key;
+			this.value = value;
+		}
 	}
 }
@@ -0,0 +1,152 @@
+package com.x.base.core.project.queue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 队列的运行统计,计数在运行期间累加,深度和执行中数量为当前值.
+ */
+public class QueueStatistic {
+
+	private String name;
+
+	private long startTime = System.currentTimeMillis();
+
+	private volatile int capacity;
+
+	private volatile String overflowPolicy;
+
+	private volatile int depth = 0;
+
+	private AtomicInteger executing = new AtomicInteger(0);
+
+	private AtomicLong sent = new AtomicLong(0);
+
+	private AtomicLong deduplicated = new AtomicLong(0);
+
+	private AtomicLong dropped = new AtomicLong(0);
+
+	private AtomicLong blocked = new AtomicLong(0);
+
+	private AtomicLong executed = new AtomicLong(0);
+
+	private AtomicLong failed = new AtomicLong(0);
+
+	private AtomicLong waitTime = new AtomicLong(0);
+
+	private AtomicLong maxWaitTime = new AtomicLong(0);
+
+	private AtomicLong executeTime = new AtomicLong(0);
+
+	public QueueStatistic(String name) {
+		this.name = name;
+	}
+
+	void config(int capacity, String overflowPolicy) {
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	void depth(int depth) {
+		this.depth = depth;
+	}
+
+	void sent() {
+		this.sent.incrementAndGet();
+	}
+
+	void deduplicated() {
+		this.deduplicated.incrementAndGet();
+	}
+
+	void dropped() {
+		this.dropped.incrementAndGet();
+	}
+
+	void blocked() {
+		this.blocked.incrementAndGet();
+	}
+
+	void begin(long wait) {
+		this.executing.incrementAndGet();
+		this.waitTime.addAndGet(wait);
+		this.maxWaitTime.accumulateAndGet(wait, Math::max);
+	}
+
+	void end(long elapsed, boolean success) {
+		this.executing.decrementAndGet();
+		this.executeTime.addAndGet(elapsed);
+		if (success) {
+			this.executed.incrementAndGet();
+		} else {
+			this.failed.incrementAndGet();
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Integer getCapacity() {
+		return capacity;
+	}
+
+	public String getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	public Integer getDepth() {
+		return depth;
+	}
+
+	public Integer getExecuting() {
+		return executing.get();
+	}
+
+	public Long getSent() {
+		return sent.get();
+	}
+
+	public Long getDeduplicated() {
+		return deduplicated.get();
+	}
+
+	public Long getDropped() {
+		return dropped.get();
+	}
+
+	public Long getBlocked() {
+		return blocked.get();
+	}
+
+	public Long getExecuted() {
+		return executed.get();
+	}
+
+	public Long getFailed() {
+		return failed.get();
+	}
+
+	/** 从进入队列到开始执行的平均等待时间,毫秒 */
+	public Long getAverageWaitTime() {
+		long count = executed.get() + failed.get() + executing.get();
+		return (count == 0) ? 0L : waitTime.get() / count;
+	}
+
+	public Long getMaxWaitTime() {
+		return maxWaitTime.get();
+	}
+
+	/** 平均执行时间,毫秒 */
+	public Long getAverageExecuteTime() {
+		long count = executed.get() + failed.get();
+		return (count == 0) ? 0L : executeTime.get() / count;
+	}
+
+	/** 启动以来每秒完成的数量 */
+	public Double getThroughput() {
+		long elapsed = System.currentTimeMillis() - startTime;
+		return (elapsed <= 0) ? 0d : (executed.get() + failed.get()) * 1000d / elapsed;
+	}
+
+}
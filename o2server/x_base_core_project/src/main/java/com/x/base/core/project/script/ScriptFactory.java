@@ -2,21 +2,31 @@ package com.x.base.core.project.script;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.script.Bindings;
 import javax.script.Compilable;
 import javax.script.CompiledScript;
+import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.BooleanUtils;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.x.base.core.entity.JpaObject;
+import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.tools.PropertyTools;
 
@@ -35,6 +45,44 @@ public class ScriptFactory {
 	private static CompiledScript COMPILEDSCRIPT_INITIALSERVICESCRIPTTEXT;
 	private static CompiledScript COMPILEDSCRIPT_INITIALSCRIPTTEXT;
 
+	/* 编译缓存的最大数量,超过后移除最久没有使用的脚本 */
+	private static final int MAX_COMPILEDS = 2000;
+
+	@SuppressWarnings("serial")
+	private static final Map<String, Compiled> COMPILEDS = Collections
+			.synchronizedMap(new LinkedHashMap<String, Compiled>(256, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Compiled> eldest) {
+					return size() > MAX_COMPILEDS;
+				}
+			});
+
+	/* 统计的最大数量,超过后移除最久没有使用的脚本统计 */
+	private static final int MAX_STATISTICS = 2000;
+
+	@SuppressWarnings("serial")
+	private static final Map<String, ScriptStatistic> STATISTICS = Collections
+			.synchronizedMap(new LinkedHashMap<String, ScriptStatistic>(256, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, ScriptStatistic> eldest) {
+					return size() > MAX_STATISTICS;
+				}
+			});
+
+	private static final int MAX_IDLE_ENGINES = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private static final Queue<ScriptEngine> IDLE_ENGINES = new ConcurrentLinkedQueue<>();
+
+	/* 每个引擎中缓存的函数数量上限 */
+	private static final int MAX_ENGINE_FUNCTIONS = 200;
+
+	/* 池中引擎的状态,包括初始化完成后的全局变量和引擎内编译的函数 */
+	private static final Map<ScriptEngine, EngineState> ENGINE_STATES = new ConcurrentHashMap<>();
+
+	static {
+		CacheManager.addReceiveListener(wi -> wi.getKeys().forEach(o -> invalidate(Objects.toString(o))));
+	}
+
 	public static final String BINDING_NAME_RESOURCES = "resources";
 	public static final String BINDING_NAME_EFFECTIVEPERSON = "effectivePerson";
 	public static final String BINDING_NAME_WORKCONTEXT = "workContext";
@@ -84,6 +132,143 @@ public class ScriptFactory {
 		return ((Compilable) scriptEngine).compile(text);
 	}
 
+	/**
+	 * 从编译缓存获取脚本,缓存按照id保存,内容摘要不一致时重新编译.
+	 *
+	 * @param id   脚本标识,如脚本,查询语句等对象的id
+	 * @param text 脚本内容
+	 */
+	public static CompiledScript compile(String id, String text) throws Exception {
+		String digest = DigestUtils.md5Hex(Objects.toString(text, ""));
+		ScriptStatistic statistic = statistic(id);
+		Compiled compiled = COMPILEDS.get(id);
+		if ((null != compiled) && compiled.digest.equals(digest)) {
+			statistic.hit();
+			return compiled.compiledScript;
+		}
+		long start = System.nanoTime();
+		CompiledScript compiledScript = compile(text);
+		statistic.compiled(System.nanoTime() - start);
+		COMPILEDS.put(id, new Compiled(digest, compiledScript));
+		return compiledScript;
+	}
+
+	/**
+	 * 使用编译缓存执行脚本并记录执行时间.
+	 */
+	public static Object eval(String id, String text, ScriptContext scriptContext) throws Exception {
+		CompiledScript compiledScript = compile(id, text);
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			Object o = compiledScript.eval(scriptContext);
+			success = true;
+			return o;
+		} finally {
+			statistic(id).evaluated(System.nanoTime() - start, success);
+		}
+	}
+
+	/** 移除编译缓存,包括以"id."开头的脚本,设计保存时通过缓存清除请求调用 */
+	public static void invalidate(String id) {
+		String prefix = id + ".";
+		synchronized (COMPILEDS) {
+			COMPILEDS.keySet().removeIf(o -> o.equals(id) || o.startsWith(prefix));
+		}
+	}
+
+	public static List<ScriptStatistic> statistics() {
+		synchronized (STATISTICS) {
+			return new ArrayList<>(STATISTICS.values());
+		}
+	}
+
+	private static ScriptStatistic statistic(String id) {
+		return STATISTICS.computeIfAbsent(id, ScriptStatistic::new);
+	}
+
+	/**
+	 * 从引擎池获取已经加载了mooTools的引擎,使用后通过returnScriptEngine归还.
+	 */
+	public static ScriptEngine borrowScriptEngine() throws Exception {
+		ScriptEngine engine = IDLE_ENGINES.poll();
+		if (null == engine) {
+			engine = newScriptEngine();
+			engine.eval(Config.mooToolsScriptText());
+			ENGINE_STATES.put(engine,
+					new EngineState(new HashMap<>(engine.getBindings(ScriptContext.ENGINE_SCOPE))));
+		}
+		return engine;
+	}
+
+	/**
+	 * 归还引擎,按照初始化完成时的快照恢复全局变量:删除新增的,恢复被修改或者删除的.空闲引擎超过上限时丢弃.
+	 */
+	public static void returnScriptEngine(ScriptEngine engine) {
+		if (null == engine) {
+			return;
+		}
+		EngineState state = ENGINE_STATES.get(engine);
+		if ((null == state) || (IDLE_ENGINES.size() >= MAX_IDLE_ENGINES)) {
+			ENGINE_STATES.remove(engine);
+			return;
+		}
+		Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
+		for (String name : new ArrayList<>(bindings.keySet())) {
+			if (!state.snapshot.containsKey(name)) {
+				bindings.remove(name);
+			}
+		}
+		for (Map.Entry<String, Object> entry : state.snapshot.entrySet()) {
+			if (!Objects.equals(bindings.get(entry.getKey()), entry.getValue())) {
+				bindings.put(entry.getKey(), entry.getValue());
+			}
+		}
+		IDLE_ENGINES.offer(engine);
+	}
+
+	/**
+	 * 在从引擎池获取的引擎中编译函数表达式,同一个引擎中相同内容的函数只编译一次,之后直接调用.
+	 *
+	 * CompiledScript绑定编译时的引擎,所以函数缓存在引擎上,随引擎一起复用.
+	 *
+	 * @param engine 通过borrowScriptEngine获取的引擎
+	 * @param id     统计使用的脚本标识
+	 * @param text   函数表达式,如(function(a){...})
+	 */
+	public static ScriptObjectMirror function(ScriptEngine engine, String id, String text) throws Exception {
+		String digest = DigestUtils.md5Hex(Objects.toString(text, ""));
+		ScriptStatistic statistic = statistic(id);
+		EngineState state = ENGINE_STATES.get(engine);
+		ScriptObjectMirror function = (null == state) ? null : state.functions.get(digest);
+		if (null != function) {
+			statistic.hit();
+			return function;
+		}
+		long start = System.nanoTime();
+		function = (ScriptObjectMirror) engine.eval(text);
+		statistic.compiled(System.nanoTime() - start);
+		if (null != state) {
+			state.functions.put(digest, function);
+		}
+		return function;
+	}
+
+	/**
+	 * 调用function编译的函数并记录执行时间.
+	 */
+	public static Object call(String id, ScriptObjectMirror function, Object... args) {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			Object o = function.call(null, args);
+			success = true;
+			return o;
+		} finally {
+			statistic(id).evaluated(System.nanoTime() - start, success);
+		}
+	}
+
 	public static CompiledScript initialScriptText() throws Exception {
 		if (COMPILEDSCRIPT_INITIALSCRIPTTEXT == null) {
 			synchronized (ScriptFactory.class) {
@@ -311,4 +496,35 @@ public class ScriptFactory {
 		return list;
 	}
 
+	private static class EngineState {
+
+		/* 初始化完成后的全局变量 */
+		private final Map<String, Object> snapshot;
+
+		@SuppressWarnings("serial")
+		private final Map<String, ScriptObjectMirror> functions = Collections
+				.synchronizedMap(new LinkedHashMap<String, ScriptObjectMirror>(16, 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<String, ScriptObjectMirror> eldest) {
+						return size() > MAX_ENGINE_FUNCTIONS;
+					}
+				});
+
+		private EngineState(Map<String, Object> snapshot) {
+			this.snapshot = snapshot;
+		}
+	}
+
+	private static class Compiled {
+
+		private final String digest;
+
+		private final CompiledScript compiledScript;
+
+		private Compiled(String digest, CompiledScript compiledScript) {
+			this.digest = digest;
+			this.compiledScript = compiledScript;
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.x.base.core.project.script;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个脚本的编译和执行统计,时间单位为毫秒.
+ */
+public class ScriptStatistic {
+
+	private String name;
+
+	private AtomicLong hit = new AtomicLong(0);
+
+	private AtomicLong compiled = new AtomicLong(0);
+
+	private AtomicLong compileNanos = new AtomicLong(0);
+
+	private AtomicLong evaluated = new AtomicLong(0);
+
+	private AtomicLong failed = new AtomicLong(0);
+
+	private AtomicLong evalNanos = new AtomicLong(0);
+
+	private AtomicLong maxEvalNanos = new AtomicLong(0);
+
+	public ScriptStatistic(String name) {
+		this.name = name;
+	}
+
+	void hit() {
+		this.hit.incrementAndGet();
+	}
+
+	void compiled(long nanos) {
+		this.compiled.incrementAndGet();
+		this.compileNanos.addAndGet(nanos);
+	}
+
+	void evaluated(long nanos, boolean success) {
+		this.evaluated.incrementAndGet();
+		if (!success) {
+			this.failed.incrementAndGet();
+		}
+		this.evalNanos.addAndGet(nanos);
+		this.maxEvalNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Long getHit() {
+		return hit.get();
+	}
+
+	public Long getCompiled() {
+		return compiled.get();
+	}
+
+	/** 编译缓存命中率 */
+	public Double getHitRate() {
+		long h = hit.get();
+		long total = h + compiled.get();
+		return (total == 0) ? 0d : ((double) h) / total;
+	}
+
+	public Double getAverageCompileTime() {
+		long c = compiled.get();
+		return (c == 0) ? 0d : compileNanos.get() / 1000000d / c;
+	}
+
+	public Long getEvaluated() {
+		return evaluated.get();
+	}
+
+	public Long getFailed() {
+		return failed.get();
+	}
+
+	public Double getAverageEvalTime() {
+		long c = evaluated.get();
+		return (c == 0) ? 0d : evalNanos.get() / 1000000d / c;
+	}
+
+	public Double getMaxEvalTime() {
+		return maxEvalNanos.get() / 1000000d;
+	}
+
+}
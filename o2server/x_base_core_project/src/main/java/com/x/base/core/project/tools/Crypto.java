@@ -3,13 +3,16 @@ package com.x.base.core.project.tools;
 import java.io.ByteArrayOutputStream;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
-import java.security.SecureRandom;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 
 import javax.crypto.Cipher;
@@ -39,6 +42,19 @@ public class Crypto {
 
 	private static final String NEVERCHANGEKEY = "NEVERCHANGEKEY";
 
+	private static final int MAX_DES_KEYS = 64;
+
+	private static final Map<String, SecretKey> DES_KEYS = new ConcurrentHashMap<>();
+
+	/* Cipher不是线程安全的,每个线程保留一个实例,使用前按密钥和模式重新初始化 */
+	private static final ThreadLocal<Cipher> DES_CIPHER = ThreadLocal.withInitial(() -> {
+		try {
+			return Cipher.getInstance(DES);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
 	public static String encrypt(String data, String key) throws Exception {
 		byte[] bt = encrypt(data.getBytes(), key.getBytes());
 		String str = Base64.encodeBase64URLSafeString(bt);
@@ -46,17 +62,10 @@ public class Crypto {
 	}
 
 	public static byte[] encrypt(byte[] data, byte[] key) throws Exception {
-		// 生成一个可信任的随机数源
-		SecureRandom sr = new SecureRandom();
-		// 从原始密钥数据创建DESKeySpec对象
-		DESKeySpec dks = new DESKeySpec(key);
-		// 创建一个密钥工厂，然后用它把DESKeySpec转换成SecretKey对象
-		SecretKeyFactory keyFactory = SecretKeyFactory.getInstance(DES);
-		SecretKey securekey = keyFactory.generateSecret(dks);
-		// Cipher对象实际完成加密操作
-		Cipher cipher = Cipher.getInstance(DES);
+		// Cipher对象实际完成加密操作,每个线程复用同一个实例
+		Cipher cipher = DES_CIPHER.get();
 		// 用密钥初始化Cipher对象
-		cipher.init(Cipher.ENCRYPT_MODE, securekey, sr);
+		cipher.init(Cipher.ENCRYPT_MODE, desKey(key));
 		return cipher.doFinal(data);
 	}
 
@@ -71,20 +80,32 @@ public class Crypto {
 	}
 
 	public static byte[] decrypt(byte[] data, byte[] key) throws Exception {
-		// 生成一个可信任的随机数源
-		SecureRandom sr = new SecureRandom();
-		// 从原始密钥数据创建DESKeySpec对象
-		DESKeySpec dks = new DESKeySpec(key);
-		// 创建一个密钥工厂，然后用它把DESKeySpec转换成SecretKey对象
-		SecretKeyFactory keyFactory = SecretKeyFactory.getInstance(DES);
-		SecretKey securekey = keyFactory.generateSecret(dks);
-		// Cipher对象实际完成解密操作
-		Cipher cipher = Cipher.getInstance(DES);
+		// Cipher对象实际完成解密操作,每个线程复用同一个实例
+		Cipher cipher = DES_CIPHER.get();
 		// 用密钥初始化Cipher对象
-		cipher.init(Cipher.DECRYPT_MODE, securekey, sr);
+		cipher.init(Cipher.DECRYPT_MODE, desKey(key));
 		return cipher.doFinal(data);
 	}
 
+	/**
+	 * 从原始密钥数据生成SecretKey,生成后缓存,使用的密钥只有少数几个,超过上限时不再缓存.
+	 */
+	private static SecretKey desKey(byte[] key) throws Exception {
+		String name = new String(key, StandardCharsets.ISO_8859_1);
+		SecretKey secretKey = DES_KEYS.get(name);
+		if (null == secretKey) {
+			// 从原始密钥数据创建DESKeySpec对象
+			DESKeySpec dks = new DESKeySpec(key);
+			// 创建一个密钥工厂，然后用它把DESKeySpec转换成SecretKey对象
+			SecretKeyFactory keyFactory = SecretKeyFactory.getInstance(DES);
+			secretKey = keyFactory.generateSecret(dks);
+			if (DES_KEYS.size() < MAX_DES_KEYS) {
+				DES_KEYS.put(name, secretKey);
+			}
+		}
+		return secretKey;
+	}
+
 	public static PublicKey rsaPublicKey(String publicKey) throws Exception {
 		byte[] keyBytes = Base64.decodeBase64(publicKey);
 		X509EncodedKeySpec keySpec = new X509EncodedKeySpec(keyBytes);
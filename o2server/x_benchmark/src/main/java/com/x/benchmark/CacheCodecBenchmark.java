@@ -0,0 +1,122 @@
+package com.x.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.x.base.core.project.cache.Cache.CacheCodec;
+import com.x.base.core.project.cache.CacheRedisImpl;
+import com.x.base.core.project.gson.GsonPropertyObject;
+
+/**
+ * 缓存编码对比:java序列化与二进制编码,分别测试单个对象,对象列表,以及退回到java序列化的非简单类型对象.<br/>
+ * 同时输出编码后的字节数,用于比较redis中的占用.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+	@Param({ "java", "binary" })
+	private String codecName;
+
+	@Param({ "object", "list", "nested" })
+	private String valueType;
+
+	private CacheCodec codec;
+
+	private Object value;
+
+	private byte[] bytes;
+
+	@Setup
+	public void setup() throws Exception {
+		codec = CacheRedisImpl.codec(codecName);
+		switch (valueType) {
+		case "list":
+			List<FlatObject> list = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				list.add(new FlatObject(i));
+			}
+			value = list;
+			break;
+		case "nested":
+			value = new NestedObject();
+			break;
+		default:
+			value = new FlatObject(0);
+			break;
+		}
+		bytes = codec.encode(value);
+		System.out.println(codecName + " " + valueType + " encoded size:" + bytes.length + ".");
+	}
+
+	@Benchmark
+	public byte[] encode() throws Exception {
+		return codec.encode(value);
+	}
+
+	@Benchmark
+	public Object decode() throws Exception {
+		return codec.decode(bytes);
+	}
+
+	public static class FlatObject extends GsonPropertyObject {
+
+		private static final long serialVersionUID = 1L;
+
+		private String id;
+		private String name;
+		private String distinguishedName;
+		private Integer orderNumber;
+		private Boolean enable;
+		private Date createTime;
+		private List<String> controllerList;
+
+		public FlatObject() {
+		}
+
+		FlatObject(int i) {
+			this.id = "0f3e8a0b-2a5c-4f7e-9d7e-" + i;
+			this.name = "名称" + i;
+			this.distinguishedName = "名称" + i + "@" + this.id + "@P";
+			this.orderNumber = i;
+			this.enable = true;
+			this.createTime = new Date();
+			this.controllerList = Arrays.asList("张三@zhangsan@P", "李四@lisi@P");
+		}
+	}
+
+	public static class NestedObject extends GsonPropertyObject {
+
+		private static final long serialVersionUID = 1L;
+
+		private String id = "nested";
+		private Map<String, Object> properties = new HashMap<>();
+		private FlatObject flat = new FlatObject(0);
+
+		public NestedObject() {
+			properties.put("count", 1);
+			properties.put("date", new Date());
+		}
+	}
+}
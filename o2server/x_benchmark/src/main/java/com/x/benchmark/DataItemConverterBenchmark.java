@@ -0,0 +1,102 @@
+package com.x.benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.x.base.core.entity.dataitem.DataItemConverter;
+import com.x.query.core.entity.Item;
+
+/**
+ * 业务数据拆分和比较:从JsonElement和从流拆分,按路径diff与原有的两次subtract比较.<br/>
+ * 当前数据在已有数据基础上修改约5%的值,并增加和删除少量字段.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataItemConverterBenchmark {
+
+	/* 顶层字段数量,每个字段下包含一个对象和一个数组 */
+	@Param({ "50", "500" })
+	private int fieldCount;
+
+	private DataItemConverter<Item> converter;
+
+	private JsonElement data;
+
+	private String json;
+
+	private List<Item> exists;
+
+	private List<Item> currents;
+
+	@Setup
+	public void setup() throws Exception {
+		converter = new DataItemConverter<>(Item.class);
+		data = this.data(0);
+		json = data.toString();
+		exists = converter.disassemble(data);
+		currents = converter.disassemble(this.data(20));
+	}
+
+	/* 每隔modulus个字段修改一个值,并改变最后一个字段的名称,modulus为0时不修改 */
+	private JsonElement data(int modulus) {
+		JsonObject root = new JsonObject();
+		for (int i = 0; i < fieldCount; i++) {
+			boolean modify = (modulus > 0) && (i % modulus == 0);
+			JsonObject o = new JsonObject();
+			o.addProperty("name", "名称" + i);
+			o.addProperty("value", modify ? i + 1 : i);
+			o.addProperty("enable", i % 2 == 0);
+			o.addProperty("person", "张三@zhangsan@P");
+			JsonArray array = new JsonArray();
+			for (int j = 0; j < 5; j++) {
+				array.add("选项" + j);
+			}
+			o.add("options", array);
+			String name = ((modulus > 0) && (i == fieldCount - 1)) ? "renamed" : "field" + i;
+			root.add(name, o);
+		}
+		return root;
+	}
+
+	@Benchmark
+	public List<Item> disassembleElement() throws Exception {
+		return converter.disassemble(data);
+	}
+
+	@Benchmark
+	public List<Item> disassembleReader() throws Exception {
+		return converter.disassemble(new StringReader(json));
+	}
+
+	@Benchmark
+	public DataItemConverter.Diff<Item> diff() {
+		return converter.diff(exists, currents);
+	}
+
+	@Benchmark
+	public void subtract(Blackhole blackhole) throws Exception {
+		blackhole.consume(converter.subtract(exists, currents));
+		blackhole.consume(converter.subtract(currents, exists));
+	}
+}
@@ -0,0 +1,143 @@
+package com.x.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.beanutils.PropertyUtilsBean;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.x.base.core.entity.JpaObject;
+import com.x.base.core.project.bean.WrapCopier;
+import com.x.base.core.project.bean.WrapCopierFactory;
+import com.x.base.core.project.tools.StringTools;
+import com.x.query.core.entity.View;
+
+/**
+ * 对象复制对比:WrapCopier(FastClass访问器)与原有按字段名通过PropertyUtilsBean反射读写的方式.<br/>
+ * 两种方式使用相同的复制字段和置空字段,复制列表模拟列表接口返回Wo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WrapCopierBenchmark {
+
+	@Param({ "1", "100" })
+	private int size;
+
+	private WrapCopier<View, Wo> copier;
+
+	private PropertyUtilsBeanCopier<View, Wo> propertyUtilsBeanCopier;
+
+	private List<View> views;
+
+	@Setup
+	public void setup() throws Exception {
+		copier = WrapCopierFactory.wo(View.class, Wo.class, null, JpaObject.FieldsInvisible);
+		propertyUtilsBeanCopier = new PropertyUtilsBeanCopier<>(Wo.class, copier.getCopyFields(),
+				copier.getEraseFields());
+		views = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			View view = new View();
+			view.setId(StringTools.uniqueToken());
+			view.setName("视图" + i);
+			view.setAlias("view" + i);
+			view.setDescription("描述" + i);
+			view.setQuery(StringTools.uniqueToken());
+			view.setType("cms");
+			view.setEnableCache(true);
+			view.setDisplay(true);
+			view.setCount(500);
+			view.setPageSize(20);
+			view.setAvailableIdentityList(Arrays.asList("张三@zhangsan@I", "李四@lisi@I"));
+			view.setAvailableUnitList(Arrays.asList("开发部@kfb@U"));
+			view.setCreateTime(new Date());
+			view.setUpdateTime(new Date());
+			views.add(view);
+		}
+	}
+
+	@Benchmark
+	public List<Wo> wrapCopier() throws Exception {
+		return copier.copy(views);
+	}
+
+	@Benchmark
+	public List<Wo> propertyUtilsBean() throws Exception {
+		return propertyUtilsBeanCopier.copy(views);
+	}
+
+	public static class Wo extends View {
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+	/**
+	 * 原有的复制方式,每个字段通过PropertyUtilsBean按名称查找并反射调用getter/setter.
+	 */
+	private static class PropertyUtilsBeanCopier<T, W> {
+
+		private final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+
+		private final Class<W> destClass;
+
+		private final List<String> copyFields;
+
+		private final List<String> eraseFields;
+
+		private PropertyUtilsBeanCopier(Class<W> destClass, List<String> copyFields, List<String> eraseFields) {
+			this.destClass = destClass;
+			this.copyFields = copyFields;
+			this.eraseFields = eraseFields;
+		}
+
+		private List<W> copy(List<T> origs) throws Exception {
+			List<W> dests = new ArrayList<>();
+			for (T orig : origs) {
+				W dest = destClass.newInstance();
+				for (String f : copyFields) {
+					if (StringUtils.equals(f, JpaObject.id_FIELDNAME)) {
+						Field field = FieldUtils.getField(orig.getClass(), f, true);
+						Object o = FieldUtils.readField(field, orig, true);
+						if (null != o) {
+							propertyUtilsBean.setProperty(dest, f, o);
+						}
+					} else {
+						Object o = propertyUtilsBean.getProperty(orig, f);
+						if (null != o) {
+							propertyUtilsBean.setProperty(dest, f, o);
+						}
+					}
+				}
+				for (String f : eraseFields) {
+					try {
+						propertyUtilsBean.setProperty(dest, f, null);
+					} catch (IllegalArgumentException e) {
+						/* 基本类型的字段无法置空,原有方式同样忽略 */
+					}
+				}
+				dests.add(dest);
+			}
+			return dests;
+		}
+	}
+}
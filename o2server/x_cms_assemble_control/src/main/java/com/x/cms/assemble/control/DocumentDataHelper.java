@@ -1,10 +1,14 @@
 package com.x.cms.assemble.control;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
@@ -22,6 +26,8 @@ import com.x.cms.core.entity.Document;
 import com.x.cms.core.entity.content.Data;
 import com.x.query.core.entity.Item;
 import com.x.query.core.entity.Item_;
+import com.x.query.core.entity.ViewRow;
+import com.x.query.core.entity.ViewRow_;
 
 public class DocumentDataHelper {
 
@@ -104,27 +110,34 @@ public class DocumentDataHelper {
 			}
 		}
 		List<Item> currents = converter.disassemble(jsonElement);
-		List<Item> removes = converter.subtract(items, currents);
-		List<Item> adds = converter.subtract(currents, items);
-		if ((currents.size() != 0) && (currents.size() == removes.size()) && adds.size() == 0) {
+		DataItemConverter.Diff<Item> diff = converter.diff(items, currents);
+		/* 与逐个比较的结果保持一致:修改的数据同时计入删除和新增 */
+		if ((currents.size() != 0) && diff.getChanges().isEmpty() && diff.getAdds().isEmpty()
+				&& (currents.size() == diff.getRemoves().size())) {
 			throw new ExceptionDocumentDataWillBeEmpty(docId);
 		}
-		if ((!removes.isEmpty()) || (!adds.isEmpty())) {
+		if (!diff.isEmpty()) {
 			emc.beginTransaction(Item.class);
-			if ((!removes.isEmpty())) {
-				for (Item o : removes) {
-					emc.remove(o);
-				}
+			for (Item o : diff.getRemoves()) {
+				emc.remove(o);
+			}
+			for (DataItemConverter.Change<Item> change : diff.getChanges()) {
+				converter.copy(change.getCurrent(), change.getExist());
+			}
+			for (Item o : diff.getAdds()) {
+				this.fill(o);
+				emc.persist(o);
 			}
-			if ((!adds.isEmpty())) {
-				for (Item o : adds) {
-					this.fill(o);
-					emc.persist(o);
+			this.expireViewRow();
+			Set<Item> removes = Collections.newSetFromMap(new IdentityHashMap<>());
+			removes.addAll(diff.getRemoves());
+			List<Item> list = new ArrayList<>(items.size() + diff.getAdds().size());
+			for (Item o : items) {
+				if (!removes.contains(o)) {
+					list.add(o);
 				}
 			}
-			List<Item> list = new ArrayList<>();
-			list = converter.subtract(items, removes);
-			list.addAll(adds);
+			list.addAll(diff.getAdds());
 			converter.sort(list);
 			items = list;
 		}
@@ -141,9 +154,20 @@ public class DocumentDataHelper {
 			for (Item o : items) {
 				emc.remove(o);
 			}
+			this.expireViewRow();
 		}
 	}
 
+	/* 数据修改后在同一事务中删除物化视图中保存的行数据,下次访问视图时重新计算 */
+	private void expireViewRow() throws Exception {
+		emc.beginTransaction(ViewRow.class);
+		EntityManager em = emc.get(ViewRow.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaDelete<ViewRow> cd = cb.createCriteriaDelete(ViewRow.class);
+		Root<ViewRow> root = cd.from(ViewRow.class);
+		em.createQuery(cd.where(cb.equal(root.get(ViewRow_.bundle), this.docId))).executeUpdate();
+	}
+
 	public void fill(Item o) throws Exception {
 		o.setDistributeFactor(this.distributeFactor);
 		o.setBundle(this.docId);
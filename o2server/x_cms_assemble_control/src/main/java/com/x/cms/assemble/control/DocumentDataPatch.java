@@ -0,0 +1,118 @@
+package com.x.cms.assemble.control;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.JsonElement;
+import com.x.base.core.container.EntityManagerContainer;
+import com.x.base.core.entity.dataitem.DataItemConverter;
+import com.x.base.core.entity.dataitem.ItemCategory;
+import com.x.base.core.entity.dataitem.ItemType;
+import com.x.base.core.project.gson.XGsonBuilder;
+import com.x.cms.core.entity.Document;
+import com.x.query.core.entity.Item;
+import com.x.query.core.entity.Item_;
+
+/**
+ * 按路径修改文档数据中的单个值.<br/>
+ * 只读取目标路径对应的Item并在原记录上修改,不需要载入、组装和比较整个文档数据,适用于访问量、置顶等单个字段的变化.<br/>
+ * 不提交事务,由调用方统一提交.
+ */
+public class DocumentDataPatch {
+
+	private static final int MAX_PATH_DEPTH = 8;
+
+	private String docId;
+	private Integer distributeFactor;
+
+	private EntityManagerContainer emc;
+	private DataItemConverter<Item> converter;
+
+	public DocumentDataPatch( EntityManagerContainer emc, Document document ) throws Exception {
+		if ((null == emc) || (null == document)) {
+			throw new Exception("create instance error.");
+		}
+		this.docId = document.getId();
+		this.distributeFactor = document.getDistributeFactor();
+		if ( StringUtils.isEmpty( this.docId )) {
+			throw new Exception("can not create DataPatch docId is empty.");
+		}
+		this.emc = emc;
+		this.converter = new DataItemConverter<Item>(Item.class);
+	}
+
+	/**
+	 * 将路径上的值修改为value,值没有变化时不开启事务.<br/>
+	 * 路径不存在时,如果父路径是对象则新增一个值.
+	 *
+	 * @return 无法按路径修改时返回false,包括value不是基本类型、原值是对象或数组、父路径不存在,此时需要调用方使用DocumentDataHelper整体更新.
+	 */
+	public boolean patch( Object value, String... paths ) throws Exception {
+		if ((paths.length == 0) || (paths.length > MAX_PATH_DEPTH)) {
+			return false;
+		}
+		JsonElement jsonElement = XGsonBuilder.instance().toJsonTree( value );
+		if (!jsonElement.isJsonPrimitive()) {
+			return false;
+		}
+		/* 按disassemble的规则生成目标Item,用于比较和赋值 */
+		List<Item> currents = converter.disassemble( jsonElement, paths );
+		if (currents.size() != 1) {
+			return false;
+		}
+		Item current = currents.get(0);
+		Item exist = this.find( paths );
+		if (null == exist) {
+			Item parent = this.find( Arrays.copyOf( paths, paths.length - 1 ) );
+			if ((null == parent) || (!Objects.equals( parent.getItemType(), ItemType.o ))) {
+				return false;
+			}
+			/** 将DateItem与Document放在同一个分区 */
+			current.setDistributeFactor( this.distributeFactor );
+			current.setBundle( this.docId );
+			current.setItemCategory( ItemCategory.cms );
+			emc.beginTransaction( Item.class );
+			emc.persist( current );
+			return true;
+		}
+		if (!Objects.equals( exist.getItemType(), ItemType.p )) {
+			return false;
+		}
+		if (!converter.equate( exist, current )) {
+			emc.beginTransaction( Item.class );
+			converter.copy( current, exist );
+		}
+		return true;
+	}
+
+	private Item find( String... paths ) throws Exception {
+		EntityManager em = emc.get(Item.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Item> cq = cb.createQuery(Item.class);
+		Root<Item> root = cq.from(Item.class);
+		Path<String> path = root.get(Item.bundle_FIELDNAME);
+		Predicate p = cb.equal(path, this.docId);
+		p = cb.and(p, cb.equal(root.get(Item_.itemCategory), ItemCategory.cms));
+		p = cb.and(p, cb.equal(root.get(Item_.path0), paths.length > 0 ? paths[0] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path1), paths.length > 1 ? paths[1] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path2), paths.length > 2 ? paths[2] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path3), paths.length > 3 ? paths[3] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path4), paths.length > 4 ? paths[4] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path5), paths.length > 5 ? paths[5] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path6), paths.length > 6 ? paths[6] : ""));
+		p = cb.and(p, cb.equal(root.get(Item_.path7), paths.length > 7 ? paths[7] : ""));
+		List<Item> list = em.createQuery(cq.where(p)).setMaxResults(1).getResultList();
+		return list.isEmpty() ? null : list.get(0);
+	}
+
+}
@@ -10,6 +10,7 @@ import com.x.base.core.entity.dataitem.ItemCategory;
 import com.x.base.core.project.gson.XGsonBuilder;
 import com.x.base.core.project.queue.AbstractQueue;
 import com.x.cms.assemble.control.Business;
+import com.x.cms.assemble.control.DocumentDataPatch;
 import com.x.cms.core.entity.Document;
 import com.x.query.core.entity.Item;
 
@@ -20,6 +21,30 @@ public class QueueDocumentViewCountUpdate extends AbstractQueue<Document> {
 	
 	private Gson gson = XGsonBuilder.instance();
 
+	public QueueDocumentViewCountUpdate() {
+		//同一文档在刷新间隔内的多次访问合并为一次更新
+		this.initCoalesce( null, 5000L );
+	}
+
+	@Override
+	protected Object key( Document document ) {
+		return document.getId();
+	}
+
+	/**
+	 * 访问量只增不减，合并时保留访问量较大的一个
+	 */
+	@Override
+	protected Document merge( Document pending, Document document ) {
+		if( null == document.getViewCount() ) {
+			return pending;
+		}
+		if( null == pending.getViewCount() || document.getViewCount() >= pending.getViewCount() ) {
+			return document;
+		}
+		return pending;
+	}
+
 	public void execute( Document obj ) throws Exception {
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			Document document = emc.find( obj.getId(), Document.class);
@@ -31,6 +56,11 @@ public class QueueDocumentViewCountUpdate extends AbstractQueue<Document> {
 			if( obj.getViewCount() > document.getViewCount() ) {
 				document.setViewCount( obj.getViewCount() );
 			}
+			/** 只修改访问量对应的Item, 无法按路径修改时整体更新$document. */
+			if( new DocumentDataPatch( emc, document ).patch( document.getViewCount(), "$document", Document.viewCount_FIELDNAME ) ) {
+				emc.commit();
+				return;
+			}
 			jsonElement = gson.toJsonTree( document );
 			
 			/** 更新DataItem数据. */
@@ -42,15 +72,16 @@ public class QueueDocumentViewCountUpdate extends AbstractQueue<Document> {
 		DataItemConverter<Item> converter = new DataItemConverter<>(Item.class);
 		List<Item> exists = business.itemFactory().listWithDocmentWithPath( document.getId(), paths );
 		List<Item> currents = converter.disassemble(jsonElement, paths);
-		List<Item> removes = converter.subtract(exists, currents);
-		List<Item> adds = converter.subtract(currents, exists);
-		
-		if ((!removes.isEmpty()) || (!adds.isEmpty())) {
+		DataItemConverter.Diff<Item> diff = converter.diff(exists, currents);
+		if (!diff.isEmpty()) {
 			business.entityManagerContainer().beginTransaction(Item.class);
-			for (Item _o : removes) {
+			for (Item _o : diff.getRemoves()) {
 				business.entityManagerContainer().remove(_o);
 			}
-			for (Item _o : adds) {
+			for (DataItemConverter.Change<Item> change : diff.getChanges()) {
+				converter.copy(change.getCurrent(), change.getExist());
+			}
+			for (Item _o : diff.getAdds()) {
 				this.fill(_o, document);
 				business.entityManagerContainer().persist(_o);
 			}
@@ -9,6 +9,7 @@ import com.x.base.core.project.cache.ApplicationCache;
 import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.tools.ListTools;
 import com.x.cms.assemble.control.DocumentDataHelper;
+import com.x.cms.assemble.control.DocumentDataPatch;
 import com.x.cms.assemble.control.jaxrs.document.ActionPersistBatchModifyData.WiDataChange;
 import com.x.cms.assemble.control.jaxrs.document.ActionPersistBatchModifyData.Wo;
 import com.x.cms.assemble.control.jaxrs.permission.element.PermissionInfo;
@@ -240,12 +241,14 @@ public class DocumentPersistService {
 			if( document != null ) {
 //				emc.beginTransaction( Item.class );
 				emc.beginTransaction( Document.class );
-				document.setIsTop( true );			
-				
-				DocumentDataHelper documentDataHelper = new DocumentDataHelper( emc, document );
-				Data data = documentDataHelper.get();
-				data.setDocument( document );
-				documentDataHelper.update( data );
+				document.setIsTop( true );
+				/** 只修改置顶对应的Item, 无法按路径修改时整体更新文档数据. */
+				if( !new DocumentDataPatch( emc, document ).patch( document.getIsTop(), "$document", Document.isTop_FIELDNAME ) ) {
+					DocumentDataHelper documentDataHelper = new DocumentDataHelper( emc, document );
+					Data data = documentDataHelper.get();
+					data.setDocument( document );
+					documentDataHelper.update( data );
+				}
 				
 				emc.commit();
 			}
@@ -264,10 +267,13 @@ public class DocumentPersistService {
 			if( document != null ) {
 				emc.beginTransaction( Document.class );
 				document.setIsTop( false );
-				DocumentDataHelper documentDataHelper = new DocumentDataHelper( emc, document );
-				Data data = documentDataHelper.get();
-				data.setDocument( document );
-				documentDataHelper.update( data );
+				/** 只修改置顶对应的Item, 无法按路径修改时整体更新文档数据. */
+				if( !new DocumentDataPatch( emc, document ).patch( document.getIsTop(), "$document", Document.isTop_FIELDNAME ) ) {
+					DocumentDataHelper documentDataHelper = new DocumentDataHelper( emc, document );
+					Data data = documentDataHelper.get();
+					data.setDocument( document );
+					documentDataHelper.update( data );
+				}
 				emc.commit();
 			}
 			
@@ -9,8 +9,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.TreeMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.commons.collections.MapUtils;
@@ -32,6 +30,7 @@ import com.x.base.core.project.config.CenterServer;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.config.DataServer;
 import com.x.base.core.project.config.ExternalDataSource;
+import com.x.base.core.project.executor.KeyedExecutor;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
 import com.x.base.core.project.tools.ClassLoaderTools;
@@ -203,12 +202,9 @@ public class ResourceFactory {
 	}
 
 	private static void processPlatformExecutors() throws Exception {
-		ExecutorService[] services = new ExecutorService[Config.processPlatform().getExecutorCount()];
-		for (int i = 0; i < Config.processPlatform().getExecutorCount(); i++) {
-			services[i] = Executors.newFixedThreadPool(1);
-		}
-
-		new Resource(Config.RESOURCE_NODE_PROCESSPLATFORMEXECUTORS, services);
+		/* 按work/job串行,不同work/job之间并行,executorCount为同时执行的任务数量上限 */
+		new Resource(Config.RESOURCE_NODE_PROCESSPLATFORMEXECUTORS,
+				new KeyedExecutor("processPlatformExecutor", Config.processPlatform().getExecutorCount()));
 	}
 
 }
@@ -2,11 +2,9 @@ package com.x.server.console.action;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import com.x.base.core.project.config.Config;
+import com.x.base.core.project.executor.KeyedExecutor;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
 
@@ -21,25 +19,28 @@ public class ProcessPlatformExecutor {
 
 	private static Logger logger = LoggerFactory.getLogger(ProcessPlatformExecutor.class);
 
+	private static final int KEY_STATISTIC_COUNT = 20;
 	 
 	public void execute() throws Exception {
-		ExecutorService[] executorServices = Config.resource_node_processPlatformExecutors();
+		/* console与绑定的对象在同一个类加载器中,可以直接转换 */
+		Object bound = Config.resource_node_processPlatformExecutors();
+		if (!(bound instanceof KeyedExecutor)) {
+			logger.print("processPlatform executor not bound.");
+			return;
+		}
+		KeyedExecutor keyedExecutor = (KeyedExecutor) bound;
 		List<String> list = new ArrayList<>();
-		for (int i = 0; i < executorServices.length; i++) {
-			ExecutorService service = executorServices[i];
-			ThreadPoolExecutor executor = (ThreadPoolExecutor) service;
-			BlockingQueue<Runnable> queue = executor.getQueue();
-			list.add(String.format("processPlatform executorServices[%d] completed:%d, block:%d.", i,
-					executor.getCompletedTaskCount(), queue.size()));
-			if (!queue.isEmpty()) {
-				List<String> os = new ArrayList<>();
-				for (Runnable o : queue) {
-					os.add(o.getClass().toString());
-				}
-				list.add("  +++ blocking: " + StringUtils.join(os, ",") + ".");
-			}
+		KeyedExecutor.Statistic statistic = keyedExecutor.statistic();
+		list.add(String.format(
+				"processPlatform executor parallelism:%d, pool:%d, active:%d, running:%d, ready:%d, key:%d, submitted:%d, completed:%d, wait(avg/max):%d/%dms.",
+				statistic.getParallelism(), statistic.getPoolSize(), statistic.getActiveThreadCount(),
+				statistic.getRunning(), statistic.getReadyKeyCount(), statistic.getKeyCount(), statistic.getSubmitted(), statistic.getCompleted(),
+				statistic.getAverageWaitMilliseconds(), statistic.getMaxWaitMilliseconds()));
+		for (KeyedExecutor.KeyStatistic o : keyedExecutor.keyStatistics(KEY_STATISTIC_COUNT)) {
+			list.add(String.format("  +++ key:%s, running:%s, block:%d, wait:%dms.", o.getKey(), o.getRunning(),
+					o.getDepth(), o.getWaitMilliseconds()));
 		}
 		System.out.println(StringUtils.join(list, StringUtils.LF));
 
 	}
-}
\ No newline at end of file
+}
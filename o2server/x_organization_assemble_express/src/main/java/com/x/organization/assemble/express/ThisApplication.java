@@ -4,6 +4,7 @@ import com.x.base.core.project.Context;
 import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.logger.LoggerFactory;
+import com.x.organization.assemble.express.graph.GraphManager;
 
 public class ThisApplication {
 
@@ -20,6 +21,7 @@ public class ThisApplication {
 	public static void init() {
 		try {
 			CacheManager.init(context.clazz().getSimpleName());
+			GraphManager.init();
 			LoggerFactory.setLevel(Config.logLevel().x_organization_assemble_express());
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -41,18 +41,7 @@ public class IdentityFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(flag)) {
 			return null;
 		}
-		Identity o = null;
-		CacheKey cacheKey = new CacheKey(flag);
-		Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-		if (optional.isPresent()) {
-			o = (Identity) optional.get();
-		} else {
-			o = this.pickObject(flag);
-			if (null != o) {
-				CacheManager.put(cacheCategory, cacheKey, o);
-			}
-		}
-		return o;
+		return CacheManager.get(cacheCategory, new CacheKey(flag), () -> this.pickObject(flag)).orElse(null);
 	}
 
 	private Identity pickObject(String flag) throws Exception {
@@ -89,17 +78,7 @@ public class IdentityFactory extends AbstractFactory {
 	public List<Identity> pick(List<String> flags) throws Exception {
 		List<Identity> list = new ArrayList<>();
 		for (String str : flags) {
-			CacheKey cacheKey = new CacheKey(str);
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				list.add((Identity) optional.get());
-			} else {
-				Identity o = this.pickObject(str);
-				if (null != o) {
-					CacheManager.put(cacheCategory, cacheKey, o);
-					list.add(o);
-				}
-			}
+			CacheManager.get(cacheCategory, new CacheKey(str), () -> this.pickObject(str)).ifPresent(list::add);
 		}
 		return list;
 	}
@@ -3,7 +3,6 @@ package com.x.organization.assemble.express.factory;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -35,18 +34,7 @@ public class PersonAttributeFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(flag)) {
 			return null;
 		}
-		PersonAttribute o = null;
-		CacheKey cacheKey = new CacheKey(flag);
-		Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-		if (optional.isPresent()) {
-			o = (PersonAttribute) optional.get();
-		} else {
-			o = this.pickObject(flag);
-			if (null != o) {
-				CacheManager.put(cacheCategory, cacheKey, o);
-			}
-		}
-		return o;
+		return CacheManager.get(cacheCategory, new CacheKey(flag), () -> this.pickObject(flag)).orElse(null);
 	}
 
 	private PersonAttribute pickObject(String flag) throws Exception {
@@ -83,17 +71,7 @@ public class PersonAttributeFactory extends AbstractFactory {
 	public List<PersonAttribute> pick(List<String> flags) throws Exception {
 		List<PersonAttribute> list = new ArrayList<>();
 		for (String str : flags) {
-			CacheKey cacheKey = new CacheKey(str);
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				list.add((PersonAttribute) optional.get());
-			} else {
-				PersonAttribute o = this.pickObject(str);
-				if (null != o) {
-					CacheManager.put(cacheCategory, cacheKey, o);
-					list.add(o);
-				}
-			}
+			CacheManager.get(cacheCategory, new CacheKey(str), () -> this.pickObject(str)).ifPresent(list::add);
 		}
 		return list;
 	}
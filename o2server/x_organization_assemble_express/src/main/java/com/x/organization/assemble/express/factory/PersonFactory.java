@@ -3,7 +3,6 @@ package com.x.organization.assemble.express.factory;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -22,6 +21,7 @@ import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.tools.ListTools;
 import com.x.organization.assemble.express.AbstractFactory;
 import com.x.organization.assemble.express.Business;
+import com.x.organization.assemble.express.graph.GraphManager;
 import com.x.organization.core.entity.Person;
 import com.x.organization.core.entity.Person_;
 
@@ -37,18 +37,7 @@ public class PersonFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(flag)) {
 			return null;
 		}
-		Person o = null;
-		CacheKey cacheKey = new CacheKey(flag);
-		Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-		if (optional.isPresent()) {
-			o = (Person) optional.get();
-		} else {
-			o = this.pickObject(flag);
-			if (null != o) {
-				CacheManager.put(cacheCategory, cacheKey, o);
-			}
-		}
-		return o;
+		return CacheManager.get(cacheCategory, new CacheKey(flag), () -> this.pickObject(flag)).orElse(null);
 	}
 
 	private Person pickObject(String flag) throws Exception {
@@ -88,17 +77,7 @@ public class PersonFactory extends AbstractFactory {
 	public List<Person> pick(List<String> flags) throws Exception {
 		List<Person> list = new ArrayList<>();
 		for (String str : ListTools.trim(flags, true, false)) {
-			CacheKey cacheKey = new CacheKey(str);
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				list.add((Person) optional.get());
-			} else {
-				Person o = this.pickObject(str);
-				if (null != o) {
-					CacheManager.put(cacheCategory, cacheKey, o);
-					list.add(o);
-				}
-			}
+			CacheManager.get(cacheCategory, new CacheKey(str), () -> this.pickObject(str)).ifPresent(list::add);
 		}
 		return list;
 	}
@@ -119,15 +98,7 @@ public class PersonFactory extends AbstractFactory {
 		if (null == person) {
 			return null;
 		}
-		if (StringUtils.isEmpty(person.getSuperior())) {
-			return null;
-		}
-		Person superior = this.pick(person.getSuperior());
-		if (null == superior) {
-			return null;
-		} else {
-			return superior.getId();
-		}
+		return GraphManager.graph().person().getSupDirect(person.getId());
 	}
 
 	/** 递归的上级组织,从底层到顶层 */
@@ -140,19 +111,7 @@ public class PersonFactory extends AbstractFactory {
 		if (null == person) {
 			return list;
 		}
-		if (StringUtils.isEmpty(person.getSuperior())) {
-			return list;
-		}
-		this.supNested(person.getId(), list);
-		return list;
-	}
-
-	private void supNested(String id, List<String> list) throws Exception {
-		String superior = this.getSupDirect(id);
-		if ((StringUtils.isNotEmpty(superior)) && (!list.contains(superior))) {
-			list.add(superior);
-			this.supNested(superior, list);
-		}
+		return GraphManager.graph().person().listSupNested(person.getId());
 	}
 
 	public List<String> listSubDirect(String id) throws Exception {
@@ -164,14 +123,7 @@ public class PersonFactory extends AbstractFactory {
 		if (null == person) {
 			return list;
 		}
-		EntityManager em = this.entityManagerContainer().get(Person.class);
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<String> cq = cb.createQuery(String.class);
-		Root<Person> root = cq.from(Person.class);
-		Predicate p = cb.equal(root.get(Person_.superior), person.getId());
-		list = em.createQuery(cq.select(root.get(Person_.id)).where(p))
-				.getResultList().stream().distinct().collect(Collectors.toList());
-		return list;
+		return GraphManager.graph().person().listSubDirect(person.getId());
 	}
 
 	public List<String> listSubNested(String id) throws Exception {
@@ -183,23 +135,7 @@ public class PersonFactory extends AbstractFactory {
 		if (null == person) {
 			return list;
 		}
-		this.subNested(person.getId(), list);
-		return list;
-	}
-
-	private void subNested(String id, List<String> list) throws Exception {
-		List<String> ids = new ArrayList<>();
-		for (String o : this.listSubDirect(id)) {
-			if (!list.contains(o)) {
-				ids.add(o);
-			}
-		}
-		if (!ids.isEmpty()) {
-			list.addAll(ids);
-			for (String o : ids) {
-				this.subNested(o, list);
-			}
-		}
+		return GraphManager.graph().person().listSubNested(person.getId());
 	}
 
 	public List<String> listPersonDistinguishedNameSorted(List<String> personIds) throws Exception {
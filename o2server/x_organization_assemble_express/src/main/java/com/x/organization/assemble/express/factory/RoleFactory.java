@@ -3,7 +3,6 @@ package com.x.organization.assemble.express.factory;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -37,18 +36,7 @@ public class RoleFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(flag)) {
 			return null;
 		}
-		Role o = null;
-		CacheKey cacheKey = new CacheKey(flag);
-		Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-		if (optional.isPresent()) {
-			o = (Role) optional.get();
-		} else {
-			o = this.pickObject(flag);
-			if (null != o) {
-				CacheManager.put(cacheCategory, cacheKey, o);
-			}
-		}
-		return o;
+		return CacheManager.get(cacheCategory, new CacheKey(flag), () -> this.pickObject(flag)).orElse(null);
 	}
 
 	private Role pickObject(String flag) throws Exception {
@@ -85,17 +73,7 @@ public class RoleFactory extends AbstractFactory {
 	public List<Role> pick(List<String> flags) throws Exception {
 		List<Role> list = new ArrayList<>();
 		for (String str : flags) {
-			CacheKey cacheKey = new CacheKey(str);
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				list.add((Role) optional.get());
-			} else {
-				Role o = this.pickObject(str);
-				if (null != o) {
-					CacheManager.put(cacheCategory, cacheKey, o);
-					list.add(o);
-				}
-			}
+			CacheManager.get(cacheCategory, new CacheKey(str), () -> this.pickObject(str)).ifPresent(list::add);
 		}
 		return list;
 	}
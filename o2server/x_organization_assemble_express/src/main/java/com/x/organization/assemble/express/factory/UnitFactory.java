@@ -5,7 +5,6 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -25,6 +24,7 @@ import com.x.base.core.project.config.Config;
 import com.x.base.core.project.tools.ListTools;
 import com.x.organization.assemble.express.AbstractFactory;
 import com.x.organization.assemble.express.Business;
+import com.x.organization.assemble.express.graph.GraphManager;
 import com.x.organization.core.entity.PersistenceProperties;
 import com.x.organization.core.entity.Unit;
 import com.x.organization.core.entity.Unit_;
@@ -41,18 +41,7 @@ public class UnitFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(flag)) {
 			return null;
 		}
-		Unit o = null;
-		CacheKey cacheKey = new CacheKey(flag);
-		Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-		if (optional.isPresent()) {
-			o = (Unit) optional.get();
-		} else {
-			o = this.pickObject(flag);
-			if (null != o) {
-				CacheManager.put(cacheCategory, cacheKey, o);
-			}
-		}
-		return o;
+		return CacheManager.get(cacheCategory, new CacheKey(flag), () -> this.pickObject(flag)).orElse(null);
 	}
 
 	private Unit pickObject(String flag) throws Exception {
@@ -106,17 +95,7 @@ public class UnitFactory extends AbstractFactory {
 	public List<Unit> pick(List<String> flags) throws Exception {
 		List<Unit> list = new ArrayList<>();
 		for (String str : flags) {
-			CacheKey cacheKey = new CacheKey(str);
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				list.add((Unit) optional.get());
-			} else {
-				Unit o = this.pickObject(str);
-				if (null != o) {
-					CacheManager.put(cacheCategory, cacheKey, o);
-					list.add(o);
-				}
-			}
+			CacheManager.get(cacheCategory, new CacheKey(str), () -> this.pickObject(str)).ifPresent(list::add);
 		}
 		return list;
 	}
@@ -159,20 +138,12 @@ public class UnitFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(unit.getSuperior())) {
 			return list;
 		}
-		this.supNestedObject(unit, list);
+		list = this.pick(GraphManager.graph().unit().listSupNested(unit.getId()));
 		list = list.stream().sorted(Comparator.comparing(Unit::getLevel, Comparator.nullsLast(Integer::compareTo)))
 				.collect(Collectors.toList());
 		return list;
 	}
 
-	private void supNestedObject(Unit unit, List<Unit> list) throws Exception {
-		Unit superior = this.getSupDirectObject(unit);
-		if ((null != superior) && (!list.contains(superior))) {
-			list.add(superior);
-			this.supNestedObject(superior, list);
-		}
-	}
-
 	public String getSupDirect(String id) throws Exception {
 		if (StringUtils.isEmpty(id)) {
 			return null;
@@ -181,14 +152,7 @@ public class UnitFactory extends AbstractFactory {
 		if (null == unit) {
 			return null;
 		}
-		if (StringUtils.isEmpty(unit.getSuperior())) {
-			return null;
-		}
-		Unit superior = this.pick(unit.getSuperior());
-		if (null != superior) {
-			return superior.getId();
-		}
-		return null;
+		return GraphManager.graph().unit().getSupDirect(unit.getId());
 	}
 
 	/** 递归的上级组织,从底层到顶层 */
@@ -197,16 +161,11 @@ public class UnitFactory extends AbstractFactory {
 		if (StringUtils.isEmpty(id)) {
 			return list;
 		}
-		this.supNested(id, list);
-		return list;
-	}
-
-	private void supNested(String id, List<String> list) throws Exception {
-		String superior = this.getSupDirect(id);
-		if (StringUtils.isNotEmpty(superior) && (!list.contains(superior))) {
-			list.add(superior);
-			this.supNested(superior, list);
+		Unit unit = this.pick(id);
+		if (null == unit) {
+			return list;
 		}
+		return GraphManager.graph().unit().listSupNested(unit.getId());
 	}
 
 	public void adjustInherit(Unit unit) throws Exception {
@@ -230,57 +189,29 @@ public class UnitFactory extends AbstractFactory {
 	}
 
 	public List<Unit> listSubNestedObject(Unit unit) throws Exception {
-		List<Unit> list = new ArrayList<>();
-		this.subNestedObject(unit, list);
-		return list;
-	}
-
-	private void subNestedObject(Unit unit, List<Unit> list) throws Exception {
-		List<Unit> os = new ArrayList<>();
-		for (Unit o : this.listSubDirectObject(unit)) {
-			if (!list.contains(o)) {
-				os.add(o);
-			}
-		}
-		if (!os.isEmpty()) {
-			list.addAll(os);
-			for (Unit o : os) {
-				this.subNestedObject(o, list);
-			}
+		if (null == unit) {
+			return new ArrayList<>();
 		}
+		return this.pick(GraphManager.graph().unit().listSubNested(unit.getId()));
 	}
 
 	public List<Unit> listSubDirectObject(Unit unit) throws Exception {
 		if (null == unit) {
-			return new ArrayList<Unit>();
+			return new ArrayList<>();
 		}
-		EntityManager em = this.entityManagerContainer().get(Unit.class);
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Unit> cq = cb.createQuery(Unit.class);
-		Root<Unit> root = cq.from(Unit.class);
-		Predicate p = cb.equal(root.get(Unit_.superior), unit.getId());
-		return em.createQuery(cq.select(root).where(p)).getResultList();
+		return this.pick(GraphManager.graph().unit().listSubDirect(unit.getId()));
 	}
 
 	public List<String> listSubNested(String id) throws Exception {
 		List<String> list = new ArrayList<>();
-		this.subNested(id, list);
-		return list;
-	}
-
-	private void subNested(String id, List<String> list) throws Exception {
-		List<String> ids = new ArrayList<>();
-		for (String o : this.listSubDirect(id)) {
-			if (!list.contains(o)) {
-				ids.add(o);
-			}
+		if (StringUtils.isEmpty(id)) {
+			return list;
 		}
-		if (!ids.isEmpty()) {
-			list.addAll(ids);
-			for (String o : ids) {
-				this.subNested(o, list);
-			}
+		Unit unit = this.pick(id);
+		if (null == unit) {
+			return list;
 		}
+		return GraphManager.graph().unit().listSubNested(unit.getId());
 	}
 
 	public List<String> listSubDirect(String id) throws Exception {
@@ -292,13 +223,7 @@ public class UnitFactory extends AbstractFactory {
 		if (null == unit) {
 			return list;
 		}
-		EntityManager em = this.entityManagerContainer().get(Unit.class);
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<String> cq = cb.createQuery(String.class);
-		Root<Unit> root = cq.from(Unit.class);
-		Predicate p = cb.equal(root.get(Unit_.superior), unit.getId());
-		return em.createQuery(cq.select(root.get(Unit_.id)).where(p).orderBy(cb.asc(root.get(Unit_.orderNumber))))
-				.getResultList();
+		return GraphManager.graph().unit().listSubDirect(unit.getId());
 	}
 
 	public List<String> listUnitDistinguishedNameSorted(List<String> unitIds) throws Exception {
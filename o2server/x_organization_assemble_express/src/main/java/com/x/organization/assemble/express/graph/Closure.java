@@ -0,0 +1,142 @@
+package com.x.organization.assemble.express.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 个人到其所属全部主体的传递闭包:个人本身,身份,身份所在组织及其全部上级组织,直接或通过身份,组织加入的群组及其全部上级群组,
+ * 以及包含个人或上述群组的角色.
+ *
+ * 主体在一个快照内统一编号,依次为个人,身份,组织,群组,角色,每个个人的闭包为升序的int[].
+ * 闭包在首次使用时计算并随快照保存,组织对象变化生成新快照后原有闭包随之失效.
+ */
+public class Closure {
+
+	private final Graph graph;
+
+	private final int identityOffset;
+
+	private final int unitOffset;
+
+	private final int groupOffset;
+
+	private final int roleOffset;
+
+	private final int size;
+
+	private final ConcurrentHashMap<Integer, int[]> principals = new ConcurrentHashMap<>();
+
+	Closure(Graph graph) {
+		this.graph = graph;
+		this.identityOffset = graph.person().size();
+		this.unitOffset = identityOffset + graph.identity().size();
+		this.groupOffset = unitOffset + graph.unit().size();
+		this.roleOffset = groupOffset + graph.group().size();
+		this.size = roleOffset + graph.role().size();
+	}
+
+	/** 个人所属的全部主体编号,个人不存在时返回空数组 */
+	public int[] expand(String personId) {
+		int p = graph.person().indexOf(personId);
+		if (p == Graph.NONE) {
+			return new int[0];
+		}
+		return principals.computeIfAbsent(p, this::compute);
+	}
+
+	/** 个人所属的全部主体的distinguishedName */
+	public List<String> expandDistinguishedName(String personId) {
+		int[] array = this.expand(personId);
+		List<String> list = new ArrayList<>(array.length);
+		for (int o : array) {
+			list.add(this.name(o));
+		}
+		return list;
+	}
+
+	/** 两个升序主体编号数组是否有交集 */
+	public static boolean intersects(int[] a, int[] b) {
+		int i = 0;
+		int j = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] == b[j]) {
+				return true;
+			} else if (a[i] < b[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return false;
+	}
+
+	private String name(int principal) {
+		if (principal < identityOffset) {
+			return graph.person().name(principal);
+		} else if (principal < unitOffset) {
+			return graph.identity().name(principal - identityOffset);
+		} else if (principal < groupOffset) {
+			return graph.unit().name(principal - unitOffset);
+		} else if (principal < roleOffset) {
+			return graph.group().name(principal - groupOffset);
+		} else {
+			return graph.role().name(principal - roleOffset);
+		}
+	}
+
+	private int[] compute(int p) {
+		Graph.Tree unit = graph.unit();
+		Graph.Groups group = graph.group();
+		Graph.Identities identity = graph.identity();
+		Graph.Roles role = graph.role();
+		String personId = graph.person().id(p);
+		BitSet set = new BitSet(size);
+		set.set(p);
+		BitSet groups = new BitSet(group.size());
+		this.set(groups, group.person().containers(personId));
+		for (int i : identity.withPerson(personId)) {
+			set.set(identityOffset + i);
+			this.set(groups, group.identity().containers(identity.id(i)));
+			for (int u = unit.indexOf(identity.unit(i)); (u != Graph.NONE)
+					&& (!set.get(unitOffset + u)); u = unit.superior(u)) {
+				set.set(unitOffset + u);
+				this.set(groups, group.unit().containers(unit.id(u)));
+			}
+		}
+		/* 逐层向上展开群组 */
+		int[] stack = groups.stream().toArray();
+		int top = stack.length;
+		while (top > 0) {
+			int g = stack[--top];
+			for (int o : group.supDirect(g)) {
+				if (!groups.get(o)) {
+					groups.set(o);
+					if (top == stack.length) {
+						stack = Arrays.copyOf(stack, stack.length * 2 + 1);
+					}
+					stack[top++] = o;
+				}
+			}
+		}
+		this.set(set, role.withPerson(personId), roleOffset);
+		for (int g = groups.nextSetBit(0); g >= 0; g = groups.nextSetBit(g + 1)) {
+			set.set(groupOffset + g);
+			this.set(set, role.withGroup(group.id(g)), roleOffset);
+		}
+		return set.stream().toArray();
+	}
+
+	private void set(BitSet set, int[] array) {
+		this.set(set, array, 0);
+	}
+
+	private void set(BitSet set, int[] array, int offset) {
+		for (int o : array) {
+			set.set(offset + o);
+		}
+	}
+
+}
@@ -0,0 +1,483 @@
+package com.x.organization.assemble.express.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * 组织关系图的不可变快照.
+ *
+ * 组织,个人,群组,身份,职务,角色各为一个分区,节点以数组下标表示,上下级和成员关系以int[]邻接数组保存.
+ * 某一类对象发生变化时只重建对应的分区,未变化的分区在新旧快照之间共享.
+ */
+public class Graph {
+
+	public static final int NONE = -1;
+
+	private static final int[] EMPTY = new int[0];
+
+	private final long version;
+
+	private final long createTime;
+
+	private final Tree unit;
+
+	private final Tree person;
+
+	private final Groups group;
+
+	private final Identities identity;
+
+	private final Duties unitDuty;
+
+	private final Roles role;
+
+	private final Closure closure;
+
+	public Graph(long version, Tree unit, Tree person, Groups group, Identities identity, Duties unitDuty,
+			Roles role) {
+		this.version = version;
+		this.createTime = System.currentTimeMillis();
+		this.unit = unit;
+		this.person = person;
+		this.group = group;
+		this.identity = identity;
+		this.unitDuty = unitDuty;
+		this.role = role;
+		this.closure = new Closure(this);
+	}
+
+	public long version() {
+		return version;
+	}
+
+	public long createTime() {
+		return createTime;
+	}
+
+	public Tree unit() {
+		return unit;
+	}
+
+	public Tree person() {
+		return person;
+	}
+
+	public Groups group() {
+		return group;
+	}
+
+	public Identities identity() {
+		return identity;
+	}
+
+	public Duties unitDuty() {
+		return unitDuty;
+	}
+
+	public Roles role() {
+		return role;
+	}
+
+	public Closure closure() {
+		return closure;
+	}
+
+	/**
+	 * 递归展开,先加入当前层全部未访问的节点,再逐个向下递归,与原有数据库递归查询的返回顺序一致.
+	 */
+	private static void nested(int[] direct, IntFunction<int[]> next, boolean[] visited, String[] ids,
+			List<String> list) {
+		int[] fresh = new int[direct.length];
+		int count = 0;
+		for (int o : direct) {
+			if (!visited[o]) {
+				visited[o] = true;
+				list.add(ids[o]);
+				fresh[count++] = o;
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			nested(next.apply(fresh[i]), next, visited, ids, list);
+		}
+	}
+
+	private static Map<String, int[]> toArrays(Map<String, List<Integer>> map) {
+		Map<String, int[]> result = new HashMap<>(map.size() * 2);
+		map.forEach((k, v) -> result.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+		return result;
+	}
+
+	/** 节点编号表 */
+	public abstract static class Nodes {
+
+		protected final String[] ids;
+
+		protected final String[] names;
+
+		protected final Map<String, Integer> index;
+
+		protected Nodes(List<String> ids, List<String> names) {
+			this.ids = ids.toArray(new String[ids.size()]);
+			this.names = names.toArray(new String[names.size()]);
+			this.index = new HashMap<>(this.ids.length * 2);
+			for (int i = 0; i < this.ids.length; i++) {
+				this.index.put(this.ids[i], i);
+			}
+		}
+
+		public int size() {
+			return ids.length;
+		}
+
+		public boolean contains(String id) {
+			return (null != id) && index.containsKey(id);
+		}
+
+		public int indexOf(String id) {
+			Integer i = (null == id) ? null : index.get(id);
+			return (null == i) ? NONE : i;
+		}
+
+		public String id(int i) {
+			return ids[i];
+		}
+
+		/** distinguishedName */
+		public String name(int i) {
+			return names[i];
+		}
+
+		protected List<String> ids(int[] array) {
+			List<String> list = new ArrayList<>(array.length);
+			for (int o : array) {
+				list.add(ids[o]);
+			}
+			return list;
+		}
+
+		protected List<String> nested(int[] direct, IntFunction<int[]> next) {
+			List<String> list = new ArrayList<>();
+			Graph.nested(direct, next, new boolean[ids.length], ids, list);
+			return list;
+		}
+	}
+
+	/** 通过superior字段构成的树形结构,用于组织和个人汇报关系. */
+	public static final class Tree extends Nodes {
+
+		private final int[] superior;
+
+		private final int[][] subs;
+
+		/**
+		 * @param ids        节点id,需要已经按照排序号排列,下级的顺序与之一致
+		 * @param names      与ids一一对应的distinguishedName
+		 * @param superiors  与ids一一对应的上级id
+		 */
+		public Tree(List<String> ids, List<String> names, List<String> superiors) {
+			super(ids, names);
+			int size = this.ids.length;
+			this.superior = new int[size];
+			int[] counts = new int[size];
+			for (int i = 0; i < size; i++) {
+				int p = this.indexOf(superiors.get(i));
+				superior[i] = (p == i) ? NONE : p;
+				if (superior[i] != NONE) {
+					counts[superior[i]]++;
+				}
+			}
+			this.subs = new int[size][];
+			for (int i = 0; i < size; i++) {
+				subs[i] = (counts[i] == 0) ? EMPTY : new int[counts[i]];
+				counts[i] = 0;
+			}
+			for (int i = 0; i < size; i++) {
+				if (superior[i] != NONE) {
+					subs[superior[i]][counts[superior[i]]++] = i;
+				}
+			}
+		}
+
+		public int superior(int i) {
+			return superior[i];
+		}
+
+		public String getSupDirect(String id) {
+			int i = this.indexOf(id);
+			if ((i == NONE) || (superior[i] == NONE)) {
+				return null;
+			}
+			return ids[superior[i]];
+		}
+
+		/** 递归的上级,从底层到顶层 */
+		public List<String> listSupNested(String id) {
+			List<String> list = new ArrayList<>();
+			int i = this.indexOf(id);
+			if (i == NONE) {
+				return list;
+			}
+			boolean[] visited = new boolean[ids.length];
+			for (int p = superior[i]; (p != NONE) && (!visited[p]); p = superior[p]) {
+				visited[p] = true;
+				list.add(ids[p]);
+			}
+			return list;
+		}
+
+		public List<String> listSubDirect(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? new ArrayList<>() : this.ids(subs[i]);
+		}
+
+		public List<String> listSubNested(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? new ArrayList<>() : this.nested(subs[i], o -> subs[o]);
+		}
+	}
+
+	/** 容器与成员之间的多对多关系,成员以id保存,不要求成员存在于其他分区. */
+	public static final class Relation {
+
+		private final String[][] members;
+
+		private final Map<String, int[]> containers;
+
+		public Relation(List<List<String>> memberLists) {
+			this.members = new String[memberLists.size()][];
+			Map<String, List<Integer>> map = new HashMap<>();
+			for (int i = 0; i < members.length; i++) {
+				List<String> list = memberLists.get(i);
+				if ((null == list) || list.isEmpty()) {
+					members[i] = new String[0];
+				} else {
+					members[i] = list.stream().filter(Objects::nonNull).distinct().toArray(String[]::new);
+					for (String o : members[i]) {
+						map.computeIfAbsent(o, k -> new ArrayList<>()).add(i);
+					}
+				}
+			}
+			this.containers = toArrays(map);
+		}
+
+		public String[] members(int container) {
+			return members[container];
+		}
+
+		public int[] containers(String member) {
+			return (null == member) ? EMPTY : containers.getOrDefault(member, EMPTY);
+		}
+	}
+
+	/** 群组,成员可以是个人,群组,身份和组织 */
+	public static final class Groups extends Nodes {
+
+		private final Relation person;
+
+		private final Relation group;
+
+		private final Relation identity;
+
+		private final Relation unit;
+
+		private final int[][] subs;
+
+		public Groups(List<String> ids, List<String> names, List<List<String>> personLists,
+				List<List<String>> groupLists, List<List<String>> identityLists, List<List<String>> unitLists) {
+			super(ids, names);
+			this.person = new Relation(personLists);
+			this.group = new Relation(groupLists);
+			this.identity = new Relation(identityLists);
+			this.unit = new Relation(unitLists);
+			this.subs = new int[this.ids.length][];
+			for (int i = 0; i < this.ids.length; i++) {
+				subs[i] = Arrays.stream(group.members(i)).mapToInt(this::indexOf).filter(o -> o != NONE).toArray();
+			}
+		}
+
+		public Relation person() {
+			return person;
+		}
+
+		public Relation identity() {
+			return identity;
+		}
+
+		public Relation unit() {
+			return unit;
+		}
+
+		/** 直接包含指定群组的群组 */
+		public int[] supDirect(int i) {
+			return group.containers(ids[i]);
+		}
+
+		public List<String> listSupDirect(String id) {
+			return this.ids(group.containers(id));
+		}
+
+		public List<String> listSupNested(String id) {
+			return this.nested(group.containers(id), this::supDirect);
+		}
+
+		public List<String> listSubDirect(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? new ArrayList<>() : this.ids(subs[i]);
+		}
+
+		public List<String> listSubNested(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? new ArrayList<>() : this.nested(subs[i], o -> subs[o]);
+		}
+
+		public List<String> listSupDirectWithPerson(String id) {
+			return this.ids(person.containers(id));
+		}
+
+		public List<String> listSupDirectWithIdentity(String id) {
+			return this.ids(identity.containers(id));
+		}
+
+		public List<String> listSupDirectWithUnit(String id) {
+			return this.ids(unit.containers(id));
+		}
+
+		public List<String> listSupNestedWithPerson(String id) {
+			return this.nested(person.containers(id), this::supDirect);
+		}
+
+		public List<String> listSupNestedWithIdentity(String id) {
+			return this.nested(identity.containers(id), this::supDirect);
+		}
+
+		public List<String> listSupNestedWithUnit(String id) {
+			return this.nested(unit.containers(id), this::supDirect);
+		}
+	}
+
+	/** 身份,记录所属个人和组织 */
+	public static final class Identities extends Nodes {
+
+		private final String[] person;
+
+		private final String[] unit;
+
+		private final Map<String, int[]> byPerson;
+
+		private final Map<String, int[]> byUnit;
+
+		/**
+		 * @param ids 身份id,需要已经按照排序号排列
+		 */
+		public Identities(List<String> ids, List<String> names, List<String> persons, List<String> units) {
+			super(ids, names);
+			this.person = persons.toArray(new String[persons.size()]);
+			this.unit = units.toArray(new String[units.size()]);
+			this.byPerson = group(this.person);
+			this.byUnit = group(this.unit);
+		}
+
+		private static Map<String, int[]> group(String[] values) {
+			Map<String, List<Integer>> map = new HashMap<>();
+			for (int i = 0; i < values.length; i++) {
+				if (null != values[i]) {
+					map.computeIfAbsent(values[i], k -> new ArrayList<>()).add(i);
+				}
+			}
+			return toArrays(map);
+		}
+
+		public String person(int i) {
+			return person[i];
+		}
+
+		public String unit(int i) {
+			return unit[i];
+		}
+
+		public String getPerson(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? null : person[i];
+		}
+
+		public String getUnit(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? null : unit[i];
+		}
+
+		public int[] withPerson(String personId) {
+			return (null == personId) ? EMPTY : byPerson.getOrDefault(personId, EMPTY);
+		}
+
+		public List<String> listWithPerson(String personId) {
+			return this.ids(this.withPerson(personId));
+		}
+
+		public List<String> listWithUnit(String unitId) {
+			return this.ids((null == unitId) ? EMPTY : byUnit.getOrDefault(unitId, EMPTY));
+		}
+	}
+
+	/** 组织职务,记录所属组织和担任职务的身份 */
+	public static final class Duties extends Nodes {
+
+		private final String[] unit;
+
+		private final Relation identity;
+
+		public Duties(List<String> ids, List<String> names, List<String> units, List<List<String>> identityLists) {
+			super(ids, names);
+			this.unit = units.toArray(new String[units.size()]);
+			this.identity = new Relation(identityLists);
+		}
+
+		public String getUnit(String id) {
+			int i = this.indexOf(id);
+			return (i == NONE) ? null : unit[i];
+		}
+
+		public int[] withIdentity(String identityId) {
+			return identity.containers(identityId);
+		}
+
+		public List<String> listWithIdentity(String identityId) {
+			return this.ids(identity.containers(identityId));
+		}
+	}
+
+	/** 角色,成员可以是个人和群组 */
+	public static final class Roles extends Nodes {
+
+		private final Relation person;
+
+		private final Relation group;
+
+		public Roles(List<String> ids, List<String> names, List<List<String>> personLists,
+				List<List<String>> groupLists) {
+			super(ids, names);
+			this.person = new Relation(personLists);
+			this.group = new Relation(groupLists);
+		}
+
+		public int[] withPerson(String personId) {
+			return person.containers(personId);
+		}
+
+		public int[] withGroup(String groupId) {
+			return group.containers(groupId);
+		}
+
+		public List<String> listWithPerson(String personId) {
+			return this.ids(person.containers(personId));
+		}
+
+		public List<String> listWithGroup(String groupId) {
+			return this.ids(group.containers(groupId));
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.x.organization.assemble.express.graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import com.x.base.core.container.EntityManagerContainer;
+import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.entity.JpaObject;
+import com.x.base.core.project.cache.Cache;
+import com.x.base.core.project.cache.CacheManager;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.jaxrs.WrapClearCacheRequest;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.tools.ListTools;
+import com.x.organization.core.entity.Group;
+import com.x.organization.core.entity.Identity;
+import com.x.organization.core.entity.Person;
+import com.x.organization.core.entity.Role;
+import com.x.organization.core.entity.Unit;
+import com.x.organization.core.entity.UnitDuty;
+
+/**
+ * 维护当前的组织关系图快照.
+ *
+ * 通过缓存清除请求得知组织对象的变化,将对应分区标记为失效,在下一次读取时只重建失效的分区并生成新版本的快照.
+ * 读取时如果没有失效分区直接返回当前快照,不加锁.
+ */
+public class GraphManager {
+
+	private static Logger logger = LoggerFactory.getLogger(GraphManager.class);
+
+	private GraphManager() {
+		// nothing
+	}
+
+	/* 仅使用redis缓存时收不到清除请求,快照的最长使用时间 */
+	private static final long MAX_AGE_WITHOUT_RECEIVE = 60 * 1000L;
+
+	private static final List<String> PARTITIONS = ListTools.toList(Unit.class.getName(), Person.class.getName(),
+			Group.class.getName(), Identity.class.getName(), UnitDuty.class.getName(), Role.class.getName());
+
+	private static final Set<String> INVALIDS = ConcurrentHashMap.newKeySet();
+
+	private static final AtomicLong VERSION = new AtomicLong(0);
+
+	private static volatile Graph graph;
+
+	private static volatile boolean receivable = true;
+
+	static {
+		INVALIDS.addAll(PARTITIONS);
+	}
+
+	public static void init() {
+		try {
+			receivable = (!StringUtils.equals(Config.cache().getType(), Cache.TYPE_REDIS))
+					|| BooleanUtils.isTrue(Config.cache().getRedis().getLocalCacheEnable());
+		} catch (Exception e) {
+			logger.error(e);
+		}
+		CacheManager.addReceiveListener(GraphManager::receive);
+	}
+
+	public static Graph graph() throws Exception {
+		Graph g = graph;
+		if ((null != g) && INVALIDS.isEmpty() && (!expired(g))) {
+			return g;
+		}
+		return rebuild();
+	}
+
+	public static void receive(WrapClearCacheRequest wi) {
+		if ((null != wi) && PARTITIONS.contains(wi.getClassName())) {
+			INVALIDS.add(wi.getClassName());
+		}
+	}
+
+	private static boolean expired(Graph g) {
+		return (!receivable) && ((System.currentTimeMillis() - g.createTime()) > MAX_AGE_WITHOUT_RECEIVE);
+	}
+
+	private static synchronized Graph rebuild() throws Exception {
+		Graph g = graph;
+		if ((null != g) && expired(g)) {
+			INVALIDS.addAll(PARTITIONS);
+		}
+		if ((null != g) && INVALIDS.isEmpty()) {
+			return g;
+		}
+		/* 先移除再加载,加载期间收到的清除请求会保留到下一次重建 */
+		List<String> names = new ArrayList<>(INVALIDS);
+		INVALIDS.removeAll(names);
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			long start = System.currentTimeMillis();
+			Graph.Tree unit = names.contains(Unit.class.getName()) ? loadUnit(emc) : g.unit();
+			Graph.Tree person = names.contains(Person.class.getName()) ? loadPerson(emc) : g.person();
+			Graph.Groups group = names.contains(Group.class.getName()) ? loadGroup(emc) : g.group();
+			Graph.Identities identity = names.contains(Identity.class.getName()) ? loadIdentity(emc) : g.identity();
+			Graph.Duties unitDuty = names.contains(UnitDuty.class.getName()) ? loadUnitDuty(emc) : g.unitDuty();
+			Graph.Roles role = names.contains(Role.class.getName()) ? loadRole(emc) : g.role();
+			g = new Graph(VERSION.incrementAndGet(), unit, person, group, identity, unitDuty, role);
+			graph = g;
+			logger.debug("organization graph rebuild version:{}, partitions:{}, elapsed:{}ms.", g.version(), names,
+					System.currentTimeMillis() - start);
+			return g;
+		} catch (Exception e) {
+			INVALIDS.addAll(names);
+			throw e;
+		}
+	}
+
+	private static Graph.Tree loadUnit(EntityManagerContainer emc) throws Exception {
+		List<Unit> os = emc.fetchAll(Unit.class,
+				ListTools.toList(JpaObject.id_FIELDNAME, JpaObject.DISTINGUISHEDNAME, Unit.superior_FIELDNAME,
+						Unit.orderNumber_FIELDNAME));
+		os = os.stream().sorted(Comparator.comparing(Unit::getOrderNumber, Comparator.nullsLast(Integer::compareTo)))
+				.collect(Collectors.toList());
+		return new Graph.Tree(os.stream().map(Unit::getId).collect(Collectors.toList()),
+				os.stream().map(Unit::getDistinguishedName).collect(Collectors.toList()),
+				os.stream().map(Unit::getSuperior).collect(Collectors.toList()));
+	}
+
+	private static Graph.Tree loadPerson(EntityManagerContainer emc) throws Exception {
+		List<Person> os = emc.fetchAll(Person.class,
+				ListTools.toList(JpaObject.id_FIELDNAME, JpaObject.DISTINGUISHEDNAME, Person.superior_FIELDNAME,
+						Person.orderNumber_FIELDNAME));
+		os = os.stream()
+				.sorted(Comparator.comparing(Person::getOrderNumber, Comparator.nullsLast(Integer::compareTo)))
+				.collect(Collectors.toList());
+		return new Graph.Tree(os.stream().map(Person::getId).collect(Collectors.toList()),
+				os.stream().map(Person::getDistinguishedName).collect(Collectors.toList()),
+				os.stream().map(Person::getSuperior).collect(Collectors.toList()));
+	}
+
+	private static Graph.Groups loadGroup(EntityManagerContainer emc) throws Exception {
+		List<Group> os = emc.listAll(Group.class);
+		return new Graph.Groups(os.stream().map(Group::getId).collect(Collectors.toList()),
+				os.stream().map(Group::getDistinguishedName).collect(Collectors.toList()),
+				os.stream().map(Group::getPersonList).collect(Collectors.toList()),
+				os.stream().map(Group::getGroupList).collect(Collectors.toList()),
+				os.stream().map(Group::getIdentityList).collect(Collectors.toList()),
+				os.stream().map(Group::getUnitList).collect(Collectors.toList()));
+	}
+
+	private static Graph.Identities loadIdentity(EntityManagerContainer emc) throws Exception {
+		List<Identity> os = emc.fetchAll(Identity.class, ListTools.toList(JpaObject.id_FIELDNAME,
+				JpaObject.DISTINGUISHEDNAME, Identity.person_FIELDNAME, Identity.unit_FIELDNAME,
+				Identity.orderNumber_FIELDNAME));
+		os = os.stream()
+				.sorted(Comparator.comparing(Identity::getOrderNumber, Comparator.nullsLast(Integer::compareTo)))
+				.collect(Collectors.toList());
+		return new Graph.Identities(os.stream().map(Identity::getId).collect(Collectors.toList()),
+				os.stream().map(Identity::getDistinguishedName).collect(Collectors.toList()),
+				os.stream().map(Identity::getPerson).collect(Collectors.toList()),
+				os.stream().map(Identity::getUnit).collect(Collectors.toList()));
+	}
+
+	private static Graph.Duties loadUnitDuty(EntityManagerContainer emc) throws Exception {
+		List<UnitDuty> os = emc.listAll(UnitDuty.class);
+		return new Graph.Duties(os.stream().map(UnitDuty::getId).collect(Collectors.toList()),
+				os.stream().map(UnitDuty::getDistinguishedName).collect(Collectors.toList()),
+				os.stream().map(UnitDuty::getUnit).collect(Collectors.toList()),
+				os.stream().map(UnitDuty::getIdentityList).collect(Collectors.toList()));
+	}
+
+	private static Graph.Roles loadRole(EntityManagerContainer emc) throws Exception {
+		List<Role> os = emc.listAll(Role.class);
+		return new Graph.Roles(os.stream().map(Role::getId).collect(Collectors.toList()),
+				os.stream().map(Role::getDistinguishedName).collect(Collectors.toList()),
+				os.stream().map(Role::getPersonList).collect(Collectors.toList()),
+				os.stream().map(Role::getGroupList).collect(Collectors.toList()));
+	}
+
+}
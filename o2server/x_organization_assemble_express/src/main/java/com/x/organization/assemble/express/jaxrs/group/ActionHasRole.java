@@ -2,7 +2,6 @@ package com.x.organization.assemble.express.jaxrs.group;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -38,14 +37,7 @@ class ActionHasRole extends BaseAction {
 			ActionResult<Wo> result = new ActionResult<>();
 			Business business = new Business(emc);
 			CacheKey cacheKey = new CacheKey(this.getClass(), wi.getGroup(), wi.getRoleList());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((Wo) optional.get());
-			} else {
-				Wo wo = this.get(business, wi);
-				CacheManager.put(cacheCategory, cacheKey, wo);
-				result.setData(wo);
-			}
+			result.setData(CacheManager.get(cacheCategory, cacheKey, () -> this.get(business, wi)).orElse(null));
 			return result;
 		}
 	}
@@ -2,7 +2,6 @@ package com.x.organization.assemble.express.jaxrs.group;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -25,14 +24,7 @@ class ActionListObject extends BaseAction {
 			ActionResult<List<Wo>> result = new ActionResult<>();
 			Business business = new Business(emc);
 			CacheKey cacheKey = new CacheKey(this.getClass(), wi.getGroupList());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((List<Wo>) optional.get());
-			} else {
-				List<Wo> wos = this.list(business, wi);
-				CacheManager.put(cacheCategory, cacheKey, wos);
-				result.setData(wos);
-			}
+			result.setData(CacheManager.get(cacheCategory, cacheKey, () -> this.list(business, wi)).orElse(null));
 			return result;
 		}
 	}
@@ -2,7 +2,6 @@ package com.x.organization.assemble.express.jaxrs.group;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -25,14 +24,7 @@ class ActionListWithGroupSubDirect extends BaseAction {
 			ActionResult<Wo> result = new ActionResult<>();
 			Business business = new Business(emc);
 			CacheKey cacheKey = new CacheKey(this.getClass(), wi.getGroupList());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((Wo) optional.get());
-			} else {
-				Wo wo = this.list(business, wi);
-				CacheManager.put(cacheCategory, cacheKey, wo);
-				result.setData(wo);
-			}
+			result.setData(CacheManager.get(cacheCategory, cacheKey, () -> this.list(business, wi)).orElse(null));
 			return result;
 		}
 	}
@@ -17,7 +17,6 @@ import org.apache.commons.lang3.BooleanUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 class ActionListWithIdentityObject extends BaseAction {
 
@@ -29,14 +28,7 @@ class ActionListWithIdentityObject extends BaseAction {
 			Business business = new Business(emc);
 			CacheKey cacheKey = new CacheKey(this.getClass(),  wi.getIdentityList() ,
 					wi.getRecursiveGroupFlag(), wi.getReferenceFlag(), wi.getRecursiveOrgFlag());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((List<Wo>) optional.get());
-			} else {
-				List<Wo> wos = this.list(business, wi);
-				CacheManager.put(cacheCategory, cacheKey, wos);
-				result.setData(wos);
-			}
+			result.setData(CacheManager.get(cacheCategory, cacheKey, () -> this.list(business, wi)).orElse(null));
 			return result;
 		}
 	}
@@ -0,0 +1,71 @@
+package com.x.organization.assemble.express.jaxrs.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.JsonElement;
+import com.x.base.core.container.EntityManagerContainer;
+import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.organization.assemble.express.Business;
+import com.x.organization.assemble.express.graph.GraphManager;
+import com.x.organization.core.entity.Person;
+
+class ActionExpandPrincipal extends BaseAction {
+
+	ActionResult<Wo> execute(EffectivePerson effectivePerson, JsonElement jsonElement) throws Exception {
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
+			ActionResult<Wo> result = new ActionResult<>();
+			Business business = new Business(emc);
+			Wo wo = new Wo();
+			if (StringUtils.isNotEmpty(wi.getPerson())) {
+				Person person = business.person().pick(wi.getPerson());
+				if (null != person) {
+					/* 闭包随组织关系图快照维护,不再额外缓存 */
+					List<String> list = GraphManager.graph().closure().expandDistinguishedName(person.getId());
+					list.sort(null);
+					wo.getPrincipalList().addAll(list);
+				}
+			}
+			result.setData(wo);
+			return result;
+		}
+	}
+
+	public static class Wi extends GsonPropertyObject {
+
+		@FieldDescribe("个人")
+		private String person;
+
+		public String getPerson() {
+			return person;
+		}
+
+		public void setPerson(String person) {
+			this.person = person;
+		}
+
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		@FieldDescribe("个人所属的全部主体识别名,包括个人,身份,组织(含上级组织),群组(含上级群组)和角色,按识别名升序排列.")
+		private List<String> principalList = new ArrayList<>();
+
+		public List<String> getPrincipalList() {
+			return principalList;
+		}
+
+		public void setPrincipalList(List<String> principalList) {
+			this.principalList = principalList;
+		}
+
+	}
+
+}
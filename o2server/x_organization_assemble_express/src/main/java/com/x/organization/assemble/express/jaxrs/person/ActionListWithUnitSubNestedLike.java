@@ -2,7 +2,6 @@ package com.x.organization.assemble.express.jaxrs.person;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -40,14 +39,9 @@ class ActionListWithUnitSubNestedLike extends BaseAction {
 			Business business = new Business(emc);
 
 			CacheKey cacheKey = new CacheKey(this.getClass(), wi.getUnitList(), wi.getKey());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((Wo) optional.get());
-			} else {
-				Wo wo = this.list(business, wi, this.people(business, wi));
-				CacheManager.put(cacheCategory, cacheKey, wo);
-				result.setData(wo);
-			}
+			result.setData(CacheManager
+					.get(cacheCategory, cacheKey, () -> this.list(business, wi, this.people(business, wi)))
+					.orElse(null));
 			return result;
 		}
 	}
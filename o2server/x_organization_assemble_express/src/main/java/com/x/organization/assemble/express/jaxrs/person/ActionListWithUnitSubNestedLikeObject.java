@@ -38,14 +38,9 @@ class ActionListWithUnitSubNestedLikeObject extends BaseAction {
 			ActionResult<List<Wo>> result = new ActionResult<>();
 			Business business = new Business(emc);
 			CacheKey cacheKey = new CacheKey(this.getClass(), wi.getUnitList(), wi.getKey());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((List<Wo>) optional.get());
-			} else {
-				List<Wo> wos = this.list(business, wi, this.people(business, wi));
-				CacheManager.put(cacheCategory, cacheKey, wos);
-				result.setData(wos);
-			}
+			result.setData(CacheManager
+					.get(cacheCategory, cacheKey, () -> this.list(business, wi, this.people(business, wi)))
+					.orElse(null));
 			return result;
 		}
 	}
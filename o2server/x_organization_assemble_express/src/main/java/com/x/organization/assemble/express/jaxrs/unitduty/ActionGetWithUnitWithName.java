@@ -24,7 +24,6 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import java.util.List;
-import java.util.Optional;
 
 class ActionGetWithUnitWithName extends BaseAction {
 
@@ -37,14 +36,9 @@ class ActionGetWithUnitWithName extends BaseAction {
 				return result;
 			}
 			CacheKey cacheKey = new CacheKey(this.getClass(), wi.getName(), wi.getUnit());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((Wo) optional.get());
-			} else {
-				Wo wo = this.getUnitDutity(business, wi.getName(), wi.getUnit());
-				CacheManager.put(cacheCategory, cacheKey, wo);
-				result.setData(wo);
-			}
+			result.setData(CacheManager
+					.get(cacheCategory, cacheKey, () -> this.getUnitDutity(business, wi.getName(), wi.getUnit()))
+					.orElse(null));
 			return result;
 		}
 	}
@@ -2,7 +2,6 @@ package com.x.organization.assemble.express.jaxrs.unitduty;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -55,17 +54,12 @@ class ActionListIdentityWithUnitWithName extends BaseAction {
 			if (ListTools.isNotEmpty(wi.getUnitList())) {
 				units.addAll(wi.getUnitList());
 			}
-			names = ListTools.trim(names, true, true);
-			units = ListTools.trim(units, true, true);
-			CacheKey cacheKey = new CacheKey(this.getClass(), names, units, wi.getRecursiveUnit());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((Wo) optional.get());
-			} else {
-				Wo wo = this.list(business, names, units, wi.getRecursiveUnit());
-				CacheManager.put(cacheCategory, cacheKey, wo);
-				result.setData(wo);
-			}
+			List<String> nameList = ListTools.trim(names, true, true);
+			List<String> unitList = ListTools.trim(units, true, true);
+			CacheKey cacheKey = new CacheKey(this.getClass(), nameList, unitList, wi.getRecursiveUnit());
+			result.setData(CacheManager
+					.get(cacheCategory, cacheKey, () -> this.list(business, nameList, unitList, wi.getRecursiveUnit()))
+					.orElse(null));
 			return result;
 		}
 	}
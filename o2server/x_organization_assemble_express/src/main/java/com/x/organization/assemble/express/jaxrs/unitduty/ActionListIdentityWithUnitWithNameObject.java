@@ -46,17 +46,12 @@ class ActionListIdentityWithUnitWithNameObject extends BaseAction {
 			if (ListTools.isNotEmpty(wi.getUnitList())) {
 				units.addAll(wi.getUnitList());
 			}
-			names = ListTools.trim(names, true, true);
-			units = ListTools.trim(units, true, true);
-			CacheKey cacheKey = new CacheKey(this.getClass(), names, units, wi.getRecursiveUnit());
-			Optional<?> optional = CacheManager.get(cacheCategory, cacheKey);
-			if (optional.isPresent()) {
-				result.setData((List<Wo>) optional.get());
-			} else {
-				List<Wo> wos = this.list(business, names, units, wi.getRecursiveUnit());
-				CacheManager.put(cacheCategory, cacheKey, wos);
-				result.setData(wos);
-			}
+			List<String> nameList = ListTools.trim(names, true, true);
+			List<String> unitList = ListTools.trim(units, true, true);
+			CacheKey cacheKey = new CacheKey(this.getClass(), nameList, unitList, wi.getRecursiveUnit());
+			result.setData(CacheManager
+					.get(cacheCategory, cacheKey, () -> this.list(business, nameList, unitList, wi.getRecursiveUnit()))
+					.orElse(null));
 			return result;
 		}
 	}
@@ -2,6 +2,7 @@ package com.x.organization.core.express;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.x.base.core.project.AbstractContext;
@@ -116,6 +117,25 @@ public class Organization {
 		return empowerLog;
 	}
 
+	/** 个人所属的全部主体(个人,身份,组织,群组,角色),按distinguishedName升序排列,可直接用于权限判断的交集计算 */
+	public List<String> expandPrincipals(String person) throws Exception {
+		return this.person().expandPrincipals(person);
+	}
+
+	/** 个人是否属于指定主体中的一个或者多个 */
+	public boolean hasAnyPrincipal(String person, Collection<String> principals) throws Exception {
+		if ((null == principals) || principals.isEmpty()) {
+			return false;
+		}
+		List<String> list = this.expandPrincipals(person);
+		for (String o : principals) {
+			if (Collections.binarySearch(list, o) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/** 根据个人身份获取组织 */
 	/** 表示获取第几层的组织 */
 	public String listSupUnit(String name, Integer nested) throws Exception {
@@ -0,0 +1,48 @@
+package com.x.organization.core.express.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.x.base.core.project.AbstractContext;
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.gson.GsonPropertyObject;
+
+class ActionExpandPrincipal extends BaseAction {
+
+	public static List<String> execute(AbstractContext context, String person) throws Exception {
+		Wi wi = new Wi();
+		wi.setPerson(person);
+		Wo wo = context.applications().postQuery(applicationClass, "person/expand/principal", wi).getData(Wo.class);
+		return wo.getPrincipalList();
+	}
+
+	public static class Wi extends GsonPropertyObject {
+
+		@FieldDescribe("个人")
+		private String person;
+
+		public String getPerson() {
+			return person;
+		}
+
+		public void setPerson(String person) {
+			this.person = person;
+		}
+
+	}
+
+	public static class Wo extends GsonPropertyObject {
+
+		@FieldDescribe("主体识别名")
+		private List<String> principalList = new ArrayList<>();
+
+		public List<String> getPrincipalList() {
+			return principalList;
+		}
+
+		public void setPrincipalList(List<String> principalList) {
+			this.principalList = principalList;
+		}
+
+	}
+}
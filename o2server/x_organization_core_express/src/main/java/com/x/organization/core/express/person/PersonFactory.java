@@ -38,6 +38,11 @@ public class PersonFactory {
 		return ActionHasRole.execute(context, person, Arrays.asList(values));
 	}
 
+	/** 获取个人所属的全部主体(个人,身份,组织,群组,角色)的distinguishedName,按升序排列 */
+	public List<String> expandPrincipals(String person) throws Exception {
+		return ActionExpandPrincipal.execute(context, person);
+	}
+
 	/** 获取单个个人的distinguishedName */
 	public String get(String value) throws Exception {
 		List<String> os = ActionList.execute(context, Arrays.asList(value));
@@ -143,14 +143,16 @@ abstract class BaseAction extends StandardJaxrsAction {
 		DataItemConverter<Item> converter = new DataItemConverter<>(Item.class);
 		List<Item> exists = business.item().listWithJobWithPath(work.getJob(), paths);
 		List<Item> currents = converter.disassemble(jsonObject, paths);
-		List<Item> removes = converter.subtract(exists, currents);
-		List<Item> adds = converter.subtract(currents, exists);
-		if ((!removes.isEmpty()) || (!adds.isEmpty())) {
+		DataItemConverter.Diff<Item> diff = converter.diff(exists, currents);
+		if (!diff.isEmpty()) {
 			business.entityManagerContainer().beginTransaction(Item.class);
-			for (Item _o : removes) {
+			for (Item _o : diff.getRemoves()) {
 				business.entityManagerContainer().remove(_o);
 			}
-			for (Item _o : adds) {
+			for (DataItemConverter.Change<Item> change : diff.getChanges()) {
+				converter.copy(change.getCurrent(), change.getExist());
+			}
+			for (Item _o : diff.getAdds()) {
 				this.fill(_o, work);
 				business.entityManagerContainer().persist(_o);
 			}
@@ -177,14 +179,16 @@ abstract class BaseAction extends StandardJaxrsAction {
 		DataItemConverter<Item> converter = new DataItemConverter<>(Item.class);
 		List<Item> exists = business.item().listWithJobWithPath(workCompleted.getJob(), paths);
 		List<Item> currents = converter.disassemble(jsonObject, paths);
-		List<Item> removes = converter.subtract(exists, currents);
-		List<Item> adds = converter.subtract(currents, exists);
-		if ((!removes.isEmpty()) || (!adds.isEmpty())) {
+		DataItemConverter.Diff<Item> diff = converter.diff(exists, currents);
+		if (!diff.isEmpty()) {
 			business.entityManagerContainer().beginTransaction(Item.class);
-			for (Item _o : removes) {
+			for (Item _o : diff.getRemoves()) {
 				business.entityManagerContainer().remove(_o);
 			}
-			for (Item _o : adds) {
+			for (DataItemConverter.Change<Item> change : diff.getChanges()) {
+				converter.copy(change.getCurrent(), change.getExist());
+			}
+			for (Item _o : diff.getAdds()) {
 				this.fill(_o, workCompleted);
 				business.entityManagerContainer().persist(_o);
 			}
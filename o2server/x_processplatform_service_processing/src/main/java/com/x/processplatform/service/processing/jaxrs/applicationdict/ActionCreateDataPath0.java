@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.applicationdict;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -15,7 +15,7 @@ import com.x.processplatform.service.processing.Business;
 
 class ActionCreateDataPath0 extends BaseAction {
 
-	ActionResult<Wo> execute(String id, String path0, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(String id, String path0, JsonElement jsonElement) throws Exception {
 
 		Callable<ActionResult<Wo>> callable = new Callable<ActionResult<Wo>>() {
 			public ActionResult<Wo> call() throws Exception {
@@ -36,7 +36,7 @@ class ActionCreateDataPath0 extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(id).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(id, callable);
 	}
 
 	public static class Wo extends WoId {
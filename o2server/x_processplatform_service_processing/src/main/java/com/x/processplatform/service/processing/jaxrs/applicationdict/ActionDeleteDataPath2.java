@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.applicationdict;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
@@ -14,7 +14,7 @@ import com.x.processplatform.service.processing.Business;
 
 class ActionDeleteDataPath2 extends BaseAction {
 
-	ActionResult<Wo> execute(String id, String path0, String path1, String path2) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(String id, String path0, String path1, String path2) throws Exception {
 
 		Callable<ActionResult<Wo>> callable = new Callable<ActionResult<Wo>>() {
 			public ActionResult<Wo> call() throws Exception {
@@ -35,7 +35,7 @@ class ActionDeleteDataPath2 extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(id).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(id, callable);
 	}
 
 	public static class Wo extends WoId {
@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.applicationdict;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -20,7 +20,8 @@ import com.x.processplatform.service.processing.Business;
 
 class ActionUpdate extends BaseAction {
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement) throws Exception {
 
 		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
 
@@ -49,7 +50,7 @@ class ActionUpdate extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(id).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(id, callable);
 
 	}
 
@@ -17,10 +17,8 @@ import com.google.gson.JsonElement;
 import com.x.base.core.project.annotation.JaxrsDescribe;
 import com.x.base.core.project.annotation.JaxrsMethodDescribe;
 import com.x.base.core.project.annotation.JaxrsParameterDescribe;
-import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.http.HttpMediaType;
-import com.x.base.core.project.jaxrs.ResponseFactory;
 import com.x.base.core.project.jaxrs.StandardJaxrsAction;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
@@ -38,15 +36,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void update(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id, JsonElement jsonElement) {
-		ActionResult<ActionUpdate.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdate().execute(effectivePerson, id, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdate().execute(effectivePerson, id, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath0.class)
@@ -57,15 +49,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 	public void updateDataPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath0().execute(id, path0, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath0().execute(id, path0, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据..", action = ActionUpdateDataPath1.class)
@@ -77,15 +63,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath1().execute(id, path0, path1, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath1().execute(id, path0, path1, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath2.class)
@@ -98,15 +78,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1,
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath2().execute(id, path0, path1, path2, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath2().execute(id, path0, path1, path2, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath3.class)
@@ -120,15 +94,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1,
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath3().execute(id, path0, path1, path2, path3, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath3().execute(id, path0, path1, path2, path3, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath4.class)
@@ -143,15 +111,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3,
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath4().execute(id, path0, path1, path2, path3, path4, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath4().execute(id, path0, path1, path2, path3, path4, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath5.class)
@@ -167,15 +129,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3,
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath5().execute(id, path0, path1, path2, path3, path4, path5, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath5().execute(id, path0, path1, path2, path3, path4, path5, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath6.class)
@@ -192,16 +148,10 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5,
 			@JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath6().execute(id, path0, path1, path2, path3, path4, path5, path6,
-					jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath6().execute(id, path0, path1, path2, path3, path4, path5, path6,
+						jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典和路径更新Application下的数据字典局部数据.", action = ActionUpdateDataPath7.class)
@@ -219,16 +169,10 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5,
 			@JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7, JsonElement jsonElement) {
-		ActionResult<ActionUpdateDataPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateDataPath7().execute(id, path0, path1, path2, path3, path4, path5, path6, path7,
-					jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateDataPath7().execute(id, path0, path1, path2, path3, path4, path5, path6, path7,
+						jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath0.class)
@@ -239,15 +183,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 	public void createDataPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath0().execute(id, path0, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath0().execute(id, path0, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath1.class)
@@ -259,15 +197,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path1") String path1, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath1().execute(id, path0, path1, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath1().execute(id, path0, path1, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath2.class)
@@ -280,15 +212,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1,
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath2().execute(id, path0, path1, path2, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath2().execute(id, path0, path1, path2, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath3.class)
@@ -302,15 +228,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1,
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath3().execute(id, path0, path1, path2, path3, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath3().execute(id, path0, path1, path2, path3, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath4.class)
@@ -325,15 +245,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3,
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath4().execute(id, path0, path1, path2, path3, path4, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath4().execute(id, path0, path1, path2, path3, path4, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath5.class)
@@ -349,15 +263,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3,
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath5().execute(id, path0, path1, path2, path3, path4, path5, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath5().execute(id, path0, path1, path2, path3, path4, path5, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath6.class)
@@ -374,16 +282,10 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5,
 			@JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath6().execute(id, path0, path1, path2, path3, path4, path5, path6,
-					jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath6().execute(id, path0, path1, path2, path3, path4, path5, path6,
+						jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径添加Application下的新的局部数据.", action = ActionCreateDataPath7.class)
@@ -401,16 +303,10 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5,
 			@JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7, JsonElement jsonElement) {
-		ActionResult<ActionCreateDataPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateDataPath7().execute(id, path0, path1, path2, path3, path4, path5, path6, path7,
-					jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateDataPath7().execute(id, path0, path1, path2, path3, path4, path5, path6, path7,
+						jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath0.class)
@@ -421,15 +317,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 	public void deleteDataPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0) {
-		ActionResult<ActionDeleteDataPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath0().execute(id, path0);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath0().execute(id, path0));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath1.class)
@@ -441,15 +331,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("数据字典标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1) {
-		ActionResult<ActionDeleteDataPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath1().execute(id, path0, path1);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath1().execute(id, path0, path1));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath2.class)
@@ -462,15 +346,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1,
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2) {
-		ActionResult<ActionDeleteDataPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath2().execute(id, path0, path1, path2);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath2().execute(id, path0, path1, path2));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath3.class)
@@ -484,15 +362,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1,
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3) {
-		ActionResult<ActionDeleteDataPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath3().execute(id, path0, path1, path2, path3);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath3().execute(id, path0, path1, path2, path3));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath4.class)
@@ -507,15 +379,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3,
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4) {
-		ActionResult<ActionDeleteDataPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath4().execute(id, path0, path1, path2, path3, path4);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath4().execute(id, path0, path1, path2, path3, path4));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath5.class)
@@ -531,15 +397,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3,
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5) {
-		ActionResult<ActionDeleteDataPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath5().execute(id, path0, path1, path2, path3, path4, path5);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath5().execute(id, path0, path1, path2, path3, path4, path5));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath6.class)
@@ -556,15 +416,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5,
 			@JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6) {
-		ActionResult<ActionDeleteDataPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath6().execute(id, path0, path1, path2, path3, path4, path5, path6);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath6().execute(id, path0, path1, path2, path3, path4, path5, path6));
 	}
 
 	@JaxrsMethodDescribe(value = "根据字典ID和路径删除Application下的数据字典局部数据.", action = ActionDeleteDataPath7.class)
@@ -582,15 +436,9 @@ public class ApplicationDictAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5,
 			@JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7) {
-		ActionResult<ActionDeleteDataPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteDataPath7().execute(id, path0, path1, path2, path3, path4, path5, path6, path7);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteDataPath7().execute(id, path0, path1, path2, path3, path4, path5, path6, path7));
 	}
 
 }
\ No newline at end of file
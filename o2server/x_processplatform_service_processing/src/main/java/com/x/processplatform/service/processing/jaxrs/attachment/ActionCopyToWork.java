@@ -3,7 +3,7 @@ package com.x.processplatform.service.processing.jaxrs.attachment;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -34,7 +34,8 @@ class ActionCopyToWork extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionCopyToWork.class);
 
-	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson, String workId, JsonElement jsonElement)
+	CompletableFuture<ActionResult<List<Wo>>> execute(EffectivePerson effectivePerson, String workId,
+			JsonElement jsonElement)
 			throws Exception {
 
 		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
@@ -89,7 +90,7 @@ class ActionCopyToWork extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable);
 
 	}
 
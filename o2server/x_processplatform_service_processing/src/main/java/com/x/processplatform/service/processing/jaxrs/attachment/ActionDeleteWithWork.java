@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.attachment;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
@@ -29,7 +29,8 @@ class ActionDeleteWithWork extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionDeleteWithWork.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, String workId) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			String workId) throws Exception {
 
 		ActionResult<Wo> result = new ActionResult<>();
 		Wo wo = new Wo();
@@ -70,10 +71,10 @@ class ActionDeleteWithWork extends BaseAction {
 			}
 		};
 
-		ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
-
-		result.setData(wo);
-		return result;
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable).thenApply(o -> {
+			result.setData(wo);
+			return result;
+		});
 
 	}
 
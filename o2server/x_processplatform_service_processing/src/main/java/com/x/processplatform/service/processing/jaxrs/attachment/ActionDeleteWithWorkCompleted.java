@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.attachment;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
@@ -28,7 +28,8 @@ class ActionDeleteWithWorkCompleted extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionDeleteWithWorkCompleted.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, String workCompletedId) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			String workCompletedId) throws Exception {
 
 		ActionResult<Wo> result = new ActionResult<>();
 		Wo wo = new Wo();
@@ -69,10 +70,10 @@ class ActionDeleteWithWorkCompleted extends BaseAction {
 			}
 		};
 
-		ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
-
-		result.setData(wo);
-		return result;
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable).thenApply(o -> {
+			result.setData(wo);
+			return result;
+		});
 	}
 
 	public static class Wo extends WoId {
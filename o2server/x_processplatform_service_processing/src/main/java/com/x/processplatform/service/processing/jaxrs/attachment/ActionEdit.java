@@ -2,7 +2,7 @@ package com.x.processplatform.service.processing.jaxrs.attachment;
 
 import java.util.Arrays;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -24,7 +24,8 @@ class ActionEdit extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionEdit.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement) throws Exception {
 
 		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
 		String executorSeed = null;
@@ -57,7 +58,7 @@ class ActionEdit extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable);
 
 	}
 
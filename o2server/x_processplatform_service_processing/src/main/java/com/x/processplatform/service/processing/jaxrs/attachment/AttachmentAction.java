@@ -19,10 +19,8 @@ import com.google.gson.JsonElement;
 import com.x.base.core.project.annotation.JaxrsDescribe;
 import com.x.base.core.project.annotation.JaxrsMethodDescribe;
 import com.x.base.core.project.annotation.JaxrsParameterDescribe;
-import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.http.HttpMediaType;
-import com.x.base.core.project.jaxrs.ResponseFactory;
 import com.x.base.core.project.jaxrs.StandardJaxrsAction;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
@@ -40,15 +38,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void edit(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("附件标识") @PathParam("id") String id, JsonElement jsonElement) {
-		ActionResult<ActionEdit.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionEdit().execute(effectivePerson, id, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionEdit().execute(effectivePerson, id, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新附件文本.", action = ActionEditText.class)
@@ -58,15 +50,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void exitText(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("附件标识") @PathParam("id") String id, JsonElement jsonElement) {
-		ActionResult<ActionEditText.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionEditText().execute(effectivePerson, id, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionEditText().execute(effectivePerson, id, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "删除指定附件.", action = ActionDelete.class)
@@ -76,15 +62,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void delete(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("附件标识") @PathParam("id") String id) {
-		ActionResult<ActionDelete.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDelete().execute(effectivePerson, id);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDelete().execute(effectivePerson, id));
 	}
 
 	@JaxrsMethodDescribe(value = "删除指定work下的附件.", action = ActionDeleteWithWork.class)
@@ -95,15 +75,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	public void deleteWithWork(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("附件标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("工作标识") @PathParam("workId") String workId) {
-		ActionResult<ActionDeleteWithWork.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWork().execute(effectivePerson, id, workId);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWork().execute(effectivePerson, id, workId));
 	}
 
 	@JaxrsMethodDescribe(value = "删除指定work下的附件.", action = ActionDeleteWithWorkCompleted.class)
@@ -114,15 +88,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	public void deleteWithWorkCompleted(@Suspended final AsyncResponse asyncResponse,
 			@Context HttpServletRequest request, @JaxrsParameterDescribe("附件标识") @PathParam("id") String id,
 			@JaxrsParameterDescribe("工作标识") @PathParam("workCompletedId") String workCompletedId) {
-		ActionResult<ActionDeleteWithWorkCompleted.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkCompleted().execute(effectivePerson, id, workCompletedId);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkCompleted().execute(effectivePerson, id, workCompletedId));
 	}
 
 	@JaxrsMethodDescribe(value = "由指定的工作拷贝附件.", action = ActionCopyToWork.class)
@@ -132,15 +100,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void copyToWork(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("workId") String workId, JsonElement jsonElement) {
-		ActionResult<List<ActionCopyToWork.Wo>> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCopyToWork().execute(effectivePerson, workId, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCopyToWork().execute(effectivePerson, workId, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "由指定的工作拷贝附件.", action = ActionCopyToWorkCompleted.class)
@@ -150,15 +112,9 @@ public class AttachmentAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void copyToWorkCompleted(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 						   @JaxrsParameterDescribe("工作标识") @PathParam("workCompletedId") String workCompletedId, JsonElement jsonElement) {
-		ActionResult<List<ActionCopyToWorkCompleted.Wo>> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCopyToWorkCompleted().execute(effectivePerson, workCompletedId, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCopyToWorkCompleted().execute(effectivePerson, workCompletedId, jsonElement));
 	}
 
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.data;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -23,7 +23,8 @@ class ActionCreateWithWorkPath0 extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionCreateWithWorkPath0.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, String path0, JsonElement jsonElement)
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id, String path0,
+			JsonElement jsonElement)
 			throws Exception {
 
 		Wo wo = new Wo();
@@ -54,10 +55,10 @@ class ActionCreateWithWorkPath0 extends BaseAction {
 			}
 		};
 
-		ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
-
-		result.setData(wo);
-		return result;
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable).thenApply(o -> {
+			result.setData(wo);
+			return result;
+		});
 	}
 
 	public static class Wo extends WoId {
@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.data;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -23,7 +23,7 @@ class ActionCreateWithWorkPath1 extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionCreateWithWorkPath1.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, String path0, String path1,
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id, String path0, String path1,
 			JsonElement jsonElement) throws Exception {
 		Wo wo = new Wo();
 		ActionResult<Wo> result = new ActionResult<>();
@@ -53,10 +53,10 @@ class ActionCreateWithWorkPath1 extends BaseAction {
 			}
 		};
 
-		ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
-
-		result.setData(wo);
-		return result;
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable).thenApply(o -> {
+			result.setData(wo);
+			return result;
+		});
 	}
 
 	public static class Wo extends WoId {
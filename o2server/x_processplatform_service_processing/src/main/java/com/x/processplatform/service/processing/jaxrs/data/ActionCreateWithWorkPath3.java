@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.data;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -23,7 +23,8 @@ class ActionCreateWithWorkPath3 extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionCreateWithWorkPath3.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, String path0, String path1, String path2,
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id, String path0, String path1,
+			String path2,
 			String path3, JsonElement jsonElement) throws Exception {
 		Wo wo = new Wo();
 		ActionResult<Wo> result = new ActionResult<>();
@@ -53,10 +54,10 @@ class ActionCreateWithWorkPath3 extends BaseAction {
 			}
 		};
 
-		ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
-
-		result.setData(wo);
-		return result;
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable).thenApply(o -> {
+			result.setData(wo);
+			return result;
+		});
 	}
 
 	public static class Wo extends WoId {
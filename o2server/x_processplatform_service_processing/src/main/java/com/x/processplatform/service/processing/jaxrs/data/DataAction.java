@@ -38,15 +38,9 @@ public class DataAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void updateWithWork(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWork.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWork().execute(effectivePerson, id, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWork().execute(effectivePerson, id, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath0.class)
@@ -57,15 +51,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void updateWithWorkPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath0().execute(effectivePerson, id, path0, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath0().execute(effectivePerson, id, path0, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath1.class)
@@ -76,15 +64,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void updateWithWorkPath1(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath1().execute(effectivePerson, id, path0, path1, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath1().execute(effectivePerson, id, path0, path1, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath2.class)
@@ -96,15 +78,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath2().execute(effectivePerson, id, path0, path1, path2, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath2().execute(effectivePerson, id, path0, path1, path2, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath3.class)
@@ -116,15 +92,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath3().execute(effectivePerson, id, path0, path1, path2, path3, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath3().execute(effectivePerson, id, path0, path1, path2, path3, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath4.class)
@@ -137,15 +107,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath5.class)
@@ -158,15 +122,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath6.class)
@@ -180,15 +138,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定Work的Data数据.", action = ActionUpdateWithWorkPath7.class)
@@ -202,15 +154,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompleted.class)
@@ -220,15 +166,9 @@ public class DataAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void updateWithWorkCompleted(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("完成工作标识") @PathParam("id") String id, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompleted.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompleted().execute(effectivePerson, id, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompleted().execute(effectivePerson, id, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath0.class)
@@ -239,15 +179,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void updateWithWorkCompletedPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("完成工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath0().execute(effectivePerson, id, path0, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath0().execute(effectivePerson, id, path0, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据Path0基本字段特殊处理.", action = ActionUpdateWithWorkCompletedPrimitivePath0.class)
@@ -257,15 +191,9 @@ public class DataAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void updateWithWorkCompletedPrimitivePath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("完成工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0, String val) {
-		ActionResult<ActionUpdateWithWorkCompletedPrimitivePath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPrimitivePath0().execute(effectivePerson, id, path0, val);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionUpdateWithWorkCompletedPrimitivePath0().execute(effectivePerson, id, path0, val));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath1.class)
@@ -276,15 +204,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void updateWithWorkCompletedPath1(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("完成工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath1().execute(effectivePerson, id, path0, path1, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath1().execute(effectivePerson, id, path0, path1, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath2.class)
@@ -296,15 +218,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("完成工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath2().execute(effectivePerson, id, path0, path1, path2, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath2().execute(effectivePerson, id, path0, path1, path2, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath3.class)
@@ -316,15 +232,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("完成工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath3().execute(effectivePerson, id, path0, path1, path2, path3, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath3().execute(effectivePerson, id, path0, path1, path2, path3, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath4.class)
@@ -337,15 +247,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath5.class)
@@ -358,15 +262,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath6.class)
@@ -380,15 +278,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "更新指定WorkCompleted的Data数据.", action = ActionUpdateWithWorkCompletedPath7.class)
@@ -402,15 +294,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7, JsonElement jsonElement) {
-		ActionResult<ActionUpdateWithWorkCompletedPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionUpdateWithWorkCompletedPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionUpdateWithWorkCompletedPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWork.class)
@@ -420,15 +306,9 @@ public class DataAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void createWithWork(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWork.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWork().execute(effectivePerson, id, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWork().execute(effectivePerson, id, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath0.class)
@@ -439,15 +319,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void createWithWorkPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath0().execute(effectivePerson, id, path0, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath0().execute(effectivePerson, id, path0, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath1.class)
@@ -458,15 +332,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void createWithWorkPath1(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath1().execute(effectivePerson, id, path0, path1, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath1().execute(effectivePerson, id, path0, path1, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath2.class)
@@ -478,15 +346,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath2().execute(effectivePerson, id, path0, path1, path2, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath2().execute(effectivePerson, id, path0, path1, path2, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath3.class)
@@ -498,15 +360,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath3().execute(effectivePerson, id, path0, path1, path2, path3, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath3().execute(effectivePerson, id, path0, path1, path2, path3, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath4.class)
@@ -519,15 +375,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath5.class)
@@ -540,15 +390,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath6.class)
@@ -562,15 +406,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work添加局部data数据.", action = ActionCreateWithWorkPath7.class)
@@ -584,15 +422,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7, JsonElement jsonElement) {
-		ActionResult<ActionCreateWithWorkPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionCreateWithWorkPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7, jsonElement);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, jsonElement);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, jsonElement, logger,
+				() -> new ActionCreateWithWorkPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7, jsonElement));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWork.class)
@@ -620,15 +452,9 @@ public class DataAction extends StandardJaxrsAction {
 	@Consumes(MediaType.APPLICATION_JSON)
 	public void deleteWithWorkPath0(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0) {
-		ActionResult<ActionDeleteWithWorkPath0.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath0().execute(effectivePerson, id, path0);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath0().execute(effectivePerson, id, path0));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath1.class)
@@ -639,15 +465,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void deleteWithWorkPath1(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1) {
-		ActionResult<ActionDeleteWithWorkPath1.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath1().execute(effectivePerson, id, path0, path1);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath1().execute(effectivePerson, id, path0, path1));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath2.class)
@@ -658,15 +478,9 @@ public class DataAction extends StandardJaxrsAction {
 	public void deleteWithWorkPath2(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2) {
-		ActionResult<ActionDeleteWithWorkPath2.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath2().execute(effectivePerson, id, path0, path1, path2);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath2().execute(effectivePerson, id, path0, path1, path2));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath3.class)
@@ -678,15 +492,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3) {
-		ActionResult<ActionDeleteWithWorkPath3.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath3().execute(effectivePerson, id, path0, path1, path2, path3);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath3().execute(effectivePerson, id, path0, path1, path2, path3));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath4.class)
@@ -698,15 +506,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("工作标识") @PathParam("id") String id, @JaxrsParameterDescribe("0级路径") @PathParam("path0") String path0,
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4) {
-		ActionResult<ActionDeleteWithWorkPath4.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath4().execute(effectivePerson, id, path0, path1, path2, path3, path4));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath5.class)
@@ -719,15 +521,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5) {
-		ActionResult<ActionDeleteWithWorkPath5.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath5().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath6.class)
@@ -740,15 +536,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("1级路径") @PathParam("path1") String path1, @JaxrsParameterDescribe("2级路径") @PathParam("path2") String path2,
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6) {
-		ActionResult<ActionDeleteWithWorkPath6.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath6().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6));
 	}
 
 	@JaxrsMethodDescribe(value = "对指定的work删除局部data数据.", action = ActionDeleteWithWorkPath7.class)
@@ -762,15 +552,9 @@ public class DataAction extends StandardJaxrsAction {
 			@JaxrsParameterDescribe("3级路径") @PathParam("path3") String path3, @JaxrsParameterDescribe("4级路径") @PathParam("path4") String path4,
 			@JaxrsParameterDescribe("5级路径") @PathParam("path5") String path5, @JaxrsParameterDescribe("6级路径") @PathParam("path6") String path6,
 			@JaxrsParameterDescribe("7级路径") @PathParam("path7") String path7) {
-		ActionResult<ActionDeleteWithWorkPath7.Wo> result = new ActionResult<>();
 		EffectivePerson effectivePerson = this.effectivePerson(request);
-		try {
-			result = new ActionDeleteWithWorkPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7);
-		} catch (Exception e) {
-			logger.error(e, effectivePerson, request, null);
-			result.error(e);
-		}
-		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+		this.asyncResume(asyncResponse, request, effectivePerson, null, logger,
+				() -> new ActionDeleteWithWorkPath7().execute(effectivePerson, id, path0, path1, path2, path3, path4, path5, path6, path7));
 	}
 
 	//	@JaxrsMethodDescribe(value = "更新指定Work的Data数据合并区段数据.", action = ActionUpdateWithWorkSection.class)
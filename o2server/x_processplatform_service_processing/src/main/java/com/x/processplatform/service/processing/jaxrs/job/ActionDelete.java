@@ -3,7 +3,7 @@ package com.x.processplatform.service.processing.jaxrs.job;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
@@ -28,7 +28,7 @@ import com.x.query.core.entity.Item;
 
 public class ActionDelete extends BaseAction {
 
-	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson, String job) throws Exception {
+	CompletableFuture<ActionResult<List<Wo>>> execute(EffectivePerson effectivePerson, String job) throws Exception {
 
 		Callable<ActionResult<List<Wo>>> callable = new Callable<ActionResult<List<Wo>>>() {
 			public ActionResult<List<Wo>> call() throws Exception {
@@ -109,7 +109,7 @@ public class ActionDelete extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(job).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, callable);
 
 	}
 
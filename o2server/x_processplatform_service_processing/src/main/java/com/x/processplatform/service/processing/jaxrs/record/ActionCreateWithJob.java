@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.record;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -24,7 +24,8 @@ class ActionCreateWithJob extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionCreateWithJob.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String job, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String job,
+			JsonElement jsonElement) throws Exception {
 
 		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
 
@@ -47,7 +48,7 @@ class ActionCreateWithJob extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(job).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, callable);
 
 	}
 
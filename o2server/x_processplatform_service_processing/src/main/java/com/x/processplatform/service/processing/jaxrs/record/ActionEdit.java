@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.record;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -27,7 +27,8 @@ class ActionEdit extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionEdit.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement) throws Exception {
 
 		final Bag bag = new Bag();
 
@@ -61,7 +62,7 @@ class ActionEdit extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(bag.job).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(bag.job, callable);
 
 	}
 
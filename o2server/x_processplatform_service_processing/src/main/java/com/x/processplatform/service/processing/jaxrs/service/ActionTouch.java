@@ -4,7 +4,7 @@ import java.lang.reflect.Type;
 import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
@@ -27,7 +27,8 @@ class ActionTouch extends BaseAction{
 
 	private static Logger logger = LoggerFactory.getLogger(ActionTouch.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement) throws Exception {
 		String job = null;
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			Work work = emc.fetch(id, Work.class, ListTools.toList(Work.job_FIELDNAME));
@@ -36,7 +37,7 @@ class ActionTouch extends BaseAction{
 			}
 			job = work.getJob();
 		}
-		return ProcessPlatformExecutorFactory.get(job).submit(new CallableAction(id, jsonElement)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, new CallableAction(id, jsonElement));
 	}
 
 	public class CallableAction implements Callable<ActionResult<Wo>> {
@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -43,7 +42,7 @@ class ActionRestore extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionRestore.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id) throws Exception {
 		String job = null;
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			Snap snap = emc.fetch(id, Snap.class, ListTools.toList(Snap.job_FIELDNAME));
@@ -52,7 +51,7 @@ class ActionRestore extends BaseAction {
 			}
 			job = snap.getJob();
 		}
-		return ProcessPlatformExecutorFactory.get(job).submit(new CallableImpl(id)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, new CallableImpl(id));
 	}
 
 	public class CallableImpl implements Callable<ActionResult<Wo>> {
@@ -3,7 +3,7 @@ package com.x.processplatform.service.processing.jaxrs.snap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
@@ -31,7 +31,8 @@ class ActionTypeAbandonedWorkCompleted extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionTypeAbandonedWorkCompleted.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String workCompletedId) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson,
+			String workCompletedId) throws Exception {
 		String job = null;
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			WorkCompleted workCompleted = emc.find(workCompletedId, WorkCompleted.class);
@@ -40,8 +41,7 @@ class ActionTypeAbandonedWorkCompleted extends BaseAction {
 			}
 			job = workCompleted.getJob();
 		}
-		return ProcessPlatformExecutorFactory.get(job).submit(new CallableImpl(workCompletedId)).get(300,
-				TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, new CallableImpl(workCompletedId));
 	}
 
 	public class CallableImpl implements Callable<ActionResult<Wo>> {
@@ -3,7 +3,7 @@ package com.x.processplatform.service.processing.jaxrs.snap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
@@ -34,7 +34,7 @@ class ActionTypeSnap extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionTypeSnap.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String workId) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String workId) throws Exception {
 		String job = null;
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			Work work = emc.fetch(workId, Work.class, ListTools.toList(Work.job_FIELDNAME));
@@ -43,7 +43,7 @@ class ActionTypeSnap extends BaseAction {
 			}
 			job = work.getJob();
 		}
-		return ProcessPlatformExecutorFactory.get(job).submit(new CallableImpl(workId)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, new CallableImpl(workId));
 	}
 
 	public class CallableImpl implements Callable<ActionResult<Wo>> {
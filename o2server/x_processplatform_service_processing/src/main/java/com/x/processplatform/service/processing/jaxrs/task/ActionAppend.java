@@ -5,7 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import javax.script.Bindings;
 import javax.script.CompiledScript;
@@ -51,7 +51,8 @@ class ActionAppend extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionAppend.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement) throws Exception {
 
 		final Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
 
@@ -165,7 +166,7 @@ class ActionAppend extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable);
 	}
 
 	public static ScriptContext scriptContext(Business business, Work work, Data data, Activity activity, Task task)
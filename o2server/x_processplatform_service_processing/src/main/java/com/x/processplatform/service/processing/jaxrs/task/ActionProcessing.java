@@ -3,7 +3,7 @@ package com.x.processplatform.service.processing.jaxrs.task;
 import java.util.Date;
 import java.util.Objects;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import javax.script.CompiledScript;
 import javax.script.ScriptContext;
@@ -47,7 +47,8 @@ class ActionProcessing extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionProcessing.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement) throws Exception {
 
 		final Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
 
@@ -61,7 +62,7 @@ class ActionProcessing extends BaseAction {
 			job = task.getJob();
 		}
 
-		return ProcessPlatformExecutorFactory.get(job).submit(new CallableExecute(wi, id)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, new CallableExecute(wi, id));
 
 	}
 
@@ -2,7 +2,7 @@ package com.x.processplatform.service.processing.jaxrs.task;
 
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -28,7 +28,8 @@ class ActionUpdatePrevTaskIdentity extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionUpdatePrevTaskIdentity.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson,
+			JsonElement jsonElement) throws Exception {
 
 		final Bag bag = new Bag();
 		bag.wi = this.convertToWrapIn(jsonElement, Wi.class);
@@ -40,7 +41,7 @@ class ActionUpdatePrevTaskIdentity extends BaseAction {
 				Wo wo = new Wo();
 				ActionResult<Wo> result = new ActionResult<Wo>();
 				result.setData(wo);
-				return result;
+				return CompletableFuture.completedFuture(result);
 			}
 		}
 
@@ -85,7 +86,7 @@ class ActionUpdatePrevTaskIdentity extends BaseAction {
 			return result;
 		};
 
-		return ProcessPlatformExecutorFactory.get(bag.job).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(bag.job, callable);
 
 	}
 
@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -31,7 +31,7 @@ import com.x.processplatform.service.processing.processor.manual.TranslateTaskId
 
 class ActionWill extends BaseAction {
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id) throws Exception {
 
 		String executorSeed = null;
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
@@ -45,7 +45,7 @@ class ActionWill extends BaseAction {
 			executorSeed = task.getJob();
 		}
 
-		return ProcessPlatformExecutorFactory.get(executorSeed).submit(new CallableImpl(id)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(executorSeed, new CallableImpl(id));
 	}
 
 	private class CallableImpl implements Callable<ActionResult<Wo>> {
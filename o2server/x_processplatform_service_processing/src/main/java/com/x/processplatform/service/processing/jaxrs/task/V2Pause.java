@@ -2,7 +2,7 @@ package com.x.processplatform.service.processing.jaxrs.task;
 
 import java.util.Date;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -22,7 +22,7 @@ class V2Pause extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(V2Pause.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id) throws Exception {
 
 		final String job;
 
@@ -55,7 +55,7 @@ class V2Pause extends BaseAction {
 			return result;
 		};
 
-		return ProcessPlatformExecutorFactory.get(job).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, callable);
 
 	}
 
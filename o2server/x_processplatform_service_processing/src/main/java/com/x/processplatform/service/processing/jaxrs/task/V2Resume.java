@@ -2,7 +2,7 @@ package com.x.processplatform.service.processing.jaxrs.task;
 
 import java.util.Date;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -23,7 +23,7 @@ class V2Resume extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(V2Resume.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id) throws Exception {
 
 		final String job;
 
@@ -35,7 +35,7 @@ class V2Resume extends BaseAction {
 			job = task.getJob();
 		}
 
-		return ProcessPlatformExecutorFactory.get(job).submit(new CallableImpl(id)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(job, new CallableImpl(id));
 
 	}
 
@@ -2,7 +2,7 @@ package com.x.processplatform.service.processing.jaxrs.taskcompleted;
 
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.gson.JsonElement;
 import com.x.base.core.container.EntityManagerContainer;
@@ -24,7 +24,8 @@ class ActionUpdateNextTaskIdentity extends BaseAction {
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionUpdateNextTaskIdentity.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson,
+			JsonElement jsonElement) throws Exception {
 
 		final Bag bag = new Bag();
 		bag.wi = this.convertToWrapIn(jsonElement, Wi.class);
@@ -36,7 +37,7 @@ class ActionUpdateNextTaskIdentity extends BaseAction {
 				Wo wo = new Wo();
 				ActionResult<Wo> result = new ActionResult<Wo>();
 				result.setData(wo);
-				return result;
+				return CompletableFuture.completedFuture(result);
 			}
 		}
 
@@ -60,7 +61,7 @@ class ActionUpdateNextTaskIdentity extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(bag.job).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(bag.job, callable);
 
 	}
 
@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -32,7 +32,8 @@ import com.x.processplatform.service.processing.Processing;
 
 class ActionAddSplit extends BaseAction {
 
-	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement)
+	CompletableFuture<ActionResult<List<Wo>>> execute(EffectivePerson effectivePerson, String id,
+			JsonElement jsonElement)
 			throws Exception {
 
 		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
@@ -158,7 +159,7 @@ class ActionAddSplit extends BaseAction {
 			}
 		};
 
-		return ProcessPlatformExecutorFactory.get(executorSeed).submit(callable).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(executorSeed, callable);
 
 	}
 
@@ -3,6 +3,7 @@ package com.x.processplatform.service.processing.jaxrs.work;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -21,6 +22,7 @@ import com.x.base.core.project.bean.WrapCopier;
 import com.x.base.core.project.bean.WrapCopierFactory;
 import com.x.base.core.project.config.StorageMapping;
 import com.x.base.core.project.exception.ExceptionEntityNotExist;
+import com.x.base.core.project.executor.ProcessPlatformExecutorFactory;
 import com.x.base.core.project.gson.GsonPropertyObject;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
@@ -55,14 +57,15 @@ import org.apache.commons.lang3.StringUtils;
  * 
  * @author Rui
  *
- *         此方法不需要推入线程池运行
+ *         创建不需要推入线程池运行,创建后的流转在job对应的执行器上异步执行
  */
 class ActionAssignCreate extends BaseAction {
 
 	@ActionLogger
 	private static Logger logger = LoggerFactory.getLogger(ActionAssignCreate.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, JsonElement jsonElement)
+			throws Exception {
 		ActionResult<Wo> result = new ActionResult<>();
 		Wo wo = new Wo();
 		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
@@ -130,15 +133,18 @@ class ActionAssignCreate extends BaseAction {
 		// Applications.joinQueryUri("work", work.getId(), "processing"), null,
 		// work.getJob());
 		// }
-		if (BooleanUtils.isTrue(processing)) {
-			ProcessingAttributes processingAttributes = new ProcessingAttributes();
-			Processing p = new Processing(processingAttributes);
-			p.processing(work.getId());
-		}
-
 		wo.setId(work.getId());
 		result.setData(wo);
-		return result;
+		if (BooleanUtils.isTrue(processing)) {
+			String id = work.getId();
+			return ProcessPlatformExecutorFactory.submit(work.getJob(), () -> {
+				ProcessingAttributes processingAttributes = new ProcessingAttributes();
+				Processing p = new Processing(processingAttributes);
+				p.processing(id);
+				return result;
+			});
+		}
+		return CompletableFuture.completedFuture(result);
 	}
 
 	public static class Wi extends GsonPropertyObject {
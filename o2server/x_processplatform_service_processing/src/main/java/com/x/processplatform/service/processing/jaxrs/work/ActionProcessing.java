@@ -1,7 +1,7 @@
 package com.x.processplatform.service.processing.jaxrs.work;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -27,7 +27,8 @@ class ActionProcessing extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionProcessing.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id, JsonElement jsonElement)
+			throws Exception {
 
 		String job;
 
@@ -49,15 +50,23 @@ class ActionProcessing extends BaseAction {
 
 		}
 
+		open(id, wi);
+		CompletableFuture<Wo> future;
 		try {
-			open(id, wi);
-			Wo wo = ProcessPlatformExecutorFactory.get(job).submit(new CallableExecute(wi, id)).get(300, TimeUnit.SECONDS);
-			persistSignalStack(id, job, wi);
-			result.setData(wo);
-			return result;
-		} finally {
+			future = ProcessPlatformExecutorFactory.submit(job, new CallableExecute(wi, id));
+		} catch (Exception e) {
 			close(id, wi);
+			throw e;
 		}
+		return future.whenComplete((wo, e) -> {
+			if (null == e) {
+				persistSignalStack(id, job, wi);
+			}
+			close(id, wi);
+		}).thenApply(wo -> {
+			result.setData(wo);
+			return result;
+		});
 	}
 
 	private void open(String id, Wi wi) {
@@ -68,8 +77,13 @@ class ActionProcessing extends BaseAction {
 		ThisApplication.getProcessingToProcessingSignalStack().close(id, wi.getSeries());
 	}
 
-	private void persistSignalStack(String id, String job, Wi wi) throws Exception {
-		if (BooleanUtils.isNotTrue(Config.processPlatform().getProcessingSignalPersistEnable())) {
+	private void persistSignalStack(String id, String job, Wi wi) {
+		try {
+			if (BooleanUtils.isNotTrue(Config.processPlatform().getProcessingSignalPersistEnable())) {
+				return;
+			}
+		} catch (Exception e) {
+			logger.error(e);
 			return;
 		}
 		new Thread(() -> {
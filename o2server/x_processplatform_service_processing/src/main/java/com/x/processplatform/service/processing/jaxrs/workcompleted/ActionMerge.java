@@ -9,7 +9,6 @@ import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.google.gson.JsonElement;
@@ -48,7 +47,7 @@ class ActionMerge extends BaseAction {
 
 	private static Logger logger = LoggerFactory.getLogger(ActionMerge.class);
 
-	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id) throws Exception {
+	CompletableFuture<ActionResult<Wo>> execute(EffectivePerson effectivePerson, String id) throws Exception {
 
 		String executorSeed = null;
 
@@ -61,7 +60,7 @@ class ActionMerge extends BaseAction {
 			executorSeed = workCompleted.getJob();
 		}
 
-		return ProcessPlatformExecutorFactory.get(executorSeed).submit(new CallableAction(id)).get(300, TimeUnit.SECONDS);
+		return ProcessPlatformExecutorFactory.submit(executorSeed, new CallableAction(id));
 	}
 
 	public static class Wo extends WoId {
@@ -0,0 +1,86 @@
+package com.x.program.center.jaxrs.cachedispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.gson.JsonElement;
+import com.x.base.core.project.Application;
+import com.x.base.core.project.config.CenterServer;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.connection.CipherConnectionAction;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.jaxrs.WrapClearCacheRequestBatch;
+import com.x.base.core.project.jaxrs.WrapInteger;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.tools.ListTools;
+import com.x.program.center.ThisApplication;
+
+class ActionDispatchBatch extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionDispatchBatch.class);
+
+	@SuppressWarnings("unchecked")
+	ActionResult<Wo> execute(EffectivePerson effectivePerson, JsonElement jsonElement) throws Exception {
+		ActionResult<Wo> result = new ActionResult<>();
+		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
+		logger.debug("receive dispatch cache batch request, size: {}.", wi.getRequests().size());
+		Map<String, List<String>> map = (Map<String, List<String>>) Config.resource(Config.RESOURCE_CONTAINERENTITIES);
+		for (Entry<String, List<String>> entry : map.entrySet()) {
+			/* 每个应用只发送一次,包含所有与之相关的请求 */
+			List<WrapClearCacheRequestBatch.Request> requests = new ArrayList<>();
+			for (WrapClearCacheRequestBatch.Request o : wi.getRequests()) {
+				if (entry.getValue().contains(o.getClassName())) {
+					requests.add(o);
+				}
+			}
+			if (!requests.isEmpty()) {
+				WrapClearCacheRequestBatch batch = new WrapClearCacheRequestBatch();
+				batch.setRequests(requests);
+				dispatch(effectivePerson, batch, entry, ThisApplication.context().applications().get(entry.getKey()));
+			}
+		}
+		Wo wo = new Wo();
+		wo.setValue(wi.getRequests().size());
+		result.setData(wo);
+		return result;
+	}
+
+	private void dispatch(EffectivePerson effectivePerson, WrapClearCacheRequestBatch batch,
+			Entry<String, List<String>> entry, List<Application> apps) throws Exception {
+		if (ListTools.isNotEmpty(apps)) {
+			apps.stream().forEach(o -> {
+				String url = o.getUrlJaxrsRoot() + "cache/batch";
+				logger.debug("dispatch cache batch request to : {}", url);
+				try {
+					CipherConnectionAction.put(effectivePerson.getDebugger(), url, batch);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			});
+		} else {
+			logger.debug("通知center批量更新自身缓存:{}", entry.getKey());
+			List<Entry<String, CenterServer>> centerList = Config.nodes().centerServers().orderedEntry();
+			for (Entry<String, CenterServer> centerEntry : centerList) {
+				try {
+					CipherConnectionAction.put(effectivePerson.getDebugger(),
+							Config.url_x_program_center_jaxrs(centerEntry, "cache", "batch"), batch);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+
+	public static class Wi extends WrapClearCacheRequestBatch {
+
+	}
+
+	public static class Wo extends WrapInteger {
+
+	}
+
+}
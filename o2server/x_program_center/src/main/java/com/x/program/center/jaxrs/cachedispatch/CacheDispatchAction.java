@@ -44,4 +44,22 @@ public class CacheDispatchAction extends StandardJaxrsAction {
 		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
 	}
 
-}
\ No newline at end of file
+	@JaxrsMethodDescribe(value = "接收其他应用发送过来的批量cache刷新请求,按应用合并后再进行分派.", action = ActionDispatchBatch.class)
+	@PUT
+	@Path("batch")
+	@Produces(HttpMediaType.APPLICATION_JSON_UTF_8)
+	@Consumes(MediaType.APPLICATION_JSON)
+	public void dispatchBatch(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
+			JsonElement jsonElement) {
+		EffectivePerson effectivePerson = this.effectivePerson(request);
+		ActionResult<ActionDispatchBatch.Wo> result = new ActionResult<>();
+		try {
+			result = new ActionDispatchBatch().execute(effectivePerson, jsonElement);
+		} catch (Exception e) {
+			logger.error(e, effectivePerson, request, jsonElement);
+			result.error(e);
+		}
+		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+	}
+
+}
@@ -66,6 +66,23 @@ public class UnexpectedErrorLogAction extends StandardJaxrsAction {
 		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
 	}
 
+	@JaxrsMethodDescribe(value = "批量记录UnexpectedException错误.", action = ActionCreateBatch.class)
+	@POST
+	@Path("batch")
+	@Produces(HttpMediaType.APPLICATION_JSON_UTF_8)
+	@Consumes(MediaType.APPLICATION_JSON)
+	public void logUnexpectedExceptionBatch(@Suspended final AsyncResponse asyncResponse,
+			@Context HttpServletRequest request, JsonElement jsonElement) {
+		ActionResult<ActionCreateBatch.Wo> result = new ActionResult<>();
+		try {
+			result = new ActionCreateBatch().execute(jsonElement);
+		} catch (Exception e) {
+			e.printStackTrace();
+			result.error(e);
+		}
+		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+	}
+
 	@JaxrsMethodDescribe(value = "列示UnexpectedExceptionLog,下一页.", action = ActionListNext.class)
 	@GET
 	@Path("list/{id}/next/{count}")
@@ -0,0 +1,53 @@
+package com.x.program.center.jaxrs.warnlog;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+import com.x.base.core.project.bean.NameValuePair;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.jaxrs.WrapInteger;
+import com.x.base.core.project.tools.ListTools;
+import com.x.base.core.project.tools.StringTools;
+import com.x.program.center.ThisApplication;
+import com.x.program.center.core.entity.WarnLog;
+
+/**
+ * 批量记录,由各节点的日志发送线程定时合并发送,返回接收的数量.
+ */
+class ActionCreateBatch extends BaseAction {
+
+	ActionResult<Wo> execute(JsonElement jsonElement) throws Exception {
+		ActionResult<Wo> result = new ActionResult<>();
+		List<ActionCreate.Wi> wis = gson.fromJson(jsonElement, new TypeToken<List<ActionCreate.Wi>>() {
+		}.getType());
+		int count = 0;
+		if (ListTools.isNotEmpty(wis)) {
+			for (ActionCreate.Wi wi : wis) {
+				WarnLog o = ActionCreate.Wi.copier.copy(wi);
+				if (null == o) {
+					continue;
+				}
+				/** 默认使用传递过来的id,如果不存在那么重新赋值 */
+				if (StringUtils.isEmpty(o.getId())) {
+					o.setId(StringTools.uniqueToken());
+				}
+				NameValuePair pair = new NameValuePair();
+				pair.setName(WarnLog.class.getName());
+				pair.setValue(o);
+				ThisApplication.logQueue.send(pair);
+				count++;
+			}
+		}
+		Wo wo = new Wo();
+		wo.setValue(count);
+		result.setData(wo);
+		return result;
+	}
+
+	public static class Wo extends WrapInteger {
+	}
+
+}
@@ -66,6 +66,23 @@ public class WarnLogAction extends StandardJaxrsAction {
 		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
 	}
 
+	@JaxrsMethodDescribe(value = "批量记录Warn错误.", action = ActionCreateBatch.class)
+	@POST
+	@Path("batch")
+	@Produces(HttpMediaType.APPLICATION_JSON_UTF_8)
+	@Consumes(MediaType.APPLICATION_JSON)
+	public void recordWarnLogBatch(@Suspended final AsyncResponse asyncResponse, @Context HttpServletRequest request,
+			JsonElement jsonElement) {
+		ActionResult<ActionCreateBatch.Wo> result = new ActionResult<>();
+		try {
+			result = new ActionCreateBatch().execute(jsonElement);
+		} catch (Exception e) {
+			e.printStackTrace();
+			result.error(e);
+		}
+		asyncResponse.resume(ResponseFactory.getEntityTagActionResultResponse(request, result));
+	}
+
 	@JaxrsMethodDescribe(value = "列示WarnLog,下一页.", action = ActionListPrev.class)
 	@GET
 	@Path("list/{id}/next/{count}")
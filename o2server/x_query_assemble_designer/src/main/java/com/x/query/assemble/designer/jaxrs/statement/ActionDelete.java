@@ -33,6 +33,8 @@ class ActionDelete extends BaseAction {
 			emc.remove(statement);
 			emc.commit();
 			CacheManager.notify(Statement.class);
+			/* 按标识通知,清除该语句的脚本编译缓存 */
+			CacheManager.notify(Statement.class, statement.getId());
 			Wo wo = new Wo();
 			wo.setId(statement.getId());
 			result.setData(wo);
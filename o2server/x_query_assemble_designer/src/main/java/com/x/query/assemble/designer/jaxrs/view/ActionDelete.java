@@ -11,6 +11,7 @@ import com.x.base.core.project.jaxrs.WoId;
 import com.x.query.assemble.designer.Business;
 import com.x.query.core.entity.Query;
 import com.x.query.core.entity.View;
+import com.x.query.core.entity.ViewRow;
 
 class ActionDelete extends BaseAction {
 	ActionResult<Wo> execute(EffectivePerson effectivePerson, String id) throws Exception {
@@ -18,6 +19,7 @@ class ActionDelete extends BaseAction {
 			ActionResult<Wo> result = new ActionResult<>();
 			Business business = new Business(emc);
 			emc.beginTransaction(View.class);
+			emc.beginTransaction(ViewRow.class);
 			View view = emc.find(id, View.class);
 			if (null == view) {
 				throw new ExceptionViewNotExist(id);
@@ -30,6 +32,7 @@ class ActionDelete extends BaseAction {
 				throw new ExceptionQueryAccessDenied(effectivePerson.getDistinguishedName(), query.getName());
 			}
 			emc.remove(view, CheckRemoveType.all);
+			emc.deleteEqual(ViewRow.class, ViewRow.view_FIELDNAME, view.getId());
 			emc.commit();
 			CacheManager.notify(View.class);
 			Wo wo = new Wo();
@@ -10,8 +10,11 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Root;
 
+import org.apache.commons.lang3.BooleanUtils;
+
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.project.config.Config;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.jaxrs.WrapStringList;
@@ -28,9 +31,15 @@ class ActionSearch extends BaseAction {
 			Wo wo = new Wo();
 			List<String> keys = this.keys(key);
 			if (!keys.isEmpty()) {
-				List<String> entries = this.entries(business, keys);
-				wo.setValueList(entries);
-				wo.setCount(this.count(business, keys));
+				if (BooleanUtils.isTrue(Config.query().getSegmentIndex().getEnable())) {
+					IndexWo o = this.index(keys, 500);
+					wo.setValueList(o.getValueList());
+					wo.setCount(o.getCount());
+				} else {
+					List<String> entries = this.entries(business, keys);
+					wo.setValueList(entries);
+					wo.setCount(this.count(business, keys));
+				}
 			}
 			result.setData(wo);
 			return result;
@@ -13,6 +13,7 @@ import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.hankcs.hanlp.HanLP;
@@ -22,6 +23,7 @@ import com.x.base.core.container.factory.EntityManagerContainerFactory;
 import com.x.base.core.entity.JpaObject;
 import com.x.base.core.project.bean.WrapCopier;
 import com.x.base.core.project.bean.WrapCopierFactory;
+import com.x.base.core.project.config.Config;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.organization.OrganizationDefinition;
@@ -34,6 +36,9 @@ import com.x.query.core.entity.segment.Word_;
 
 class ActionSearchAccessible extends BaseAction {
 
+	/* 权限过滤前从索引中取得的候选条目数量 */
+	private static final int INDEX_COUNT = 2000;
+
 	ActionResult<List<Wo>> execute(EffectivePerson effectivePerson, String key) throws Exception {
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			ActionResult<List<Wo>> result = new ActionResult<>();
@@ -41,8 +46,13 @@ class ActionSearchAccessible extends BaseAction {
 			List<Wo> wos = new ArrayList<>();
 			List<String> keys = this.keys(key);
 			if (!keys.isEmpty()) {
-				List<String> ids = this.match(business, keys);
-				ids = this.sort(ids);
+				List<String> ids;
+				if (BooleanUtils.isTrue(Config.query().getSegmentIndex().getEnable())) {
+					ids = this.index(keys, INDEX_COUNT).getValueList();
+				} else {
+					ids = this.match(business, keys);
+					ids = this.sort(ids);
+				}
 				if (effectivePerson.isNotManager()
 						&& (!business.organization().person().hasRole(effectivePerson, OrganizationDefinition.Manager,
 								OrganizationDefinition.QueryManager, OrganizationDefinition.SearchPrivilege))) {
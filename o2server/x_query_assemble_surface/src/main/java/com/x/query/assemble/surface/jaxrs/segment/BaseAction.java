@@ -7,7 +7,13 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.hankcs.hanlp.HanLP;
 import com.hankcs.hanlp.seg.common.Term;
+import com.x.base.core.project.x_query_service_processing;
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.config.Query;
+import com.x.base.core.project.gson.GsonPropertyObject;
 import com.x.base.core.project.jaxrs.StandardJaxrsAction;
+import com.x.base.core.project.jaxrs.WrapStringList;
+import com.x.query.assemble.surface.ThisApplication;
 
 abstract class BaseAction extends StandardJaxrsAction {
 	protected List<String> keys(String key) {
@@ -20,4 +26,54 @@ abstract class BaseAction extends StandardJaxrsAction {
 		}
 		return os;
 	}
+
+	/* 使用服务节点上的倒排索引搜索,返回按得分排序的条目标识 */
+	protected IndexWo index(List<String> keys, Integer count) throws Exception {
+		IndexWi wi = new IndexWi();
+		wi.setKeyList(keys);
+		wi.setCount(count);
+		return ThisApplication.context().applications()
+				.postQuery(x_query_service_processing.class, "segment/search", wi, Query.SegmentIndex.NODE_SEED)
+				.getData(IndexWo.class);
+	}
+
+	public static class IndexWi extends GsonPropertyObject {
+
+		@FieldDescribe("已经分词的关键词.")
+		private List<String> keyList;
+
+		@FieldDescribe("返回的最大数量.")
+		private Integer count;
+
+		public List<String> getKeyList() {
+			return keyList;
+		}
+
+		public void setKeyList(List<String> keyList) {
+			this.keyList = keyList;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+	}
+
+	public static class IndexWo extends WrapStringList {
+
+		private Integer count;
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+	}
 }
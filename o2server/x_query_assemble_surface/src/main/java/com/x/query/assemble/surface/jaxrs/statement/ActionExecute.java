@@ -6,7 +6,6 @@ import javax.persistence.EntityManager;
 import javax.persistence.Parameter;
 import javax.persistence.Query;
 import javax.script.Bindings;
-import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.SimpleScriptContext;
 
@@ -84,27 +83,14 @@ class ActionExecute extends BaseAction {
 		return statement;
 	}
 
-	private CompiledScript getCompiledScriptOfScriptText(Statement statement) throws Exception {
-		CompiledScript compiledScript = null;
-		CacheKey cacheKey = new CacheKey(this.getClass(), statement.getId(), Statement.scriptText_FIELDNAME);
-		Optional<?> optional = CacheManager.get(cache, cacheKey);
-		if (optional.isPresent()) {
-			compiledScript = (CompiledScript) optional.get();
-		} else {
-			compiledScript = ScriptFactory.compile(ScriptFactory.functionalization(statement.getScriptText()));
-			CacheManager.put(cache, cacheKey, compiledScript);
-		}
-		return compiledScript;
-	}
-
 	private Object script(EffectivePerson effectivePerson, Statement statement, Runtime runtime) throws Exception {
 		Object data = null;
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			Business business = new Business(emc);
 			ScriptContext scriptContext = this.scriptContext(effectivePerson, business, runtime);
 			ScriptFactory.initialServiceScriptText().eval(scriptContext);
-			CompiledScript compiledScript = this.getCompiledScriptOfScriptText(statement);
-			Object o = compiledScript.eval(scriptContext);
+			Object o = ScriptFactory.eval(statement.getId(),
+					ScriptFactory.functionalization(statement.getScriptText()), scriptContext);
 			String text = ScriptFactory.asString(o);
 			Class<? extends JpaObject> cls = this.clazz(business, statement);
 			EntityManager em;
@@ -119,7 +119,8 @@ class ActionExecuteV2 extends BaseAction {
 			if (Statement.MODE_COUNT.equals(mode)) {
 				scriptText = statement.getCountScriptText();
 			}
-			Object o = ScriptFactory.scriptEngine.eval(ScriptFactory.functionalization(scriptText), scriptContext);
+			Object o = ScriptFactory.eval(statement.getId() + "." + mode, ScriptFactory.functionalization(scriptText),
+					scriptContext);
 			String jpql = ScriptFactory.asString(o);
 			Class<? extends JpaObject> cls = this.clazz(business, statement);
 			EntityManager em;
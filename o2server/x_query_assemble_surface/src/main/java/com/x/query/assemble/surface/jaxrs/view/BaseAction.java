@@ -64,6 +64,7 @@ abstract class BaseAction extends StandardJaxrsAction {
 		case View.TYPE_CMS:
 			CmsPlan cmsPlan = gson.fromJson(view.getData(), CmsPlan.class);
 			cmsPlan.runtime = runtime;
+			this.materialize(view, cmsPlan);
 			cmsPlan.access();
 			plan = cmsPlan;
 			break;
@@ -71,6 +72,7 @@ abstract class BaseAction extends StandardJaxrsAction {
 			ProcessPlatformPlan processPlatformPlan = gson.fromJson(view.getData(), ProcessPlatformPlan.class);
 			this.setProcessEdition(processPlatformPlan);
 			processPlatformPlan.runtime = runtime;
+			this.materialize(view, processPlatformPlan);
 			processPlatformPlan.access();
 			plan = processPlatformPlan;
 			break;
@@ -81,6 +83,13 @@ abstract class BaseAction extends StandardJaxrsAction {
 		return plan;
 	}
 
+	/* 物化视图的行数据从ViewRow读取,只对有变化的记录重新取数 */
+	private void materialize(View view, Plan plan) {
+		if (BooleanUtils.isTrue(view.getMaterialized())) {
+			plan.materialize(view.getId());
+		}
+	}
+
 	private void setProcessEdition(ProcessPlatformPlan processPlatformPlan) throws Exception {
 		if(!processPlatformPlan.where.processList.isEmpty()){
 			List<String> _process_ids = ListTools.extractField(processPlatformPlan.where.processList, Process.id_FIELDNAME, String.class,
@@ -104,12 +113,14 @@ abstract class BaseAction extends StandardJaxrsAction {
 		case View.TYPE_CMS:
 			CmsPlan cmsPlan = gson.fromJson(view.getData(), CmsPlan.class);
 			cmsPlan.runtime = runtime;
+			this.materialize(view, cmsPlan);
 			os = cmsPlan.fetchBundles();
 			break;
 		default:
 			ProcessPlatformPlan processPlatformPlan = gson.fromJson(view.getData(), ProcessPlatformPlan.class);
 			this.setProcessEdition(processPlatformPlan);
 			processPlatformPlan.runtime = runtime;
+			this.materialize(view, processPlatformPlan);
 			os = processPlatformPlan.fetchBundles();
 			break;
 		}
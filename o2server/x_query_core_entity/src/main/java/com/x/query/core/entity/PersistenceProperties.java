@@ -12,6 +12,10 @@ public final class PersistenceProperties extends AbstractPersistenceProperties {
 		public static final String table = "QRY_VIEW";
 	}
 
+	public static class ViewRow {
+		public static final String table = "QRY_VIEWROW";
+	}
+
 	public static class Stat {
 		public static final String table = "QRY_STAT";
 	}
@@ -0,0 +1,136 @@
+package com.x.query.core.entity;
+
+import java.util.Date;
+
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import org.apache.openjpa.persistence.jdbc.Index;
+
+import com.x.base.core.entity.JpaObject;
+import com.x.base.core.entity.SliceJpaObject;
+import com.x.base.core.entity.annotation.CheckPersist;
+import com.x.base.core.entity.annotation.ContainerEntity;
+import com.x.base.core.project.annotation.FieldDescribe;
+
+/**
+ * 物化视图的行数据,每个视图的每条记录保存一行,id由视图和记录标识生成.
+ */
+@Entity
+@ContainerEntity(dumpSize = 1000, type = ContainerEntity.Type.content, reference = ContainerEntity.Reference.soft)
+@Table(name = PersistenceProperties.ViewRow.table, uniqueConstraints = {
+		@UniqueConstraint(name = PersistenceProperties.ViewRow.table + JpaObject.IndexNameMiddle
+				+ JpaObject.DefaultUniqueConstraintSuffix, columnNames = { JpaObject.IDCOLUMN,
+						JpaObject.CREATETIMECOLUMN, JpaObject.UPDATETIMECOLUMN, JpaObject.SEQUENCECOLUMN }) })
+@Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+public class ViewRow extends SliceJpaObject {
+
+	private static final long serialVersionUID = 2412618536215069154L;
+
+	private static final String TABLE = PersistenceProperties.ViewRow.table;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@FieldDescribe("数据库主键,由视图和记录标识生成.")
+	@Id
+	@Column(length = length_id, name = ColumnNamePrefix + id_FIELDNAME)
+	private String id = createId();
+
+	/* 以上为 JpaObject 默认字段 */
+
+	public void onPersist() throws Exception {
+		/* nothing */
+	}
+
+	/* 更新运行方法 */
+
+	public static final String view_FIELDNAME = "view";
+	@FieldDescribe("所属视图.")
+	@Column(length = length_id, name = ColumnNamePrefix + view_FIELDNAME)
+	@Index(name = TABLE + IndexNameMiddle + view_FIELDNAME)
+	@CheckPersist(allowEmpty = false)
+	private String view;
+
+	public static final String bundle_FIELDNAME = "bundle";
+	@FieldDescribe("通用数据标识,cms为doucment.getId(),processPlatform为job")
+	@Column(length = length_255B, name = ColumnNamePrefix + bundle_FIELDNAME)
+	@Index(name = TABLE + IndexNameMiddle + bundle_FIELDNAME)
+	@CheckPersist(allowEmpty = false)
+	private String bundle;
+
+	public static final String digest_FIELDNAME = "digest";
+	@FieldDescribe("视图列设置的摘要,视图列修改后摘要不一致的行需要重新计算.")
+	@Column(length = length_64B, name = ColumnNamePrefix + digest_FIELDNAME)
+	@CheckPersist(allowEmpty = true)
+	private String digest;
+
+	public static final String refreshTime_FIELDNAME = "refreshTime";
+	@FieldDescribe("行数据计算时间,数据在此时间之后有修改的行需要重新计算.")
+	@Column(name = ColumnNamePrefix + refreshTime_FIELDNAME)
+	@Index(name = TABLE + IndexNameMiddle + refreshTime_FIELDNAME)
+	@CheckPersist(allowEmpty = true)
+	private Date refreshTime;
+
+	public static final String data_FIELDNAME = "data";
+	@FieldDescribe("行数据.")
+	@Lob
+	@Basic(fetch = FetchType.EAGER)
+	@Column(length = JpaObject.length_10M, name = ColumnNamePrefix + data_FIELDNAME)
+	@CheckPersist(allowEmpty = true)
+	private String data;
+
+	public String getView() {
+		return view;
+	}
+
+	public void setView(String view) {
+		this.view = view;
+	}
+
+	public String getBundle() {
+		return bundle;
+	}
+
+	public void setBundle(String bundle) {
+		this.bundle = bundle;
+	}
+
+	public String getDigest() {
+		return digest;
+	}
+
+	public void setDigest(String digest) {
+		this.digest = digest;
+	}
+
+	public Date getRefreshTime() {
+		return refreshTime;
+	}
+
+	public void setRefreshTime(Date refreshTime) {
+		this.refreshTime = refreshTime;
+	}
+
+	public String getData() {
+		return data;
+	}
+
+	public void setData(String data) {
+		this.data = data;
+	}
+
+}
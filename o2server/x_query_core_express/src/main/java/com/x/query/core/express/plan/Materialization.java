@@ -0,0 +1,175 @@
+package com.x.query.core.express.plan;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.time.DateUtils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.x.base.core.container.EntityManagerContainer;
+import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.entity.annotation.CheckPersistType;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.gson.XGsonBuilder;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.query.core.entity.ViewRow;
+import com.x.query.core.entity.ViewRow_;
+
+/**
+ * 物化视图的行数据,保存在ViewRow中.
+ *
+ * 以下情况的记录需要重新取数:没有保存过,视图列设置有修改,超过最长使用时间.其余记录直接使用保存的行数据.
+ * 流程和内容管理的业务数据修改或删除时(WorkDataHelper,DocumentDataHelper)在同一事务中删除该记录的行数据,
+ * 其他途径直接修改Item的情况由最长使用时间兜底.
+ */
+class Materialization {
+
+	private static Logger logger = LoggerFactory.getLogger(Materialization.class);
+
+	private static final String DATE_PROPERTY = "date";
+
+	private final String view;
+
+	Materialization(String view) {
+		this.view = view;
+	}
+
+	/* 填充一批记录,只对需要重新计算的记录取数并保存 */
+	void fill(Plan plan, List<String> bundles, Map<String, Row> rows) throws Exception {
+		String digest = this.digest(plan.selectList);
+		Date now = new Date();
+		Date expire = DateUtils.addMinutes(now, -Config.query().getPlanFetch().getMaterializedMaxAge());
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			Map<String, ViewRow> viewRows = this.listViewRow(emc, bundles);
+			List<String> stales = new ArrayList<>();
+			for (String bundle : bundles) {
+				ViewRow viewRow = viewRows.get(bundle);
+				Row row = rows.get(bundle);
+				if (null == row) {
+					continue;
+				}
+				if (this.fresh(viewRow, digest, expire)) {
+					this.decode(viewRow.getData(), row);
+				} else {
+					stales.add(bundle);
+				}
+			}
+			if (stales.isEmpty()) {
+				return;
+			}
+			plan.fetch(stales, plan.selectList, rows);
+			logger.debug("materialized view:{}, bundle:{}, refresh:{}.", this.view, bundles.size(), stales.size());
+			try {
+				emc.beginTransaction(ViewRow.class);
+				for (String bundle : stales) {
+					ViewRow viewRow = viewRows.get(bundle);
+					if (null == viewRow) {
+						viewRow = new ViewRow();
+						viewRow.setId(DigestUtils.md5Hex(this.view + bundle));
+						viewRow.setView(this.view);
+						viewRow.setBundle(bundle);
+						this.update(viewRow, rows.get(bundle), digest, now);
+						emc.persist(viewRow, CheckPersistType.all);
+					} else {
+						this.update(viewRow, rows.get(bundle), digest, now);
+					}
+				}
+				emc.commit();
+			} catch (Exception e) {
+				/* 并发刷新同一条记录时保存可能冲突,本次的行数据已经填充,下次访问时重新计算 */
+				logger.warn("materialized view:{} save error:{}.", this.view, e.getMessage());
+			}
+		}
+	}
+
+	/* 数据修改时行数据已经删除,存在的行数据只需要检查列设置和计算时间 */
+	private boolean fresh(ViewRow viewRow, String digest, Date expire) {
+		return (null != viewRow) && Objects.equals(digest, viewRow.getDigest()) && (null != viewRow.getRefreshTime())
+				&& (!viewRow.getRefreshTime().before(expire));
+	}
+
+	private void update(ViewRow viewRow, Row row, String digest, Date refreshTime) {
+		viewRow.setDigest(digest);
+		viewRow.setRefreshTime(refreshTime);
+		viewRow.setData(this.encode(row));
+	}
+
+	private Map<String, ViewRow> listViewRow(EntityManagerContainer emc, List<String> bundles) throws Exception {
+		EntityManager em = emc.get(ViewRow.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<ViewRow> cq = cb.createQuery(ViewRow.class);
+		Root<ViewRow> root = cq.from(ViewRow.class);
+		Predicate p = cb.equal(root.get(ViewRow_.view), this.view);
+		p = cb.and(p, cb.isMember(root.get(ViewRow_.bundle), cb.literal(bundles)));
+		Map<String, ViewRow> map = new HashMap<>();
+		for (ViewRow o : em.createQuery(cq.select(root).where(p)).getResultList()) {
+			map.put(o.getBundle(), o);
+		}
+		return map;
+	}
+
+	/* 视图列设置的摘要,列名,路径或默认值修改后保存的行数据不再使用 */
+	private String digest(List<SelectEntry> selectEntries) {
+		StringBuilder sb = new StringBuilder();
+		for (SelectEntry o : selectEntries) {
+			sb.append(o.getColumn()).append('|').append(o.path).append('|').append(o.defaultValue).append('\n');
+		}
+		return DigestUtils.md5Hex(sb.toString());
+	}
+
+	/* 日期保存为{"date":毫秒},读取时还原为日期,其余值按照json基本类型保存 */
+	private String encode(Row row) {
+		JsonObject jsonObject = new JsonObject();
+		row.data.forEach((k, v) -> {
+			if (v instanceof Date) {
+				JsonObject date = new JsonObject();
+				date.addProperty(DATE_PROPERTY, ((Date) v).getTime());
+				jsonObject.add(k, date);
+			} else if (v instanceof Number) {
+				jsonObject.addProperty(k, (Number) v);
+			} else if (v instanceof Boolean) {
+				jsonObject.addProperty(k, (Boolean) v);
+			} else if (null != v) {
+				jsonObject.addProperty(k, Objects.toString(v));
+			}
+		});
+		return jsonObject.toString();
+	}
+
+	private void decode(String data, Row row) {
+		JsonObject jsonObject = XGsonBuilder.instance().fromJson(data, JsonObject.class);
+		if (null == jsonObject) {
+			return;
+		}
+		for (Map.Entry<String, JsonElement> en : jsonObject.entrySet()) {
+			JsonElement value = en.getValue();
+			if (value.isJsonObject() && value.getAsJsonObject().has(DATE_PROPERTY)) {
+				row.put(en.getKey(), new Date(value.getAsJsonObject().get(DATE_PROPERTY).getAsLong()));
+			} else if (value.isJsonPrimitive()) {
+				JsonPrimitive primitive = value.getAsJsonPrimitive();
+				if (primitive.isNumber()) {
+					row.put(en.getKey(), primitive.getAsDouble());
+				} else if (primitive.isBoolean()) {
+					row.put(en.getKey(), primitive.getAsBoolean());
+				} else {
+					row.put(en.getKey(), primitive.getAsString());
+				}
+			}
+		}
+	}
+
+}
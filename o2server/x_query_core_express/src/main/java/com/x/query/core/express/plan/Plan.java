@@ -1,13 +1,13 @@
 package com.x.query.core.express.plan;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -20,6 +20,7 @@ import javax.persistence.criteria.Root;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.list.TreeList;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -29,17 +30,22 @@ import com.x.base.core.container.factory.EntityManagerContainerFactory;
 import com.x.base.core.entity.dataitem.ItemPrimitiveType;
 import com.x.base.core.entity.dataitem.ItemStringValueType;
 import com.x.base.core.entity.tools.JpaObjectTools;
+import com.x.base.core.project.annotation.FieldDescribe;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
 import com.x.base.core.project.organization.OrganizationDefinition;
 import com.x.base.core.project.script.ScriptFactory;
 import com.x.base.core.project.tools.ListTools;
 import com.x.query.core.entity.Item;
 import com.x.query.core.entity.Item_;
 
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
 public abstract class Plan extends GsonPropertyObject {
 
-	// private static Logger logger = LoggerFactory.getLogger(Plan.class);
+	private static Logger logger = LoggerFactory.getLogger(Plan.class);
 
 	public static final String SCOPE_WORK = "work";
 	public static final String SCOPE_CMS_INFO = "cms_info";
@@ -53,6 +59,9 @@ public abstract class Plan extends GsonPropertyObject {
 
 	protected static final int SQL_STATEMENT_IN_BATCH = 3000;
 
+	/* 列脚本每次调用处理的行数 */
+	private static final int COLUMN_SCRIPT_BATCH = 1000;
+
 	public Runtime runtime;
 
 	public SelectEntries selectList = new SelectEntries();
@@ -87,12 +96,26 @@ public abstract class Plan extends GsonPropertyObject {
 
 	public Integer count;
 
+	/* 各阶段耗时 */
+	public Elapsed elapsed;
+
 	/**
 	 * !!这个类最后要输出.不能gson scriptEngine对象
 	 * 
 	 */
 	private transient ScriptEngine scriptEngine;
 
+	private transient Materialization materialization;
+
+	/**
+	 * 启用物化,行数据保存在ViewRow中,只对有变化的记录重新取数.
+	 *
+	 * @param view 视图id
+	 */
+	public void materialize(String view) {
+		this.materialization = new Materialization(view);
+	}
+
 	private Table order(Table table) {
 		Comparator<Row> comparator = new Comparator<Row>() {
 			@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -213,6 +236,7 @@ public abstract class Plan extends GsonPropertyObject {
 	abstract List<String> listBundle() throws Exception;
 
 	public void access() throws Exception {
+		this.elapsed = new Elapsed();
 		/* 先获取所有记录对应的job值作为返回的结果集 */
 		/* 先进行字段调整 */
 		this.adjust();
@@ -231,82 +255,62 @@ public abstract class Plan extends GsonPropertyObject {
 				bundles = bundles.subList(0, this.runtime.count);
 			}
 		}
-
-		final Table fillTable = this.concreteTable(bundles);
-		List<CompletableFuture<Void>> futures = new TreeList<>();
-		for (List<String> _part_bundles : ListTools.batch(bundles, SQL_STATEMENT_IN_BATCH)) {
-			for (SelectEntry selectEntry : this.selectList) {
-				CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-					try {
-						this.fillSelectEntry(_part_bundles, selectEntry, fillTable);
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				});
-				futures.add(future);
-			}
-		}
-		for (CompletableFuture<Void> future : futures) {
-			future.get(300, TimeUnit.SECONDS);
-		}
+		this.elapsed.listBundle = this.elapsed.lap();
+		final Table fillTable = this.fill(bundles, this.selectList);
+		this.elapsed.fetch = this.elapsed.lap();
 		Table table = this.order(fillTable);
-		/* 新增测试 */
-		if (!this.selectList.emptyColumnCode()) {
-			ScriptEngine engine = this.getScriptEngine();
-			engine.put("gird", table);
-			for (SelectEntry selectEntry : this.selectList) {
-				if (StringUtils.isNotBlank(selectEntry.code)) {
-					List<ExtractObject> extractObjects = new TreeList<>();
-					table.stream().forEach(r -> {
-						ExtractObject extractObject = new ExtractObject();
-						extractObject.setBundle(r.bundle);
-						extractObject.setColumn(selectEntry.getColumn());
-						extractObject.setValue(r.find(selectEntry.getColumn()));
-						extractObject.setEntry(r);
-						extractObjects.add(extractObject);
-					});
-					engine.put("extractObjects", extractObjects);
-					StringBuffer text = new StringBuffer();
-					text.append("function executeScript(o){\n");
-					text.append(selectEntry.code);
-					text.append("\n");
-					text.append("}\n");
-					text.append("for each (var extractObject in extractObjects) {\n");
-					text.append("var o= {\n");
-					text.append("'value':extractObject.getValue(),\n");
-					text.append("'entry':extractObject.getEntry(),\n");
-					text.append("'columnName':extractObject.getColumn()\n");
-					text.append("}\n");
-					text.append("extractObject.setValue(executeScript.apply(o));\n");
-					text.append("}");
-					engine.eval(text.toString());
-					for (ExtractObject extractObject : extractObjects) {
-						table.get(extractObject.getBundle()).put(extractObject.getColumn(), extractObject.getValue());
+		this.elapsed.order = this.elapsed.lap();
+		try {
+			/* 列脚本按列编译成函数,在同一个引擎中只编译一次,按批次对行调用 */
+			if (!this.selectList.emptyColumnCode()) {
+				ScriptEngine engine = this.getScriptEngine();
+				engine.put("gird", table);
+				List<Row> rows = new ArrayList<>(table);
+				for (SelectEntry selectEntry : this.selectList) {
+					if (StringUtils.isNotBlank(selectEntry.code)) {
+						/* 不同视图可能使用相同的列名,按脚本内容摘要区分,与引擎中函数缓存的键一致 */
+						String id = "plan." + selectEntry.getColumn() + "." + DigestUtils.md5Hex(selectEntry.code);
+						ScriptObjectMirror function = ScriptFactory.function(engine, id,
+								this.columnFunction(selectEntry.code));
+						List<Object> values = new ArrayList<>(rows.size());
+						for (List<Row> part : ListTools.batch(rows, COLUMN_SCRIPT_BATCH)) {
+							ScriptFactory.call(id, function, part, selectEntry.getColumn(), values);
+						}
+						/* 所有行计算完成后再写回,脚本读取其他行的本列时得到的都是原始值 */
+						for (int i = 0; i < rows.size(); i++) {
+							rows.get(i).put(selectEntry.getColumn(), values.get(i));
+						}
 					}
 				}
 			}
-		}
-		this.grid = table;
-		if (null != this.findGroupSelectEntry()) {
-			GroupTable groupTable = group(table);
-			if (StringUtils.isNotEmpty(this.afterGroupGridScriptText)) {
-				ScriptEngine engine = this.getScriptEngine();
-				engine.put("groupGrid", groupTable);
-				engine.eval(this.afterGroupGridScriptText);
+			this.elapsed.script = this.elapsed.lap();
+			this.grid = table;
+			if (null != this.findGroupSelectEntry()) {
+				GroupTable groupTable = group(table);
+				if (StringUtils.isNotEmpty(this.afterGroupGridScriptText)) {
+					ScriptEngine engine = this.getScriptEngine();
+					engine.put("groupGrid", groupTable);
+					engine.eval(this.afterGroupGridScriptText);
+				}
+				this.groupGrid = groupTable;
 			}
-			this.groupGrid = groupTable;
+			this.elapsed.group = this.elapsed.lap();
+		} finally {
+			this.releaseScriptEngine();
 		}
 		/* 需要抽取单独的列 */
 		if (ListTools.isNotEmpty(this.columnList)) {
 			this.columnGrid = new TreeList<Object>();
+			List<Row> rows = new ArrayList<>(table);
 			for (String column : this.columnList) {
 				List<Object> list = new TreeList<>();
 				SelectEntry selectEntry = this.selectList.column(column);
 				if (null != selectEntry) {
-					for (Row o : table) {
-						if (selectEntry.isName) {
-							list.add(name(Objects.toString(o.find(column), "")));
-						} else {
+					if (selectEntry.isName) {
+						list.addAll(rows.parallelStream().map(o -> name(Objects.toString(o.find(column), "")))
+								.collect(Collectors.toList()));
+					} else {
+						for (Row o : rows) {
 							list.add(o.find(column));
 						}
 					}
@@ -325,29 +329,56 @@ public abstract class Plan extends GsonPropertyObject {
 		if (BooleanUtils.isFalse(exportGroupGrid)) {
 			this.groupGrid = null;
 		}
+		/* groupGrid中的行和grid是同一批对象,grid存在时只需要处理一次 */
 		if (null != this.grid) {
-			this.selectList.stream().filter(o -> {
-				return BooleanUtils.isTrue(o.isName);
-			}).forEach(o -> {
-				this.grid.forEach(row -> {
-					row.put(o.column, name(Objects.toString(row.find(o.column), "")));
-				});
-			});
+			this.formatName(this.grid);
+		} else if (null != this.groupGrid) {
+			this.formatName(this.groupGrid.stream().flatMap(o -> o.list.stream()).collect(Collectors.toList()));
 		}
-		if (null != this.groupGrid) {
-			if (this.group.isName) {
-				this.groupGrid.stream().forEach(o -> {
-					o.group = name(Objects.toString(o.group, ""));
-				});
-			}
-			this.selectList.stream().filter(o -> {
-				return BooleanUtils.isTrue(o.isName);
-			}).forEach(o -> {
-				this.grid.forEach(row -> {
-					row.put(o.column, name(Objects.toString(row.find(o.column), "")));
-				});
+		if ((null != this.groupGrid) && this.group.isName) {
+			this.groupGrid.stream().forEach(o -> {
+				o.group = name(Objects.toString(o.group, ""));
 			});
 		}
+		logger.debug("access bundle:{}, elapsed:{}.", bundles.size(), this.elapsed);
+	}
+
+	/* 将isName列的值格式化为名称,行之间没有依赖,并行处理 */
+	private void formatName(List<Row> rows) {
+		List<String> columns = this.selectList.stream().filter(o -> BooleanUtils.isTrue(o.isName))
+				.map(o -> o.column).collect(Collectors.toList());
+		if (columns.isEmpty() || rows.isEmpty()) {
+			return;
+		}
+		new ArrayList<>(rows).parallelStream().forEach(row -> {
+			for (String column : columns) {
+				row.put(column, name(Objects.toString(row.find(column), "")));
+			}
+		});
+	}
+
+	/**
+	 * 列脚本包装为函数表达式,参数为一批行,列名和结果列表,脚本中可以通过this.value,this.entry,this.columnName访问当前值,行和列名.<br/>
+	 * 结果按行的顺序加入结果列表,不直接写回行.
+	 */
+	private String columnFunction(String code) {
+		StringBuilder text = new StringBuilder();
+		text.append("(function(rows, columnName, values){\n");
+		text.append("function executeScript(o){\n");
+		text.append(code);
+		text.append("\n");
+		text.append("}\n");
+		text.append("for (var i = 0; i < rows.size(); i++) {\n");
+		text.append("var entry = rows.get(i);\n");
+		text.append("var o = {\n");
+		text.append("'value':entry.find(columnName),\n");
+		text.append("'entry':entry,\n");
+		text.append("'columnName':columnName\n");
+		text.append("}\n");
+		text.append("values.add(executeScript.apply(o));\n");
+		text.append("}\n");
+		text.append("})");
+		return text.toString();
 	}
 
 	public List<String> fetchBundles() throws Exception {
@@ -367,23 +398,7 @@ public abstract class Plan extends GsonPropertyObject {
 			return bundles;
 		}
 		TreeList<String> os = new TreeList<>();
-		final Table fillTable = this.concreteTable(bundles);
-		List<CompletableFuture<Void>> futures = new TreeList<>();
-		for (List<String> _part_bundles : ListTools.batch(bundles, SQL_STATEMENT_IN_BATCH)) {
-			for (SelectEntry selectEntry : this.orderList) {
-				CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-					try {
-						this.fillSelectEntry(_part_bundles, selectEntry, fillTable);
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				});
-				futures.add(future);
-			}
-		}
-		for (CompletableFuture<Void> future : futures) {
-			future.get(300, TimeUnit.SECONDS);
-		}
+		final Table fillTable = this.fill(bundles, this.orderList);
 		Table table = this.order(fillTable);
 		if (null == group) {
 			for (Row row : table) {
@@ -447,158 +462,273 @@ public abstract class Plan extends GsonPropertyObject {
 		return table;
 	}
 
-	private void fillSelectEntry(List<String> bundles, SelectEntry selectEntry, Table table) throws Exception {
+	/* 取数并填充到行,默认每批数据的所有列使用一次查询,也可以配置为每列单独查询,物化视图只对有变化的记录取数 */
+	private Table fill(List<String> bundles, List<SelectEntry> selectEntries) throws Exception {
+		final Table table = this.concreteTable(bundles);
+		final Map<String, Row> rows = table.stream()
+				.collect(Collectors.toMap(o -> o.bundle, o -> o, (o1, o2) -> o1, HashMap::new));
+		boolean mergeQuery = Config.query().getPlanFetch().getMergeQuery();
+		List<PlanExecutor.Task> tasks = new ArrayList<>();
+		for (List<String> part : ListTools.batch(bundles, SQL_STATEMENT_IN_BATCH)) {
+			if (null != this.materialization) {
+				tasks.add(() -> this.materialization.fill(this, part, rows));
+			} else if (mergeQuery) {
+				tasks.add(() -> this.fetch(part, selectEntries, rows));
+			} else {
+				/* 同一批数据的各列在一个任务中依次查询,每行只由一个任务写入,Row内部的TreeMap不是线程安全的 */
+				tasks.add(() -> {
+					for (SelectEntry selectEntry : selectEntries) {
+						this.fillSelectEntry(part, selectEntry, rows);
+					}
+				});
+			}
+		}
+		PlanExecutor.execute(tasks);
+		return table;
+	}
+
+	/* 一次查询获取一批数据所有列的值,按照路径分配到列 */
+	void fetch(List<String> bundles, List<SelectEntry> selectEntries, Map<String, Row> rows)
+			throws Exception {
+		Map<String, List<SelectEntry>> columns = new HashMap<>();
+		for (SelectEntry selectEntry : selectEntries) {
+			columns.computeIfAbsent(this.pathKey(this.paths(selectEntry)), k -> new ArrayList<>()).add(selectEntry);
+		}
+		if (columns.isEmpty()) {
+			return;
+		}
 		/* oracle 将empty string 自动转换成null,需要判断 */
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			EntityManager em = emc.get(Item.class);
 			CriteriaBuilder cb = em.getCriteriaBuilder();
 			CriteriaQuery<Tuple> cq = cb.createQuery(Tuple.class);
 			Root<Item> root = cq.from(Item.class);
-			Predicate p = cb.isMember(root.get(Item_.bundle), cb.literal(bundles));
-			String[] paths = StringUtils.split(selectEntry.path, ".");
-			if ((paths.length > 0) && StringUtils.isNotEmpty(paths[0])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path0), paths[0]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path0)), cb.equal(root.get(Item_.path0), "")));
-			}
-			if ((paths.length > 1) && StringUtils.isNotEmpty(paths[1])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path1), paths[1]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path1)), cb.equal(root.get(Item_.path1), "")));
-			}
-			if ((paths.length > 2) && StringUtils.isNotEmpty(paths[2])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path2), paths[2]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path2)), cb.equal(root.get(Item_.path2), "")));
-			}
-			if ((paths.length > 3) && StringUtils.isNotEmpty(paths[3])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path3), paths[3]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path3)), cb.equal(root.get(Item_.path3), "")));
+			Predicate or = cb.disjunction();
+			for (List<SelectEntry> list : columns.values()) {
+				or = cb.or(or, this.pathPredicate(cb, root, this.paths(list.get(0))));
 			}
-			if ((paths.length > 4) && StringUtils.isNotEmpty(paths[4])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path4), paths[4]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path4)), cb.equal(root.get(Item_.path4), "")));
-			}
-			if ((paths.length > 5) && StringUtils.isNotEmpty(paths[5])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path5), paths[5]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path5)), cb.equal(root.get(Item_.path5), "")));
+			Predicate p = cb.and(cb.isMember(root.get(Item_.bundle), cb.literal(bundles)), or);
+			cq.multiselect(root.get(Item_.bundle), root.get(Item_.path0), root.get(Item_.path1),
+					root.get(Item_.path2), root.get(Item_.path3), root.get(Item_.path4), root.get(Item_.path5),
+					root.get(Item_.path6), root.get(Item_.path7), root.get(Item_.itemPrimitiveType),
+					root.get(Item_.itemStringValueType), root.get(Item_.stringShortValue),
+					root.get(Item_.stringLongValue), root.get(Item_.dateValue), root.get(Item_.timeValue),
+					root.get(Item_.dateTimeValue), root.get(Item_.booleanValue), root.get(Item_.numberValue)).where(p);
+			List<Tuple> list = em.createQuery(cq).getResultList();
+			for (Tuple o : list) {
+				Row row = rows.get(Objects.toString(o.get(0)));
+				List<SelectEntry> entries = columns.get(this.pathKey(new String[] { (String) o.get(1),
+						(String) o.get(2), (String) o.get(3), (String) o.get(4), (String) o.get(5),
+						(String) o.get(6), (String) o.get(7), (String) o.get(8) }));
+				if ((null != row) && (null != entries)) {
+					for (SelectEntry selectEntry : entries) {
+						this.value(row, selectEntry.getColumn(), o, 9);
+					}
+				}
 			}
-			if ((paths.length > 6) && StringUtils.isNotEmpty(paths[6])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path6), paths[6]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path6)), cb.equal(root.get(Item_.path6), "")));
+		}
+	}
+
+	private String[] paths(SelectEntry selectEntry) {
+		return StringUtils.split(Objects.toString(selectEntry.path, ""), ".");
+	}
+
+	/* 路径的前8段,空值统一为空字符串 */
+	private String pathKey(String[] paths) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 8; i++) {
+			if (i > 0) {
+				sb.append('.');
 			}
-			if ((paths.length > 7) && StringUtils.isNotEmpty(paths[7])) {
-				p = cb.and(p, cb.equal(root.get(Item_.path7), paths[7]));
-			} else {
-				p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path7)), cb.equal(root.get(Item_.path7), "")));
+			if ((paths.length > i) && StringUtils.isNotEmpty(paths[i])) {
+				sb.append(paths[i]);
 			}
+		}
+		return sb.toString();
+	}
+
+	private Predicate pathPredicate(CriteriaBuilder cb, Root<Item> root, String[] paths) {
+		Predicate p = cb.conjunction();
+		if ((paths.length > 0) && StringUtils.isNotEmpty(paths[0])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path0), paths[0]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path0)), cb.equal(root.get(Item_.path0), "")));
+		}
+		if ((paths.length > 1) && StringUtils.isNotEmpty(paths[1])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path1), paths[1]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path1)), cb.equal(root.get(Item_.path1), "")));
+		}
+		if ((paths.length > 2) && StringUtils.isNotEmpty(paths[2])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path2), paths[2]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path2)), cb.equal(root.get(Item_.path2), "")));
+		}
+		if ((paths.length > 3) && StringUtils.isNotEmpty(paths[3])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path3), paths[3]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path3)), cb.equal(root.get(Item_.path3), "")));
+		}
+		if ((paths.length > 4) && StringUtils.isNotEmpty(paths[4])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path4), paths[4]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path4)), cb.equal(root.get(Item_.path4), "")));
+		}
+		if ((paths.length > 5) && StringUtils.isNotEmpty(paths[5])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path5), paths[5]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path5)), cb.equal(root.get(Item_.path5), "")));
+		}
+		if ((paths.length > 6) && StringUtils.isNotEmpty(paths[6])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path6), paths[6]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path6)), cb.equal(root.get(Item_.path6), "")));
+		}
+		if ((paths.length > 7) && StringUtils.isNotEmpty(paths[7])) {
+			p = cb.and(p, cb.equal(root.get(Item_.path7), paths[7]));
+		} else {
+			p = cb.and(p, cb.or(cb.isNull(root.get(Item_.path7)), cb.equal(root.get(Item_.path7), "")));
+		}
+		return p;
+	}
+
+	private void fillSelectEntry(List<String> bundles, SelectEntry selectEntry, Map<String, Row> rows)
+			throws Exception {
+		/* oracle 将empty string 自动转换成null,需要判断 */
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			EntityManager em = emc.get(Item.class);
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Tuple> cq = cb.createQuery(Tuple.class);
+			Root<Item> root = cq.from(Item.class);
+			Predicate p = cb.isMember(root.get(Item_.bundle), cb.literal(bundles));
+			p = cb.and(p, this.pathPredicate(cb, root, this.paths(selectEntry)));
 			cq.multiselect(root.get(Item_.bundle), root.get(Item_.itemPrimitiveType),
 					root.get(Item_.itemStringValueType), root.get(Item_.stringShortValue),
 					root.get(Item_.stringLongValue), root.get(Item_.dateValue), root.get(Item_.timeValue),
 					root.get(Item_.dateTimeValue), root.get(Item_.booleanValue), root.get(Item_.numberValue)).where(p);
 			List<Tuple> list = em.createQuery(cq).getResultList();
-			Row row = null;
 			for (Tuple o : list) {
-				row = table.get(Objects.toString(o.get(0)));
-				switch (ItemPrimitiveType.valueOf(Objects.toString(o.get(1)))) {
-				case s:
-					switch (ItemStringValueType.valueOf(Objects.toString(o.get(2)))) {
-					case s:
-						if (null != o.get(3)) {
-							if ((null != o.get(4)) && StringUtils.isNotEmpty(Objects.toString(o.get(4)))) {
-								row.put(selectEntry.getColumn(), Objects.toString(o.get(4)));
-							} else {
-								row.put(selectEntry.getColumn(), Objects.toString(o.get(3)));
-							}
-						}
-						break;
-					case d:
-						if (null != o.get(5)) {
-							row.put(selectEntry.getColumn(), JpaObjectTools.confirm((Date) o.get(5)));
-						}
-						break;
-					case t:
-						if (null != o.get(6)) {
-							row.put(selectEntry.getColumn(), JpaObjectTools.confirm((Date) o.get(6)));
-						}
-						break;
-					case dt:
-						if (null != o.get(7)) {
-							row.put(selectEntry.getColumn(), JpaObjectTools.confirm((Date) o.get(7)));
-						}
-						break;
-					default:
-						break;
-					}
-					break;
-				case b:
-					if (null != o.get(8)) {
-						row.put(selectEntry.getColumn(), (Boolean) o.get(8));
-					}
-					break;
-				case n:
-					if (null != o.get(9)) {
-						row.put(selectEntry.getColumn(), (Number) o.get(9));
+				Row row = rows.get(Objects.toString(o.get(0)));
+				if (null != row) {
+					this.value(row, selectEntry.getColumn(), o, 1);
+				}
+			}
+		}
+	}
+
+	/* 将Item的值写入行,offset为itemPrimitiveType在查询结果中的位置,之后依次为字符串类型和各类型的值 */
+	private void value(Row row, String column, Tuple o, int offset) {
+		switch (ItemPrimitiveType.valueOf(Objects.toString(o.get(offset)))) {
+		case s:
+			switch (ItemStringValueType.valueOf(Objects.toString(o.get(offset + 1)))) {
+			case s:
+				if (null != o.get(offset + 2)) {
+					if ((null != o.get(offset + 3)) && StringUtils.isNotEmpty(Objects.toString(o.get(offset + 3)))) {
+						row.put(column, Objects.toString(o.get(offset + 3)));
+					} else {
+						row.put(column, Objects.toString(o.get(offset + 2)));
 					}
-					break;
-				default:
-					break;
 				}
+				break;
+			case d:
+				if (null != o.get(offset + 4)) {
+					row.put(column, JpaObjectTools.confirm((Date) o.get(offset + 4)));
+				}
+				break;
+			case t:
+				if (null != o.get(offset + 5)) {
+					row.put(column, JpaObjectTools.confirm((Date) o.get(offset + 5)));
+				}
+				break;
+			case dt:
+				if (null != o.get(offset + 6)) {
+					row.put(column, JpaObjectTools.confirm((Date) o.get(offset + 6)));
+				}
+				break;
+			default:
+				break;
+			}
+			break;
+		case b:
+			if (null != o.get(offset + 7)) {
+				row.put(column, (Boolean) o.get(offset + 7));
 			}
+			break;
+		case n:
+			if (null != o.get(offset + 8)) {
+				row.put(column, (Number) o.get(offset + 8));
+			}
+			break;
+		default:
+			break;
 		}
 	}
 
-	/* 有两个地方用到了 */
+	/* 有两个地方用到了,从引擎池获取已经加载mooTools的引擎,access结束后归还 */
 	private ScriptEngine getScriptEngine() throws ScriptException, Exception {
 		if (null == this.scriptEngine) {
-			scriptEngine = ScriptFactory.newScriptEngine();
-			scriptEngine.eval(Config.mooToolsScriptText());
+			scriptEngine = ScriptFactory.borrowScriptEngine();
 		}
 		return scriptEngine;
 	}
 
-	public static class ExtractObject {
+	private void releaseScriptEngine() {
+		if (null != this.scriptEngine) {
+			ScriptFactory.returnScriptEngine(this.scriptEngine);
+			this.scriptEngine = null;
+		}
+	}
+
+	/**
+	 * 视图各阶段耗时,单位毫秒.
+	 */
+	public static class Elapsed extends GsonPropertyObject {
 
-		private Row entry;
-		private String bundle;
-		private String column;
-		private Object value;
+		@FieldDescribe("获取记录标识耗时.")
+		private Long listBundle = 0L;
 
-		public String getBundle() {
-			return bundle;
-		}
+		@FieldDescribe("取数耗时.")
+		private Long fetch = 0L;
 
-		public void setBundle(String bundle) {
-			this.bundle = bundle;
-		}
+		@FieldDescribe("排序耗时.")
+		private Long order = 0L;
 
-		public String getColumn() {
-			return column;
+		@FieldDescribe("列脚本耗时.")
+		private Long script = 0L;
+
+		@FieldDescribe("分类耗时.")
+		private Long group = 0L;
+
+		private transient long mark = System.currentTimeMillis();
+
+		/* 距离上一次计时的毫秒数 */
+		private long lap() {
+			long now = System.currentTimeMillis();
+			long o = now - mark;
+			mark = now;
+			return o;
 		}
 
-		public void setColumn(String column) {
-			this.column = column;
+		public Long getListBundle() {
+			return listBundle;
 		}
 
-		public Object getValue() {
-			return value;
+		public Long getFetch() {
+			return fetch;
 		}
 
-		public void setValue(Object value) {
-			this.value = value;
+		public Long getOrder() {
+			return order;
 		}
 
-		public Row getEntry() {
-			return entry;
+		public Long getScript() {
+			return script;
 		}
 
-		public void setEntry(Row entry) {
-			this.entry = entry;
+		public Long getGroup() {
+			return group;
 		}
 
 	}
+
 }
@@ -0,0 +1,87 @@
+package com.x.query.core.express.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+
+/**
+ * 视图取数使用的线程池,线程数量固定,不占用公共的ForkJoinPool.
+ *
+ * 单个视图的任务通过有限个工作者依次领取执行,避免列多、数据多的视图占满线程池.
+ */
+final class PlanExecutor {
+
+	private static Logger logger = LoggerFactory.getLogger(PlanExecutor.class);
+
+	private static final long TIMEOUT_SECONDS = 300;
+
+	private static volatile ExecutorService executor;
+
+	private PlanExecutor() {
+	}
+
+	private static ExecutorService executor() throws Exception {
+		ExecutorService o = executor;
+		if (null == o) {
+			synchronized (PlanExecutor.class) {
+				o = executor;
+				if (null == o) {
+					int threadCount = Config.query().getPlanFetch().getThreadCount();
+					AtomicInteger index = new AtomicInteger(0);
+					ThreadFactory threadFactory = r -> {
+						Thread thread = new Thread(r, "plan-fetch-" + index.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					};
+					o = Executors.newFixedThreadPool(threadCount, threadFactory);
+					executor = o;
+				}
+			}
+		}
+		return o;
+	}
+
+	/**
+	 * 执行一个视图的取数任务,同时执行的任务数不超过单个视图的并发数量,全部完成后返回.
+	 */
+	static void execute(List<Task> tasks) throws Exception {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		Queue<Task> queue = new ConcurrentLinkedQueue<>(tasks);
+		int concurrency = Math.min(Config.query().getPlanFetch().getViewConcurrency(), tasks.size());
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(executor().submit(() -> {
+				Task task = null;
+				while (null != (task = queue.poll())) {
+					try {
+						task.execute();
+					} catch (Exception e) {
+						logger.error(e);
+					}
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	@FunctionalInterface
+	interface Task {
+		void execute() throws Exception;
+	}
+
+}
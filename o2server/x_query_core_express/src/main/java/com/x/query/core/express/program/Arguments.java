@@ -1,5 +1,7 @@
 package com.x.query.core.express.program;
 
+import org.apache.commons.lang3.BooleanUtils;
+
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
 import com.x.base.core.entity.annotation.CheckPersistType;
@@ -10,6 +12,10 @@ public class Arguments {
 	private static final String CRAWLUPDATEWORKCOMPLETED = "crawlUpdateWorkCompleted";
 	private static final String CRAWLUPDATEWORK = "crawlUpdateWork";
 	private static final String CRAWLUPDATECMS = "crawlUpdateCms";
+	private static final String CRAWLWATERMARKWORKCOMPLETED = "crawlWatermarkWorkCompleted";
+	private static final String CRAWLWATERMARKWORK = "crawlWatermarkWork";
+	private static final String CRAWLWATERMARKCMS = "crawlWatermarkCms";
+	private static final String SEGMENTINDEXBUILT = "segmentIndexBuilt";
 
 	public static String getCrawlUpdateWorkCompleted() throws Exception {
 		return get(CRAWLUPDATEWORKCOMPLETED, String.class);
@@ -35,6 +41,38 @@ public class Arguments {
 		set(CRAWLUPDATECMS, value, String.class);
 	}
 
+	public static String getCrawlWatermarkWorkCompleted() throws Exception {
+		return get(CRAWLWATERMARKWORKCOMPLETED, String.class);
+	}
+
+	public static void setCrawlWatermarkWorkCompleted(String value) throws Exception {
+		set(CRAWLWATERMARKWORKCOMPLETED, value, String.class);
+	}
+
+	public static String getCrawlWatermarkWork() throws Exception {
+		return get(CRAWLWATERMARKWORK, String.class);
+	}
+
+	public static void setCrawlWatermarkWork(String value) throws Exception {
+		set(CRAWLWATERMARKWORK, value, String.class);
+	}
+
+	public static String getCrawlWatermarkCms() throws Exception {
+		return get(CRAWLWATERMARKCMS, String.class);
+	}
+
+	public static void setCrawlWatermarkCms(String value) throws Exception {
+		set(CRAWLWATERMARKCMS, value, String.class);
+	}
+
+	public static Boolean getSegmentIndexBuilt() throws Exception {
+		return BooleanUtils.toBoolean(get(SEGMENTINDEXBUILT, String.class));
+	}
+
+	public static void setSegmentIndexBuilt(Boolean value) throws Exception {
+		set(SEGMENTINDEXBUILT, BooleanUtils.isTrue(value), String.class);
+	}
+
 	private static <T> T get(String name, Class<T> cls) throws Exception {
 		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
 			Argument argument = emc.firstEqual(Argument.class, Argument.name_FIELDNAME, name);
@@ -6,6 +6,7 @@ import com.x.base.core.project.Context;
 import com.x.base.core.project.cache.CacheManager;
 import com.x.base.core.project.config.Config;
 import com.x.base.core.project.logger.LoggerFactory;
+import com.x.query.service.processing.index.SegmentIndex;
 import com.x.query.service.processing.schedule.CrawlCms;
 import com.x.query.service.processing.schedule.CrawlWork;
 import com.x.query.service.processing.schedule.CrawlWorkCompleted;
@@ -42,6 +43,7 @@ public class ThisApplication {
 
 	public static void destroy() {
 		try {
+			SegmentIndex.shutdown();
 			CacheManager.shutdown();
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -0,0 +1,131 @@
+package com.x.query.service.processing.helper;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.tools.DefaultCharset;
+import com.x.base.core.project.tools.StringTools;
+
+/**
+ * 附件抽取文本的本地缓存,键为附件内容的摘要加上扩展名和抽取选项,内容未变化的附件不再重复解析.<br/>
+ * 命中时更新文件修改时间,每写入一定数量后清理一次:删除超过crawlTextCacheMaxAge未使用的缓存,总量超过crawlTextCacheMaxSize时从最久未使用的开始删除.
+ */
+public class ExtractTextCache {
+
+	private static Logger logger = LoggerFactory.getLogger(ExtractTextCache.class);
+
+	private static final String DIR_CACHE = "crawltext";
+
+	/* 每写入多少次清理一次,首次写入时也会清理 */
+	private static final long CLEAN_INTERVAL = 1000;
+
+	private static final AtomicLong PUT_COUNT = new AtomicLong();
+
+	private static final AtomicBoolean CLEANING = new AtomicBoolean(false);
+
+	private ExtractTextCache() {
+		// nothing
+	}
+
+	public static String key(byte[] bytes, String name, Boolean office, Boolean pdf, Boolean text, Boolean image) {
+		return DigestUtils.sha256Hex(bytes) + "_" + StringUtils.lowerCase(StringUtils.substringAfterLast(name, "."))
+				+ "_" + BooleanUtils.toInteger(office) + BooleanUtils.toInteger(pdf) + BooleanUtils.toInteger(text)
+				+ BooleanUtils.toInteger(image);
+	}
+
+	public static String get(String key) throws Exception {
+		File file = file(key);
+		if (file.exists()) {
+			file.setLastModified(System.currentTimeMillis());
+			try {
+				return FileUtils.readFileToString(file, DefaultCharset.charset);
+			} catch (FileNotFoundException | NoSuchFileException e) {
+				/* 读取前被清理 */
+				return null;
+			}
+		}
+		return null;
+	}
+
+	public static void put(String key, String value) throws Exception {
+		File file = file(key);
+		FileUtils.forceMkdirParent(file);
+		/* 并行收集时可能同时写入同一个附件,先写临时文件再替换 */
+		File temp = new File(file.getParentFile(), file.getName() + "." + StringTools.uniqueToken() + ".tmp");
+		FileUtils.writeStringToFile(temp, StringUtils.trimToEmpty(value), DefaultCharset.charset);
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		if ((PUT_COUNT.getAndIncrement() % CLEAN_INTERVAL) == 0) {
+			clean();
+		}
+	}
+
+	private static void clean() throws Exception {
+		/* 并行收集时只由一个线程清理 */
+		if (!CLEANING.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			File dir = new File(Config.dir_local(), DIR_CACHE);
+			if (!dir.isDirectory()) {
+				return;
+			}
+			long expire = System.currentTimeMillis()
+					- TimeUnit.DAYS.toMillis(Config.query().getCrawlTextCacheMaxAge());
+			long maxSize = Config.query().getCrawlTextCacheMaxSize() * 1024L * 1024L;
+			int removed = 0;
+			long total = 0;
+			/* 修改时间在排序过程中可能被get更新,先取出再排序 */
+			List<Pair<File, Long>> files = new ArrayList<>();
+			for (File file : FileUtils.listFiles(dir, null, true)) {
+				long lastModified = file.lastModified();
+				if (lastModified < expire) {
+					FileUtils.deleteQuietly(file);
+					removed++;
+				} else {
+					files.add(Pair.of(file, lastModified));
+					total += file.length();
+				}
+			}
+			if (total > maxSize) {
+				files.sort(Comparator.comparingLong(o -> o.getRight()));
+				for (Pair<File, Long> pair : files) {
+					if (total <= maxSize) {
+						break;
+					}
+					total -= pair.getLeft().length();
+					FileUtils.deleteQuietly(pair.getLeft());
+					removed++;
+				}
+			}
+			if (removed > 0) {
+				logger.print("清理抽取文本缓存, 删除数量:{}, 剩余容量:{}MB.", removed, total / 1024 / 1024);
+			}
+		} finally {
+			CLEANING.set(false);
+		}
+	}
+
+	private static File file(String key) throws Exception {
+		return new File(new File(new File(Config.dir_local(), DIR_CACHE), StringUtils.substring(key, 0, 2)),
+				key + ".txt");
+	}
+
+}
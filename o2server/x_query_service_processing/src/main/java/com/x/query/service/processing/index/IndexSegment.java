@@ -0,0 +1,275 @@
+package com.x.query.service.processing.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * 不可变的磁盘索引段.<br/>
+ * docs.dat: 文档数量, 按标识排序的(标识, 文档长度).<br/>
+ * terms.dat: 词数量, 按词排序的(词, 文档频率, 倒排表偏移量),打开时全部载入内存.<br/>
+ * postings.dat: 连续的(文档序号, 词频)对,使用内存映射读取.<br/>
+ * deletes.dat: 已删除文档的位图,段内唯一可变的部分,两次保存之间的删除记录在索引目录的删除日志中.
+ */
+final class IndexSegment {
+
+	private static final String FILE_DOCS = "docs.dat";
+	private static final String FILE_TERMS = "terms.dat";
+	private static final String FILE_POSTINGS = "postings.dat";
+	private static final String FILE_DELETES = "deletes.dat";
+
+	/* 单个映射区域1G,每条记录8字节,int不会跨越区域 */
+	private static final int REGION_SHIFT = 30;
+	private static final long REGION_MASK = (1L << REGION_SHIFT) - 1;
+
+	private final File dir;
+	private final String[] ids;
+	private final int[] lengths;
+	private final TreeMap<String, long[]> dictionary;
+	private final MappedByteBuffer[] regions;
+	private final BitSet deletes;
+	private long liveLength;
+	private boolean dirty = false;
+
+	private IndexSegment(File dir, String[] ids, int[] lengths, TreeMap<String, long[]> dictionary,
+			MappedByteBuffer[] regions, BitSet deletes) {
+		this.dir = dir;
+		this.ids = ids;
+		this.lengths = lengths;
+		this.dictionary = dictionary;
+		this.regions = regions;
+		this.deletes = deletes;
+		for (int i = 0; i < lengths.length; i++) {
+			if (!deletes.get(i)) {
+				this.liveLength += lengths[i];
+			}
+		}
+	}
+
+	String name() {
+		return dir.getName();
+	}
+
+	int maxDoc() {
+		return ids.length;
+	}
+
+	int liveDocs() {
+		return ids.length - deletes.cardinality();
+	}
+
+	long liveLength() {
+		return liveLength;
+	}
+
+	String id(int doc) {
+		return ids[doc];
+	}
+
+	int length(int doc) {
+		return lengths[doc];
+	}
+
+	boolean deleted(int doc) {
+		return deletes.get(doc);
+	}
+
+	BitSet snapshotDeletes() {
+		return (BitSet) deletes.clone();
+	}
+
+	NavigableSet<String> terms() {
+		return dictionary.navigableKeySet();
+	}
+
+	/* 文档频率包含已删除的文档 */
+	int df(String term) {
+		long[] info = dictionary.get(term);
+		return (null == info) ? 0 : (int) info[0];
+	}
+
+	boolean delete(String id) {
+		int doc = Arrays.binarySearch(ids, id);
+		if ((doc >= 0) && (!deletes.get(doc))) {
+			deletes.set(doc);
+			liveLength -= lengths[doc];
+			dirty = true;
+			return true;
+		}
+		return false;
+	}
+
+	/* 遍历倒排表,包括已删除的文档,由调用方判断 */
+	void postings(String term, PostingVisitor visitor) throws IOException {
+		long[] info = dictionary.get(term);
+		if (null != info) {
+			long position = info[1];
+			for (long i = 0; i < info[0]; i++) {
+				visitor.visit(readInt(position), readInt(position + 4));
+				position += 8;
+			}
+		}
+	}
+
+	private int readInt(long position) {
+		return regions[(int) (position >>> REGION_SHIFT)].getInt((int) (position & REGION_MASK));
+	}
+
+	void persistDeletes() throws IOException {
+		if (dirty) {
+			File temp = new File(dir, FILE_DELETES + ".tmp");
+			long[] words = deletes.toLongArray();
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(words.length);
+				for (long word : words) {
+					out.writeLong(word);
+				}
+			}
+			Files.move(temp.toPath(), new File(dir, FILE_DELETES).toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			dirty = false;
+		}
+	}
+
+	void drop() {
+		FileUtils.deleteQuietly(dir);
+	}
+
+	static IndexSegment open(File dir) throws IOException {
+		String[] ids;
+		int[] lengths;
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(new File(dir, FILE_DOCS))))) {
+			int count = in.readInt();
+			ids = new String[count];
+			lengths = new int[count];
+			for (int i = 0; i < count; i++) {
+				ids[i] = in.readUTF();
+				lengths[i] = in.readInt();
+			}
+		}
+		TreeMap<String, long[]> dictionary = new TreeMap<>();
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(new File(dir, FILE_TERMS))))) {
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String term = in.readUTF();
+				int df = in.readInt();
+				long offset = in.readLong();
+				dictionary.put(term, new long[] { df, offset });
+			}
+		}
+		MappedByteBuffer[] regions;
+		try (RandomAccessFile file = new RandomAccessFile(new File(dir, FILE_POSTINGS), "r");
+				FileChannel channel = file.getChannel()) {
+			long size = channel.size();
+			regions = new MappedByteBuffer[(int) (size >>> REGION_SHIFT) + 1];
+			for (int i = 0; i < regions.length; i++) {
+				long position = ((long) i) << REGION_SHIFT;
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+						Math.min(REGION_MASK + 1, size - position));
+			}
+		}
+		BitSet deletes = new BitSet();
+		File file = new File(dir, FILE_DELETES);
+		if (file.exists()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				long[] words = new long[in.readInt()];
+				for (int i = 0; i < words.length; i++) {
+					words[i] = in.readLong();
+				}
+				deletes = BitSet.valueOf(words);
+			}
+		}
+		return new IndexSegment(dir, ids, lengths, dictionary, regions, deletes);
+	}
+
+	@FunctionalInterface
+	interface PostingVisitor {
+		void visit(int doc, int tf) throws IOException;
+	}
+
+	/**
+	 * 按词的顺序写入一个新的段,调用顺序:term, posting..., endTerm.
+	 */
+	static class Builder implements Closeable {
+
+		private final File dir;
+		private final DataOutputStream postings;
+		private final DataOutputStream terms;
+		private long offset = 0;
+		private int termCount = 0;
+		private String term;
+		private long start;
+		private int df;
+
+		Builder(File dir, String[] ids, int[] lengths) throws IOException {
+			this.dir = dir;
+			FileUtils.forceMkdir(dir);
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(new File(dir, FILE_DOCS))))) {
+				out.writeInt(ids.length);
+				for (int i = 0; i < ids.length; i++) {
+					out.writeUTF(ids[i]);
+					out.writeInt(lengths[i]);
+				}
+			}
+			this.postings = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(new File(dir, FILE_POSTINGS)), 1024 * 64));
+			this.terms = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(new File(dir, FILE_TERMS))));
+			/* 词数量在关闭时回填 */
+			this.terms.writeInt(0);
+		}
+
+		void term(String term) {
+			this.term = term;
+			this.start = offset;
+			this.df = 0;
+		}
+
+		void posting(int doc, int tf) throws IOException {
+			postings.writeInt(doc);
+			postings.writeInt(tf);
+			offset += 8;
+			df++;
+		}
+
+		void endTerm() throws IOException {
+			if (df > 0) {
+				terms.writeUTF(term);
+				terms.writeInt(df);
+				terms.writeLong(start);
+				termCount++;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			postings.close();
+			terms.close();
+			try (RandomAccessFile file = new RandomAccessFile(new File(dir, FILE_TERMS), "rw")) {
+				file.writeInt(termCount);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,521 @@
+package com.x.query.service.processing.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.config.Query;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.gson.XGsonBuilder;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.tools.DefaultCharset;
+import com.x.query.core.express.program.Arguments;
+
+/**
+ * 分词的本地倒排索引,替代Word表上的group by统计.<br/>
+ * 新增的文档先进入内存缓存,定时或者数量达到上限后写成不可变的磁盘段,段数量超过mergeFactor时合并最小的段.
+ * 删除只在段的位图上标记,合并时丢弃.段上的删除同时同步追加到删除日志,打开时重放,写入段的删除标记后清空,
+ * 避免进程退出后已删除的文档重新出现.搜索使用BM25(k1=1.2,b=0.75)打分.<br/>
+ * 内存缓存在进程异常退出时会丢失,可以通过重建索引恢复.<br/>
+ * 重建索引后即使没有启用也会随收集持续更新,启用只是将搜索切换到索引.
+ */
+public final class SegmentIndex {
+
+	private static Logger logger = LoggerFactory.getLogger(SegmentIndex.class);
+
+	private static final String DIR_INDEX = "segmentindex";
+	private static final String FILE_MANIFEST = "manifest.json";
+	private static final String FILE_DELETELOG = "deletes.log";
+	private static final String SEGMENT_PREFIX = "seg_";
+
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	private static volatile SegmentIndex instance;
+
+	public static SegmentIndex instance() throws Exception {
+		if (null == instance) {
+			synchronized (SegmentIndex.class) {
+				if (null == instance) {
+					instance = new SegmentIndex(new File(Config.dir_local(), DIR_INDEX),
+							Config.query().getSegmentIndex());
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * 是否需要维护索引:已经启用,或者已经调用过重建(等待启用).收集和清理据此决定是否转发到索引节点并写入索引.
+	 */
+	public static boolean maintained() throws Exception {
+		return BooleanUtils.isTrue(Config.query().getSegmentIndex().getEnable())
+				|| BooleanUtils.isTrue(Arguments.getSegmentIndexBuilt());
+	}
+
+	public static void shutdown() {
+		synchronized (SegmentIndex.class) {
+			if (null != instance) {
+				instance.close();
+				instance = null;
+			}
+		}
+	}
+
+	private final File dir;
+	private final Query.SegmentIndex config;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	/* 合并和清空互斥,避免清空后合并结果写回 */
+	private final Object mergeLock = new Object();
+	private final ScheduledExecutorService scheduler;
+	private List<IndexSegment> segments = new ArrayList<>();
+	private Map<String, Map<String, Integer>> buffer = new HashMap<>();
+	private long generation = 0;
+
+	private SegmentIndex(File dir, Query.SegmentIndex config) throws Exception {
+		this.dir = dir;
+		this.config = config;
+		FileUtils.forceMkdir(dir);
+		this.load();
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, SegmentIndex.class.getSimpleName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				this.flush();
+				this.merge();
+			} catch (Exception e) {
+				logger.error(e);
+			}
+		}, config.getFlushInterval(), config.getFlushInterval(), TimeUnit.SECONDS);
+	}
+
+	/* 读取清单,删除不在清单中的段(未完成的写入或合并) */
+	private void load() throws Exception {
+		File file = new File(dir, FILE_MANIFEST);
+		Manifest manifest = new Manifest();
+		if (file.exists()) {
+			manifest = XGsonBuilder.instance().fromJson(FileUtils.readFileToString(file, DefaultCharset.charset),
+					Manifest.class);
+		}
+		generation = manifest.getGeneration();
+		List<String> names = manifest.getSegmentList();
+		for (String name : names) {
+			segments.add(IndexSegment.open(new File(dir, name)));
+		}
+		File[] files = dir.listFiles(o -> o.isDirectory() && o.getName().startsWith(SEGMENT_PREFIX)
+				&& (!names.contains(o.getName())));
+		if (null != files) {
+			for (File o : files) {
+				FileUtils.deleteQuietly(o);
+			}
+		}
+		this.replayDeleteLog();
+		logger.print("load segment index, segment:{}, document:{}.", segments.size(),
+				segments.stream().mapToLong(IndexSegment::liveDocs).sum());
+	}
+
+	/* 将上次退出前没有写入段的删除补记到段上 */
+	private void replayDeleteLog() throws IOException {
+		File file = new File(dir, FILE_DELETELOG);
+		if (file.exists()) {
+			int count = 0;
+			for (String id : FileUtils.readLines(file, DefaultCharset.charset)) {
+				if (StringUtils.isNotEmpty(id) && this.removeFromSegments(id)) {
+					count++;
+				}
+			}
+			for (IndexSegment segment : segments) {
+				segment.persistDeletes();
+			}
+			Files.deleteIfExists(file.toPath());
+			logger.print("replay segment index delete log, document:{}.", count);
+		}
+	}
+
+	/* 在返回前同步写入删除日志 */
+	private void appendDeleteLog(List<String> ids) throws IOException {
+		if (!ids.isEmpty()) {
+			Files.write(new File(dir, FILE_DELETELOG).toPath(),
+					(String.join(StringUtils.LF, ids) + StringUtils.LF).getBytes(DefaultCharset.charset),
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+		}
+	}
+
+	private void writeManifest() throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.setGeneration(generation);
+		manifest.setSegmentList(segments.stream().map(IndexSegment::name).collect(Collectors.toList()));
+		File temp = new File(dir, FILE_MANIFEST + ".tmp");
+		FileUtils.writeStringToFile(temp, XGsonBuilder.toJson(manifest), DefaultCharset.charset);
+		Files.move(temp.toPath(), new File(dir, FILE_MANIFEST).toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * 索引文档,已经存在的同标识文档将被替换.
+	 *
+	 * @param id    Entry标识
+	 * @param terms 词和词频
+	 */
+	public void index(String id, Map<String, Integer> terms) throws Exception {
+		boolean full;
+		lock.writeLock().lock();
+		try {
+			List<String> removed = new ArrayList<>();
+			this.remove(id, removed);
+			this.appendDeleteLog(removed);
+			buffer.put(id, new HashMap<>(terms));
+			full = buffer.size() >= config.getMaxBufferedDocuments();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		if (full) {
+			this.flush();
+		}
+	}
+
+	public void delete(Collection<String> ids) throws Exception {
+		lock.writeLock().lock();
+		try {
+			List<String> removed = new ArrayList<>();
+			for (String id : ids) {
+				this.remove(id, removed);
+			}
+			this.appendDeleteLog(removed);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/* 缓存中的文档已经替换了段上的同标识文档,只有从段上删除的需要记录 */
+	private void remove(String id, List<String> removed) {
+		if ((null == buffer.remove(id)) && this.removeFromSegments(id)) {
+			removed.add(id);
+		}
+	}
+
+	private boolean removeFromSegments(String id) {
+		for (IndexSegment segment : segments) {
+			if (segment.delete(id)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 删除所有段和缓存,用于重建索引.
+	 */
+	public void clear() throws Exception {
+		synchronized (mergeLock) {
+			lock.writeLock().lock();
+			try {
+				List<IndexSegment> olds = segments;
+				segments = new ArrayList<>();
+				buffer = new HashMap<>();
+				this.writeManifest();
+				Files.deleteIfExists(new File(dir, FILE_DELETELOG).toPath());
+				olds.forEach(IndexSegment::drop);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * 保存各段的删除标记并清空删除日志,再将内存缓存写为新的段.<br/>
+	 * 先清空日志,新段中与日志同标识的文档不会在重放时被误删.
+	 */
+	public void flush() throws Exception {
+		lock.writeLock().lock();
+		try {
+			for (IndexSegment segment : segments) {
+				segment.persistDeletes();
+			}
+			Files.deleteIfExists(new File(dir, FILE_DELETELOG).toPath());
+			if (!buffer.isEmpty()) {
+				String[] ids = buffer.keySet().toArray(new String[0]);
+				Arrays.sort(ids);
+				int[] lengths = new int[ids.length];
+				TreeMap<String, List<int[]>> postings = new TreeMap<>();
+				for (int i = 0; i < ids.length; i++) {
+					for (Map.Entry<String, Integer> en : buffer.get(ids[i]).entrySet()) {
+						lengths[i] += en.getValue();
+						postings.computeIfAbsent(en.getKey(), k -> new ArrayList<>())
+								.add(new int[] { i, en.getValue() });
+					}
+				}
+				File file = new File(dir, SEGMENT_PREFIX + (++generation));
+				try (IndexSegment.Builder builder = new IndexSegment.Builder(file, ids, lengths)) {
+					for (Map.Entry<String, List<int[]>> en : postings.entrySet()) {
+						builder.term(en.getKey());
+						for (int[] o : en.getValue()) {
+							builder.posting(o[0], o[1]);
+						}
+						builder.endTerm();
+					}
+				}
+				segments.add(IndexSegment.open(file));
+				buffer = new HashMap<>();
+			}
+			this.writeManifest();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 段数量超过mergeFactor时,将最小的mergeFactor个段合并为一个,丢弃已删除的文档.<br/>
+	 * 合并过程中不持有写锁,合并期间新产生的删除在替换时补记到新段上.
+	 */
+	public void merge() throws Exception {
+		synchronized (mergeLock) {
+			List<IndexSegment> sources;
+			List<BitSet> snapshots = new ArrayList<>();
+			File file;
+			lock.writeLock().lock();
+			try {
+				if (segments.size() <= config.getMergeFactor()) {
+					return;
+				}
+				sources = segments.stream().sorted(Comparator.comparingInt(IndexSegment::liveDocs))
+						.limit(config.getMergeFactor()).collect(Collectors.toList());
+				for (IndexSegment segment : sources) {
+					snapshots.add(segment.snapshotDeletes());
+				}
+				file = new File(dir, SEGMENT_PREFIX + (++generation));
+			} finally {
+				lock.writeLock().unlock();
+			}
+			IndexSegment merged = this.merge(file, sources, snapshots);
+			lock.writeLock().lock();
+			try {
+				for (int i = 0; i < sources.size(); i++) {
+					IndexSegment source = sources.get(i);
+					BitSet snapshot = snapshots.get(i);
+					for (int doc = 0; doc < source.maxDoc(); doc++) {
+						if (source.deleted(doc) && (!snapshot.get(doc))) {
+							merged.delete(source.id(doc));
+						}
+					}
+				}
+				segments.removeAll(sources);
+				segments.add(merged);
+				merged.persistDeletes();
+				this.writeManifest();
+			} finally {
+				lock.writeLock().unlock();
+			}
+			sources.forEach(IndexSegment::drop);
+			logger.debug("merge segment index, source:{}, document:{}.", sources.size(), merged.maxDoc());
+		}
+	}
+
+	private IndexSegment merge(File file, List<IndexSegment> sources, List<BitSet> snapshots) throws Exception {
+		TreeMap<String, int[]> live = new TreeMap<>();
+		for (int i = 0; i < sources.size(); i++) {
+			IndexSegment source = sources.get(i);
+			for (int doc = 0; doc < source.maxDoc(); doc++) {
+				if (!snapshots.get(i).get(doc)) {
+					live.put(source.id(doc), new int[] { i, doc });
+				}
+			}
+		}
+		String[] ids = new String[live.size()];
+		int[] lengths = new int[live.size()];
+		int[][] remaps = new int[sources.size()][];
+		for (int i = 0; i < sources.size(); i++) {
+			remaps[i] = new int[sources.get(i).maxDoc()];
+			Arrays.fill(remaps[i], -1);
+		}
+		int ordinal = 0;
+		for (Map.Entry<String, int[]> en : live.entrySet()) {
+			int[] o = en.getValue();
+			ids[ordinal] = en.getKey();
+			lengths[ordinal] = sources.get(o[0]).length(o[1]);
+			remaps[o[0]][o[1]] = ordinal++;
+		}
+		TreeSet<String> terms = new TreeSet<>();
+		for (IndexSegment source : sources) {
+			terms.addAll(source.terms());
+		}
+		try (IndexSegment.Builder builder = new IndexSegment.Builder(file, ids, lengths)) {
+			for (String term : terms) {
+				builder.term(term);
+				for (int i = 0; i < sources.size(); i++) {
+					int[] remap = remaps[i];
+					sources.get(i).postings(term, (doc, tf) -> {
+						if (remap[doc] >= 0) {
+							builder.posting(remap[doc], tf);
+						}
+					});
+				}
+				builder.endTerm();
+			}
+		}
+		return IndexSegment.open(file);
+	}
+
+	/**
+	 * 使用BM25对包含任一关键词的文档打分.文档频率包含段中已删除但尚未合并的文档,作为近似值.
+	 *
+	 * @param keys  关键词
+	 * @param count 返回的最大数量
+	 */
+	public Hits search(List<String> keys, int count) throws Exception {
+		Map<String, Double> scores = new HashMap<>();
+		lock.readLock().lock();
+		try {
+			long documents = buffer.size();
+			long length = 0;
+			for (Map<String, Integer> terms : buffer.values()) {
+				length += length(terms);
+			}
+			for (IndexSegment segment : segments) {
+				documents += segment.liveDocs();
+				length += segment.liveLength();
+			}
+			if (documents == 0) {
+				return new Hits(new ArrayList<>(), 0);
+			}
+			final double avgdl = Math.max(1.0, (double) length / documents);
+			for (String key : new LinkedHashSet<>(keys)) {
+				long df = 0;
+				for (IndexSegment segment : segments) {
+					df += segment.df(key);
+				}
+				for (Map<String, Integer> terms : buffer.values()) {
+					if (terms.containsKey(key)) {
+						df++;
+					}
+				}
+				if (df == 0) {
+					continue;
+				}
+				final double idf = Math.log(1.0 + (documents - df + 0.5) / (df + 0.5));
+				for (IndexSegment segment : segments) {
+					segment.postings(key, (doc, tf) -> {
+						if (!segment.deleted(doc)) {
+							scores.merge(segment.id(doc), score(idf, tf, segment.length(doc), avgdl), Double::sum);
+						}
+					});
+				}
+				for (Map.Entry<String, Map<String, Integer>> en : buffer.entrySet()) {
+					Integer tf = en.getValue().get(key);
+					if (null != tf) {
+						scores.merge(en.getKey(), score(idf, tf, length(en.getValue()), avgdl), Double::sum);
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		PriorityQueue<Map.Entry<String, Double>> queue = new PriorityQueue<>(Map.Entry.comparingByValue());
+		for (Map.Entry<String, Double> en : scores.entrySet()) {
+			queue.offer(en);
+			if (queue.size() > count) {
+				queue.poll();
+			}
+		}
+		List<String> list = new ArrayList<>(queue.size());
+		while (!queue.isEmpty()) {
+			list.add(0, queue.poll().getKey());
+		}
+		return new Hits(list, scores.size());
+	}
+
+	private static double score(double idf, int tf, int dl, double avgdl) {
+		return idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * dl / avgdl));
+	}
+
+	private static int length(Map<String, Integer> terms) {
+		int length = 0;
+		for (Integer o : terms.values()) {
+			length += o;
+		}
+		return length;
+	}
+
+	private void close() {
+		scheduler.shutdownNow();
+		try {
+			this.flush();
+		} catch (Exception e) {
+			logger.error(e);
+		}
+	}
+
+	public static class Hits {
+
+		private List<String> list;
+
+		private Integer count;
+
+		public Hits(List<String> list, Integer count) {
+			this.list = list;
+			this.count = count;
+		}
+
+		public List<String> getList() {
+			return list;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+
+	}
+
+	public static class Manifest extends GsonPropertyObject {
+
+		private Long generation = 0L;
+
+		private List<String> segmentList = new ArrayList<>();
+
+		public Long getGeneration() {
+			return null == generation ? 0L : generation;
+		}
+
+		public void setGeneration(Long generation) {
+			this.generation = generation;
+		}
+
+		public List<String> getSegmentList() {
+			return null == segmentList ? new ArrayList<>() : segmentList;
+		}
+
+		public void setSegmentList(List<String> segmentList) {
+			this.segmentList = segmentList;
+		}
+
+	}
+
+}
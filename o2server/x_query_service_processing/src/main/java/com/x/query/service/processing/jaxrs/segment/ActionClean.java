@@ -27,6 +27,7 @@
 package com.x.query.service.processing.jaxrs.segment;
 
 import java.util.List;
+import java.util.Objects;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -35,10 +36,15 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
 import com.x.base.core.entity.annotation.CheckRemoveType;
+import com.x.base.core.project.Applications;
+import com.x.base.core.project.x_query_service_processing;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.config.Query;
 import com.x.base.core.project.exception.ExceptionAccessDenied;
 import com.x.base.core.project.http.ActionResult;
 import com.x.base.core.project.http.EffectivePerson;
@@ -50,6 +56,8 @@ import com.x.query.core.entity.segment.Entry;
 import com.x.query.core.entity.segment.Entry_;
 import com.x.query.core.entity.segment.Word;
 import com.x.query.service.processing.Business;
+import com.x.query.service.processing.ThisApplication;
+import com.x.query.service.processing.index.SegmentIndex;
 
 class ActionClean extends BaseAction {
 
@@ -64,12 +72,28 @@ class ActionClean extends BaseAction {
 			}
 			emc.close();
 		}
+		ActionResult<Wo> result = new ActionResult<>();
+		/* 倒排索引只保存在索引节点上,维护索引时在索引节点上执行清理,与收集和重建使用同一节点 */
+		if (SegmentIndex.maintained()) {
+			String node = ThisApplication.context().applications()
+					.randomWithSeed(x_query_service_processing.class.getName(), Query.SegmentIndex.NODE_SEED)
+					.getNode();
+			if (!StringUtils.equals(node, Config.node())) {
+				result.setData(ThisApplication.context().applications()
+						.getQuery(x_query_service_processing.class,
+								Applications.joinQueryUri("segment", "clean", "work", Objects.toString(cleanWork),
+										"workCompleted", Objects.toString(cleanWorkCompleted), "cms",
+										Objects.toString(cleanCms)),
+								Query.SegmentIndex.NODE_SEED)
+						.getData(Wo.class));
+				return result;
+			}
+		}
 		if (BooleanUtils.isTrue(cleanWork) || BooleanUtils.isTrue(cleanWorkCompleted)
 				|| BooleanUtils.isTrue(cleanCms)) {
 			Job job = new Job(cleanWork, cleanWorkCompleted, cleanCms);
 			job.start();
 		}
-		ActionResult<Wo> result = new ActionResult<>();
 		Wo wo = new Wo();
 		wo.setValue(true);
 		result.setData(wo);
@@ -108,6 +132,7 @@ class ActionClean extends BaseAction {
 							}
 						}
 						emc.commit();
+						unindex(ids);
 					}
 				} catch (Exception e) {
 					logger.error(e);
@@ -32,6 +32,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.entity.JpaObject;
 import com.x.base.core.entity.annotation.CheckPersistType;
 import com.x.base.core.entity.dataitem.DataItemConverter;
 import com.x.base.core.entity.dataitem.ItemCategory;
@@ -41,6 +42,7 @@ import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.jaxrs.WrapBoolean;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.tools.ListTools;
 import com.x.cms.core.entity.Document;
 import com.x.cms.core.entity.FileInfo;
 import com.x.query.core.entity.Item;
@@ -75,6 +77,7 @@ class ActionCrawlCms extends BaseAction {
 				emc.beginTransaction(Entry.class);
 				emc.persist(entry, CheckPersistType.all);
 				emc.commit();
+				this.index(entry);
 			}
 			Wo wo = new Wo();
 			wo.setValue(true);
@@ -134,6 +137,7 @@ class ActionCrawlCms extends BaseAction {
 				emc.remove(en);
 				emc.commit();
 			}
+			this.unindex(ListTools.extractField(os, JpaObject.id_FIELDNAME, String.class, true, true));
 		}
 	}
 
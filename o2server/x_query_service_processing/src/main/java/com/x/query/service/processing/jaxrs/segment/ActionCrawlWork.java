@@ -32,6 +32,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.x.base.core.container.EntityManagerContainer;
 import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.entity.JpaObject;
 import com.x.base.core.entity.annotation.CheckPersistType;
 import com.x.base.core.entity.dataitem.DataItemConverter;
 import com.x.base.core.entity.dataitem.ItemCategory;
@@ -41,6 +42,7 @@ import com.x.base.core.project.http.EffectivePerson;
 import com.x.base.core.project.jaxrs.WrapBoolean;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.tools.ListTools;
 import com.x.processplatform.core.entity.content.Attachment;
 import com.x.processplatform.core.entity.content.Work;
 import com.x.query.core.entity.Item;
@@ -78,6 +80,7 @@ class ActionCrawlWork extends BaseAction {
 				emc.beginTransaction(Entry.class);
 				emc.persist(entry, CheckPersistType.all);
 				emc.commit();
+				this.index(entry);
 			}
 			Wo wo = new Wo();
 			wo.setValue(true);
@@ -146,6 +149,7 @@ class ActionCrawlWork extends BaseAction {
 				emc.remove(en);
 				emc.commit();
 			}
+			this.unindex(ListTools.extractField(os, JpaObject.id_FIELDNAME, String.class, true, true));
 		}
 	}
 
@@ -46,6 +46,7 @@ import com.x.base.core.project.jaxrs.WrapBoolean;
 import com.x.base.core.project.logger.Logger;
 import com.x.base.core.project.logger.LoggerFactory;
 import com.x.base.core.project.tools.ExtractTextTools;
+import com.x.base.core.project.tools.ListTools;
 import com.x.base.core.project.tools.StringTools;
 import com.x.processplatform.core.entity.content.Attachment;
 import com.x.processplatform.core.entity.content.WorkCompleted;
@@ -85,6 +86,7 @@ class ActionCrawlWorkCompleted extends BaseAction {
 				emc.beginTransaction(Entry.class);
 				emc.persist(entry, CheckPersistType.all);
 				emc.commit();
+				this.index(entry);
 			}
 			Wo wo = new Wo();
 			wo.setValue(true);
@@ -154,6 +156,7 @@ class ActionCrawlWorkCompleted extends BaseAction {
 				emc.remove(en);
 				emc.commit();
 			}
+			this.unindex(ListTools.extractField(os, JpaObject.id_FIELDNAME, String.class, true, true));
 		}
 	}
 
@@ -0,0 +1,141 @@
+package com.x.query.service.processing.jaxrs.segment;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.x.base.core.container.EntityManagerContainer;
+import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.entity.JpaObject_;
+import com.x.base.core.project.x_query_service_processing;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.config.Query;
+import com.x.base.core.project.exception.ExceptionAccessDenied;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.jaxrs.WrapBoolean;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.utils.time.TimeStamp;
+import com.x.query.core.entity.segment.Entry;
+import com.x.query.core.entity.segment.Entry_;
+import com.x.query.core.express.program.Arguments;
+import com.x.query.service.processing.Business;
+import com.x.query.service.processing.ThisApplication;
+import com.x.query.service.processing.index.SegmentIndex;
+
+/**
+ * 清空本地倒排索引,按照Entry表中已经索引的条目重新收集.<br/>
+ * 索引只保存在收集请求所指向的节点上,在其他节点上调用时转发到该节点.<br/>
+ * 没有启用索引时也可以调用,开始重建后收集即转发到索引节点并写入索引,重建完成后启用索引只是将搜索切换到索引.
+ */
+class ActionIndexRebuild extends BaseAction {
+
+	private static Logger logger = LoggerFactory.getLogger(ActionIndexRebuild.class);
+
+	ActionResult<Wo> execute(EffectivePerson effectivePerson) throws Exception {
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			Business business = new Business(emc);
+			if (!business.isManager(effectivePerson)) {
+				throw new ExceptionAccessDenied(effectivePerson);
+			}
+		}
+		ActionResult<Wo> result = new ActionResult<>();
+		String node = ThisApplication.context().applications()
+				.randomWithSeed(x_query_service_processing.class.getName(), Query.SegmentIndex.NODE_SEED).getNode();
+		if (!StringUtils.equals(node, Config.node())) {
+			result.setData(ThisApplication.context().applications()
+					.getQuery(x_query_service_processing.class, "segment/index/rebuild", Query.SegmentIndex.NODE_SEED)
+					.getData(Wo.class));
+			return result;
+		}
+		/* 在清空之前标记,之后的收集都会转发到本节点写入索引,不会遗漏重建期间的变更 */
+		Arguments.setSegmentIndexBuilt(true);
+		new Job(effectivePerson).start();
+		Wo wo = new Wo();
+		wo.setValue(true);
+		result.setData(wo);
+		return result;
+	}
+
+	public class Job extends Thread {
+
+		private EffectivePerson effectivePerson;
+
+		public Job(EffectivePerson effectivePerson) {
+			this.effectivePerson = effectivePerson;
+		}
+
+		@Override
+		public void run() {
+			TimeStamp stamp = new TimeStamp();
+			Date start = new Date();
+			String sequence = "";
+			long count = 0;
+			try {
+				SegmentIndex.instance().clear();
+				List<Tuple> os;
+				do {
+					/* 重新收集的条目会被删除并以新的创建时间重建,使用创建时间排除 */
+					os = list(start, sequence);
+					for (Tuple o : os) {
+						sequence = o.get(0, String.class);
+						crawl(o.get(1, String.class), o.get(2, String.class));
+						count++;
+					}
+				} while (os.size() == BATCHSIZE);
+				SegmentIndex.instance().flush();
+			} catch (Exception e) {
+				logger.error(e);
+			}
+			logger.print("重建分词索引完成, 条目数量:{}, 耗时:{}.", count, stamp.consumingMilliseconds());
+		}
+
+		private void crawl(String type, String reference) {
+			try {
+				switch (StringUtils.trimToEmpty(type)) {
+				case Entry.TYPE_WORK:
+					new ActionCrawlWork().execute(effectivePerson, reference);
+					break;
+				case Entry.TYPE_WORKCOMPLETED:
+					new ActionCrawlWorkCompleted().execute(effectivePerson, reference);
+					break;
+				case Entry.TYPE_CMS:
+					new ActionCrawlCms().execute(effectivePerson, reference);
+					break;
+				default:
+					break;
+				}
+			} catch (Exception e) {
+				logger.error(e);
+			}
+		}
+	}
+
+	private List<Tuple> list(Date start, String sequence) throws Exception {
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			EntityManager em = emc.get(Entry.class);
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Tuple> cq = cb.createQuery(Tuple.class);
+			Root<Entry> root = cq.from(Entry.class);
+			Predicate p = cb.lessThan(root.get(JpaObject_.createTime), start);
+			if (StringUtils.isNotEmpty(sequence)) {
+				p = cb.and(p, cb.greaterThan(root.get(JpaObject_.sequence), sequence));
+			}
+			cq.multiselect(root.get(JpaObject_.sequence), root.get(Entry_.type), root.get(Entry_.reference)).where(p)
+					.orderBy(cb.asc(root.get(JpaObject_.sequence)));
+			return em.createQuery(cq).setMaxResults(BATCHSIZE).getResultList();
+		}
+	}
+
+	public static class Wo extends WrapBoolean {
+	}
+}
@@ -0,0 +1,77 @@
+package com.x.query.service.processing.jaxrs.segment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonElement;
+import com.x.base.core.project.annotation.FieldDescribe;
+import com.x.base.core.project.gson.GsonPropertyObject;
+import com.x.base.core.project.http.ActionResult;
+import com.x.base.core.project.http.EffectivePerson;
+import com.x.base.core.project.jaxrs.WrapStringList;
+import com.x.base.core.project.tools.ListTools;
+import com.x.base.core.project.tools.NumberTools;
+import com.x.query.service.processing.index.SegmentIndex;
+
+class ActionSearch extends BaseAction {
+
+	private static final int DEFAULT_COUNT = 500;
+
+	ActionResult<Wo> execute(EffectivePerson effectivePerson, JsonElement jsonElement) throws Exception {
+		ActionResult<Wo> result = new ActionResult<>();
+		Wi wi = this.convertToWrapIn(jsonElement, Wi.class);
+		Wo wo = new Wo();
+		if (ListTools.isNotEmpty(wi.getKeyList())) {
+			int count = NumberTools.nullOrLessThan(wi.getCount(), 1) ? DEFAULT_COUNT : wi.getCount();
+			SegmentIndex.Hits hits = SegmentIndex.instance().search(wi.getKeyList(), count);
+			wo.setValueList(hits.getList());
+			wo.setCount(hits.getCount());
+		} else {
+			wo.setValueList(new ArrayList<>());
+			wo.setCount(0);
+		}
+		result.setData(wo);
+		return result;
+	}
+
+	public static class Wi extends GsonPropertyObject {
+
+		@FieldDescribe("已经分词的关键词.")
+		private List<String> keyList;
+
+		@FieldDescribe("返回的最大数量.")
+		private Integer count;
+
+		public List<String> getKeyList() {
+			return keyList;
+		}
+
+		public void setKeyList(List<String> keyList) {
+			this.keyList = keyList;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+	}
+
+	public static class Wo extends WrapStringList {
+
+		@FieldDescribe("匹配的条目总数.")
+		private Integer count;
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+	}
+}
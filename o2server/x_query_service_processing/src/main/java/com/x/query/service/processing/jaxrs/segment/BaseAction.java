@@ -1,5 +1,10 @@
 package com.x.query.service.processing.jaxrs.segment;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.hankcs.hanlp.HanLP;
@@ -18,7 +23,9 @@ import com.x.query.core.entity.segment.Entry;
 import com.x.query.core.entity.segment.Word;
 import com.x.query.service.processing.Business;
 import com.x.query.service.processing.ThisApplication;
+import com.x.query.service.processing.helper.ExtractTextCache;
 import com.x.query.service.processing.helper.LanguageProcessingHelper;
+import com.x.query.service.processing.index.SegmentIndex;
 
 abstract class BaseAction extends StandardJaxrsAction {
 
@@ -28,6 +35,8 @@ abstract class BaseAction extends StandardJaxrsAction {
 
 	protected final static int BATCHSIZE = 100;
 
+	private Map<String, Integer> indexTerms = new HashMap<>();
+
 	protected void setSummary(Entry entry, String body, String attachment) {
 		String summary = StringUtils.join(HanLP.extractSummary(body + attachment, 10), ",");
 		summary = StringUtils.deleteWhitespace(summary);
@@ -40,7 +49,7 @@ abstract class BaseAction extends StandardJaxrsAction {
 				Word word = this.createWord(o, entry);
 				if (null != word) {
 					word.setTag(Word.TAG_TITLE);
-					business.entityManagerContainer().persist(word, CheckPersistType.all);
+					this.persistWord(business, word);
 				}
 			}
 		}
@@ -52,7 +61,7 @@ abstract class BaseAction extends StandardJaxrsAction {
 				Word word = this.createWord(o, entry);
 				if (null != word) {
 					word.setTag(Word.TAG_BODY);
-					business.entityManagerContainer().persist(word, CheckPersistType.all);
+					this.persistWord(business, word);
 				}
 			}
 		}
@@ -64,7 +73,7 @@ abstract class BaseAction extends StandardJaxrsAction {
 				Word word = this.createWord(o, entry);
 				if (null != word) {
 					word.setTag(Word.TAG_ATTACHMENT);
-					business.entityManagerContainer().persist(word, CheckPersistType.all);
+					this.persistWord(business, word);
 				}
 			}
 		}
@@ -77,18 +86,40 @@ abstract class BaseAction extends StandardJaxrsAction {
 			Word word = this.createWord(str, entry);
 			if (null != word) {
 				word.setTag(Word.TAG_KEYWORD);
-				business.entityManagerContainer().persist(word, CheckPersistType.all);
+				this.persistWord(business, word);
 			}
 		}
 		for (String str : HanLP.extractPhrase(value, 16)) {
 			Word word = this.createWord(str, entry);
 			if (null != word) {
 				word.setTag(Word.TAG_PHRASE);
-				business.entityManagerContainer().persist(word, CheckPersistType.all);
+				this.persistWord(business, word);
 			}
 		}
 	}
 
+	/* 词同时进入索引的词频统计,Word表仅在未启用索引或者设置了writeWord时写入 */
+	private void persistWord(Business business, Word word) throws Exception {
+		indexTerms.merge(word.getValue(), word.getCount(), Integer::sum);
+		if (BooleanUtils.isFalse(Config.query().getSegmentIndex().getEnable())
+				|| BooleanUtils.isTrue(Config.query().getSegmentIndex().getWriteWord())) {
+			business.entityManagerContainer().persist(word, CheckPersistType.all);
+		}
+	}
+
+	protected void index(Entry entry) throws Exception {
+		if (SegmentIndex.maintained()) {
+			SegmentIndex.instance().index(entry.getId(), indexTerms);
+		}
+		indexTerms.clear();
+	}
+
+	protected void unindex(List<String> entryIds) throws Exception {
+		if ((!entryIds.isEmpty()) && SegmentIndex.maintained()) {
+			SegmentIndex.instance().delete(entryIds);
+		}
+	}
+
 	private Word createWord(String value, Entry entry) {
 		if (StringUtils.length(value) < 31) {
 			Word word = new Word(entry);
@@ -120,9 +151,7 @@ abstract class BaseAction extends StandardJaxrsAction {
 							storageObject.getStorage());
 					if (null != mapping) {
 						/* 忽略设置强制不索引图片 */
-						return ExtractTextTools.extract(storageObject.readContent(mapping), storageObject.getName(),
-								Config.query().getExtractOffice(), Config.query().getExtractPdf(),
-								Config.query().getExtractText(), false);
+						return this.extract(storageObject.readContent(mapping), storageObject.getName());
 					} else {
 						logger.print(
 								"storageMapping is null can not extract storageObject text, storageObject:{}, name:{}.",
@@ -139,4 +168,20 @@ abstract class BaseAction extends StandardJaxrsAction {
 		}
 		return "";
 	}
+
+	private String extract(byte[] bytes, String name) throws Exception {
+		if (BooleanUtils.isNotTrue(Config.query().getCrawlTextCache())) {
+			return ExtractTextTools.extract(bytes, name, Config.query().getExtractOffice(),
+					Config.query().getExtractPdf(), Config.query().getExtractText(), false);
+		}
+		String key = ExtractTextCache.key(bytes, name, Config.query().getExtractOffice(),
+				Config.query().getExtractPdf(), Config.query().getExtractText(), false);
+		String text = ExtractTextCache.get(key);
+		if (null == text) {
+			text = StringUtils.trimToEmpty(ExtractTextTools.extract(bytes, name, Config.query().getExtractOffice(),
+					Config.query().getExtractPdf(), Config.query().getExtractText(), false));
+			ExtractTextCache.put(key, text);
+		}
+		return text;
+	}
 }
@@ -0,0 +1,280 @@
+package com.x.query.service.processing.schedule;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.quartz.JobExecutionContext;
+
+import com.x.base.core.container.EntityManagerContainer;
+import com.x.base.core.container.factory.EntityManagerContainerFactory;
+import com.x.base.core.entity.JpaObject;
+import com.x.base.core.entity.JpaObject_;
+import com.x.base.core.project.Applications;
+import com.x.base.core.project.x_query_service_processing;
+import com.x.base.core.project.config.Config;
+import com.x.base.core.project.config.Query;
+import com.x.base.core.project.connection.ActionResponse;
+import com.x.base.core.project.http.ActionResult.Type;
+import com.x.base.core.project.logger.Logger;
+import com.x.base.core.project.logger.LoggerFactory;
+import com.x.base.core.project.schedule.AbstractJob;
+import com.x.base.core.project.utils.time.TimeStamp;
+import com.x.query.core.entity.segment.Entry;
+import com.x.query.core.entity.segment.Entry_;
+import com.x.query.service.processing.ThisApplication;
+import com.x.query.service.processing.index.SegmentIndex;
+
+/**
+ * 增量收集,按来源对象的更新时间水位(更新时间,标识)分批读取变更,每批并行调用收集服务,完成后推进水位.<br/>
+ * 收集服务抛出异常或者返回的结果不是success均视为失败.<br/>
+ * 批次中有收集失败时,水位只推进到第一个失败对象之前并结束本次运行,失败及其之后的对象在下次运行时重新收集;
+ * 同一对象连续失败MAX_RETRY次后跳过,避免一个无法收集的对象让水位永远无法推进.<br/>
+ * 水位为空时从最早的更新时间开始,全部来源对象都会被收集.<br/>
+ * 同时按顺序轮询一批已索引条目,来源对象已经删除的条目交给收集服务清理.
+ */
+abstract class AbstractCrawl extends AbstractJob {
+
+	private static Logger logger = LoggerFactory.getLogger(AbstractCrawl.class);
+
+	/* 单次运行最多处理的批次,避免首次运行时占用过长时间 */
+	private static final int MAX_BATCH = 200;
+
+	/* 同一对象连续失败的最大次数,超过后跳过 */
+	private static final int MAX_RETRY = 3;
+
+	/* 连续失败的次数,键为类型和来源对象标识,收集成功或者跳过后移除 */
+	private static final Map<String, Integer> RETRIES = new ConcurrentHashMap<>();
+
+	protected abstract String name();
+
+	protected abstract String type();
+
+	protected abstract String path();
+
+	protected abstract Class<? extends JpaObject> sourceClass();
+
+	protected abstract Integer count() throws Exception;
+
+	protected abstract String getWatermark() throws Exception;
+
+	protected abstract void setWatermark(String value) throws Exception;
+
+	protected abstract String getOrphanSequence() throws Exception;
+
+	protected abstract void setOrphanSequence(String value) throws Exception;
+
+	@Override
+	public void schedule(JobExecutionContext jobExecutionContext) throws Exception {
+		TimeStamp stamp = new TimeStamp();
+		Watermark watermark = Watermark.parse(this.getWatermark());
+		int changed = 0;
+		int failed = 0;
+		int skipped = 0;
+		int batch = 0;
+		List<Watermark> changes;
+		List<String> failures;
+		do {
+			changes = this.listChanged(watermark);
+			changed += changes.size();
+			failures = this.crawl(changes.stream().map(Watermark::getId).collect(Collectors.toList()));
+			failed += failures.size();
+			for (Watermark o : changes) {
+				if (failures.contains(o.getId())) {
+					if (this.retry(o.getId())) {
+						logger.warn("{}索引器收集失败, 水位停止在:{}之前, 下次运行时重新收集.", this.name(), o.getId());
+						break;
+					}
+					logger.warn("{}索引器收集:{}连续失败{}次, 跳过.", this.name(), o.getId(), MAX_RETRY);
+					failures.remove(o.getId());
+					skipped++;
+				} else {
+					RETRIES.remove(this.type() + o.getId());
+				}
+				watermark = o;
+			}
+			this.setWatermark(watermark.toString());
+		} while (failures.isEmpty() && (changes.size() == this.count()) && (++batch < MAX_BATCH));
+		List<String> orphans = this.listOrphan();
+		failed += this.crawl(orphans).size();
+		logger.print("{}索引器运行完成, 变更数量:{}, 来源已删除条目数量:{}, 失败数量:{}, 跳过数量:{}, 水位:{}, 耗时:{}.", this.name(),
+				changed, orphans.size(), failed, skipped, watermark, stamp.consumingMilliseconds());
+	}
+
+	/**
+	 * 记录一次失败,返回是否还需要重试.达到最大次数时清除记录并返回false.
+	 */
+	private boolean retry(String id) {
+		String key = this.type() + id;
+		int count = RETRIES.merge(key, 1, Integer::sum);
+		if (count < MAX_RETRY) {
+			return true;
+		}
+		RETRIES.remove(key);
+		return false;
+	}
+
+	/**
+	 * 按(更新时间,标识)升序读取水位之后的一批来源对象,返回每个对象对应的水位.
+	 */
+	private List<Watermark> listChanged(Watermark watermark) throws Exception {
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			EntityManager em = emc.get(this.sourceClass());
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Tuple> cq = cb.createQuery(Tuple.class);
+			Root<? extends JpaObject> root = cq.from(this.sourceClass());
+			Predicate p = cb.conjunction();
+			if (null != watermark.getTime()) {
+				p = cb.greaterThan(root.get(JpaObject_.updateTime), watermark.getTime());
+				if (StringUtils.isNotEmpty(watermark.getId())) {
+					p = cb.or(p, cb.and(cb.equal(root.get(JpaObject_.updateTime), watermark.getTime()),
+							cb.greaterThan(root.get(JpaObject_.id), watermark.getId())));
+				} else {
+					p = cb.or(p, cb.equal(root.get(JpaObject_.updateTime), watermark.getTime()));
+				}
+			}
+			cq.multiselect(root.get(JpaObject_.id), root.get(JpaObject_.updateTime)).where(p)
+					.orderBy(cb.asc(root.get(JpaObject_.updateTime)), cb.asc(root.get(JpaObject_.id)));
+			List<Tuple> os = em.createQuery(cq).setMaxResults(this.count()).getResultList();
+			List<Watermark> list = new ArrayList<>();
+			for (Tuple o : os) {
+				Watermark mark = new Watermark();
+				mark.setId(o.get(0, String.class));
+				mark.setTime(o.get(1, Date.class));
+				list.add(mark);
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * 按顺序轮询一批已索引条目,返回来源对象已经不存在的条目引用.
+	 */
+	private List<String> listOrphan() throws Exception {
+		try (EntityManagerContainer emc = EntityManagerContainerFactory.instance().create()) {
+			EntityManager em = emc.get(Entry.class);
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Tuple> cq = cb.createQuery(Tuple.class);
+			Root<Entry> root = cq.from(Entry.class);
+			Predicate p = cb.equal(root.get(Entry_.type), this.type());
+			String sequence = this.getOrphanSequence();
+			if (StringUtils.isNotEmpty(sequence)) {
+				p = cb.and(p, cb.greaterThan(root.get(JpaObject_.sequence), sequence));
+			}
+			cq.multiselect(root.get(JpaObject_.sequence), root.get(Entry_.reference)).where(p)
+					.orderBy(cb.asc(root.get(JpaObject_.sequence)));
+			List<Tuple> os = em.createQuery(cq).setMaxResults(this.count()).getResultList();
+			this.setOrphanSequence(os.size() == this.count() ? os.get(os.size() - 1).get(0, String.class) : "");
+			List<String> references = os.stream().map(o -> o.get(1, String.class)).distinct()
+					.collect(Collectors.toList());
+			if (references.isEmpty()) {
+				return references;
+			}
+			EntityManager sem = emc.get(this.sourceClass());
+			CriteriaBuilder scb = sem.getCriteriaBuilder();
+			CriteriaQuery<String> scq = scb.createQuery(String.class);
+			Root<? extends JpaObject> sroot = scq.from(this.sourceClass());
+			scq.select(sroot.get(JpaObject_.id)).where(scb.isMember(sroot.get(JpaObject_.id), scb.literal(references)));
+			references.removeAll(sem.createQuery(scq).getResultList());
+			return references;
+		}
+	}
+
+	/**
+	 * 使用crawlThreadCount个线程并行调用收集服务,返回失败的引用.
+	 */
+	private List<String> crawl(List<String> references) throws Exception {
+		if (references.isEmpty()) {
+			return new ArrayList<>();
+		}
+		boolean index = SegmentIndex.maintained();
+		ExecutorService executor = Executors.newFixedThreadPool(Config.query().getCrawlThreadCount());
+		try {
+			Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+			for (String reference : new LinkedHashSet<>(references)) {
+				futures.put(reference, CompletableFuture.supplyAsync(() -> {
+					try {
+						ActionResponse response = ThisApplication.context().applications().getQuery(
+								x_query_service_processing.class,
+								Applications.joinQueryUri("segment", "crawl", this.path(), reference),
+								index ? Query.SegmentIndex.NODE_SEED : reference);
+						if (!Objects.equals(Type.success, response.getType())) {
+							logger.warn("{}索引器收集:{}失败:{}.", this.name(), reference, response.getMessage());
+							return false;
+						}
+						return true;
+					} catch (Exception e) {
+						logger.error(e);
+						return false;
+					}
+				}, executor));
+			}
+			List<String> failures = new ArrayList<>();
+			for (Map.Entry<String, CompletableFuture<Boolean>> en : futures.entrySet()) {
+				if (BooleanUtils.isFalse(en.getValue().join())) {
+					failures.add(en.getKey());
+				}
+			}
+			return failures;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public static class Watermark {
+
+		private Date time;
+
+		private String id;
+
+		public static Watermark parse(String value) {
+			Watermark o = new Watermark();
+			if (StringUtils.isNotEmpty(value)) {
+				o.setTime(new Date(NumberUtils.toLong(StringUtils.substringBefore(value, ","))));
+				o.setId(StringUtils.substringAfter(value, ","));
+			}
+			return o;
+		}
+
+		public Date getTime() {
+			return time;
+		}
+
+		public void setTime(Date time) {
+			this.time = time;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		@Override
+		public String toString() {
+			return (null == time) ? "" : (time.getTime() + "," + StringUtils.trimToEmpty(id));
+		}
+	}
+
+}